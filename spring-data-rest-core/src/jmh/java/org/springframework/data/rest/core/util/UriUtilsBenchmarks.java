@@ -0,0 +1,99 @@
+package org.springframework.data.rest.core.util;
+
+import java.net.URI;
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Compares {@link PathSegmentCursor} and {@link LinkBuffer} with the way {@link UriUtils} used to split and build
+ * URIs, i.e. {@link String#split(String)} into a {@link Stack} and {@link UriComponentsBuilder}.
+ *
+ * @author Jon Brisbin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UriUtilsBenchmarks {
+
+  private final URI        baseUri = URI.create("http://localhost:8080/data");
+  private final URI        uri     = URI.create("http://localhost:8080/data/person/1/addresses");
+  private final String     path    = uri.getPath();
+  private final LinkBuffer link    = new LinkBuffer();
+
+  @Benchmark
+  public int splitPathWithStringSplit() {
+    int len = 0;
+    for(String part : path.split("/")) {
+      len += part.length();
+    }
+    return len;
+  }
+
+  @Benchmark
+  public int splitPathWithCursor() {
+    int len = 0;
+    PathSegmentCursor segments = new PathSegmentCursor(path);
+    while(segments.next()) {
+      len += segments.getLength();
+    }
+    return len;
+  }
+
+  @Benchmark
+  public Stack<URI> explodeWithStringSplit() {
+    Stack<URI> uris = new Stack<URI>();
+    URI relativeUri = baseUri.relativize(uri);
+    for(String part : relativeUri.getPath().split("/")) {
+      uris.add(URI.create(part + (StringUtils.hasText(uri.getQuery()) ? "?" + uri.getQuery() : "")));
+    }
+    return uris;
+  }
+
+  @Benchmark
+  public Stack<URI> explode() {
+    return UriUtils.explode(baseUri, uri);
+  }
+
+  @Benchmark
+  public String lastSegmentWithStringSplit() {
+    String[] parts = path.split("/");
+    return parts[parts.length - 1];
+  }
+
+  @Benchmark
+  public String lastSegmentWithCursor() {
+    return PathSegmentCursor.last(path);
+  }
+
+  @Benchmark
+  public String buildHrefWithUriComponentsBuilder() {
+    return UriComponentsBuilder.fromUri(baseUri).pathSegment("person", "1").build().toUri().toString();
+  }
+
+  @Benchmark
+  public String buildHref() {
+    return UriUtils.buildHref(baseUri, "person", "1");
+  }
+
+  @Benchmark
+  public void buildHrefWithLinkBuffer(Blackhole bh) {
+    PathSegmentCursor segments = new PathSegmentCursor(path);
+    link.reset(baseUri);
+    while(segments.next()) {
+      link.segment(path, segments.getOffset(), segments.getLength());
+    }
+    bh.consume(link.length());
+    bh.consume(link.toString());
+  }
+
+}
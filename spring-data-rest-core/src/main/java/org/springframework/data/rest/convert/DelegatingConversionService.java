@@ -1,6 +1,11 @@
 package org.springframework.data.rest.convert;
 
-import java.util.Stack;
+import static org.springframework.util.ObjectUtils.*;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
@@ -8,14 +13,22 @@ import org.springframework.core.convert.TypeDescriptor;
 
 /**
  * This {@link ConversionService} implementation delegates the actual conversion to the {@literal ConversionService} it
- * finds in its internal {@link Stack} that claims to be able to convert a given class. It will roll through the
- * {@literal ConversionService}s until it finds one that can convert the given type.
+ * finds in its internal list that claims to be able to convert a given class. It will roll through the {@literal
+ * ConversionService}s until it finds one that can convert the given type.
+ * <p>
+ * The {@literal ConversionService} chosen for a pair of source and target types is remembered, as is the fact that
+ * none of them can convert a pair, so the delegates are only asked once per pair. The remembered choices are dropped
+ * whenever a {@literal ConversionService} is added.
+ * </p>
  *
  * @author Jon Brisbin
  */
 public class DelegatingConversionService implements ConversionService {
 
-  private Stack<ConversionService> conversionServices = new Stack<ConversionService>();
+  private static final ConversionService NO_DELEGATE = new DelegatingConversionService();
+
+  private final List<ConversionService>                    conversionServices = new CopyOnWriteArrayList<ConversionService>();
+  private final ConcurrentMap<TypePair, ConversionService> delegates          = new ConcurrentHashMap<TypePair, ConversionService>();
 
   public DelegatingConversionService() {
   }
@@ -36,6 +49,7 @@ public class DelegatingConversionService implements ConversionService {
     for(ConversionService svc : svcs) {
       conversionServices.add(svc);
     }
+    delegates.clear();
     return this;
   }
 
@@ -51,43 +65,97 @@ public class DelegatingConversionService implements ConversionService {
    */
   public DelegatingConversionService addConversionService(int atIndex, ConversionService svc) {
     conversionServices.add(atIndex, svc);
+    delegates.clear();
     return this;
   }
 
   @Override public boolean canConvert(Class<?> from, Class<?> to) {
-    for(ConversionService svc : conversionServices) {
-      if(svc.canConvert(from, to)) {
-        return true;
-      }
-    }
-    return false;
+    return null != findDelegate(from, to);
   }
 
   @Override public boolean canConvert(TypeDescriptor from, TypeDescriptor to) {
-    for(ConversionService svc : conversionServices) {
-      if(svc.canConvert(from, to)) {
-        return true;
+    return null != findDelegate(from, to);
+  }
+
+  @Override public <T> T convert(Object o, Class<T> type) {
+    ConversionService svc = findDelegate(o.getClass(), type);
+    if(null == svc) {
+      throw new ConverterNotFoundException(TypeDescriptor.forObject(o), TypeDescriptor.valueOf(type));
+    }
+    return svc.convert(o, type);
+  }
+
+  @Override public Object convert(Object o, TypeDescriptor from, TypeDescriptor to) {
+    ConversionService svc = findDelegate(from, to);
+    if(null == svc) {
+      throw new ConverterNotFoundException(from, to);
+    }
+    return svc.convert(o, from, to);
+  }
+
+  private ConversionService findDelegate(Class<?> from, Class<?> to) {
+    TypePair key = new TypePair(from, to, false);
+    ConversionService svc = delegates.get(key);
+    if(null == svc) {
+      svc = NO_DELEGATE;
+      for(ConversionService delegate : conversionServices) {
+        if(delegate.canConvert(from, to)) {
+          svc = delegate;
+          break;
+        }
       }
+      delegates.putIfAbsent(key, svc);
     }
-    return false;
+    return (svc != NO_DELEGATE ? svc : null);
   }
 
-  @Override public <T> T convert(Object o, Class<T> type) {
-    for(ConversionService svc : conversionServices) {
-      if(svc.canConvert(o.getClass(), type)) {
-        return svc.convert(o, type);
+  private ConversionService findDelegate(TypeDescriptor from, TypeDescriptor to) {
+    TypePair key = new TypePair(from, to, true);
+    ConversionService svc = delegates.get(key);
+    if(null == svc) {
+      svc = NO_DELEGATE;
+      for(ConversionService delegate : conversionServices) {
+        if(delegate.canConvert(from, to)) {
+          svc = delegate;
+          break;
+        }
       }
+      delegates.putIfAbsent(key, svc);
     }
-    throw new ConverterNotFoundException(TypeDescriptor.forObject(o), TypeDescriptor.valueOf(type));
+    return (svc != NO_DELEGATE ? svc : null);
   }
 
-  @Override public Object convert(Object o, TypeDescriptor from, TypeDescriptor to) {
-    for(ConversionService svc : conversionServices) {
-      if(svc.canConvert(from, to)) {
-        return svc.convert(o, from, to);
+  /**
+   * Key of the delegate cache. Pairs of classes and pairs of {@link TypeDescriptor}s are kept apart since delegates
+   * aren't required to answer both forms of {@literal canConvert} the same way.
+   */
+  private static class TypePair {
+    final Object  from;
+    final Object  to;
+    final boolean descriptors;
+
+    private TypePair(Object from, Object to, boolean descriptors) {
+      this.from = from;
+      this.to = to;
+      this.descriptors = descriptors;
+    }
+
+    @Override public boolean equals(Object obj) {
+      if(this == obj) {
+        return true;
       }
+      if(!(obj instanceof TypePair)) {
+        return false;
+      }
+      TypePair other = (TypePair)obj;
+      return descriptors == other.descriptors
+          && nullSafeEquals(from, other.from)
+          && nullSafeEquals(to, other.to);
+    }
+
+    @Override public int hashCode() {
+      return (nullSafeHashCode(from) * 31 + nullSafeHashCode(to)) * 31 + (descriptors ? 1 : 0);
     }
-    throw new ConverterNotFoundException(from, to);
   }
 
 }
@@ -13,6 +13,13 @@ import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.core.convert.converter.Converter;
 
 /**
+ * Converts between {@link Date}s and ISO-8601 timestamps like {@literal 2010-01-01T12:00:00-0600}.
+ * <p>
+ * Timestamps in that canonical form, or with a {@literal Z} or {@literal +06:00} style offset, are parsed by hand
+ * without creating any intermediate objects. Anything else is handed to a per-thread {@link SimpleDateFormat}, so
+ * instances are safe to share.
+ * </p>
+ *
  * @author Jon Brisbin
  */
 public class ISO8601DateConverter implements ConditionalGenericConverter,
@@ -20,7 +27,14 @@ public class ISO8601DateConverter implements ConditionalGenericConverter,
 
   public static final ConditionalGenericConverter INSTANCE = new ISO8601DateConverter();
 
-  private static final Set<ConvertiblePair> CONVERTIBLE_PAIRS = new HashSet<ConvertiblePair>();
+  private static final String                    ISO8601_PATTERN   = "yyyy-MM-dd'T'HH:mm:ssZ";
+  private static final Set<ConvertiblePair>      CONVERTIBLE_PAIRS = new HashSet<ConvertiblePair>();
+  private static final ThreadLocal<DateFormat>   DATE_FORMAT       = new ThreadLocal<DateFormat>() {
+    @Override protected DateFormat initialValue() {
+      return new SimpleDateFormat(ISO8601_PATTERN);
+    }
+  };
+  private static final int[]                     DAYS_BEFORE_MONTH = {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
 
   static {
     CONVERTIBLE_PAIRS.add(new ConvertiblePair(String.class, Date.class));
@@ -41,22 +55,23 @@ public class ISO8601DateConverter implements ConditionalGenericConverter,
   }
 
   @Override public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
-    DateFormat dateFmt = iso8601DateFormat();
-    if(String.class.isAssignableFrom(sourceType.getType())) {
-      return dateFmt.format(source);
-    } else {
-      try {
-        return dateFmt.parse(source.toString());
-      } catch(ParseException e) {
-        throw new ConversionFailedException(sourceType, targetType, source, e);
-      }
+    if(null == source) {
+      return null;
+    }
+    if(source instanceof Date) {
+      return DATE_FORMAT.get().format((Date)source);
+    }
+    try {
+      return parse(source.toString());
+    } catch(ParseException e) {
+      throw new ConversionFailedException(sourceType, targetType, source, e);
     }
   }
 
   @Override public Date convert(String[] source) {
     if(source.length > 0) {
       try {
-        return iso8601DateFormat().parse(source[0]);
+        return parse(source[0]);
       } catch(ParseException e) {
         throw new ConversionFailedException(
             TypeDescriptor.valueOf(String[].class),
@@ -69,8 +84,88 @@ public class ISO8601DateConverter implements ConditionalGenericConverter,
     return null;
   }
 
-  private DateFormat iso8601DateFormat() {
-    return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ");
+  /**
+   * Parse an ISO-8601 timestamp.
+   *
+   * @param s
+   *     The timestamp.
+   *
+   * @return The {@link Date} it denotes.
+   *
+   * @throws ParseException
+   *     If the timestamp can't be parsed.
+   */
+  public static Date parse(String s) throws ParseException {
+    long millis = parseCanonical(s);
+    if(millis != Long.MIN_VALUE) {
+      return new Date(millis);
+    }
+    return DATE_FORMAT.get().parse(s);
+  }
+
+  /**
+   * Parse {@literal yyyy-MM-ddTHH:mm:ss} followed by {@literal Z}, {@literal +HHmm} or {@literal +HH:mm}. Years
+   * before the Gregorian cutover are left to {@link SimpleDateFormat}, which switches to the Julian calendar there.
+   *
+   * @return Milliseconds since the epoch or {@literal Long.MIN_VALUE} if the timestamp isn't in that form.
+   */
+  private static long parseCanonical(String s) {
+    int len = s.length();
+    if(len < 20
+        || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T'
+        || s.charAt(13) != ':' || s.charAt(16) != ':') {
+      return Long.MIN_VALUE;
+    }
+    int year = digits(s, 0, 4);
+    int month = digits(s, 5, 2);
+    int day = digits(s, 8, 2);
+    int hour = digits(s, 11, 2);
+    int minute = digits(s, 14, 2);
+    int second = digits(s, 17, 2);
+    if(year < 1583 || month < 1 || month > 12 || day < 1 || day > 31
+        || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+      return Long.MIN_VALUE;
+    }
+
+    int offsetMinutes;
+    char sign = s.charAt(19);
+    if(sign == 'Z' && len == 20) {
+      offsetMinutes = 0;
+    } else if((sign == '+' || sign == '-') && (len == 24 || (len == 25 && s.charAt(22) == ':'))) {
+      int offsetHours = digits(s, 20, 2);
+      int offsetMins = digits(s, len - 2, 2);
+      if(offsetHours < 0 || offsetMins < 0 || offsetMins > 59) {
+        return Long.MIN_VALUE;
+      }
+      offsetMinutes = (offsetHours * 60 + offsetMins) * (sign == '-' ? -1 : 1);
+    } else {
+      return Long.MIN_VALUE;
+    }
+
+    boolean leap = (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0));
+    long days = daysBeforeYear(year) + DAYS_BEFORE_MONTH[month - 1] + (leap && month > 2 ? 1 : 0) + day - 1;
+    long seconds = days * 86400L + hour * 3600L + minute * 60L + second - offsetMinutes * 60L;
+    return seconds * 1000L;
+  }
+
+  /**
+   * Days between the epoch and January 1st of the given (proleptic Gregorian) year.
+   */
+  private static long daysBeforeYear(int year) {
+    long y = year - 1;
+    return 365L * (year - 1970) + (y / 4 - y / 100 + y / 400) - 477;
+  }
+
+  private static int digits(String s, int start, int count) {
+    int val = 0;
+    for(int i = start; i < start + count; i++) {
+      char c = s.charAt(i);
+      if(c < '0' || c > '9') {
+        return -1;
+      }
+      val = val * 10 + (c - '0');
+    }
+    return val;
   }
 
 }
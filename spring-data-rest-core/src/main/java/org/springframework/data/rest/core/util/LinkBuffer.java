@@ -0,0 +1,170 @@
+package org.springframework.data.rest.core.util;
+
+import java.net.URI;
+import java.nio.charset.Charset;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Builds link hrefs by appending path segments to a base URI in a reusable buffer.
+ * <p>
+ * Links come out like those of {@literal UriComponentsBuilder.fromUri(baseUri).pathSegment(segments).build().toUri()}:
+ * empty segments are ignored, any query or fragment of the base URI is kept at the end, and characters that aren't
+ * legal in a URI path are percent-encoded. Unlike there, a slash ending the base URI or starting a segment doesn't
+ * double up with the one separating the segment, no slash is added to a base URI without segments, and an encoded
+ * query isn't encoded a second time.
+ * </p>
+ * <p>
+ * Instances are not thread-safe. They are meant to be {@link #reset(URI)} and reused by a single thread.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class LinkBuffer {
+
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+  private static final char[]  HEX  = "0123456789ABCDEF".toCharArray();
+
+  private final StringBuilder buffer;
+  private       String        base;
+  private       int           suffixStart;
+
+  public LinkBuffer() {
+    this(128);
+  }
+
+  public LinkBuffer(int capacity) {
+    this.buffer = new StringBuilder(capacity);
+  }
+
+  /**
+   * Start a new link.
+   *
+   * @param baseUri
+   *     The URI the link's path segments are appended to.
+   *
+   * @return {@literal this}
+   */
+  public LinkBuffer reset(URI baseUri) {
+    base = baseUri.toString();
+    suffixStart = base.length();
+    for(int i = 0; i < base.length(); i++) {
+      char c = base.charAt(i);
+      if(c == '?' || c == '#') {
+        suffixStart = i;
+        break;
+      }
+    }
+    buffer.setLength(0);
+    buffer.append(base, 0, suffixStart);
+    return this;
+  }
+
+  /**
+   * Append a path segment, separated from what precedes it by a single slash.
+   *
+   * @param segment
+   *     The segment, which is ignored if it's empty.
+   *
+   * @return {@literal this}
+   */
+  public LinkBuffer segment(CharSequence segment) {
+    if(null == segment || !StringUtils.hasText(segment)) {
+      return this;
+    }
+    return segment(segment, 0, segment.length());
+  }
+
+  /**
+   * Append part of a character sequence as a path segment, e.g. the current segment of a {@link PathSegmentCursor}.
+   *
+   * @param s
+   *     Characters to take the segment from.
+   * @param offset
+   *     Index of the first character of the segment.
+   * @param length
+   *     Number of characters in the segment.
+   *
+   * @return {@literal this}
+   */
+  public LinkBuffer segment(CharSequence s, int offset, int length) {
+    int from = offset;
+    int to = offset + length;
+    while(from < to && s.charAt(from) == '/') {
+      from++;
+    }
+    if(from == to) {
+      return this;
+    }
+    if(buffer.length() == 0 || buffer.charAt(buffer.length() - 1) != '/') {
+      buffer.append('/');
+    }
+    for(int i = from; i < to; i++) {
+      appendEncoded(s.charAt(i));
+    }
+    return this;
+  }
+
+  /**
+   * Get the length of the link built so far, without the query and fragment of the base URI.
+   *
+   * @return Number of characters.
+   */
+  public int length() {
+    return buffer.length();
+  }
+
+  /**
+   * Get the link as a URI.
+   *
+   * @return A new {@link URI}.
+   */
+  public URI toUri() {
+    return URI.create(toString());
+  }
+
+  @Override public String toString() {
+    if(suffixStart < base.length()) {
+      int len = buffer.length();
+      String s = buffer.append(base, suffixStart, base.length()).toString();
+      buffer.setLength(len);
+      return s;
+    }
+    return buffer.toString();
+  }
+
+  private void appendEncoded(char c) {
+    if(isPathChar(c)) {
+      buffer.append(c);
+      return;
+    }
+    if(c < 0x80) {
+      appendEscaped((byte)c);
+      return;
+    }
+    for(byte b : String.valueOf(c).getBytes(UTF8)) {
+      appendEscaped(b);
+    }
+  }
+
+  private void appendEscaped(byte b) {
+    buffer.append('%')
+          .append(HEX[(b >> 4) & 0x0F])
+          .append(HEX[b & 0x0F]);
+  }
+
+  /**
+   * Characters {@link URI} leaves unquoted in a path: unreserved and reserved punctuation as well as non-ASCII
+   * characters that are neither controls nor spaces.
+   */
+  private static boolean isPathChar(char c) {
+    if((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+      return true;
+    }
+    if(c < 0x80) {
+      return "-_.!~*'();:@&=+$,/".indexOf(c) >= 0;
+    }
+    return !Character.isISOControl(c) && !Character.isSpaceChar(c);
+  }
+
+}
@@ -0,0 +1,176 @@
+package org.springframework.data.rest.core.util;
+
+/**
+ * Walks the segments of a URI path without creating substrings. The cursor exposes the current segment as an offset
+ * and length into the path and only copies it out if asked to with {@link #getSegment()}.
+ * <p>
+ * Empty segments, as produced by leading, trailing or doubled slashes, are skipped.
+ * </p>
+ * <pre>
+ * PathSegmentCursor cursor = new PathSegmentCursor("/person/1/addresses");
+ * while(cursor.next()) {
+ *   if(cursor.matches("addresses")) {
+ *     ...
+ *   }
+ * }
+ * </pre>
+ *
+ * @author Jon Brisbin
+ */
+public class PathSegmentCursor {
+
+  private final CharSequence path;
+  private final int          start;
+  private final int          end;
+  private       int          offset;
+  private       int          length;
+
+  public PathSegmentCursor(CharSequence path) {
+    this(path, 0, path.length());
+  }
+
+  /**
+   * Create a cursor over part of a path.
+   *
+   * @param path
+   *     The path, or a whole URI string.
+   * @param start
+   *     Index of the first character of the path.
+   * @param end
+   *     Index after the last character of the path.
+   */
+  public PathSegmentCursor(CharSequence path, int start, int end) {
+    this.path = path;
+    this.start = start;
+    this.end = end;
+    reset();
+  }
+
+  /**
+   * Get the last non-empty segment of a path.
+   *
+   * @param path
+   *     The path.
+   *
+   * @return The last segment or {@literal null} if the path has no segments.
+   */
+  public static String last(String path) {
+    if(null == path) {
+      return null;
+    }
+    int segmentEnd = path.length();
+    while(segmentEnd > 0 && path.charAt(segmentEnd - 1) == '/') {
+      segmentEnd--;
+    }
+    if(segmentEnd == 0) {
+      return null;
+    }
+    int segmentStart = path.lastIndexOf('/', segmentEnd - 1) + 1;
+    return path.substring(segmentStart, segmentEnd);
+  }
+
+  /**
+   * Move back to before the first segment.
+   *
+   * @return {@literal this}
+   */
+  public PathSegmentCursor reset() {
+    offset = start;
+    length = -1;
+    return this;
+  }
+
+  /**
+   * Advance to the next segment.
+   *
+   * @return {@literal true} if there is another segment, {@literal false} if the end of the path was reached.
+   */
+  public boolean next() {
+    int i = (length < 0 ? offset : offset + length);
+    while(i < end && path.charAt(i) == '/') {
+      i++;
+    }
+    if(i >= end) {
+      offset = end;
+      length = 0;
+      return false;
+    }
+    int segmentEnd = i;
+    while(segmentEnd < end && path.charAt(segmentEnd) != '/') {
+      segmentEnd++;
+    }
+    offset = i;
+    length = segmentEnd - i;
+    return true;
+  }
+
+  /**
+   * Count the remaining segments, including the current one. The position of the cursor is not changed.
+   *
+   * @return Number of segments.
+   */
+  public int remaining() {
+    int count = 0;
+    boolean inSegment = false;
+    for(int i = offset; i < end; i++) {
+      if(path.charAt(i) == '/') {
+        inSegment = false;
+      } else if(!inSegment) {
+        inSegment = true;
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Get the index of the current segment in the path.
+   *
+   * @return Index of the first character of the segment.
+   */
+  public int getOffset() {
+    return offset;
+  }
+
+  /**
+   * Get the length of the current segment.
+   *
+   * @return Number of characters in the segment.
+   */
+  public int getLength() {
+    return Math.max(length, 0);
+  }
+
+  /**
+   * Compare the current segment to a string without copying it.
+   *
+   * @param s
+   *     The string to compare to.
+   *
+   * @return {@literal true} if the segment consists of exactly the given characters.
+   */
+  public boolean matches(String s) {
+    if(length < 0 || offset >= end || s.length() != length) {
+      return false;
+    }
+    for(int i = 0; i < length; i++) {
+      if(path.charAt(offset + i) != s.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Copy out the current segment.
+   *
+   * @return The segment or {@literal null} if the cursor isn't positioned on one.
+   */
+  public String getSegment() {
+    if(length < 0 || offset >= end) {
+      return null;
+    }
+    return path.subSequence(offset, offset + length).toString();
+  }
+
+}
@@ -15,6 +15,12 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public abstract class UriUtils {
 
+  private static final ThreadLocal<LinkBuffer> LINK_BUFFER = new ThreadLocal<LinkBuffer>() {
+    @Override protected LinkBuffer initialValue() {
+      return new LinkBuffer();
+    }
+  };
+
   private UriUtils() {
   }
 
@@ -82,9 +88,12 @@ public abstract class UriUtils {
     Stack<URI> uris = new Stack<URI>();
     if(StringUtils.hasText(uri.getPath())) {
       URI relativeUri = baseUri.relativize(uri);
-      if(StringUtils.hasText(relativeUri.getPath())) {
-        for(String part : relativeUri.getPath().split("/")) {
-          uris.add(URI.create(part + (StringUtils.hasText(uri.getQuery()) ? "?" + uri.getQuery() : "")));
+      String path = relativeUri.getPath();
+      if(StringUtils.hasText(path)) {
+        String query = (StringUtils.hasText(uri.getQuery()) ? "?" + uri.getQuery() : "");
+        PathSegmentCursor segments = new PathSegmentCursor(path);
+        while(segments.next()) {
+          uris.add(URI.create(segments.getSegment() + query));
         }
       }
     }
@@ -190,8 +199,14 @@ public abstract class UriUtils {
    * @return Relative {@link URI} that is the last segment of the path for the given URI.
    */
   public static URI tail(URI baseUri, URI uri) {
-    Stack<URI> uris = explode(baseUri, uri);
-    return uris.size() > 0 ? uris.get(Math.max(uris.size() - 1, 0)) : null;
+    if(!StringUtils.hasText(uri.getPath())) {
+      return null;
+    }
+    String last = PathSegmentCursor.last(baseUri.relativize(uri).getPath());
+    if(null == last) {
+      return null;
+    }
+    return URI.create(StringUtils.hasText(uri.getQuery()) ? last + "?" + uri.getQuery() : last);
   }
 
   /**
@@ -205,7 +220,26 @@ public abstract class UriUtils {
    * @return A new URI built from the given base URI and additional path segments.
    */
   public static URI buildUri(URI baseUri, String... pathSegments) {
-    return UriComponentsBuilder.fromUri(baseUri).pathSegment(pathSegments).build().toUri();
+    return URI.create(buildHref(baseUri, pathSegments));
+  }
+
+  /**
+   * Create the string form of a {@link URI} out of the components, as used for the {@literal href} of links. Same as
+   * {@link #buildUri(URI, String...)} but without creating and parsing a {@link URI}.
+   *
+   * @param baseUri
+   *     The base URI these path segments are relative to.
+   * @param pathSegments
+   *     The path segments to add to the given base URI.
+   *
+   * @return The URI built from the given base URI and additional path segments.
+   */
+  public static String buildHref(URI baseUri, String... pathSegments) {
+    LinkBuffer link = LINK_BUFFER.get().reset(baseUri);
+    for(String segment : pathSegments) {
+      link.segment(segment);
+    }
+    return link.toString();
   }
 
 }
@@ -9,12 +9,14 @@ import org.jmock.Expectations;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.data.rest.AbstractJMockTests;
 import org.springframework.format.support.DefaultFormattingConversionService;
 
 /**
  * Tests to ensure the {@link DelegatingConversionService} properly delegates conversions to the {@link
- * org.springframework.core.convert.ConversionService} that is appropriate for the given source and return types.
+ * org.springframework.core.convert.ConversionService} that is appropriate for the given source and return types, and
+ * only asks its delegates once per pair of types, whether one of them can convert it or not.
  *
  * @author Jon Brisbin
  */
@@ -61,4 +63,60 @@ public class DelegatingConversionServiceUnitTests extends AbstractJMockTests {
     assertThat(delegatingConversionService.convert(RANDOM_UUID, String.class), is(RANDOM_UUID.toString()));
   }
 
+  @Test
+  public void shouldAskDelegatesOncePerPair() throws Exception {
+    final ConversionService first = context.mock(ConversionService.class, "first");
+    DelegatingConversionService svc = new DelegatingConversionService(first, uuidConversionService());
+    context.checking(new Expectations() {{
+      oneOf(first).canConvert(String.class, UUID.class);
+      will(returnValue(false));
+    }});
+
+    for(int i = 0; i < 3; i++) {
+      assertThat(svc.canConvert(String.class, UUID.class), is(true));
+      assertThat(svc.convert(RANDOM_UUID.toString(), UUID.class), is(RANDOM_UUID));
+    }
+  }
+
+  @Test(expected = ConverterNotFoundException.class)
+  public void shouldRememberUnsupportedPairs() throws Exception {
+    final ConversionService first = context.mock(ConversionService.class, "first");
+    DelegatingConversionService svc = new DelegatingConversionService(first);
+    context.checking(new Expectations() {{
+      oneOf(first).canConvert(Long.class, Thread.class);
+      will(returnValue(false));
+      never(first).convert(with(any(Object.class)), with(Thread.class));
+    }});
+
+    assertThat(svc.canConvert(Long.class, Thread.class), is(false));
+    assertThat(svc.canConvert(Long.class, Thread.class), is(false));
+    svc.convert(42L, Thread.class);
+  }
+
+  @Test
+  public void shouldForgetUnsupportedPairsWhenDelegateAdded() throws Exception {
+    final ConversionService first = context.mock(ConversionService.class, "first");
+    final ConversionService second = context.mock(ConversionService.class, "second");
+    DelegatingConversionService svc = new DelegatingConversionService(first);
+    context.checking(new Expectations() {{
+      oneOf(first).canConvert(Long.class, Thread.class);
+      will(returnValue(false));
+      oneOf(second).canConvert(Long.class, Thread.class);
+      will(returnValue(true));
+      oneOf(second).convert(42L, Thread.class);
+      will(returnValue(Thread.currentThread()));
+    }});
+
+    assertThat(svc.canConvert(Long.class, Thread.class), is(false));
+    svc.addConversionService(0, second);
+
+    assertThat(svc.convert(42L, Thread.class), is(Thread.currentThread()));
+  }
+
+  private static ConversionService uuidConversionService() {
+    DefaultFormattingConversionService cs = new DefaultFormattingConversionService(false);
+    cs.addConverter(UUIDConverter.INSTANCE);
+    return cs;
+  }
+
 }
@@ -0,0 +1,123 @@
+package org.springframework.data.rest.convert;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+import org.springframework.core.convert.ConversionFailedException;
+
+/**
+ * Tests to ensure the {@link ISO8601DateConverter} parses canonical timestamps by hand exactly like {@link
+ * SimpleDateFormat} would, across leap years and offsets, and leaves dates before the Gregorian cutover to it.
+ *
+ * @author Jon Brisbin
+ */
+public class ISO8601DateConverterUnitTests {
+
+  private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+  @Test
+  public void shouldParseUtc() throws Exception {
+    assertThat(ISO8601DateConverter.parse("2010-01-01T12:00:00Z"), is(utc(2010, 1, 1, 12, 0, 0)));
+    assertThat(ISO8601DateConverter.parse("1970-01-01T00:00:00Z").getTime(), is(0L));
+  }
+
+  @Test
+  public void shouldApplyOffsets() throws Exception {
+    assertThat(ISO8601DateConverter.parse("2010-01-01T12:00:00-0600"), is(utc(2010, 1, 1, 18, 0, 0)));
+    assertThat(ISO8601DateConverter.parse("2010-01-01T12:00:00+0000"), is(utc(2010, 1, 1, 12, 0, 0)));
+    assertThat(ISO8601DateConverter.parse("2010-01-01T12:00:00+05:30"), is(utc(2010, 1, 1, 6, 30, 0)));
+    assertThat(ISO8601DateConverter.parse("2010-01-01T02:00:00+14:00"), is(utc(2009, 12, 31, 12, 0, 0)));
+    assertThat(ISO8601DateConverter.parse("2010-12-31T20:00:00-08:00"), is(utc(2011, 1, 1, 4, 0, 0)));
+  }
+
+  @Test
+  public void shouldHandleLeapYears() throws Exception {
+    assertThat(ISO8601DateConverter.parse("2012-02-29T00:00:00Z"), is(utc(2012, 2, 29, 0, 0, 0)));
+    assertThat(ISO8601DateConverter.parse("2012-03-01T00:00:00Z"), is(utc(2012, 3, 1, 0, 0, 0)));
+    assertThat(ISO8601DateConverter.parse("2012-12-31T23:59:59Z"), is(utc(2012, 12, 31, 23, 59, 59)));
+    assertThat(ISO8601DateConverter.parse("2000-02-29T00:00:00Z"), is(utc(2000, 2, 29, 0, 0, 0)));
+    assertThat(ISO8601DateConverter.parse("2000-03-01T00:00:00Z"), is(utc(2000, 3, 1, 0, 0, 0)));
+    assertThat(ISO8601DateConverter.parse("1900-03-01T00:00:00Z"), is(utc(1900, 3, 1, 0, 0, 0)));
+    assertThat(ISO8601DateConverter.parse("2100-03-01T00:00:00Z"), is(utc(2100, 3, 1, 0, 0, 0)));
+  }
+
+  @Test
+  public void shouldRollOverLikeSimpleDateFormat() throws Exception {
+    // 1900 isn't a leap year, a lenient SimpleDateFormat rolls over to March 1st
+    assertThat(ISO8601DateConverter.parse("1900-02-29T00:00:00Z"), is(utc(1900, 3, 1, 0, 0, 0)));
+    assertThat(ISO8601DateConverter.parse("1900-02-29T00:00:00+0000"), is(reference("1900-02-29T00:00:00+0000")));
+  }
+
+  @Test
+  public void shouldMatchSimpleDateFormat() throws Exception {
+    SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ");
+    Random random = new Random(1583);
+    long from = utc(1583, 1, 1, 0, 0, 0).getTime();
+    long to = utc(2400, 12, 31, 23, 59, 59).getTime();
+    // Fixed offsets, historical ones with seconds can't be written as +HHmm
+    String[] zones = {"UTC", "GMT-06:00", "GMT+05:30", "GMT+14:00"};
+    for(int i = 0; i < 2000; i++) {
+      long millis = (from + (long)(random.nextDouble() * (to - from))) / 1000 * 1000;
+      format.setTimeZone(TimeZone.getTimeZone(zones[i % zones.length]));
+      String s = format.format(new Date(millis));
+
+      assertThat(s, ISO8601DateConverter.parse(s).getTime(), is(millis));
+    }
+  }
+
+  @Test
+  public void shouldFallBackBeforeGregorianCutover() throws Exception {
+    Date parsed = ISO8601DateConverter.parse("1500-03-01T00:00:00+0000");
+
+    // SimpleDateFormat switches to the Julian calendar, ten days off the proleptic Gregorian one
+    assertThat(parsed, is(reference("1500-03-01T00:00:00+0000")));
+    assertThat(parsed.getTime() - proleptic(1500, 3, 1), is(10L * 86400000L));
+  }
+
+  @Test(expected = ParseException.class)
+  public void shouldRejectMalformedTimestamps() throws Exception {
+    ISO8601DateConverter.parse("2010-01-01 12:00:00");
+  }
+
+  @Test(expected = ConversionFailedException.class)
+  public void shouldFailConversionOfMalformedParameters() throws Exception {
+    new ISO8601DateConverter().convert(new String[]{"yesterday"});
+  }
+
+  @Test
+  public void shouldFormatDates() throws Exception {
+    Date date = utc(2010, 1, 1, 12, 0, 0);
+    Object formatted = ISO8601DateConverter.INSTANCE.convert(date, null, null);
+
+    assertThat(ISO8601DateConverter.parse((String)formatted), is(date));
+  }
+
+  private static Date utc(int year, int month, int day, int hour, int minute, int second) {
+    Calendar cal = new GregorianCalendar(UTC);
+    cal.clear();
+    cal.set(year, month - 1, day, hour, minute, second);
+    return cal.getTime();
+  }
+
+  private static long proleptic(int year, int month, int day) {
+    GregorianCalendar cal = new GregorianCalendar(UTC);
+    cal.setGregorianChange(new Date(Long.MIN_VALUE));
+    cal.clear();
+    cal.set(year, month - 1, day);
+    return cal.getTimeInMillis();
+  }
+
+  private static Date reference(String s) throws ParseException {
+    return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").parse(s);
+  }
+
+}
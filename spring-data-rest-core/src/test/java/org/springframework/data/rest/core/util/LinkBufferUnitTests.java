@@ -0,0 +1,106 @@
+package org.springframework.data.rest.core.util;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.net.URI;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Tests to ensure the {@link LinkBuffer} builds the same links as {@link UriComponentsBuilder}, except for the
+ * doubled slashes, trailing slashes and doubly encoded queries that one produces, and can be reused.
+ *
+ * @author Jon Brisbin
+ */
+public class LinkBufferUnitTests {
+
+  private static final String[] BASE_URIS = {
+      "http://localhost:8080/data",
+      "http://localhost:8080",
+      "http://localhost:8080/data?page=1&limit=20",
+      "http://localhost:8080/data#top",
+      "https://user@example.com:8443/data/api?q=x#f",
+      "/data"
+  };
+
+  private static final String[][] SEGMENTS = {
+      {"person", "1"},
+      {"", "person", null, "", "1"},
+      {" ", "person", "\t"},
+      {"a b", "x%y", "50%"},
+      {"?", "#", "[x]", "{id}", "\"quoted\"", "a|b", "a\\b", "<>", "^`"},
+      {"-_.!~*'()", ";:@&=+$,"},
+      {"a/b", "a//b"},
+      {"\u00fc", "\u65e5\u672c", "\u00a0", "\ud83d\ude00"}
+  };
+
+  @Test
+  public void shouldMatchUriComponentsBuilder() throws Exception {
+    LinkBuffer link = new LinkBuffer(8);
+    for(String baseUri : BASE_URIS) {
+      URI base = URI.create(baseUri);
+      for(String[] segments : SEGMENTS) {
+        URI expected = UriComponentsBuilder.fromUri(base).pathSegment(segments).build().toUri();
+
+        link.reset(base);
+        for(String segment : segments) {
+          link.segment(segment);
+        }
+
+        String reason = baseUri + " " + Arrays.toString(segments);
+        assertThat(reason, link.toString(), is(expected.toString()));
+        assertThat(reason, link.toUri(), is(expected));
+      }
+    }
+  }
+
+  @Test
+  public void shouldNotDoubleSlashes() throws Exception {
+    LinkBuffer link = new LinkBuffer();
+
+    assertThat(link.reset(URI.create("http://localhost:8080/")).segment("person").toString(),
+               is("http://localhost:8080/person"));
+    assertThat(link.reset(URI.create("http://localhost:8080/data")).segment("/person").segment("1/").toString(),
+               is("http://localhost:8080/data/person/1/"));
+    assertThat(link.reset(URI.create("http://localhost:8080/data")).segment("//").toString(),
+               is("http://localhost:8080/data"));
+    assertThat(link.reset(URI.create("http://localhost:8080/data")).segment("").toString(),
+               is("http://localhost:8080/data"));
+  }
+
+  @Test
+  public void shouldNotEncodeQueryAgain() throws Exception {
+    LinkBuffer link = new LinkBuffer().reset(URI.create("http://localhost:8080/data?q=a%20b#f"));
+
+    assertThat(link.segment("person").toString(), is("http://localhost:8080/data/person?q=a%20b#f"));
+  }
+
+  @Test
+  public void shouldAppendPartOfSequence() throws Exception {
+    String path = "/person/1/addresses";
+    PathSegmentCursor cursor = new PathSegmentCursor(path);
+    LinkBuffer link = new LinkBuffer().reset(URI.create("http://localhost:8080/data?page=1"));
+    while(cursor.next()) {
+      link.segment(path, cursor.getOffset(), cursor.getLength());
+    }
+
+    assertThat(link.toString(), is("http://localhost:8080/data/person/1/addresses?page=1"));
+    assertThat(link.length(), is("http://localhost:8080/data/person/1/addresses".length()));
+  }
+
+  @Test
+  public void shouldStartOverWhenReset() throws Exception {
+    LinkBuffer link = new LinkBuffer();
+    link.reset(URI.create("http://localhost:8080/data?page=1")).segment("person").segment("1");
+    // Getting the link doesn't consume it
+    assertThat(link.toString(), is(link.toString()));
+
+    link.reset(URI.create("http://localhost:8080/data")).segment("address");
+
+    assertThat(link.toString(), is("http://localhost:8080/data/address"));
+  }
+
+}
@@ -0,0 +1,104 @@
+package org.springframework.data.rest.core.util;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.util.StringUtils;
+
+/**
+ * Tests to ensure the {@link PathSegmentCursor} finds the same segments as splitting the path on slashes would, less
+ * the empty ones, and that it finds the same last segment.
+ *
+ * @author Jon Brisbin
+ */
+public class PathSegmentCursorUnitTests {
+
+  private static final String[] PATHS = {
+      "person/1",
+      "/person/1/addresses",
+      "person/1/",
+      "//person//1//",
+      "person",
+      "a/b/c/d/e/f",
+      "/",
+      "//",
+      ""
+  };
+
+  @Test
+  public void shouldFindSegmentsLikeSplit() throws Exception {
+    for(String path : PATHS) {
+      List<String> expected = split(path);
+      List<String> segments = new ArrayList<String>();
+      PathSegmentCursor cursor = new PathSegmentCursor(path);
+      while(cursor.next()) {
+        assertThat(path, cursor.remaining(), is(expected.size() - segments.size()));
+        assertThat(path, cursor.matches(expected.get(segments.size())), is(true));
+        assertThat(path,
+                   path.substring(cursor.getOffset(), cursor.getOffset() + cursor.getLength()),
+                   is(cursor.getSegment()));
+        segments.add(cursor.getSegment());
+      }
+
+      assertThat(path, segments, is(expected));
+      assertThat(path, cursor.remaining(), is(0));
+      assertThat(path, cursor.getSegment(), nullValue());
+      assertThat(path, cursor.next(), is(false));
+    }
+  }
+
+  @Test
+  public void shouldFindLastSegmentLikeSplit() throws Exception {
+    for(String path : PATHS) {
+      List<String> expected = split(path);
+
+      assertThat(path, PathSegmentCursor.last(path), is(expected.isEmpty() ? null : expected.get(expected.size() - 1)));
+    }
+    assertThat(PathSegmentCursor.last(null), nullValue());
+  }
+
+  @Test
+  public void shouldWalkPartOfPath() throws Exception {
+    String uri = "http://localhost:8080/data/person/1?page=1";
+    int start = uri.indexOf("/data");
+    PathSegmentCursor cursor = new PathSegmentCursor(uri, start, uri.indexOf('?'));
+    List<String> segments = new ArrayList<String>();
+    while(cursor.next()) {
+      segments.add(cursor.getSegment());
+    }
+
+    assertThat(segments, contains("data", "person", "1"));
+  }
+
+  @Test
+  public void shouldStartOverWhenReset() throws Exception {
+    PathSegmentCursor cursor = new PathSegmentCursor("/person/1");
+
+    assertThat(cursor.getSegment(), nullValue());
+    assertThat(cursor.matches("person"), is(false));
+    assertThat(cursor.remaining(), is(2));
+
+    while(cursor.next()) {
+    }
+    cursor.reset();
+
+    assertThat(cursor.next(), is(true));
+    assertThat(cursor.matches("person"), is(true));
+    assertThat(cursor.matches("persons"), is(false));
+  }
+
+  private static List<String> split(String path) {
+    List<String> segments = new ArrayList<String>();
+    for(String segment : path.split("/")) {
+      if(StringUtils.hasLength(segment)) {
+        segments.add(segment);
+      }
+    }
+    return segments;
+  }
+
+}
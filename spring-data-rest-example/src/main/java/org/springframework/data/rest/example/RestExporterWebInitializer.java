@@ -2,6 +2,7 @@ package org.springframework.data.rest.example;
 
 import java.util.EnumSet;
 import javax.servlet.DispatcherType;
+import javax.servlet.FilterRegistration;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRegistration;
@@ -29,7 +30,9 @@ public class RestExporterWebInitializer implements WebApplicationInitializer {
     );
 
     servletContext.addListener(new ContextLoaderListener(rootCtx));
-    servletContext.addFilter("springSecurity", DelegatingFilterProxy.class);
+    FilterRegistration.Dynamic security = servletContext.addFilter("springSecurity", DelegatingFilterProxy.class);
+    // Change feed requests wait asynchronously
+    security.setAsyncSupported(true);
     servletContext.getFilterRegistration("springSecurity").addMappingForUrlPatterns(
         EnumSet.of(DispatcherType.REQUEST),
         false,
@@ -42,6 +45,7 @@ public class RestExporterWebInitializer implements WebApplicationInitializer {
     RepositoryRestDispatcherServlet dispatcherServlet = new RepositoryRestDispatcherServlet(webCtx);
     ServletRegistration.Dynamic reg = servletContext.addServlet("rest-exporter", dispatcherServlet);
     reg.setLoadOnStartup(1);
+    reg.setAsyncSupported(true);
     reg.addMapping("/*");
 
   }
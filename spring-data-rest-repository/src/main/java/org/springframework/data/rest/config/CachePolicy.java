@@ -0,0 +1,102 @@
+package org.springframework.data.rest.config;
+
+/**
+ * HTTP caching policy of a resource, turned into {@literal Cache-Control} and {@literal Expires} headers on the
+ * responses that render it.
+ *
+ * @author Jon Brisbin
+ */
+public class CachePolicy {
+
+  private int     maxAge               = -1;
+  private int     sMaxAge              = -1;
+  private boolean privateCache         = false;
+  private int     staleWhileRevalidate = -1;
+
+  public CachePolicy() {
+  }
+
+  public CachePolicy(int maxAge, int sMaxAge, boolean privateCache, int staleWhileRevalidate) {
+    this.maxAge = maxAge;
+    this.sMaxAge = sMaxAge;
+    this.privateCache = privateCache;
+    this.staleWhileRevalidate = staleWhileRevalidate;
+  }
+
+  public int getMaxAge() {
+    return maxAge;
+  }
+
+  public CachePolicy setMaxAge(int maxAge) {
+    this.maxAge = maxAge;
+    return this;
+  }
+
+  public int getSMaxAge() {
+    return sMaxAge;
+  }
+
+  public CachePolicy setSMaxAge(int sMaxAge) {
+    this.sMaxAge = sMaxAge;
+    return this;
+  }
+
+  public boolean isPrivate() {
+    return privateCache;
+  }
+
+  public CachePolicy setPrivate(boolean privateCache) {
+    this.privateCache = privateCache;
+    return this;
+  }
+
+  public int getStaleWhileRevalidate() {
+    return staleWhileRevalidate;
+  }
+
+  public CachePolicy setStaleWhileRevalidate(int staleWhileRevalidate) {
+    this.staleWhileRevalidate = staleWhileRevalidate;
+    return this;
+  }
+
+  /**
+   * Whether this policy allows caching at all.
+   *
+   * @return {@literal true} if a {@literal max-age} or {@literal s-maxage} is set.
+   */
+  public boolean isCacheable() {
+    return maxAge > -1 || sMaxAge > -1;
+  }
+
+  /**
+   * Render this policy as the value of a {@literal Cache-Control} header.
+   *
+   * @return The header value or {@literal null} if the policy doesn't allow caching.
+   */
+  public String toCacheControl() {
+    if(!isCacheable()) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder(privateCache ? "private" : "public");
+    if(maxAge > -1) {
+      sb.append(", max-age=").append(maxAge);
+    }
+    if(sMaxAge > -1 && !privateCache) {
+      sb.append(", s-maxage=").append(sMaxAge);
+    }
+    if(staleWhileRevalidate > -1) {
+      sb.append(", stale-while-revalidate=").append(staleWhileRevalidate);
+    }
+    return sb.toString();
+  }
+
+  @Override public String toString() {
+    return "CachePolicy{" +
+        "maxAge=" + maxAge +
+        ", sMaxAge=" + sMaxAge +
+        ", private=" + privateCache +
+        ", staleWhileRevalidate=" + staleWhileRevalidate +
+        '}';
+  }
+
+}
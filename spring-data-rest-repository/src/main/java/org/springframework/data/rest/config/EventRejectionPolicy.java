@@ -0,0 +1,22 @@
+package org.springframework.data.rest.config;
+
+/**
+ * What to do with an asynchronous repository event when the queue of its partition is full.
+ *
+ * @author Jon Brisbin
+ */
+public enum EventRejectionPolicy {
+
+  /**
+   * Block the publishing thread until there is room in the queue. Nothing is lost unless the executor shuts down in the
+   * meantime. Handlers never run on the publishing thread, since that would let them overtake events of the same
+   * entity that are still queued.
+   */
+  BLOCK,
+
+  /**
+   * Drop the event and count it.
+   */
+  DROP
+
+}
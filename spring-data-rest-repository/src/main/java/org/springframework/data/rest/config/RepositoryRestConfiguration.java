@@ -1,8 +1,10 @@
 package org.springframework.data.rest.config;
 
+import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +24,10 @@ public class RepositoryRestConfiguration {
   private String                        sortParamName       = "sort";
   private String                        jsonpParamName      = "callback";
   private String                        jsonpOnErrParamName = null;
+  private String                        fieldsParamName     = "fields";
+  private String                        expandParamName     = "expand";
+  private int                           maxExpandDepth      = 1;
+  private int                           maxExpandSize       = 100;
   private List<HttpMessageConverter<?>> customConverters    = Collections.emptyList();
   private Map<Class<?>, Class<?>>       typeMappings        = Collections.emptyMap();
   private MediaType                     defaultMediaType    = MediaType.APPLICATION_JSON;
@@ -29,6 +35,33 @@ public class RepositoryRestConfiguration {
   private List<Class<?>>                exposeIdsFor        = new ArrayList<Class<?>>();
   private ResourceMappingConfiguration  domainMappings      = new ResourceMappingConfiguration();
   private ResourceMappingConfiguration  repoMappings        = new ResourceMappingConfiguration();
+  private boolean                       requestCoalescing   = false;
+  private boolean                       coalesceWithProcessors = false;
+  private boolean                       findOneBatching     = false;
+  private long                          findOneBatchWindow  = 2;
+  private int                           findOneMaxBatchSize = 50;
+  private Map<Class<?>, String>         lastModifiedProperties = new HashMap<Class<?>, String>();
+  private boolean                       representationCache         = false;
+  private long                          representationCacheMaxBytes = 16 * 1024 * 1024;
+  private boolean                       representationCacheOffHeap  = false;
+  private int                           schemaMaxAge        = 86400;
+  private boolean                       idOnlyQueries       = false;
+  private boolean                       projectionQueries   = false;
+  private int                           exportChunkSize     = 500;
+  private int                           importChunkSize     = 100;
+  private File                          snapshotDirectory   = new File(System.getProperty("java.io.tmpdir"),
+                                                                       "spring-data-rest-snapshots");
+  private boolean                       snapshotGzipped     = false;
+  private long                          snapshotRetention   = 60000;
+  private boolean                       compression         = false;
+  private int                           compressionThreshold = 1024;
+  private int                           compressionLevel    = -1;
+  private int                           maxPooledDeflaters  = 2 * Runtime.getRuntime().availableProcessors();
+  private int                           asyncEventPartitions    = Runtime.getRuntime().availableProcessors();
+  private int                           asyncEventQueueCapacity = 1024;
+  private EventRejectionPolicy          asyncEventRejectionPolicy = EventRejectionPolicy.BLOCK;
+  private int                           changeFeedCapacity  = 1024;
+  private long                          changeFeedMaxWait   = 30000;
 
   /**
    * The base URI against which the exporter should calculate its links.
@@ -241,6 +274,100 @@ public class RepositoryRestConfiguration {
     return this;
   }
 
+  /**
+   * Get the name of the URL query string parameter that restricts which properties of an entity are rendered.
+   *
+   * @return Name of the query string parameter used to select properties.
+   */
+  public String getFieldsParamName() {
+    return fieldsParamName;
+  }
+
+  /**
+   * Set the name of the URL query string parameter that restricts which properties of an entity are rendered. Its
+   * value is a comma-separated list of property names.
+   *
+   * @param fieldsParamName
+   *     Name of the query string parameter used to select properties.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setFieldsParamName(String fieldsParamName) {
+    Assert.notNull(fieldsParamName, "Fields param name cannot be null.");
+    this.fieldsParamName = fieldsParamName;
+    return this;
+  }
+
+  /**
+   * Get the name of the URL query string parameter that lists the associations to render inline.
+   *
+   * @return Name of the query string parameter used to expand associations.
+   */
+  public String getExpandParamName() {
+    return expandParamName;
+  }
+
+  /**
+   * Set the name of the URL query string parameter that lists the associations to render inline. Its value is a
+   * comma-separated list of association paths, nested associations are separated by dots.
+   *
+   * @param expandParamName
+   *     Name of the query string parameter used to expand associations.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setExpandParamName(String expandParamName) {
+    Assert.notNull(expandParamName, "Expand param name cannot be null.");
+    this.expandParamName = expandParamName;
+    return this;
+  }
+
+  /**
+   * Get how many levels of nested associations are expanded at most.
+   *
+   * @return Maximum expansion depth.
+   */
+  public int getMaxExpandDepth() {
+    return maxExpandDepth;
+  }
+
+  /**
+   * Set how many levels of nested associations are expanded at most. Paths nested deeper than this are rendered as
+   * links only.
+   *
+   * @param maxExpandDepth
+   *     Maximum expansion depth.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setMaxExpandDepth(int maxExpandDepth) {
+    this.maxExpandDepth = maxExpandDepth;
+    return this;
+  }
+
+  /**
+   * Get the maximum number of entities of one type that are loaded to expand one level of associations.
+   *
+   * @return Maximum number of inlined entities per type and level.
+   */
+  public int getMaxExpandSize() {
+    return maxExpandSize;
+  }
+
+  /**
+   * Set the maximum number of entities of one type that are loaded to expand one level of associations. If a page
+   * references more than this, those associations are rendered as links only.
+   *
+   * @param maxExpandSize
+   *     Maximum number of inlined entities per type and level.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setMaxExpandSize(int maxExpandSize) {
+    this.maxExpandSize = maxExpandSize;
+    return this;
+  }
+
   /**
    * Get the {@link MediaType} to use as a default when none is specified.
    *
@@ -378,4 +505,631 @@ public class RepositoryRestConfiguration {
     return this;
   }
 
+  /**
+   * Should identical concurrent {@literal GET} requests share a single repository invocation? Default is {@literal
+   * false}.
+   *
+   * @return Flag indicating whether identical concurrent requests are coalesced.
+   */
+  public boolean isRequestCoalescingEnabled() {
+    return requestCoalescing;
+  }
+
+  /**
+   * Set whether identical concurrent {@literal GET} requests (same repository, id or query method and query
+   * parameters) should share a single repository invocation.
+   *
+   * @param requestCoalescing
+   *     Flag indicating whether identical concurrent requests are coalesced.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setRequestCoalescingEnabled(boolean requestCoalescing) {
+    this.requestCoalescing = requestCoalescing;
+    return this;
+  }
+
+  /**
+   * Should requests still be coalesced when {@link org.springframework.hateoas.ResourceProcessor}s are registered?
+   * Default is {@literal false}.
+   *
+   * @return Flag indicating whether coalescing stays active in the presence of {@literal ResourceProcessor}s.
+   */
+  public boolean isRequestCoalescingWithResourceProcessors() {
+    return coalesceWithProcessors;
+  }
+
+  /**
+   * Set whether requests should still be coalesced when {@link org.springframework.hateoas.ResourceProcessor}s are
+   * registered. Only enable this if your processors don't modify the domain object itself.
+   *
+   * @param coalesceWithProcessors
+   *     Flag indicating whether coalescing stays active in the presence of {@literal ResourceProcessor}s.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setRequestCoalescingWithResourceProcessors(boolean coalesceWithProcessors) {
+    this.coalesceWithProcessors = coalesceWithProcessors;
+    return this;
+  }
+
+  /**
+   * Should single-entity lookups issued by concurrent requests be batched into one {@literal findAll(Iterable<ID>)}
+   * call? Default is {@literal false}.
+   *
+   * @return Flag indicating whether {@literal findOne} lookups are batched.
+   */
+  public boolean isFindOneBatchingEnabled() {
+    return findOneBatching;
+  }
+
+  /**
+   * Set whether single-entity lookups issued by concurrent requests should be batched into one {@literal
+   * findAll(Iterable<ID>)} call. Only repositories exposing that method are affected. Note that entities loaded this
+   * way are shared by all requests of a batch.
+   *
+   * @param findOneBatching
+   *     Flag indicating whether {@literal findOne} lookups are batched.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setFindOneBatchingEnabled(boolean findOneBatching) {
+    this.findOneBatching = findOneBatching;
+    return this;
+  }
+
+  /**
+   * Get the maximum time, in milliseconds, a batch of {@literal findOne} lookups is held open for other requests to
+   * join. Default is 2.
+   *
+   * @return Batch window in milliseconds.
+   */
+  public long getFindOneBatchWindow() {
+    return findOneBatchWindow;
+  }
+
+  /**
+   * Set the maximum time, in milliseconds, a batch of {@literal findOne} lookups is held open for other requests to
+   * join. This is the latency added to the first request of a batch in the worst case.
+   *
+   * @param findOneBatchWindow
+   *     Batch window in milliseconds.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setFindOneBatchWindow(long findOneBatchWindow) {
+    this.findOneBatchWindow = findOneBatchWindow;
+    return this;
+  }
+
+  /**
+   * Get the number of distinct IDs after which a batch of {@literal findOne} lookups is executed immediately. Default
+   * is 50.
+   *
+   * @return Maximum batch size.
+   */
+  public int getFindOneMaxBatchSize() {
+    return findOneMaxBatchSize;
+  }
+
+  /**
+   * Set the number of distinct IDs after which a batch of {@literal findOne} lookups is executed immediately, without
+   * waiting for the batch window to elapse.
+   *
+   * @param findOneMaxBatchSize
+   *     Maximum batch size.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setFindOneMaxBatchSize(int findOneMaxBatchSize) {
+    this.findOneMaxBatchSize = findOneMaxBatchSize;
+    return this;
+  }
+
+  /**
+   * Get the name of the property holding the last-modified timestamp of the given domain type.
+   *
+   * @param domainType
+   *     The domain type.
+   *
+   * @return Name of the property or {@literal null} if none has been configured.
+   */
+  public String getLastModifiedProperty(Class<?> domainType) {
+    return lastModifiedProperties.get(domainType);
+  }
+
+  /**
+   * Set the name of the property holding the last-modified timestamp of the given domain type. Its value is used to
+   * answer conditional {@literal GET} requests carrying an {@literal If-Modified-Since} header. The property may be a
+   * {@link java.util.Date}, a {@link java.util.Calendar}, a {@literal long} of milliseconds or anything the {@link
+   * org.springframework.core.convert.ConversionService} can turn into a {@link java.util.Date}.
+   *
+   * @param domainType
+   *     The domain type.
+   * @param property
+   *     Name of the property.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setLastModifiedProperty(Class<?> domainType, String property) {
+    lastModifiedProperties.put(domainType, property);
+    return this;
+  }
+
+  /**
+   * Should the rendered JSON of versioned entities be cached? Default is {@literal false}.
+   *
+   * @return Flag indicating whether rendered entities are cached.
+   */
+  public boolean isRepresentationCacheEnabled() {
+    return representationCache;
+  }
+
+  /**
+   * Set whether the rendered JSON of versioned entities should be cached and reused as long as the entity's version
+   * doesn't change. Entities without a version property are always rendered from scratch.
+   *
+   * @param representationCache
+   *     Flag indicating whether rendered entities are cached.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setRepresentationCacheEnabled(boolean representationCache) {
+    this.representationCache = representationCache;
+    return this;
+  }
+
+  /**
+   * Get the maximum number of bytes the cache of rendered entities may occupy. Default is 16MB.
+   *
+   * @return Maximum size of the cache in bytes.
+   */
+  public long getRepresentationCacheMaxBytes() {
+    return representationCacheMaxBytes;
+  }
+
+  /**
+   * Set the maximum number of bytes the cache of rendered entities may occupy. Least recently used entries are evicted
+   * once this is exceeded.
+   *
+   * @param representationCacheMaxBytes
+   *     Maximum size of the cache in bytes.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setRepresentationCacheMaxBytes(long representationCacheMaxBytes) {
+    this.representationCacheMaxBytes = representationCacheMaxBytes;
+    return this;
+  }
+
+  /**
+   * Are rendered entities kept in direct (off-heap) buffers? Default is {@literal false}.
+   *
+   * @return Flag indicating whether cached entities are stored off-heap.
+   */
+  public boolean isRepresentationCacheOffHeap() {
+    return representationCacheOffHeap;
+  }
+
+  /**
+   * Set whether rendered entities should be kept in direct (off-heap) buffers instead of on the heap. This takes
+   * pressure off the garbage collector for large caches at the price of decoding a fragment on every hit.
+   *
+   * @param representationCacheOffHeap
+   *     Flag indicating whether cached entities are stored off-heap.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setRepresentationCacheOffHeap(boolean representationCacheOffHeap) {
+    this.representationCacheOffHeap = representationCacheOffHeap;
+    return this;
+  }
+
+  /**
+   * Get the number of seconds clients may cache JSON Schema documents without revalidating. Default is one day.
+   *
+   * @return {@literal max-age} of schema responses in seconds.
+   */
+  public int getSchemaMaxAge() {
+    return schemaMaxAge;
+  }
+
+  /**
+   * Set the number of seconds clients may cache JSON Schema documents without revalidating. Schemas only change when
+   * the application is redeployed, and they always carry an {@literal ETag} for revalidation. A negative value omits
+   * the {@literal Cache-Control} header.
+   *
+   * @param schemaMaxAge
+   *     {@literal max-age} of schema responses in seconds.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setSchemaMaxAge(int schemaMaxAge) {
+    this.schemaMaxAge = schemaMaxAge;
+    return this;
+  }
+
+  /**
+   * Should compact and {@literal text/uri-list} listings load only the IDs of entities? Default is {@literal false}.
+   *
+   * @return Flag indicating whether ID-only queries are used.
+   */
+  public boolean isIdOnlyQueriesEnabled() {
+    return idOnlyQueries;
+  }
+
+  /**
+   * Set whether compact and {@literal text/uri-list} listings of a repository should ask the store for nothing but the
+   * IDs of its entities instead of loading them through the repository's {@literal findAll} methods. This bypasses
+   * any custom {@literal findAll} implementation.
+   *
+   * @param idOnlyQueries
+   *     {@literal true} to use ID-only queries where the store supports them.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setIdOnlyQueriesEnabled(boolean idOnlyQueries) {
+    this.idOnlyQueries = idOnlyQueries;
+    return this;
+  }
+
+  /**
+   * Whether listings restricted with the fields parameter load only the selected properties from the store.
+   *
+   * @return Flag indicating whether projection queries are used.
+   */
+  public boolean isProjectionQueriesEnabled() {
+    return projectionQueries;
+  }
+
+  /**
+   * Set whether listings of a repository restricted with the fields parameter should ask the store for nothing but the
+   * ID, the version and the selected properties of its entities instead of loading them through the repository's
+   * {@literal findAll} methods. This bypasses any custom {@literal findAll} implementation, and {@link
+   * org.springframework.hateoas.ResourceProcessor}s see entities that only have those properties set.
+   *
+   * @param projectionQueries
+   *     {@literal true} to use projection queries where the store supports them.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setProjectionQueriesEnabled(boolean projectionQueries) {
+    this.projectionQueries = projectionQueries;
+    return this;
+  }
+
+  /**
+   * Get the number of entities loaded at a time when a whole repository is exported.
+   *
+   * @return Number of entities per chunk.
+   */
+  public int getExportChunkSize() {
+    return exportChunkSize;
+  }
+
+  /**
+   * Set the number of entities loaded at a time when a whole repository is exported. Memory use of an export depends
+   * on this rather than on the size of the repository.
+   *
+   * @param exportChunkSize
+   *     Number of entities per chunk.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setExportChunkSize(int exportChunkSize) {
+    Assert.isTrue((exportChunkSize > 0), "Export chunk size must be greater than 0.");
+    this.exportChunkSize = exportChunkSize;
+    return this;
+  }
+
+  /**
+   * Get the number of entities saved at a time during a bulk import.
+   *
+   * @return Number of entities per chunk.
+   */
+  public int getImportChunkSize() {
+    return importChunkSize;
+  }
+
+  /**
+   * Set the number of entities saved at a time during a bulk import. Each chunk is saved with a single {@literal
+   * save(Iterable)} call, so it's also the unit of the repository's transaction. Matching the JDBC batch size of the
+   * store is a good starting point.
+   *
+   * @param importChunkSize
+   *     Number of entities per chunk.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setImportChunkSize(int importChunkSize) {
+    Assert.isTrue((importChunkSize > 0), "Import chunk size must be greater than 0.");
+    this.importChunkSize = importChunkSize;
+    return this;
+  }
+
+  /**
+   * Get the directory repository snapshots are written to.
+   *
+   * @return Snapshot directory.
+   */
+  public File getSnapshotDirectory() {
+    return snapshotDirectory;
+  }
+
+  /**
+   * Set the directory repository snapshots are written to. Default is a directory below {@literal java.io.tmpdir}.
+   *
+   * @param snapshotDirectory
+   *     Snapshot directory.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setSnapshotDirectory(File snapshotDirectory) {
+    Assert.notNull(snapshotDirectory, "Snapshot directory cannot be null.");
+    this.snapshotDirectory = snapshotDirectory;
+    return this;
+  }
+
+  /**
+   * Are repository snapshots stored gzip'd? Default is {@literal false}.
+   *
+   * @return Flag indicating whether snapshots are compressed.
+   */
+  public boolean isSnapshotGzipped() {
+    return snapshotGzipped;
+  }
+
+  /**
+   * Set whether repository snapshots are stored gzip'd. Compressed snapshots are sent with {@literal
+   * Content-Encoding: gzip} and only to clients that accept it.
+   *
+   * @param snapshotGzipped
+   *     {@literal true} to compress snapshots.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setSnapshotGzipped(boolean snapshotGzipped) {
+    this.snapshotGzipped = snapshotGzipped;
+    return this;
+  }
+
+  /**
+   * Get how long a replaced snapshot is kept around for downloads that may still be reading it.
+   *
+   * @return Retention in milliseconds.
+   */
+  public long getSnapshotRetention() {
+    return snapshotRetention;
+  }
+
+  /**
+   * Set how long a replaced snapshot is kept around for downloads that may still be reading it. The file isn't
+   * deleted before this time has passed and every download through the application has finished. Downloads handed to
+   * the container's sendfile support can't be tracked, so this should exceed the time a download takes. Default is 60
+   * seconds.
+   *
+   * @param snapshotRetention
+   *     Retention in milliseconds.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setSnapshotRetention(long snapshotRetention) {
+    Assert.isTrue((snapshotRetention >= 0), "Snapshot retention cannot be negative.");
+    this.snapshotRetention = snapshotRetention;
+    return this;
+  }
+
+  /**
+   * Whether responses are compressed with {@literal gzip} or {@literal deflate} for clients that accept it.
+   *
+   * @return Flag indicating whether response compression is enabled.
+   */
+  public boolean isCompressionEnabled() {
+    return compression;
+  }
+
+  /**
+   * Set whether responses are compressed with {@literal gzip} or {@literal deflate} for clients that accept it.
+   *
+   * @param compression
+   *     {@literal true} to compress responses.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setCompressionEnabled(boolean compression) {
+    this.compression = compression;
+    return this;
+  }
+
+  /**
+   * Get the size in bytes a response has to exceed to be compressed.
+   *
+   * @return Compression threshold in bytes.
+   */
+  public int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Set the size in bytes a response has to exceed to be compressed. Smaller responses are sent as is, since
+   * compressing them costs more than it saves. Takes effect when the exporter starts up.
+   *
+   * @param compressionThreshold
+   *     Compression threshold in bytes.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setCompressionThreshold(int compressionThreshold) {
+    Assert.isTrue((compressionThreshold >= 0), "Compression threshold cannot be negative.");
+    this.compressionThreshold = compressionThreshold;
+    return this;
+  }
+
+  /**
+   * Get the level responses are compressed with.
+   *
+   * @return Compression level, {@literal -1} meaning the deflater's default.
+   */
+  public int getCompressionLevel() {
+    return compressionLevel;
+  }
+
+  /**
+   * Set the level responses are compressed with, from {@literal 0} (none) to {@literal 9} (best) or {@literal -1} for
+   * the deflater's default. Takes effect when the exporter starts up.
+   *
+   * @param compressionLevel
+   *     Compression level.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setCompressionLevel(int compressionLevel) {
+    Assert.isTrue((compressionLevel >= -1 && compressionLevel <= 9), "Compression level must be between -1 and 9.");
+    this.compressionLevel = compressionLevel;
+    return this;
+  }
+
+  /**
+   * Get the maximum number of idle deflaters kept for reuse.
+   *
+   * @return Maximum number of pooled deflaters.
+   */
+  public int getMaxPooledDeflaters() {
+    return maxPooledDeflaters;
+  }
+
+  /**
+   * Set the maximum number of idle deflaters kept for reuse. Defaults to twice the number of processors.
+   *
+   * @param maxPooledDeflaters
+   *     Maximum number of pooled deflaters.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setMaxPooledDeflaters(int maxPooledDeflaters) {
+    Assert.isTrue((maxPooledDeflaters >= 0), "Maximum number of pooled deflaters cannot be negative.");
+    this.maxPooledDeflaters = maxPooledDeflaters;
+    return this;
+  }
+
+  /**
+   * Get the number of partitions asynchronous event handlers are run on.
+   *
+   * @return Number of partitions.
+   */
+  public int getAsyncEventPartitions() {
+    return asyncEventPartitions;
+  }
+
+  /**
+   * Set the number of partitions asynchronous event handlers are run on. Each partition is a single thread, so the
+   * handlers of one entity run in order. Defaults to the number of processors. Takes effect when the exporter starts
+   * up.
+   *
+   * @param asyncEventPartitions
+   *     Number of partitions.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setAsyncEventPartitions(int asyncEventPartitions) {
+    Assert.isTrue((asyncEventPartitions > 0), "Number of event partitions must be greater than 0.");
+    this.asyncEventPartitions = asyncEventPartitions;
+    return this;
+  }
+
+  /**
+   * Get the number of asynchronous events each partition queues before the rejection policy kicks in.
+   *
+   * @return Queue capacity per partition.
+   */
+  public int getAsyncEventQueueCapacity() {
+    return asyncEventQueueCapacity;
+  }
+
+  /**
+   * Set the number of asynchronous events each partition queues before the rejection policy kicks in. Takes effect
+   * when the exporter starts up.
+   *
+   * @param asyncEventQueueCapacity
+   *     Queue capacity per partition.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setAsyncEventQueueCapacity(int asyncEventQueueCapacity) {
+    Assert.isTrue((asyncEventQueueCapacity > 0), "Event queue capacity must be greater than 0.");
+    this.asyncEventQueueCapacity = asyncEventQueueCapacity;
+    return this;
+  }
+
+  /**
+   * Get what happens to an asynchronous event when the queue of its partition is full.
+   *
+   * @return The rejection policy.
+   */
+  public EventRejectionPolicy getAsyncEventRejectionPolicy() {
+    return asyncEventRejectionPolicy;
+  }
+
+  /**
+   * Set what happens to an asynchronous event when the queue of its partition is full. Defaults to blocking the
+   * publishing thread until there is room. Takes effect when the exporter starts up.
+   *
+   * @param asyncEventRejectionPolicy
+   *     The rejection policy.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setAsyncEventRejectionPolicy(EventRejectionPolicy asyncEventRejectionPolicy) {
+    Assert.notNull(asyncEventRejectionPolicy, "Event rejection policy cannot be null.");
+    this.asyncEventRejectionPolicy = asyncEventRejectionPolicy;
+    return this;
+  }
+
+  /**
+   * Get the number of changes the change feed keeps per domain type.
+   *
+   * @return Capacity of the change feed.
+   */
+  public int getChangeFeedCapacity() {
+    return changeFeedCapacity;
+  }
+
+  /**
+   * Set the number of changes the change feed keeps per domain type, rounded up to a power of two. Clients that fall
+   * further behind have to resync. Takes effect for domain types that haven't changed yet.
+   *
+   * @param changeFeedCapacity
+   *     Capacity of the change feed.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setChangeFeedCapacity(int changeFeedCapacity) {
+    Assert.isTrue((changeFeedCapacity > 0), "Change feed capacity must be greater than 0.");
+    this.changeFeedCapacity = changeFeedCapacity;
+    return this;
+  }
+
+  /**
+   * Get the longest time a long-polling or streaming change feed request is held open.
+   *
+   * @return Maximum wait in milliseconds.
+   */
+  public long getChangeFeedMaxWait() {
+    return changeFeedMaxWait;
+  }
+
+  /**
+   * Set the longest time a long-polling or streaming change feed request is held open.
+   *
+   * @param changeFeedMaxWait
+   *     Maximum wait in milliseconds.
+   *
+   * @return {@literal this}
+   */
+  public RepositoryRestConfiguration setChangeFeedMaxWait(long changeFeedMaxWait) {
+    Assert.isTrue((changeFeedMaxWait >= 0), "Change feed wait cannot be negative.");
+    this.changeFeedMaxWait = changeFeedMaxWait;
+    return this;
+  }
+
 }
@@ -13,6 +13,7 @@ public class ResourceMapping {
   private String rel;
   private String path;
   private       boolean                      exported         = true;
+  private       CachePolicy                  cachePolicy;
   private final Map<String, ResourceMapping> resourceMappings = new HashMap<String, ResourceMapping>();
 
   public ResourceMapping() {
@@ -22,6 +23,7 @@ public class ResourceMapping {
     rel = findRel(type);
     path = findPath(type);
     exported = findExported(type);
+    cachePolicy = findCachePolicy(type);
   }
 
   public ResourceMapping(String rel, String path) {
@@ -62,6 +64,15 @@ public class ResourceMapping {
     return this;
   }
 
+  public CachePolicy getCachePolicy() {
+    return cachePolicy;
+  }
+
+  public ResourceMapping setCachePolicy(CachePolicy cachePolicy) {
+    this.cachePolicy = cachePolicy;
+    return this;
+  }
+
   public ResourceMapping addResourceMappings(Map<String, ResourceMapping> mappings) {
     if(null == mappings) {
       return this;
@@ -103,6 +114,7 @@ public class ResourceMapping {
         "rel='" + rel + '\'' +
         ", path='" + path + '\'' +
         ", exported=" + exported +
+        ", cachePolicy=" + cachePolicy +
         ", resourceMappings=" + resourceMappings +
         '}';
   }
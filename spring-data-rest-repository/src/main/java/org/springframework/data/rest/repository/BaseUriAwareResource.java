@@ -43,7 +43,7 @@ public class BaseUriAwareResource<T> extends Resource<T> {
     List<Link> links = new ArrayList<Link>();
     for(Link l : super.getLinks()) {
       if(!l.getHref().startsWith(baseUriStr)) {
-        links.add(new Link(buildUri(baseUri, l.getHref()).toString(), l.getRel()));
+        links.add(new Link(buildHref(baseUri, l.getHref()), l.getRel()));
       } else {
         links.add(l);
       }
@@ -57,7 +57,7 @@ public class BaseUriAwareResource<T> extends Resource<T> {
       return null;
     }
     if(!l.getHref().startsWith(baseUri.toString())) {
-      return new Link(buildUri(baseUri, l.getHref()).toString(), l.getRel());
+      return new Link(buildHref(baseUri, l.getHref()), l.getRel());
     } else {
       return l;
     }
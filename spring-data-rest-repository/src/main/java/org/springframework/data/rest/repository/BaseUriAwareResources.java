@@ -60,14 +60,14 @@ public class BaseUriAwareResources extends Resources<Resource<?>> {
   @Override public List<Link> getLinks() {
     List<Link> links = new ArrayList<Link>();
     for(Link l : super.getLinks()) {
-      links.add(new Link(buildUri(baseUri, l.getHref()).toString(), l.getRel()));
+      links.add(new Link(buildHref(baseUri, l.getHref()), l.getRel()));
     }
     return links;
   }
 
   @Override public Link getLink(String rel) {
     Link l = super.getLink(rel);
-    return new Link(buildUri(baseUri, l.getHref()).toString(), l.getRel());
+    return new Link(buildHref(baseUri, l.getHref()), l.getRel());
   }
 
 }
@@ -1,6 +1,10 @@
 package org.springframework.data.rest.repository;
 
 import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.mapping.PersistentEntity;
@@ -16,6 +20,12 @@ public class PersistentEntityResource<T> extends BaseUriAwareResource<T> {
 
   @JsonIgnore
   private final PersistentEntity<T, ?> persistentEntity;
+  @JsonIgnore
+  private       Set<String>            fields;
+  @JsonIgnore
+  private       Map<String, Object>    expanded;
+  @JsonIgnore
+  private       Set<String>            truncated;
 
   @SuppressWarnings({"unchecked"})
   public static <T> PersistentEntityResource<T> wrap(PersistentEntity persistentEntity,
@@ -48,4 +58,80 @@ public class PersistentEntityResource<T> extends BaseUriAwareResource<T> {
     return persistentEntity;
   }
 
+  /**
+   * Get the names of the properties to render.
+   *
+   * @return Names of the selected properties or {@literal null} if all properties are rendered.
+   */
+  public Set<String> getFields() {
+    return fields;
+  }
+
+  /**
+   * Restrict rendering to the given properties. Links that don't belong to a property, like the {@literal self} link,
+   * are always rendered.
+   *
+   * @param fields
+   *     Names of the selected properties or {@literal null} to render all properties.
+   *
+   * @return {@literal this}
+   */
+  public PersistentEntityResource<T> setFields(Set<String> fields) {
+    this.fields = fields;
+    return this;
+  }
+
+  /**
+   * Get the associations that should be rendered inline rather than as links.
+   *
+   * @return Inlined resources keyed by property name, or {@literal null} if nothing is expanded.
+   */
+  public Map<String, Object> getExpanded() {
+    return expanded;
+  }
+
+  /**
+   * Render the given association inline. The association link is still rendered.
+   *
+   * @param property
+   *     Name of the association property.
+   * @param value
+   *     The inlined resource, a {@link java.util.List} of resources for to-many associations, or {@literal null}.
+   *
+   * @return {@literal this}
+   */
+  public PersistentEntityResource<T> addExpanded(String property, Object value) {
+    if(null == expanded) {
+      expanded = new LinkedHashMap<String, Object>();
+    }
+    expanded.put(property, value);
+    return this;
+  }
+
+  /**
+   * Get the associations that were asked to be expanded but referenced too many entities to be inlined.
+   *
+   * @return Names of the association properties or {@literal null} if nothing was left out.
+   */
+  public Set<String> getTruncated() {
+    return truncated;
+  }
+
+  /**
+   * Record that the given association wasn't inlined because it referenced too many entities. It's rendered as a link
+   * only, and its name is listed under {@literal truncated} so clients can tell it apart from an empty association.
+   *
+   * @param property
+   *     Name of the association property.
+   *
+   * @return {@literal this}
+   */
+  public PersistentEntityResource<T> addTruncated(String property) {
+    if(null == truncated) {
+      truncated = new LinkedHashSet<String>();
+    }
+    truncated.add(property);
+    return this;
+  }
+
 }
@@ -0,0 +1,32 @@
+package org.springframework.data.rest.repository;
+
+import java.util.List;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.validation.Errors;
+
+/**
+ * Exception that is thrown when Spring {@link org.springframework.validation.Validator}s reject entities of a batch.
+ * It carries the errors of every entity of the batch, not just the first invalid one.
+ *
+ * @author Jon Brisbin
+ */
+public class RepositoryBatchConstraintViolationException extends DataIntegrityViolationException {
+
+  private final List<Errors> errors;
+
+  public RepositoryBatchConstraintViolationException(List<Errors> errors) {
+    super("Validation failed");
+    this.errors = errors;
+  }
+
+  /**
+   * Get the errors of the entities of the batch.
+   *
+   * @return The errors of each entity, in the order of the batch, with {@literal null} for valid entities.
+   */
+  public List<Errors> getErrors() {
+    return errors;
+  }
+
+}
@@ -11,6 +11,7 @@ import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.support.DomainClassConverter;
+import org.springframework.data.rest.core.util.PathSegmentCursor;
 import org.springframework.data.rest.repository.support.RepositoryInformationSupport;
 
 /**
@@ -56,8 +57,9 @@ public class UriDomainClassConverter
     }
 
     URI uri = (URI)source;
-    String[] parts = uri.getPath().split("/");
-    if(parts.length < 2) {
+    String path = uri.getPath();
+    String id = (null != path && path.indexOf('/') >= 0 ? PathSegmentCursor.last(path) : null);
+    if(null == id) {
       throw new ConversionFailedException(
           sourceType,
           targetType,
@@ -66,7 +68,7 @@ public class UriDomainClassConverter
       );
     }
 
-    return domainClassConverter.convert(parts[parts.length - 1], STRING_TYPE, targetType);
+    return domainClassConverter.convert(id, STRING_TYPE, targetType);
   }
 
 }
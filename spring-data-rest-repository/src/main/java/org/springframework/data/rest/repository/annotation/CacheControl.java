@@ -0,0 +1,47 @@
+package org.springframework.data.rest.repository.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * HTTP caching policy of a resource, set through {@link RestResource#cacheControl()}. The defaults don't send any
+ * caching headers.
+ *
+ * @author Jon Brisbin
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheControl {
+
+  /**
+   * Number of seconds any cache may keep the resource without revalidating.
+   *
+   * @return Seconds or {@literal -1} to not send {@literal max-age}.
+   */
+  int maxAge() default -1;
+
+  /**
+   * Number of seconds shared caches, like CDNs, may keep the resource without revalidating.
+   *
+   * @return Seconds or {@literal -1} to not send {@literal s-maxage}.
+   */
+  int sMaxAge() default -1;
+
+  /**
+   * Whether only the client's own cache may keep the resource.
+   *
+   * @return {@literal true} for {@literal private}, {@literal false} for {@literal public}.
+   */
+  boolean isPrivate() default false;
+
+  /**
+   * Number of seconds a cache may keep serving the resource after it went stale while revalidating it in the
+   * background.
+   *
+   * @return Seconds or {@literal -1} to not send {@literal stale-while-revalidate}.
+   */
+  int staleWhileRevalidate() default -1;
+
+}
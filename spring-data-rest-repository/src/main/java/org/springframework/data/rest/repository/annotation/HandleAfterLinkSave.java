@@ -21,4 +21,12 @@ public @interface HandleAfterLinkSave {
 
   Class<?>[] value() default {};
 
+  /**
+   * Whether the handler runs on a separate thread after the request has moved on. Handlers of the same entity still
+   * run in the order their events were published.
+   *
+   * @return {@literal true} to handle the event asynchronously.
+   */
+  boolean async() default false;
+
 }
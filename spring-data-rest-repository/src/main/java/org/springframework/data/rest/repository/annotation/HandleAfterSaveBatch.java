@@ -0,0 +1,25 @@
+package org.springframework.data.rest.repository.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Denotes a component that should handle the {@literal afterSaveBatch} event. Annotated methods take a
+ * {@link java.util.List} of the entities in the batch.
+ *
+ * @author Jon Brisbin
+ */
+@Target({
+            ElementType.TYPE,
+            ElementType.METHOD
+        })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface HandleAfterSaveBatch {
+
+  Class<?>[] value() default {};
+
+}
@@ -42,4 +42,11 @@ public @interface RestResource {
    */
   String rel() default "";
 
+  /**
+   * The HTTP caching policy of this resource.
+   *
+   * @return The caching policy, which by default doesn't allow caching.
+   */
+  CacheControl cacheControl() default @CacheControl;
+
 }
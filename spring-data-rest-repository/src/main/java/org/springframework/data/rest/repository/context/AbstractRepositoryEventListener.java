@@ -2,6 +2,8 @@ package org.springframework.data.rest.repository.context;
 
 import static org.springframework.core.GenericTypeResolver.*;
 
+import java.util.List;
+
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -23,14 +25,29 @@ public abstract class AbstractRepositoryEventListener<T> implements ApplicationL
     this.applicationContext = applicationContext;
   }
 
+  /**
+   * The domain type this listener handles events for, so the {@link RepositoryEventBus} can skip it for others.
+   *
+   * @return The domain type or {@literal null} if it couldn't be resolved.
+   */
+  Class<?> getInterestedType() {
+    return INTERESTED_TYPE;
+  }
+
   @SuppressWarnings({"unchecked"})
   @Override public final void onApplicationEvent(RepositoryEvent event) {
-    Class<?> srcType = event.getSource().getClass();
+    Class<?> srcType = (event instanceof BatchRepositoryEvent
+                        ? ((BatchRepositoryEvent)event).getDomainType()
+                        : event.getSource().getClass());
     if(null != INTERESTED_TYPE && !INTERESTED_TYPE.isAssignableFrom(srcType)) {
       return;
     }
 
-    if(event instanceof BeforeSaveEvent) {
+    if(event instanceof BeforeSaveBatchEvent) {
+      onBeforeSaveBatch((List<T>)((BeforeSaveBatchEvent)event).getEntities());
+    } else if(event instanceof AfterSaveBatchEvent) {
+      onAfterSaveBatch((List<T>)((AfterSaveBatchEvent)event).getEntities());
+    } else if(event instanceof BeforeSaveEvent) {
       onBeforeSave((T)event.getSource());
     } else if(event instanceof AfterSaveEvent) {
       onAfterSave((T)event.getSource());
@@ -67,6 +84,26 @@ public abstract class AbstractRepositoryEventListener<T> implements ApplicationL
   protected void onAfterSave(T entity) {
   }
 
+  /**
+   * Override this method if you are interested in {@literal beforeSaveBatch} events. Every entity of the batch is also
+   * passed to {@link #onBeforeSave(Object)} afterwards.
+   *
+   * @param entities
+   *     The entities being saved.
+   */
+  protected void onBeforeSaveBatch(List<T> entities) {
+  }
+
+  /**
+   * Override this method if you are interested in {@literal afterSaveBatch} events, e.g. to index the whole batch in
+   * one request. Every entity of the batch is also passed to {@link #onAfterSave(Object)}.
+   *
+   * @param entities
+   *     The entities that were just saved.
+   */
+  protected void onAfterSaveBatch(List<T> entities) {
+  }
+
   /**
    * Override this method if you are interested in {@literal beforeLinkSave} events.
    *
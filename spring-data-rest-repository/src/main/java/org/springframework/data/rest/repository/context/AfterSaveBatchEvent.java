@@ -0,0 +1,18 @@
+package org.springframework.data.rest.repository.context;
+
+import java.util.List;
+
+/**
+ * Emitted after a batch of entities was saved to the repository.
+ *
+ * @author Jon Brisbin
+ */
+public class AfterSaveBatchEvent extends BatchRepositoryEvent {
+  public AfterSaveBatchEvent(Class<?> domainType, List<?> entities) {
+    super(domainType, entities);
+  }
+
+  @Override public RepositoryEvent forEntity(Object entity) {
+    return new AfterSaveEvent(entity);
+  }
+}
@@ -5,68 +5,137 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.rest.repository.annotation.HandleAfterDelete;
 import org.springframework.data.rest.repository.annotation.HandleAfterLinkDelete;
 import org.springframework.data.rest.repository.annotation.HandleAfterLinkSave;
 import org.springframework.data.rest.repository.annotation.HandleAfterSave;
+import org.springframework.data.rest.repository.annotation.HandleAfterSaveBatch;
 import org.springframework.data.rest.repository.annotation.HandleBeforeDelete;
 import org.springframework.data.rest.repository.annotation.HandleBeforeLinkDelete;
 import org.springframework.data.rest.repository.annotation.HandleBeforeLinkSave;
 import org.springframework.data.rest.repository.annotation.HandleBeforeSave;
+import org.springframework.data.rest.repository.annotation.HandleBeforeSaveBatch;
 import org.springframework.data.rest.repository.annotation.RepositoryEventHandler;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 /**
+ * Finds beans annotated with {@link RepositoryEventHandler} and invokes their annotated methods when a matching {@link
+ * RepositoryEvent} is published.
+ * <p>
+ * The handlers for a given event type and domain class are resolved the first time such an event is seen and kept in
+ * a dispatch table, so publishing an event only costs two map lookups and the handler invocations themselves.
+ * </p>
+ * <p>
+ * Handlers of {@literal after} events marked {@literal async} are handed to the {@link PartitionedEventExecutor}, if
+ * there is one in the context, instead of running inside the request.
+ * </p>
+ *
  * @author Jon Brisbin
  */
 public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<RepositoryEvent>,
-                                                          BeanPostProcessor {
+                                                          BeanPostProcessor,
+                                                          ApplicationContextAware {
 
-  private static final Logger LOG = LoggerFactory.getLogger(AnnotatedHandlerBeanPostProcessor.class);
+  private static final Logger               LOG         = LoggerFactory.getLogger(AnnotatedHandlerBeanPostProcessor.class);
+  private static final EventHandlerMethod[] NO_HANDLERS = new EventHandlerMethod[0];
 
-  private Multimap<Class<? extends RepositoryEvent>, EventHandlerMethod> handlerMethods = ArrayListMultimap.create();
+  private final ConcurrentMap<Class<?>, List<EventHandlerMethod>>                       handlerMethods = new ConcurrentHashMap<Class<?>, List<EventHandlerMethod>>();
+  private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, EventHandlerMethod[]>> dispatchTable  = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, EventHandlerMethod[]>>();
+  private ApplicationContext                applicationContext;
+  private volatile boolean                  asyncExecutorResolved = false;
+  private volatile PartitionedEventExecutor asyncExecutor;
+
+  @Override public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+    this.applicationContext = applicationContext;
+  }
 
   @Override public void onApplicationEvent(RepositoryEvent event) {
-    Class<? extends RepositoryEvent> eventType = event.getClass();
-    if(!handlerMethods.containsKey(eventType)) {
+    Object src = event.getSource();
+    Class<?> srcType = (event instanceof BatchRepositoryEvent
+                        ? ((BatchRepositoryEvent)event).getDomainType()
+                        : src.getClass());
+    EventHandlerMethod[] handlers = getHandlers(event.getClass(), srcType);
+    if(handlers.length == 0) {
       return;
     }
 
-    for(EventHandlerMethod handlerMethod : handlerMethods.get(eventType)) {
-      try {
-        Object src = event.getSource();
+    Object linked = (event instanceof LinkSaveEvent ? ((LinkSaveEvent)event).getLinked() : null);
+    for(EventHandlerMethod handlerMethod : handlers) {
+      if(LOG.isDebugEnabled()) {
+        LOG.debug("Invoking " + event.getClass().getSimpleName() + " handler for " + src);
+      }
+      PartitionedEventExecutor executor;
+      if(handlerMethod.async && null != (executor = getAsyncExecutor())) {
+        executor.execute(src, new AsyncInvocation(handlerMethod, src, linked));
+      } else {
+        handlerMethod.invoke(src, linked);
+      }
+    }
+  }
 
-        if(!ClassUtils.isAssignable(handlerMethod.targetType, src.getClass())) {
-          continue;
-        }
+  /**
+   * Whether any handler applies to the given event type and domain class.
+   */
+  boolean hasHandlers(Class<?> eventType, Class<?> srcType) {
+    return getHandlers(eventType, srcType).length > 0;
+  }
 
-        List<Object> params = new ArrayList<Object>();
-        params.add(src);
-        if(event instanceof BeforeLinkSaveEvent) {
-          params.add(((BeforeLinkSaveEvent)event).getLinked());
-        } else if(event instanceof AfterLinkSaveEvent) {
-          params.add(((AfterLinkSaveEvent)event).getLinked());
-        }
+  /**
+   * The executor is looked up on first use rather than injected, so it isn't instantiated while bean post processors
+   * are still being registered.
+   */
+  private PartitionedEventExecutor getAsyncExecutor() {
+    if(!asyncExecutorResolved && null != applicationContext) {
+      Map<String, PartitionedEventExecutor> executors = applicationContext.getBeansOfType(PartitionedEventExecutor.class);
+      asyncExecutor = (executors.isEmpty() ? null : executors.values().iterator().next());
+      asyncExecutorResolved = true;
+    }
+    return asyncExecutor;
+  }
 
-        if(LOG.isDebugEnabled()) {
-          LOG.debug("Invoking " + event.getClass().getSimpleName() + " handler for " + event.getSource());
-        }
-        handlerMethod.method.invoke(handlerMethod.handler, params.toArray());
+  /**
+   * Get the handlers of the given event type that apply to the given domain class, resolving and remembering them the
+   * first time that combination is seen.
+   */
+  private EventHandlerMethod[] getHandlers(Class<?> eventType, Class<?> srcType) {
+    ConcurrentMap<Class<?>, EventHandlerMethod[]> handlersBySrcType = dispatchTable.get(eventType);
+    if(null == handlersBySrcType) {
+      if(!handlerMethods.containsKey(eventType)) {
+        return NO_HANDLERS;
+      }
+      handlersBySrcType = new ConcurrentHashMap<Class<?>, EventHandlerMethod[]>();
+      ConcurrentMap<Class<?>, EventHandlerMethod[]> existing = dispatchTable.putIfAbsent(eventType, handlersBySrcType);
+      if(null != existing) {
+        handlersBySrcType = existing;
+      }
+    }
 
-      } catch(Exception e) {
-        throw new IllegalStateException(e);
+    EventHandlerMethod[] handlers = handlersBySrcType.get(srcType);
+    if(null == handlers) {
+      List<EventHandlerMethod> matching = new ArrayList<EventHandlerMethod>();
+      for(EventHandlerMethod handlerMethod : handlerMethods.get(eventType)) {
+        if(ClassUtils.isAssignable(handlerMethod.targetType, srcType)) {
+          matching.add(handlerMethod);
+        }
       }
+      handlers = (matching.isEmpty() ? NO_HANDLERS : matching.toArray(new EventHandlerMethod[matching.size()]));
+      handlersBySrcType.put(srcType, handlers);
     }
+    return handlers;
   }
 
   @Override public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
@@ -100,6 +169,8 @@ public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<Re
               inspect(targetType, bean, method, HandleAfterDelete.class, AfterDeleteEvent.class);
               inspect(targetType, bean, method, HandleBeforeLinkDelete.class, BeforeLinkDeleteEvent.class);
               inspect(targetType, bean, method, HandleAfterLinkDelete.class, AfterLinkDeleteEvent.class);
+              inspect(targetType, bean, method, HandleBeforeSaveBatch.class, BeforeSaveBatchEvent.class);
+              inspect(targetType, bean, method, HandleAfterSaveBatch.class, AfterSaveBatchEvent.class);
             }
           },
           new ReflectionUtils.MethodFilter() {
@@ -132,11 +203,11 @@ public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<Re
           targetTypes = new Class<?>[]{targetType};
         }
         for(Class<?> type : targetTypes) {
-          EventHandlerMethod m = new EventHandlerMethod(type, handler, method);
+          EventHandlerMethod m = new EventHandlerMethod(type, handler, method, isAsync(anno));
           if(LOG.isDebugEnabled()) {
             LOG.debug("Annotated handler method found: " + m);
           }
-          handlerMethods.put(eventType, m);
+          register(eventType, m);
         }
       } catch(NoSuchMethodException e) {
         if(LOG.isDebugEnabled()) {
@@ -154,15 +225,52 @@ public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<Re
     }
   }
 
-  private class EventHandlerMethod {
+  private static boolean isAsync(Annotation anno) {
+    // Only the after* annotations have this attribute
+    return Boolean.TRUE.equals(AnnotationUtils.getValue(anno, "async"));
+  }
+
+  private void register(Class<? extends RepositoryEvent> eventType, EventHandlerMethod handlerMethod) {
+    List<EventHandlerMethod> handlers = handlerMethods.get(eventType);
+    if(null == handlers) {
+      handlers = new CopyOnWriteArrayList<EventHandlerMethod>();
+      List<EventHandlerMethod> existing = handlerMethods.putIfAbsent(eventType, handlers);
+      if(null != existing) {
+        handlers = existing;
+      }
+    }
+    handlers.add(handlerMethod);
+    // Handlers resolved so far might be missing this one
+    dispatchTable.remove(eventType);
+  }
+
+  private static class EventHandlerMethod {
     final Class<?> targetType;
     final Method   method;
     final Object   handler;
+    final boolean  takesLinked;
+    final boolean  async;
 
-    private EventHandlerMethod(Class<?> targetType, Object handler, Method method) {
+    private EventHandlerMethod(Class<?> targetType, Object handler, Method method, boolean async) {
       this.targetType = targetType;
       this.method = method;
       this.handler = handler;
+      this.takesLinked = (method.getParameterTypes().length > 1);
+      this.async = async;
+      // Skip the access check on every invocation
+      ReflectionUtils.makeAccessible(method);
+    }
+
+    void invoke(Object src, Object linked) {
+      try {
+        if(takesLinked) {
+          method.invoke(handler, src, linked);
+        } else {
+          method.invoke(handler, src);
+        }
+      } catch(Exception e) {
+        throw new IllegalStateException(e);
+      }
     }
 
     @Override public String toString() {
@@ -170,8 +278,25 @@ public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<Re
           "targetType=" + targetType +
           ", method=" + method +
           ", handler=" + handler +
+          ", async=" + async +
           '}';
     }
   }
 
+  private static class AsyncInvocation implements Runnable {
+    final EventHandlerMethod handlerMethod;
+    final Object             src;
+    final Object             linked;
+
+    private AsyncInvocation(EventHandlerMethod handlerMethod, Object src, Object linked) {
+      this.handlerMethod = handlerMethod;
+      this.src = src;
+      this.linked = linked;
+    }
+
+    @Override public void run() {
+      handlerMethod.invoke(src, linked);
+    }
+  }
+
 }
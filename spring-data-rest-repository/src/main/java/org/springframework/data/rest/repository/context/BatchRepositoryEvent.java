@@ -0,0 +1,49 @@
+package org.springframework.data.rest.repository.context;
+
+import java.util.List;
+
+/**
+ * Abstract base class for events about a whole batch of entities of the same domain type, emitted by bulk operations.
+ * The source of the event is the list of entities.
+ *
+ * @author Jon Brisbin
+ */
+public abstract class BatchRepositoryEvent extends RepositoryEvent {
+
+  private final Class<?> domainType;
+
+  protected BatchRepositoryEvent(Class<?> domainType, List<?> entities) {
+    super(entities);
+    this.domainType = domainType;
+  }
+
+  /**
+   * Get the domain type of the entities in this batch.
+   *
+   * @return The domain type.
+   */
+  public Class<?> getDomainType() {
+    return domainType;
+  }
+
+  /**
+   * Get the entities in this batch.
+   *
+   * @return The entities.
+   */
+  public List<?> getEntities() {
+    return (List<?>)getSource();
+  }
+
+  /**
+   * Create the single-entity event corresponding to this batch event, used to deliver a batch to listeners that only
+   * handle one entity at a time.
+   *
+   * @param entity
+   *     One entity of the batch.
+   *
+   * @return The single-entity event.
+   */
+  public abstract RepositoryEvent forEntity(Object entity);
+
+}
@@ -0,0 +1,18 @@
+package org.springframework.data.rest.repository.context;
+
+import java.util.List;
+
+/**
+ * Emitted before a batch of entities is saved to the repository.
+ *
+ * @author Jon Brisbin
+ */
+public class BeforeSaveBatchEvent extends BatchRepositoryEvent {
+  public BeforeSaveBatchEvent(Class<?> domainType, List<?> entities) {
+    super(domainType, entities);
+  }
+
+  @Override public RepositoryEvent forEntity(Object entity) {
+    return new BeforeSaveEvent(entity);
+  }
+}
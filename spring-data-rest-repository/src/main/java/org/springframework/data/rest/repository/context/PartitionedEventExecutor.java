@@ -0,0 +1,212 @@
+package org.springframework.data.rest.repository.context;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.EventRejectionPolicy;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.repository.support.EntityVersions;
+
+/**
+ * Runs asynchronous repository event handlers on a fixed number of single-threaded partitions with bounded queues.
+ * Events are assigned to a partition by the ID of their entity, so the handlers of one entity run in the order its
+ * events were published. When a partition's queue is full, the publishing thread either waits for room or the event
+ * is dropped, depending on the configured {@link EventRejectionPolicy}. Handlers never run on the publishing thread.
+ * <p>
+ * Drops, the delay between publishing an event and handling it, and the current queue depth are tracked and exposed
+ * through getters.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class PartitionedEventExecutor implements DisposableBean {
+
+  private static final Logger LOG                     = LoggerFactory.getLogger(PartitionedEventExecutor.class);
+  private static final long   SHUTDOWN_CHECK_INTERVAL = 100;
+
+  private final ThreadPoolExecutor[] partitions;
+  private final EventRejectionPolicy rejectionPolicy;
+  private final AtomicLong           dropped    = new AtomicLong();
+  private final AtomicLong           handled    = new AtomicLong();
+  private final AtomicLong           totalDelay = new AtomicLong();
+  private final AtomicLong           maxDelay   = new AtomicLong();
+  @Autowired(required = false)
+  private       Repositories         repositories;
+  @Autowired(required = false)
+  private       EntityVersions       entityVersions;
+
+  public PartitionedEventExecutor(RepositoryRestConfiguration config) {
+    this.rejectionPolicy = config.getAsyncEventRejectionPolicy();
+    this.partitions = new ThreadPoolExecutor[config.getAsyncEventPartitions()];
+    RejectedExecutionHandler rejectionHandler = rejectionHandler();
+    for(int i = 0; i < partitions.length; i++) {
+      final String threadName = "spring-data-rest-events-" + i;
+      partitions[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                                             new ArrayBlockingQueue<Runnable>(config.getAsyncEventQueueCapacity()),
+                                             new ThreadFactory() {
+                                               @Override public Thread newThread(Runnable r) {
+                                                 Thread t = new Thread(r, threadName);
+                                                 t.setDaemon(true);
+                                                 return t;
+                                               }
+                                             },
+                                             rejectionHandler);
+      // BLOCK offers straight to the queue, so the worker has to be running already
+      partitions[i].prestartAllCoreThreads();
+    }
+  }
+
+  /**
+   * Queue a handler on the partition of the given entity.
+   *
+   * @param entity
+   *     The entity the event is about.
+   * @param handler
+   *     The handler invocation.
+   */
+  public void execute(Object entity, final Runnable handler) {
+    ThreadPoolExecutor partition = partitions[(partitionKey(entity) & Integer.MAX_VALUE) % partitions.length];
+    final long published = System.nanoTime();
+    Runnable task = new Runnable() {
+      @Override public void run() {
+        recordDelay(System.nanoTime() - published);
+        try {
+          handler.run();
+        } catch(RuntimeException e) {
+          LOG.error("Asynchronous repository event handler failed: " + e.getMessage(), e);
+        }
+      }
+    };
+
+    if(rejectionPolicy == EventRejectionPolicy.BLOCK) {
+      enqueue(partition, task);
+    } else {
+      partition.execute(task);
+    }
+  }
+
+  /**
+   * Number of events dropped because their partition's queue was full or the executor was shut down.
+   *
+   * @return Dropped events.
+   */
+  public long getDropped() {
+    return dropped.get();
+  }
+
+  /**
+   * Number of events handled so far.
+   *
+   * @return Handled events.
+   */
+  public long getHandled() {
+    return handled.get();
+  }
+
+  /**
+   * Number of events waiting in all partitions.
+   *
+   * @return Current queue depth.
+   */
+  public int getQueueDepth() {
+    int depth = 0;
+    for(ThreadPoolExecutor partition : partitions) {
+      depth += partition.getQueue().size();
+    }
+    return depth;
+  }
+
+  /**
+   * Average time between publishing an event and its handler starting.
+   *
+   * @return Average delay in milliseconds.
+   */
+  public double getAverageDelay() {
+    long count = handled.get();
+    return (count > 0 ? totalDelay.get() / (double)count / 1000000 : 0);
+  }
+
+  /**
+   * Longest time between publishing an event and its handler starting.
+   *
+   * @return Maximum delay in milliseconds.
+   */
+  public double getMaxDelay() {
+    return maxDelay.get() / 1000000d;
+  }
+
+  @Override public void destroy() throws Exception {
+    for(ThreadPoolExecutor partition : partitions) {
+      partition.shutdown();
+    }
+  }
+
+  private int partitionKey(Object entity) {
+    if(null != repositories && null != entityVersions) {
+      PersistentEntity persistentEntity = repositories.getPersistentEntity(entity.getClass());
+      Object id = (null != persistentEntity ? entityVersions.getId(persistentEntity, entity) : null);
+      if(null != id) {
+        return id.hashCode();
+      }
+    }
+    return System.identityHashCode(entity);
+  }
+
+  /**
+   * Wait for room in the partition's queue, giving up if the executor is shut down while waiting.
+   */
+  private void enqueue(ThreadPoolExecutor partition, Runnable task) {
+    BlockingQueue<Runnable> queue = partition.getQueue();
+    try {
+      while(!partition.isShutdown()) {
+        if(queue.offer(task, SHUTDOWN_CHECK_INTERVAL, TimeUnit.MILLISECONDS)) {
+          // The worker may have finished draining the queue and exited in the meantime
+          if(partition.isShutdown() && queue.remove(task)) {
+            break;
+          }
+          return;
+        }
+      }
+    } catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    drop();
+  }
+
+  private void recordDelay(long delay) {
+    handled.incrementAndGet();
+    totalDelay.addAndGet(delay);
+    long max;
+    while(delay > (max = maxDelay.get()) && !maxDelay.compareAndSet(max, delay)) {
+      // Retry until the maximum is ours or a larger one got in
+    }
+  }
+
+  private void drop() {
+    long count = dropped.incrementAndGet();
+    if(LOG.isWarnEnabled()) {
+      LOG.warn("Dropped asynchronous repository event, " + count + " dropped so far");
+    }
+  }
+
+  private RejectedExecutionHandler rejectionHandler() {
+    return new RejectedExecutionHandler() {
+      @Override public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        // Running the handler here instead would let it overtake queued events of the same entity
+        drop();
+      }
+    };
+  }
+
+}
@@ -0,0 +1,196 @@
+package org.springframework.data.rest.repository.context;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.AbstractApplicationEventMulticaster;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.OrderComparator;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Delivers {@link RepositoryEvent}s straight to the listeners interested in them, rather than multicasting them
+ * through the {@link ApplicationContext}.
+ * <p>
+ * Listeners are those the context and its ancestors multicast events to, so anything registered to receive
+ * repository events keeps receiving them: listener beans, including {@link AbstractRepositoryEventListener}s and the
+ * handlers found by the {@link AnnotatedHandlerBeanPostProcessor}, as well as listeners added to the context
+ * programmatically. Which listeners apply to a given event class and domain type is worked out the first time that
+ * combination is published and kept until the context is refreshed. A listener bean that isn't a singleton is
+ * resolved once per refresh as well.
+ * </p>
+ * <p>
+ * Listeners that don't declare a batch event type are plain {@link ApplicationListener}s of single-entity events. A
+ * batch event reaches them only when it's published with {@link #publishBatch(BatchRepositoryEvent)}, as one event per
+ * entity.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class RepositoryEventBus implements ApplicationContextAware,
+                                           ApplicationListener<ContextRefreshedEvent> {
+
+  private static final ApplicationListener[] NO_LISTENERS          = new ApplicationListener[0];
+  private static final String                MULTICASTER_BEAN_NAME = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME;
+
+  private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, ApplicationListener[]>> dispatchTable = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, ApplicationListener[]>>();
+  private          ApplicationContext        applicationContext;
+  private volatile List<ApplicationListener> listeners;
+
+  @Override public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+    this.applicationContext = applicationContext;
+  }
+
+  @Override public void onApplicationEvent(ContextRefreshedEvent event) {
+    listeners = null;
+    dispatchTable.clear();
+  }
+
+  /**
+   * Deliver an event to every listener interested in it, in the order the listeners are sorted in.
+   *
+   * @param event
+   *     The event to publish.
+   */
+  @SuppressWarnings({"unchecked"})
+  public void publish(RepositoryEvent event) {
+    Class<?> srcType = (event instanceof BatchRepositoryEvent
+                        ? ((BatchRepositoryEvent)event).getDomainType()
+                        : event.getSource().getClass());
+    for(ApplicationListener listener : getListeners(event.getClass(), srcType)) {
+      listener.onApplicationEvent(event);
+    }
+  }
+
+  /**
+   * Deliver a batch event to the listeners interested in whole batches, then the corresponding single-entity event
+   * for every entity of the batch, so listeners handling one entity at a time see the batch as well.
+   *
+   * @param event
+   *     The batch event to publish.
+   */
+  public void publishBatch(BatchRepositoryEvent event) {
+    publish(event);
+    for(Object entity : event.getEntities()) {
+      publish(event.forEntity(entity));
+    }
+  }
+
+  private ApplicationListener[] getListeners(Class<?> eventType, Class<?> srcType) {
+    ConcurrentMap<Class<?>, ApplicationListener[]> listenersBySrcType = dispatchTable.get(eventType);
+    if(null == listenersBySrcType) {
+      listenersBySrcType = new ConcurrentHashMap<Class<?>, ApplicationListener[]>();
+      ConcurrentMap<Class<?>, ApplicationListener[]> existing = dispatchTable.putIfAbsent(eventType, listenersBySrcType);
+      if(null != existing) {
+        listenersBySrcType = existing;
+      }
+    }
+
+    ApplicationListener[] resolved = listenersBySrcType.get(srcType);
+    if(null == resolved) {
+      List<ApplicationListener> matching = new ArrayList<ApplicationListener>();
+      for(ApplicationListener listener : getAllListeners()) {
+        if(supports(listener, eventType, srcType)) {
+          matching.add(listener);
+        }
+      }
+      resolved = (matching.isEmpty() ? NO_LISTENERS : matching.toArray(new ApplicationListener[matching.size()]));
+      listenersBySrcType.put(srcType, resolved);
+    }
+    return resolved;
+  }
+
+  private List<ApplicationListener> getAllListeners() {
+    List<ApplicationListener> all = listeners;
+    if(null == all) {
+      all = new ArrayList<ApplicationListener>();
+      for(ApplicationContext ctx = applicationContext; null != ctx; ctx = ctx.getParent()) {
+        for(ApplicationListener listener : getListeners(ctx)) {
+          if(!containsInstance(all, listener)) {
+            all.add(listener);
+          }
+        }
+      }
+      OrderComparator.sort(all);
+      listeners = all;
+    }
+    return all;
+  }
+
+  /**
+   * Get the listeners the given context itself multicasts events to. Besides listener beans, that includes listeners
+   * added with {@link ConfigurableApplicationContext#addApplicationListener(ApplicationListener)} and an instance of
+   * every listener bean that isn't a singleton.
+   */
+  @SuppressWarnings({"unchecked"})
+  private static Collection<ApplicationListener> getListeners(ApplicationContext ctx) {
+    if(ctx instanceof ConfigurableApplicationContext) {
+      ConfigurableListableBeanFactory beanFactory = ((ConfigurableApplicationContext)ctx).getBeanFactory();
+      Object multicaster = (beanFactory.containsLocalBean(MULTICASTER_BEAN_NAME)
+                            ? beanFactory.getBean(MULTICASTER_BEAN_NAME)
+                            : null);
+      Method getListeners = (multicaster instanceof AbstractApplicationEventMulticaster
+                             ? ReflectionUtils.findMethod(multicaster.getClass(), "getApplicationListeners")
+                             : null);
+      if(null != getListeners) {
+        // The multicaster only exposes its listeners to subclasses
+        ReflectionUtils.makeAccessible(getListeners);
+        return (Collection<ApplicationListener>)ReflectionUtils.invokeMethod(getListeners, multicaster);
+      }
+    }
+    List<ApplicationListener> beans = new ArrayList<ApplicationListener>();
+    for(String name : ctx.getBeanNamesForType(ApplicationListener.class, true, false)) {
+      beans.add(ctx.getBean(name, ApplicationListener.class));
+    }
+    return beans;
+  }
+
+  private static boolean containsInstance(List<ApplicationListener> listeners, ApplicationListener listener) {
+    for(ApplicationListener l : listeners) {
+      if(l == listener) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private static boolean supports(ApplicationListener listener, Class<?> eventType, Class<?> srcType) {
+    if(listener instanceof AbstractRepositoryEventListener) {
+      Class<?> interestedType = ((AbstractRepositoryEventListener)listener).getInterestedType();
+      return null == interestedType || interestedType.isAssignableFrom(srcType);
+    }
+    if(listener instanceof AnnotatedHandlerBeanPostProcessor) {
+      return ((AnnotatedHandlerBeanPostProcessor)listener).hasHandlers(eventType, srcType);
+    }
+    if(listener instanceof SmartApplicationListener) {
+      SmartApplicationListener smartListener = (SmartApplicationListener)listener;
+      return smartListener.supportsEventType((Class<? extends ApplicationEvent>)eventType)
+          && smartListener.supportsSourceType(srcType);
+    }
+    Class<?> declaredEventType = GenericTypeResolver.resolveTypeArgument(AopUtils.getTargetClass(listener),
+                                                                         ApplicationListener.class);
+    if(BatchRepositoryEvent.class.isAssignableFrom(eventType)) {
+      // Listeners written for single entities get the batch unrolled instead
+      return null != declaredEventType && BatchRepositoryEvent.class.isAssignableFrom(declaredEventType)
+          && declaredEventType.isAssignableFrom(eventType);
+    }
+    return null == declaredEventType || declaredEventType.isAssignableFrom(eventType);
+  }
+
+}
@@ -0,0 +1,68 @@
+package org.springframework.data.rest.repository.context;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Helper methods to publish repository events through the {@link RepositoryEventBus} if there is one, or through the
+ * {@link ApplicationEventPublisher} otherwise.
+ * <p>
+ * Only the bus can tell listeners of whole batches from listeners of single entities. A {@link BatchRepositoryEvent}
+ * multicast through the context would reach every plain listener with a {@link java.util.List} as its source, so
+ * without the bus batches are delivered as one single-entity event per entity only.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public abstract class RepositoryEventUtils {
+
+  private RepositoryEventUtils() {
+  }
+
+  /**
+   * Publish an event. Without a bus, a batch event is published as the corresponding single-entity events instead.
+   *
+   * @param eventBus
+   *     The bus, may be {@literal null}.
+   * @param publisher
+   *     Used if there is no bus.
+   * @param event
+   *     The event to publish.
+   */
+  public static void publish(RepositoryEventBus eventBus, ApplicationEventPublisher publisher, RepositoryEvent event) {
+    if(null != eventBus) {
+      eventBus.publish(event);
+    } else if(event instanceof BatchRepositoryEvent) {
+      publishEntities(publisher, (BatchRepositoryEvent)event);
+    } else {
+      publisher.publishEvent(event);
+    }
+  }
+
+  /**
+   * Publish a batch event, followed by the corresponding single-entity event for every entity of the batch. Without a
+   * bus, only the single-entity events are published.
+   *
+   * @param eventBus
+   *     The bus, may be {@literal null}.
+   * @param publisher
+   *     Used if there is no bus.
+   * @param event
+   *     The batch event to publish.
+   */
+  public static void publishBatch(RepositoryEventBus eventBus,
+                                  ApplicationEventPublisher publisher,
+                                  BatchRepositoryEvent event) {
+    if(null != eventBus) {
+      eventBus.publishBatch(event);
+    } else {
+      publishEntities(publisher, event);
+    }
+  }
+
+  private static void publishEntities(ApplicationEventPublisher publisher, BatchRepositoryEvent event) {
+    for(Object entity : event.getEntities()) {
+      publisher.publishEvent(event.forEntity(entity));
+    }
+  }
+
+}
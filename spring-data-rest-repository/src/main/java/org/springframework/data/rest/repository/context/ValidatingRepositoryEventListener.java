@@ -5,18 +5,29 @@ import static org.springframework.core.annotation.AnnotationUtils.*;
 import static org.springframework.util.StringUtils.*;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.repository.RepositoryBatchConstraintViolationException;
 import org.springframework.data.rest.repository.RepositoryConstraintViolationException;
 import org.springframework.data.rest.repository.ValidationErrors;
 import org.springframework.data.rest.repository.annotation.HandleAfterDelete;
@@ -28,18 +39,28 @@ import org.springframework.data.rest.repository.annotation.HandleBeforeLinkDelet
 import org.springframework.data.rest.repository.annotation.HandleBeforeLinkSave;
 import org.springframework.data.rest.repository.annotation.HandleBeforeSave;
 import org.springframework.validation.Errors;
-import org.springframework.validation.ValidationUtils;
 import org.springframework.validation.Validator;
 
 /**
  * {@link org.springframework.context.ApplicationListener} implementation that dispatches {@link RepositoryEvent}s to a
  * specific {@link Validator}.
+ * <p>
+ * The validators that support a given domain class are worked out once per event and class. Entities nothing applies
+ * to are passed through without creating an {@link Errors} object.
+ * </p>
+ * <p>
+ * A {@link BeforeSaveBatchEvent} is validated as a whole with {@link #validateAll(String, List)}, spread across threads
+ * if {@link #setBatchParallelism(int)} allows. The entities that pass are remembered on the publishing thread until
+ * the {@link AfterSaveBatchEvent} of the batch, so the {@link BeforeSaveEvent}s that follow for them aren't validated
+ * a second time.
+ * </p>
  *
  * @author Jon Brisbin <jbrisbin@vmware.com>
  */
 public class ValidatingRepositoryEventListener
     extends AbstractRepositoryEventListener<Object>
-    implements InitializingBean {
+    implements InitializingBean,
+               DisposableBean {
 
   private static final Logger LOG = LoggerFactory.getLogger(ValidatingRepositoryEventListener.class);
 
@@ -55,9 +76,15 @@ public class ValidatingRepositoryEventListener
       HandleAfterLinkDelete.class
   );
 
+  private static final Validator[] NO_VALIDATORS = new Validator[0];
+
   @Autowired
   private Repositories repositories;
   private Multimap<String, Validator> validators = ArrayListMultimap.create();
+  private final ConcurrentMap<String, ConcurrentMap<Class<?>, Validator[]>> chains = new ConcurrentHashMap<String, ConcurrentMap<Class<?>, Validator[]>>();
+  private final ThreadLocal<Map<Object, Boolean>> validatedInBatch = new ThreadLocal<Map<Object, Boolean>>();
+  private volatile int             batchParallelism = 1;
+  private          ExecutorService batchExecutor;
 
   @Override public void afterPropertiesSet() throws Exception {
     if(validators.size() == 0) {
@@ -83,6 +110,16 @@ public class ValidatingRepositoryEventListener
           this.validators.put(name, v);
         }
       }
+      chains.clear();
+    }
+  }
+
+  @Override public void destroy() throws Exception {
+    synchronized(this) {
+      if(null != batchExecutor) {
+        batchExecutor.shutdown();
+        batchExecutor = null;
+      }
     }
   }
 
@@ -101,12 +138,13 @@ public class ValidatingRepositoryEventListener
    * @param validators
    *     A Map of Validators to wire.
    *
-   * @return @this
+   * @return {@literal this}
    */
   public ValidatingRepositoryEventListener setValidators(Map<String, Collection<Validator>> validators) {
     for(Map.Entry<String, Collection<Validator>> entry : validators.entrySet()) {
       this.validators.replaceValues(entry.getKey(), entry.getValue());
     }
+    chains.clear();
     return this;
   }
 
@@ -118,15 +156,149 @@ public class ValidatingRepositoryEventListener
    * @param validator
    *     The Validator to execute when that event fires.
    *
-   * @return @this
+   * @return {@literal this}
    */
   public ValidatingRepositoryEventListener addValidator(String event, Validator validator) {
     validators.put(event, validator);
+    chains.clear();
     return this;
   }
 
+  /**
+   * Get the number of threads {@link #validateAll(String, List)} spreads a batch across.
+   *
+   * @return Number of threads.
+   */
+  public int getBatchParallelism() {
+    return batchParallelism;
+  }
+
+  /**
+   * Set the number of threads {@link #validateAll(String, List)} spreads a batch across. Defaults to {@literal 1},
+   * i.e. validating on the calling thread. Validators have to be thread-safe to use more.
+   *
+   * @param batchParallelism
+   *     Number of threads, e.g. the number of processors.
+   *
+   * @return {@literal this}
+   */
+  public ValidatingRepositoryEventListener setBatchParallelism(int batchParallelism) {
+    synchronized(this) {
+      this.batchParallelism = Math.max(1, batchParallelism);
+      if(null != batchExecutor) {
+        // Sized for the previous setting, the next batch creates one of the new size
+        batchExecutor.shutdown();
+        batchExecutor = null;
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Validate a whole batch of entities for the given event. Unlike the validation done for single events, this doesn't
+   * stop at the first invalid entity.
+   *
+   * @param event
+   *     Name of the event, like {@literal beforeSave}.
+   * @param entities
+   *     The entities to validate.
+   *
+   * @return The errors of each entity, in the same order, with {@literal null} for valid entities.
+   */
+  public List<Errors> validateAll(final String event, final List<?> entities) {
+    final Errors[] results = new Errors[entities.size()];
+    int parallelism = batchParallelism;
+    ExecutorService executor = (parallelism > 1 && results.length >= 2 * parallelism ? getBatchExecutor() : null);
+    if(null == executor) {
+      for(int i = 0; i < results.length; i++) {
+        results[i] = check(event, entities.get(i));
+      }
+      return Arrays.asList(results);
+    }
+
+    int sliceSize = (results.length + parallelism - 1) / parallelism;
+    List<Future<?>> slices = new ArrayList<Future<?>>(parallelism);
+    for(int start = 0; start < results.length; start += sliceSize) {
+      final int from = start;
+      final int to = Math.min(start + sliceSize, results.length);
+      slices.add(executor.submit(new Runnable() {
+        @Override public void run() {
+          for(int i = from; i < to; i++) {
+            results[i] = check(event, entities.get(i));
+          }
+        }
+      }));
+    }
+    for(Future<?> slice : slices) {
+      try {
+        slice.get();
+      } catch(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      } catch(ExecutionException e) {
+        if(e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException)e.getCause();
+        }
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Validate the whole batch. Entities an earlier publication of the batch already found valid, e.g. before the
+   * invalid ones were taken out of it, aren't validated again.
+   *
+   * @throws RepositoryBatchConstraintViolationException
+   *     If any entity of the batch is invalid.
+   */
+  @Override protected void onBeforeSaveBatch(List<Object> entities) {
+    Map<Object, Boolean> previous = validatedInBatch.get();
+    Map<Object, Boolean> validated = new IdentityHashMap<Object, Boolean>();
+    List<Object> pending = new ArrayList<Object>(entities.size());
+    for(Object entity : entities) {
+      if(null != previous && previous.containsKey(entity)) {
+        validated.put(entity, Boolean.TRUE);
+      } else {
+        pending.add(entity);
+      }
+    }
+
+    List<Errors> pendingErrors = validateAll("beforeSave", pending);
+    List<Errors> errors = new ArrayList<Errors>(entities.size());
+    boolean failed = false;
+    for(int i = 0, j = 0; i < entities.size(); i++) {
+      if(j < pending.size() && pending.get(j) == entities.get(i)) {
+        Errors entityErrors = pendingErrors.get(j++);
+        if(null == entityErrors) {
+          validated.put(entities.get(i), Boolean.TRUE);
+        } else {
+          failed = true;
+        }
+        errors.add(entityErrors);
+      } else {
+        errors.add(null);
+      }
+    }
+
+    if(validated.isEmpty()) {
+      validatedInBatch.remove();
+    } else {
+      validatedInBatch.set(validated);
+    }
+    if(failed) {
+      throw new RepositoryBatchConstraintViolationException(errors);
+    }
+  }
+
+  @Override protected void onAfterSaveBatch(List<Object> entities) {
+    validatedInBatch.remove();
+  }
+
   @Override protected void onBeforeSave(Object entity) {
-    validate("beforeSave", entity);
+    if(!validatedBefore(entity)) {
+      validate("beforeSave", entity);
+    }
   }
 
   @Override protected void onAfterSave(Object entity) {
@@ -149,30 +321,91 @@ public class ValidatingRepositoryEventListener
     validate("afterDelete", entity);
   }
 
+  /**
+   * Whether the entity was validated as part of the current batch, which is forgotten as soon as it's asked.
+   */
+  private boolean validatedBefore(Object entity) {
+    Map<Object, Boolean> validated = validatedInBatch.get();
+    if(null == validated || null == validated.remove(entity)) {
+      return false;
+    }
+    if(validated.isEmpty()) {
+      validatedInBatch.remove();
+    }
+    return true;
+  }
+
   private Errors validate(String event, Object o) {
-    Errors errors = null;
-    if(null != o) {
-      Class<?> domainType = o.getClass();
-      errors = new ValidationErrors(domainType.getSimpleName(),
-                                    o,
-                                    repositories.getPersistentEntity(domainType));
-
-      Collection<Validator> validators = this.validators.get(event);
-      if(null != validators) {
-        for(Validator v : validators) {
-          if(v.supports(o.getClass())) {
-            LOG.debug(event + ": " + o + " with " + v);
-            ValidationUtils.invokeValidator(v, o, errors);
-          }
-        }
+    Errors errors = check(event, o);
+    if(null != errors) {
+      throw new RepositoryConstraintViolationException(errors);
+    }
+    return errors;
+  }
+
+  /**
+   * Run the validators of the given event on an entity.
+   *
+   * @return The errors or {@literal null} if the entity is valid.
+   */
+  private Errors check(String event, Object o) {
+    if(null == o) {
+      return null;
+    }
+    Validator[] chain = getChain(event, o.getClass());
+    if(chain.length == 0) {
+      return null;
+    }
+
+    Class<?> domainType = o.getClass();
+    Errors errors = new ValidationErrors(domainType.getSimpleName(),
+                                         o,
+                                         repositories.getPersistentEntity(domainType));
+    for(Validator v : chain) {
+      if(LOG.isDebugEnabled()) {
+        LOG.debug(event + ": " + o + " with " + v);
       }
+      // Already known to support the type, ValidationUtils would ask again
+      v.validate(o, errors);
+    }
+    return (errors.getErrorCount() > 0 ? errors : null);
+  }
 
-      if(errors.getErrorCount() > 0) {
-        throw new RepositoryConstraintViolationException(errors);
+  private Validator[] getChain(String event, Class<?> domainType) {
+    ConcurrentMap<Class<?>, Validator[]> chainsByType = chains.get(event);
+    if(null == chainsByType) {
+      chainsByType = new ConcurrentHashMap<Class<?>, Validator[]>();
+      ConcurrentMap<Class<?>, Validator[]> existing = chains.putIfAbsent(event, chainsByType);
+      if(null != existing) {
+        chainsByType = existing;
       }
     }
 
-    return errors;
+    Validator[] chain = chainsByType.get(domainType);
+    if(null == chain) {
+      List<Validator> supporting = new ArrayList<Validator>();
+      for(Validator v : validators.get(event)) {
+        if(v.supports(domainType)) {
+          supporting.add(v);
+        }
+      }
+      chain = (supporting.isEmpty() ? NO_VALIDATORS : supporting.toArray(new Validator[supporting.size()]));
+      chainsByType.put(domainType, chain);
+    }
+    return chain;
+  }
+
+  private synchronized ExecutorService getBatchExecutor() {
+    if(null == batchExecutor) {
+      batchExecutor = Executors.newFixedThreadPool(batchParallelism, new ThreadFactory() {
+        @Override public Thread newThread(Runnable r) {
+          Thread t = new Thread(r, "spring-data-rest-validation");
+          t.setDaemon(true);
+          return t;
+        }
+      });
+    }
+    return batchExecutor;
   }
 
 }
@@ -1,5 +1,9 @@
 package org.springframework.data.rest.repository.invoke;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.BeanUtils;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
@@ -11,12 +15,23 @@ import org.springframework.util.Assert;
 /**
  * A special conversion service that can convert {@link MethodParameter}s and their values to a target type, taking
  * into account any specific conversion instructions annotated on the parameter with {@link ConvertWith}.
+ * <p>
+ * The target {@link TypeDescriptor} and any {@link ConvertWith} converter of a parameter are resolved the first time
+ * the parameter is converted and reused from then on. Converters named in {@link ConvertWith} are therefore
+ * instantiated once and shared between threads, so they must be stateless.
+ * </p>
  *
  * @author Jon Brisbin
  */
 public class MethodParameterConversionService {
 
+  /**
+   * Descriptor of the multi-valued request parameters search methods are invoked with.
+   */
+  public static final TypeDescriptor STRING_ARRAY = TypeDescriptor.valueOf(String[].class);
+
   private final ConversionService delegateConversionService;
+  private final ConcurrentMap<ParameterKey, Binding> bindings = new ConcurrentHashMap<ParameterKey, Binding>();
 
   public MethodParameterConversionService(ConversionService delegateConversionService) {
     Assert.notNull(delegateConversionService, "Delegate ConversionService cannot be null.");
@@ -28,30 +43,91 @@ public class MethodParameterConversionService {
   }
 
   public boolean canConvert(TypeDescriptor sourceType, MethodParameter param) {
-    return (delegateConversionService.canConvert(sourceType, new TypeDescriptor(param))
-        || param.hasParameterAnnotation(ConvertWith.class));
+    Binding binding = binding(param);
+    return (null != binding.converter
+        || delegateConversionService.canConvert(sourceType, binding.targetType));
   }
 
   @SuppressWarnings({"unchecked"})
   public <T> T convert(Object source, MethodParameter param) {
-    return convert(source, TypeDescriptor.forObject(source), param);
+    return convert(source, (source instanceof String[] ? STRING_ARRAY : TypeDescriptor.forObject(source)), param);
   }
 
   @SuppressWarnings({"unchecked"})
   public <T> T convert(Object source, TypeDescriptor sourceType, MethodParameter param) {
-    TypeDescriptor targetType = new TypeDescriptor(param);
+    Binding binding = binding(param);
 
     try {
-      if(param.hasParameterAnnotation(ConvertWith.class)) {
-        Converter<Object, T> converter = (Converter<Object, T>)param.getParameterAnnotation(ConvertWith.class)
-                                                                    .value()
-                                                                    .newInstance();
-        return converter.convert(source);
+      if(null != binding.converter) {
+        return (T)binding.converter.convert(source);
       } else {
-        return (T)delegateConversionService.convert(source, sourceType, targetType);
+        return (T)delegateConversionService.convert(source, sourceType, binding.targetType);
       }
     } catch(Exception e) {
-      throw new ConversionFailedException(sourceType, targetType, source, e);
+      throw new ConversionFailedException(sourceType, binding.targetType, source, e);
+    }
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private Binding binding(MethodParameter param) {
+    ParameterKey key = new ParameterKey(param);
+    Binding binding = bindings.get(key);
+    if(null == binding) {
+      Converter<Object, Object> converter = null;
+      ConvertWith convertWith = param.getParameterAnnotation(ConvertWith.class);
+      if(null != convertWith) {
+        converter = (Converter<Object, Object>)BeanUtils.instantiateClass(convertWith.value());
+      }
+      binding = new Binding(new TypeDescriptor(param), converter);
+      Binding existing = bindings.putIfAbsent(key, binding);
+      if(null != existing) {
+        binding = existing;
+      }
+    }
+    return binding;
+  }
+
+  /**
+   * Identifies a parameter by its declaring member and position, since {@link MethodParameter}s are created anew for
+   * every {@link RepositoryMethod} and don't implement {@literal equals}.
+   */
+  private static class ParameterKey {
+    final Object member;
+    final int    index;
+    final int    nestingLevel;
+
+    private ParameterKey(MethodParameter param) {
+      this.member = (null != param.getMethod() ? param.getMethod() : param.getConstructor());
+      this.index = param.getParameterIndex();
+      this.nestingLevel = param.getNestingLevel();
+    }
+
+    @Override public boolean equals(Object obj) {
+      if(this == obj) {
+        return true;
+      }
+      if(!(obj instanceof ParameterKey)) {
+        return false;
+      }
+      ParameterKey other = (ParameterKey)obj;
+      return member.equals(other.member) && index == other.index && nestingLevel == other.nestingLevel;
+    }
+
+    @Override public int hashCode() {
+      return (member.hashCode() * 31 + index) * 31 + nestingLevel;
+    }
+  }
+
+  /**
+   * How the values of a single parameter are converted.
+   */
+  private static class Binding {
+    final TypeDescriptor            targetType;
+    final Converter<Object, Object> converter;
+
+    private Binding(TypeDescriptor targetType, Converter<Object, Object> converter) {
+      this.targetType = targetType;
+      this.converter = converter;
     }
   }
 
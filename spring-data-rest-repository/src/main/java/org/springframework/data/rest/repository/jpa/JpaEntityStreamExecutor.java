@@ -0,0 +1,91 @@
+package org.springframework.data.rest.repository.jpa;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.rest.repository.support.EntityStreamExecutor;
+
+/**
+ * {@link EntityStreamExecutor} that walks a JPA entity with keyset pagination on its ID, i.e. {@literal select e from
+ * Entity e where e.id > :last order by e.id}. Unlike offset pagination every chunk costs the same, and the persistence
+ * context is cleared after each chunk so loaded entities don't pile up.
+ * <p>
+ * Only entities with a {@link Comparable} ID are supported.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class JpaEntityStreamExecutor implements EntityStreamExecutor {
+
+  private final EntityManagerFactory   entityManagerFactory;
+  private final Map<Class<?>, Boolean> managedTypes = new ConcurrentHashMap<Class<?>, Boolean>();
+
+  public JpaEntityStreamExecutor(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @Override public boolean supports(PersistentEntity persistentEntity) {
+    Class<?> domainType = persistentEntity.getType();
+    Boolean managed = managedTypes.get(domainType);
+    if(null == managed) {
+      try {
+        entityManagerFactory.getMetamodel().entity(domainType);
+        PersistentProperty idProperty = persistentEntity.getIdProperty();
+        managed = (null != idProperty && Comparable.class.isAssignableFrom(idProperty.getType()));
+      } catch(IllegalArgumentException e) {
+        // Not an entity of this persistence unit
+        managed = false;
+      }
+      managedTypes.put(domainType, managed);
+    }
+    return managed;
+  }
+
+  @SuppressWarnings({"unchecked"})
+  @Override public void stream(PersistentEntity persistentEntity,
+                               int chunkSize,
+                               EntityCallback callback) throws IOException {
+    PersistentProperty idProperty = persistentEntity.getIdProperty();
+    EntityManager entityManager = entityManagerFactory.createEntityManager();
+    try {
+      CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+      Comparable lastId = null;
+      while(true) {
+        CriteriaQuery<Object> query = cb.createQuery(persistentEntity.getType());
+        Root<Object> root = query.from(persistentEntity.getType());
+        Path<Comparable> id = root.get(idProperty.getName());
+        query.select(root);
+        if(null != lastId) {
+          query.where(cb.greaterThan(id, lastId));
+        }
+        query.orderBy(cb.asc(id));
+
+        List<Object> chunk = entityManager.createQuery(query)
+                                          .setMaxResults(chunkSize)
+                                          .getResultList();
+        for(Object entity : chunk) {
+          callback.doWithEntity(entity);
+        }
+        if(chunk.size() < chunkSize) {
+          return;
+        }
+        lastId = (Comparable)BeanWrapper.create(chunk.get(chunk.size() - 1), null).getProperty(idProperty);
+        entityManager.clear();
+      }
+    } finally {
+      entityManager.close();
+    }
+  }
+
+}
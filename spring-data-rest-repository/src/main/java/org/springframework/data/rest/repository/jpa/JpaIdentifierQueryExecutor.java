@@ -0,0 +1,254 @@
+package org.springframework.data.rest.repository.jpa;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.OrderBy;
+import javax.persistence.OrderColumn;
+import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.PluralAttribute;
+
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.rest.repository.support.IdentifierQueryExecutor;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link IdentifierQueryExecutor} that issues a JPA criteria query selecting nothing but the ID attribute, i.e.
+ * {@literal select e.id from Entity e}. The IDs behind a to-many association are selected through a join, i.e.
+ * {@literal select e.id, t.id from Entity e join e.targets t where e.id in (...)}, so neither the collections nor the
+ * referenced entities are loaded. The IDs of an ordered list, i.e. one with an {@link OrderColumn} or an
+ * {@link OrderBy}, are read from the collections instead, fetched along with their owners, so they keep the order of
+ * the list. The join can't be ordered by the list index, since Hibernate looks for the index column of a many-to-many
+ * list in the target table rather than the join table.
+ *
+ * @author Jon Brisbin
+ */
+public class JpaIdentifierQueryExecutor implements IdentifierQueryExecutor {
+
+  private static final boolean IS_HIBERNATE_AVAILABLE = ClassUtils.isPresent(
+      "org.hibernate.proxy.HibernateProxy",
+      JpaIdentifierQueryExecutor.class.getClassLoader()
+  );
+
+  private final EntityManagerFactory   entityManagerFactory;
+  private final Map<Class<?>, Boolean> managedTypes = new ConcurrentHashMap<Class<?>, Boolean>();
+
+  public JpaIdentifierQueryExecutor(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @Override public boolean supports(PersistentEntity persistentEntity) {
+    Class<?> domainType = persistentEntity.getType();
+    Boolean managed = managedTypes.get(domainType);
+    if(null == managed) {
+      try {
+        entityManagerFactory.getMetamodel().entity(domainType);
+        managed = (null != persistentEntity.getIdProperty());
+      } catch(IllegalArgumentException e) {
+        // Not an entity of this persistence unit
+        managed = false;
+      }
+      managedTypes.put(domainType, managed);
+    }
+    return managed;
+  }
+
+  @Override public List<Object> findIds(PersistentEntity persistentEntity, Sort sort) {
+    return query(persistentEntity, sort, -1, -1);
+  }
+
+  @Override public List<Object> findIds(PersistentEntity persistentEntity, Pageable pageable) {
+    return query(persistentEntity, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+  }
+
+  @Override public Object getId(PersistentEntity persistentEntity, Object entity) {
+    if(IS_HIBERNATE_AVAILABLE && HibernateProxies.isProxy(entity)) {
+      // Hibernate reads the fields of a proxy if the entity uses field access, and those are never populated
+      return HibernateProxies.getId(entity);
+    }
+    try {
+      return entityManagerFactory.getPersistenceUnitUtil().getIdentifier(entity);
+    } catch(IllegalArgumentException e) {
+      // Not an entity of this persistence unit
+      return null;
+    }
+  }
+
+  @Override public Map<Object, List<Object>> findAssociatedIds(PersistentEntity persistentEntity,
+                                                               PersistentProperty association,
+                                                               Collection<Object> ids) {
+    EntityType<?> entityType = entityManagerFactory.getMetamodel().entity(persistentEntity.getType());
+    Attribute<?, ?> attribute = entityType.getAttribute(association.getName());
+    if(null == attribute
+        || !attribute.isAssociation()
+        || !attribute.isCollection()
+        || ((PluralAttribute<?, ?, ?>)attribute).getCollectionType() == PluralAttribute.CollectionType.MAP) {
+      return null;
+    }
+    EntityType<?> targetType = entityManagerFactory.getMetamodel()
+                                                   .entity(((PluralAttribute<?, ?, ?>)attribute).getElementType()
+                                                                                                .getJavaType());
+    String targetIdName = targetType.getId(targetType.getIdType().getJavaType()).getName();
+    String idName = persistentEntity.getIdProperty().getName();
+
+    Map<Object, List<Object>> associatedIds = new LinkedHashMap<Object, List<Object>>();
+    if(ids.isEmpty()) {
+      return associatedIds;
+    }
+    boolean ordered = (isAnnotated(attribute, OrderColumn.class) || isAnnotated(attribute, OrderBy.class));
+    EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+    boolean close = false;
+    if(null == entityManager) {
+      entityManager = entityManagerFactory.createEntityManager();
+      close = true;
+    }
+    try {
+      if(ordered) {
+        readAssociatedIds(entityManager, persistentEntity, attribute, ids, associatedIds);
+        return associatedIds;
+      }
+
+      CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+      CriteriaQuery<Tuple> query = cb.createTupleQuery();
+      Root<?> root = query.from(persistentEntity.getType());
+      Join<?, ?> target = root.join(association.getName());
+      query.multiselect(root.get(idName), target.get(targetIdName));
+      query.where(root.get(idName).in(ids));
+
+      for(Tuple tuple : entityManager.createQuery(query).getResultList()) {
+        add(associatedIds, tuple.get(0), tuple.get(1));
+      }
+      return associatedIds;
+    } finally {
+      if(close) {
+        entityManager.close();
+      }
+    }
+  }
+
+  private void readAssociatedIds(EntityManager entityManager,
+                                 PersistentEntity persistentEntity,
+                                 Attribute<?, ?> attribute,
+                                 Collection<Object> ids,
+                                 Map<Object, List<Object>> associatedIds) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Object> query = cb.createQuery(Object.class);
+    Root<?> root = query.from(persistentEntity.getType());
+    root.fetch(attribute.getName(), JoinType.LEFT);
+    query.select(root).distinct(true);
+    query.where(root.get(persistentEntity.getIdProperty().getName()).in(ids));
+
+    PersistenceUnitUtil util = entityManagerFactory.getPersistenceUnitUtil();
+    for(Object owner : entityManager.createQuery(query).getResultList()) {
+      Collection<?> targets = (Collection<?>)read(attribute.getJavaMember(), owner);
+      if(null == targets) {
+        continue;
+      }
+      for(Object target : targets) {
+        // Lists with an order column have null elements where the index skips a position
+        if(null != target) {
+          add(associatedIds, util.getIdentifier(owner), util.getIdentifier(target));
+        }
+      }
+    }
+  }
+
+  private static void add(Map<Object, List<Object>> associatedIds, Object id, Object targetId) {
+    List<Object> targetIds = associatedIds.get(id);
+    if(null == targetIds) {
+      targetIds = new ArrayList<Object>();
+      associatedIds.put(id, targetIds);
+    }
+    targetIds.add(targetId);
+  }
+
+  private static boolean isAnnotated(Attribute<?, ?> attribute, Class<? extends Annotation> annotationType) {
+    Member member = attribute.getJavaMember();
+    return (member instanceof AnnotatedElement && ((AnnotatedElement)member).isAnnotationPresent(annotationType));
+  }
+
+  private static Object read(Member member, Object entity) {
+    if(member instanceof Field) {
+      ReflectionUtils.makeAccessible((Field)member);
+      return ReflectionUtils.getField((Field)member, entity);
+    }
+    ReflectionUtils.makeAccessible((Method)member);
+    return ReflectionUtils.invokeMethod((Method)member, entity);
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private List<Object> query(PersistentEntity persistentEntity, Sort sort, int offset, int limit) {
+    EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+    boolean close = false;
+    if(null == entityManager) {
+      entityManager = entityManagerFactory.createEntityManager();
+      close = true;
+    }
+    try {
+      CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+      CriteriaQuery<Object> query = cb.createQuery(Object.class);
+      Root<?> root = query.from(persistentEntity.getType());
+      query.select(root.get(persistentEntity.getIdProperty().getName()));
+      if(null != sort) {
+        List<Order> orders = new ArrayList<Order>();
+        for(Sort.Order order : sort) {
+          orders.add(order.isAscending()
+                     ? cb.asc(root.get(order.getProperty()))
+                     : cb.desc(root.get(order.getProperty())));
+        }
+        query.orderBy(orders);
+      }
+
+      TypedQuery<Object> typedQuery = entityManager.createQuery(query);
+      if(offset > -1) {
+        typedQuery.setFirstResult(offset);
+        typedQuery.setMaxResults(limit);
+      }
+      return typedQuery.getResultList();
+    } finally {
+      if(close) {
+        entityManager.close();
+      }
+    }
+  }
+
+  /**
+   * Kept in its own class so Hibernate is only loaded if it's on the classpath.
+   */
+  private static class HibernateProxies {
+    static boolean isProxy(Object entity) {
+      return entity instanceof HibernateProxy;
+    }
+
+    static Object getId(Object entity) {
+      return ((HibernateProxy)entity).getHibernateLazyInitializer().getIdentifier();
+    }
+  }
+
+}
@@ -0,0 +1,154 @@
+package org.springframework.data.rest.repository.jpa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.rest.repository.support.ProjectionQueryExecutor;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+/**
+ * {@link ProjectionQueryExecutor} that issues a JPA criteria tuple query selecting the ID and the requested attributes,
+ * i.e. {@literal select e.id, e.name from Entity e}, and copies each tuple into a new instance of the entity class.
+ * Only basic and embedded attributes are projected. If an association or collection is requested, the entity has to
+ * be loaded as a whole.
+ *
+ * @author Jon Brisbin
+ */
+public class JpaProjectionQueryExecutor implements ProjectionQueryExecutor {
+
+  private final EntityManagerFactory   entityManagerFactory;
+  private final Map<Class<?>, Boolean> managedTypes = new ConcurrentHashMap<Class<?>, Boolean>();
+
+  public JpaProjectionQueryExecutor(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @Override public boolean supports(PersistentEntity persistentEntity) {
+    Class<?> domainType = persistentEntity.getType();
+    Boolean managed = managedTypes.get(domainType);
+    if(null == managed) {
+      try {
+        entityManagerFactory.getMetamodel().entity(domainType);
+        managed = (null != persistentEntity.getIdProperty());
+      } catch(IllegalArgumentException e) {
+        // Not an entity of this persistence unit
+        managed = false;
+      }
+      managedTypes.put(domainType, managed);
+    }
+    return managed;
+  }
+
+  @Override public boolean canProject(PersistentEntity persistentEntity, Set<String> properties) {
+    if(!supports(persistentEntity)) {
+      return false;
+    }
+    EntityType<?> entityType = entityManagerFactory.getMetamodel().entity(persistentEntity.getType());
+    for(String property : properties) {
+      Attribute<?, ?> attribute;
+      try {
+        attribute = entityType.getAttribute(property);
+      } catch(IllegalArgumentException e) {
+        return false;
+      }
+      // Some providers return null rather than throw for an unknown attribute
+      if(null == attribute || attribute.isAssociation() || attribute.isCollection()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override public List<Object> findAll(PersistentEntity persistentEntity, Set<String> properties, Sort sort) {
+    return query(persistentEntity, properties, sort, -1, -1);
+  }
+
+  @Override public List<Object> findAll(PersistentEntity persistentEntity, Set<String> properties, Pageable pageable) {
+    return query(persistentEntity, properties, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private List<Object> query(PersistentEntity persistentEntity,
+                             Set<String> properties,
+                             Sort sort,
+                             int offset,
+                             int limit) {
+    List<PersistentProperty> selected = new ArrayList<PersistentProperty>();
+    selected.add(persistentEntity.getIdProperty());
+    for(String property : properties) {
+      PersistentProperty persistentProperty = persistentEntity.getPersistentProperty(property);
+      if(null != persistentProperty && !persistentProperty.isIdProperty()) {
+        selected.add(persistentProperty);
+      }
+    }
+
+    EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+    boolean close = false;
+    if(null == entityManager) {
+      entityManager = entityManagerFactory.createEntityManager();
+      close = true;
+    }
+    try {
+      CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+      CriteriaQuery<Tuple> query = cb.createTupleQuery();
+      Root<?> root = query.from(persistentEntity.getType());
+      List<Selection<?>> selections = new ArrayList<Selection<?>>();
+      for(PersistentProperty persistentProperty : selected) {
+        selections.add(root.get(persistentProperty.getName()));
+      }
+      query.multiselect(selections);
+      if(null != sort) {
+        List<Order> orders = new ArrayList<Order>();
+        for(Sort.Order order : sort) {
+          orders.add(order.isAscending()
+                     ? cb.asc(root.get(order.getProperty()))
+                     : cb.desc(root.get(order.getProperty())));
+        }
+        query.orderBy(orders);
+      }
+
+      TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+      if(offset > -1) {
+        typedQuery.setFirstResult(offset);
+        typedQuery.setMaxResults(limit);
+      }
+
+      List<Object> entities = new ArrayList<Object>();
+      for(Tuple tuple : typedQuery.getResultList()) {
+        Object entity = BeanUtils.instantiateClass(persistentEntity.getType());
+        BeanWrapper wrapper = BeanWrapper.create(entity, null);
+        for(int i = 0; i < selected.size(); i++) {
+          // Set fields directly, setters might expect a fully populated entity
+          wrapper.setProperty(selected.get(i), tuple.get(i), true);
+        }
+        entities.add(entity);
+      }
+      return entities;
+    } finally {
+      if(close) {
+        entityManager.close();
+      }
+    }
+  }
+
+}
@@ -5,6 +5,7 @@ import static org.springframework.data.rest.core.util.UriUtils.*;
 import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -22,6 +23,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -61,6 +63,8 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
   private       RepositoryRestConfiguration config;
   @Autowired
   private       UriDomainClassConverter     uriDomainClassConverter;
+  @Autowired(required = false)
+  private       RepresentationCache         representationCache;
 
   public PersistentEntityJackson2Module(ConversionService conversionService) {
     super(new Version(1, 1, 0, "BUILD-SNAPSHOT", "org.springframework.data.rest", "jackson-module"));
@@ -285,6 +289,48 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
         LOG.debug("Serializing PersistentEntity " + resource.getPersistentEntity());
       }
 
+      if(null == representationCache
+          || !representationCache.isEnabled()
+          || null != resource.getFields()
+          || null != resource.getExpanded()
+          || null != resource.getTruncated()) {
+        writeResource(resource, jgen);
+        return;
+      }
+
+      PersistentEntity persistentEntity = resource.getPersistentEntity();
+      Object version = representationCache.getVersion(persistentEntity, resource.getContent());
+      if(null == version) {
+        writeResource(resource, jgen);
+        return;
+      }
+
+      Object entityId = BeanWrapper.create(resource.getContent(), conversionService)
+                                   .getProperty(persistentEntity.getIdProperty());
+      boolean indent = provider.isEnabled(SerializationFeature.INDENT_OUTPUT);
+      // Links added by ResourceProcessors and the output format are part of the rendering
+      String qualifier = indent + resource.getLinks().toString();
+
+      if(representationCache.write(persistentEntity, entityId, version, resource.getBaseUri(), qualifier, jgen)) {
+        return;
+      }
+
+      StringWriter out = new StringWriter();
+      JsonGenerator fragmentGen = jgen.getCodec().getJsonFactory().createJsonGenerator(out);
+      if(indent) {
+        fragmentGen.useDefaultPrettyPrinter();
+      }
+      writeResource(resource, fragmentGen);
+      fragmentGen.close();
+      String json = out.toString();
+      representationCache.put(persistentEntity, entityId, version, resource.getBaseUri(), qualifier, json);
+      jgen.writeRawValue(json);
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private void writeResource(final PersistentEntityResource resource,
+                               final JsonGenerator jgen) throws IOException,
+                                                                JsonGenerationException {
       Object obj = resource.getContent();
 
       final PersistentEntity persistentEntity = resource.getPersistentEntity();
@@ -304,6 +350,8 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
       // Start with ResourceProcessor-added links
       links.addAll(resource.getLinks());
 
+      final Set<String> fields = resource.getFields();
+
       jgen.writeStartObject();
       try {
         persistentEntity.doWithProperties(new PropertyHandler() {
@@ -315,6 +363,9 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
             if(null != propertyMapping && !propertyMapping.isExported()) {
               return;
             }
+            if(!isSelected(fields, persistentProperty, propertyMapping)) {
+              return;
+            }
 
             if(persistentProperty.isEntity() && maybeAddAssociationLink(repositories,
                                                                         config,
@@ -344,6 +395,9 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
             if(null != propertyMapping && !propertyMapping.isExported()) {
               return;
             }
+            if(!isSelected(fields, persistentProperty, propertyMapping)) {
+              return;
+            }
             if(maybeAddAssociationLink(repositories,
                                        config,
                                        baseEntityUri,
@@ -362,6 +416,29 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
           }
         });
 
+        // Inline expanded associations next to their links
+        Map<String, Object> expanded = resource.getExpanded();
+        if(null != expanded) {
+          for(Map.Entry<String, Object> entry : expanded.entrySet()) {
+            ResourceMapping propertyMapping = entityMapping.getResourceMappingFor(entry.getKey());
+            String propertyName = (null != propertyMapping && null != propertyMapping.getPath()
+                                   ? propertyMapping.getPath()
+                                   : entry.getKey());
+            jgen.writeObjectField(propertyName, entry.getValue());
+          }
+        }
+        Set<String> truncated = resource.getTruncated();
+        if(null != truncated) {
+          jgen.writeArrayFieldStart("truncated");
+          for(String property : truncated) {
+            ResourceMapping propertyMapping = entityMapping.getResourceMappingFor(property);
+            jgen.writeString(null != propertyMapping && null != propertyMapping.getPath()
+                             ? propertyMapping.getPath()
+                             : property);
+          }
+          jgen.writeEndArray();
+        }
+
         jgen.writeArrayFieldStart("links");
         for(Link l : links) {
           jgen.writeObject(l);
@@ -374,6 +451,14 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
         jgen.writeEndObject();
       }
     }
+
+    private boolean isSelected(Set<String> fields, PersistentProperty persistentProperty, ResourceMapping propertyMapping) {
+      if(null == fields) {
+        return true;
+      }
+      return fields.contains(persistentProperty.getName())
+          || (null != propertyMapping && fields.contains(propertyMapping.getPath()));
+    }
   }
 
 }
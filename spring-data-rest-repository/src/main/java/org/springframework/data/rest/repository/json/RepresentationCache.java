@@ -0,0 +1,290 @@
+package org.springframework.data.rest.repository.json;
+
+import static org.springframework.util.ObjectUtils.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.repository.context.AbstractRepositoryEventListener;
+import org.springframework.data.rest.repository.support.EntityVersions;
+
+/**
+ * Cache of rendered JSON for versioned entities. The {@link PersistentEntityJackson2Module} consults it before
+ * serializing a {@link org.springframework.data.rest.repository.PersistentEntityResource} and splices a cached
+ * fragment straight into the output if the entity's version, the base URI and the resource's links are unchanged.
+ * <p>
+ * Memory is bounded by the size of the rendered fragments, not by the number of entries. Fragments can optionally be
+ * kept off-heap in direct {@link ByteBuffer}s. Off-heap fragments are decoded into a per-thread scratch buffer when
+ * they're written out, so a cache hit doesn't allocate a copy of the fragment. Entries are dropped eagerly whenever an
+ * entity is saved, deleted or has its links changed through the exporter.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class RepresentationCache extends AbstractRepositoryEventListener<Object> {
+
+  private static final Charset                    UTF8     = Charset.forName("UTF-8");
+  private static final ThreadLocal<CharsetDecoder> DECODERS = new ThreadLocal<CharsetDecoder>() {
+    @Override protected CharsetDecoder initialValue() {
+      return UTF8.newDecoder();
+    }
+  };
+  private static final ThreadLocal<CharBuffer>     SCRATCH  = new ThreadLocal<CharBuffer>();
+
+  private final RepositoryRestConfiguration config;
+  private final Cache<String, Fragment>     fragments;
+  @Autowired
+  private       Repositories                repositories;
+  @Autowired
+  private       EntityVersions              entityVersions;
+
+  public RepresentationCache(RepositoryRestConfiguration config) {
+    this.config = config;
+    this.fragments = CacheBuilder.newBuilder()
+                                 .maximumWeight(config.getRepresentationCacheMaxBytes())
+                                 .weigher(new Weigher<String, Fragment>() {
+                                   @Override public int weigh(String key, Fragment fragment) {
+                                     return fragment.size();
+                                   }
+                                 })
+                                 .build();
+  }
+
+  /**
+   * Whether rendered entities are being cached.
+   *
+   * @return {@literal true} if the cache is enabled in the {@link RepositoryRestConfiguration}.
+   */
+  public boolean isEnabled() {
+    return config.isRepresentationCacheEnabled();
+  }
+
+  /**
+   * Get the version the cache would use for the given entity.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param domainObj
+   *     The entity.
+   *
+   * @return The version or {@literal null} if the entity isn't versioned and therefore can't be cached.
+   */
+  public Object getVersion(PersistentEntity persistentEntity, Object domainObj) {
+    return entityVersions.getVersion(persistentEntity, domainObj);
+  }
+
+  /**
+   * Look up the rendered JSON of an entity.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param id
+   *     ID of the entity.
+   * @param version
+   *     Current version of the entity.
+   * @param baseUri
+   *     Base URI links are rendered against.
+   * @param qualifier
+   *     Anything else the rendering depends on, like links added by {@link org.springframework.hateoas.ResourceProcessor}s.
+   *
+   * @return The cached JSON or {@literal null} if there's no current fragment.
+   */
+  public String get(PersistentEntity persistentEntity, Object id, Object version, URI baseUri, String qualifier) {
+    Fragment fragment = getFragment(persistentEntity, id, version, baseUri, qualifier);
+    return (null != fragment ? fragment.getJson() : null);
+  }
+
+  /**
+   * Write the rendered JSON of an entity as a raw value to the given generator. Unlike {@link #get(PersistentEntity,
+   * Object, Object, URI, String)}, this doesn't copy an off-heap fragment into a new {@link String}.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param id
+   *     ID of the entity.
+   * @param version
+   *     Current version of the entity.
+   * @param baseUri
+   *     Base URI links are rendered against.
+   * @param qualifier
+   *     Anything else the rendering depends on.
+   * @param jgen
+   *     Generator to write the fragment to.
+   *
+   * @return {@literal true} if a current fragment was written, {@literal false} if there's none and nothing was
+   *         written.
+   *
+   * @throws IOException
+   */
+  public boolean write(PersistentEntity persistentEntity,
+                       Object id,
+                       Object version,
+                       URI baseUri,
+                       String qualifier,
+                       JsonGenerator jgen) throws IOException {
+    Fragment fragment = getFragment(persistentEntity, id, version, baseUri, qualifier);
+    if(null == fragment) {
+      return false;
+    }
+    fragment.writeTo(jgen);
+    return true;
+  }
+
+  /**
+   * Store the rendered JSON of an entity, replacing any fragment previously cached for it.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param id
+   *     ID of the entity.
+   * @param version
+   *     Version of the entity that was rendered.
+   * @param baseUri
+   *     Base URI links were rendered against.
+   * @param qualifier
+   *     Anything else the rendering depended on.
+   * @param json
+   *     The rendered JSON.
+   */
+  public void put(PersistentEntity persistentEntity,
+                  Object id,
+                  Object version,
+                  URI baseUri,
+                  String qualifier,
+                  String json) {
+    fragments.put(key(persistentEntity.getType(), id),
+                  new Fragment(version, baseUri, qualifier, json, config.isRepresentationCacheOffHeap()));
+  }
+
+  /**
+   * Approximate number of cached fragments.
+   *
+   * @return Number of entries.
+   */
+  public long size() {
+    return fragments.size();
+  }
+
+  @Override protected void onAfterSave(Object entity) {
+    invalidate(entity);
+  }
+
+  @Override protected void onAfterLinkSave(Object parent, Object linked) {
+    invalidate(parent);
+  }
+
+  @Override protected void onAfterLinkDelete(Object parent, Object linked) {
+    invalidate(parent);
+  }
+
+  @Override protected void onAfterDelete(Object entity) {
+    invalidate(entity);
+  }
+
+  private void invalidate(Object entity) {
+    if(null == entity || fragments.size() == 0) {
+      return;
+    }
+    PersistentEntity persistentEntity = (null != repositories
+                                         ? repositories.getPersistentEntity(entity.getClass())
+                                         : null);
+    Object id = (null != persistentEntity ? entityVersions.getId(persistentEntity, entity) : null);
+    if(null == id) {
+      // Can't tell which entry this is, so play it safe
+      fragments.invalidateAll();
+      return;
+    }
+    fragments.invalidate(key(persistentEntity.getType(), id));
+  }
+
+  private Fragment getFragment(PersistentEntity persistentEntity,
+                               Object id,
+                               Object version,
+                               URI baseUri,
+                               String qualifier) {
+    Fragment fragment = fragments.getIfPresent(key(persistentEntity.getType(), id));
+    if(null == fragment || !fragment.matches(version, baseUri, qualifier)) {
+      return null;
+    }
+    return fragment;
+  }
+
+  private static String key(Class<?> domainType, Object id) {
+    return domainType.getName() + "#" + id;
+  }
+
+  private static class Fragment {
+    final Object     version;
+    final URI        baseUri;
+    final String     qualifier;
+    final String     json;
+    final ByteBuffer buffer;
+    final int        length;
+
+    private Fragment(Object version, URI baseUri, String qualifier, String json, boolean offHeap) {
+      this.version = version;
+      this.baseUri = baseUri;
+      this.qualifier = qualifier;
+      this.length = json.length();
+      if(offHeap) {
+        byte[] bytes = json.getBytes(UTF8);
+        this.buffer = ByteBuffer.allocateDirect(bytes.length);
+        this.buffer.put(bytes).flip();
+        this.json = null;
+      } else {
+        this.buffer = null;
+        this.json = json;
+      }
+    }
+
+    boolean matches(Object version, URI baseUri, String qualifier) {
+      return nullSafeEquals(this.version, version)
+          && nullSafeEquals(this.baseUri, baseUri)
+          && nullSafeEquals(this.qualifier, qualifier);
+    }
+
+    String getJson() {
+      if(null != json) {
+        return json;
+      }
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.duplicate().get(bytes);
+      return new String(bytes, UTF8);
+    }
+
+    void writeTo(JsonGenerator jgen) throws IOException {
+      if(null != json) {
+        jgen.writeRawValue(json);
+        return;
+      }
+      CharBuffer chars = SCRATCH.get();
+      if(null == chars || chars.capacity() < length) {
+        chars = CharBuffer.allocate(Math.max(length, 1024));
+        SCRATCH.set(chars);
+      }
+      chars.clear();
+      CharsetDecoder decoder = DECODERS.get().reset();
+      decoder.decode(buffer.duplicate(), chars, true);
+      decoder.flush(chars);
+      jgen.writeRawValue(chars.array(), 0, chars.position());
+    }
+
+    int size() {
+      // Strings hold two bytes per char
+      return (null != json ? json.length() * 2 : buffer.capacity());
+    }
+  }
+
+}
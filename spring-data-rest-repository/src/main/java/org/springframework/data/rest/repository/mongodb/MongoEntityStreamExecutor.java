@@ -0,0 +1,56 @@
+package org.springframework.data.rest.repository.mongodb;
+
+import java.io.IOException;
+
+import com.mongodb.DBObject;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.DocumentCallbackHandler;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.rest.repository.support.EntityStreamExecutor;
+
+/**
+ * {@link EntityStreamExecutor} that reads the documents of an entity's collection through a single MongoDB cursor,
+ * mapping one document at a time.
+ *
+ * @author Jon Brisbin
+ */
+public class MongoEntityStreamExecutor implements EntityStreamExecutor {
+
+  private final MongoOperations mongoOperations;
+
+  public MongoEntityStreamExecutor(MongoOperations mongoOperations) {
+    this.mongoOperations = mongoOperations;
+  }
+
+  @Override public boolean supports(PersistentEntity persistentEntity) {
+    return null != mongoOperations.getConverter().getMappingContext().getPersistentEntity(persistentEntity.getType());
+  }
+
+  @Override public void stream(final PersistentEntity persistentEntity,
+                               int chunkSize,
+                               final EntityCallback callback) throws IOException {
+    // The cursor fetches documents in batches by itself, there's nothing to hold on to between chunks
+    try {
+      mongoOperations.executeQuery(new Query(),
+                                   mongoOperations.getCollectionName(persistentEntity.getType()),
+                                   new DocumentCallbackHandler() {
+                                     @Override public void processDocument(DBObject dbObject) {
+                                       Object entity = mongoOperations.getConverter()
+                                                                      .read(persistentEntity.getType(), dbObject);
+                                       try {
+                                         callback.doWithEntity(entity);
+                                       } catch(IOException e) {
+                                         throw new IllegalStateException(e);
+                                       }
+                                     }
+                                   });
+    } catch(IllegalStateException e) {
+      if(e.getCause() instanceof IOException) {
+        throw (IOException)e.getCause();
+      }
+      throw e;
+    }
+  }
+
+}
@@ -0,0 +1,78 @@
+package org.springframework.data.rest.repository.mongodb;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.rest.repository.support.IdentifierQueryExecutor;
+
+/**
+ * {@link IdentifierQueryExecutor} that queries MongoDB with a projection on {@literal _id}, so documents come back
+ * without any of their other fields.
+ *
+ * @author Jon Brisbin
+ */
+public class MongoIdentifierQueryExecutor implements IdentifierQueryExecutor {
+
+  private final MongoOperations mongoOperations;
+
+  public MongoIdentifierQueryExecutor(MongoOperations mongoOperations) {
+    this.mongoOperations = mongoOperations;
+  }
+
+  @Override public boolean supports(PersistentEntity persistentEntity) {
+    return null != persistentEntity.getIdProperty()
+        && null != mongoOperations.getConverter().getMappingContext().getPersistentEntity(persistentEntity.getType());
+  }
+
+  @Override public List<Object> findIds(PersistentEntity persistentEntity, Sort sort) {
+    Query query = idQuery();
+    if(null != sort) {
+      query.with(sort);
+    }
+    return query(persistentEntity, query);
+  }
+
+  @Override public List<Object> findIds(PersistentEntity persistentEntity, Pageable pageable) {
+    return query(persistentEntity, idQuery().with(pageable));
+  }
+
+  @SuppressWarnings({"unchecked"})
+  @Override public Object getId(PersistentEntity persistentEntity, Object entity) {
+    return BeanWrapper.create(entity, mongoOperations.getConverter().getConversionService())
+                      .getProperty(persistentEntity.getIdProperty());
+  }
+
+  @Override public Map<Object, List<Object>> findAssociatedIds(PersistentEntity persistentEntity,
+                                                               PersistentProperty association,
+                                                               Collection<Object> ids) {
+    // References are resolved when the owning document is read, so reading the association costs nothing more
+    return null;
+  }
+
+  private static Query idQuery() {
+    Query query = new Query();
+    query.fields().include("_id");
+    return query;
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private List<Object> query(PersistentEntity persistentEntity, Query query) {
+    List<Object> ids = new ArrayList<Object>();
+    // Documents only carry their _id, so mapping them is cheap
+    for(Object obj : mongoOperations.find(query, persistentEntity.getType())) {
+      ids.add(BeanWrapper.create(obj, mongoOperations.getConverter().getConversionService())
+                         .getProperty(persistentEntity.getIdProperty()));
+    }
+    return ids;
+  }
+
+}
@@ -0,0 +1,81 @@
+package org.springframework.data.rest.repository.mongodb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.rest.repository.support.ProjectionQueryExecutor;
+
+/**
+ * {@link ProjectionQueryExecutor} that queries MongoDB with a projection on {@literal _id} and the fields the requested
+ * properties are mapped to. Documents are mapped as usual, so any property that wasn't requested is left unset.
+ *
+ * @author Jon Brisbin
+ */
+public class MongoProjectionQueryExecutor implements ProjectionQueryExecutor {
+
+  private final MongoOperations mongoOperations;
+
+  public MongoProjectionQueryExecutor(MongoOperations mongoOperations) {
+    this.mongoOperations = mongoOperations;
+  }
+
+  @Override public boolean supports(PersistentEntity persistentEntity) {
+    return null != persistentEntity.getIdProperty() && null != getMongoEntity(persistentEntity);
+  }
+
+  @Override public boolean canProject(PersistentEntity persistentEntity, Set<String> properties) {
+    MongoPersistentEntity<?> mongoEntity = getMongoEntity(persistentEntity);
+    if(null == mongoEntity) {
+      return false;
+    }
+    for(String property : properties) {
+      if(null == mongoEntity.getPersistentProperty(property)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override public List<Object> findAll(PersistentEntity persistentEntity, Set<String> properties, Sort sort) {
+    Query query = projection(persistentEntity, properties);
+    if(null != sort) {
+      query.with(sort);
+    }
+    return query(persistentEntity, query);
+  }
+
+  @Override public List<Object> findAll(PersistentEntity persistentEntity, Set<String> properties, Pageable pageable) {
+    return query(persistentEntity, projection(persistentEntity, properties).with(pageable));
+  }
+
+  private MongoPersistentEntity<?> getMongoEntity(PersistentEntity persistentEntity) {
+    return mongoOperations.getConverter().getMappingContext().getPersistentEntity(persistentEntity.getType());
+  }
+
+  private Query projection(PersistentEntity persistentEntity, Set<String> properties) {
+    MongoPersistentEntity<?> mongoEntity = getMongoEntity(persistentEntity);
+    Query query = new Query();
+    query.fields().include("_id");
+    for(String property : properties) {
+      MongoPersistentProperty mongoProperty = mongoEntity.getPersistentProperty(property);
+      if(null != mongoProperty && !mongoProperty.isIdProperty()) {
+        query.fields().include(mongoProperty.getFieldName());
+      }
+    }
+    return query;
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private List<Object> query(PersistentEntity persistentEntity, Query query) {
+    return new ArrayList<Object>(mongoOperations.find(query, persistentEntity.getType()));
+  }
+
+}
@@ -0,0 +1,286 @@
+package org.springframework.data.rest.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.repository.context.AbstractRepositoryEventListener;
+
+/**
+ * Records the changes made through the exporter, per domain type, so clients can ask for what changed since they last
+ * looked instead of reading whole repositories.
+ * <p>
+ * Every {@literal after} event appends a {@link Change} to a fixed-size ring buffer of its domain type. Appending
+ * doesn't lock. Each change gets the next sequence number of its domain type. A client that asks for changes older
+ * than the oldest one still in the buffer is told to resync, i.e. read the whole repository again and continue from
+ * the current sequence number. Sequence numbers start over when the application restarts, which clients also notice
+ * as a resync.
+ * </p>
+ * <p>
+ * Nothing ever waits on the feed. Clients that want to hear about the next change {@link #subscribe(Class,
+ * Subscriber)} to it and are called back from the thread that made the change.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class ChangeFeed extends AbstractRepositoryEventListener<Object> {
+
+  public enum Operation {
+    SAVE, DELETE, LINK_SAVE, LINK_DELETE
+  }
+
+  private static final Logger LOG = LoggerFactory.getLogger(ChangeFeed.class);
+
+  private final RepositoryRestConfiguration config;
+  private final ConcurrentMap<Class<?>, Ring> rings = new ConcurrentHashMap<Class<?>, Ring>();
+  @Autowired(required = false)
+  private       Repositories                  repositories;
+  @Autowired(required = false)
+  private       EntityVersions                entityVersions;
+
+  public ChangeFeed(RepositoryRestConfiguration config) {
+    this.config = config;
+  }
+
+  /**
+   * Get the latest sequence number of the given domain type.
+   *
+   * @param domainType
+   *     The domain type.
+   *
+   * @return The sequence number of the latest change or {@literal 0} if nothing has changed yet.
+   */
+  public long getSequence(Class<?> domainType) {
+    return getRing(domainType).sequence.get();
+  }
+
+  /**
+   * Get the changes made to entities of the given domain type after the given sequence number.
+   *
+   * @param domainType
+   *     The domain type.
+   * @param since
+   *     Sequence number of the last change the client has seen.
+   * @param limit
+   *     Maximum number of changes to return.
+   *
+   * @return The changes, oldest first.
+   */
+  public ChangeSet getChanges(Class<?> domainType, long since, int limit) {
+    return getRing(domainType).read(since, limit);
+  }
+
+  /**
+   * Get called back whenever an entity of the given domain type changes, until unsubscribed.
+   *
+   * @param domainType
+   *     The domain type.
+   * @param subscriber
+   *     The subscriber to call back.
+   */
+  public void subscribe(Class<?> domainType, Subscriber subscriber) {
+    getRing(domainType).subscribers.add(subscriber);
+  }
+
+  /**
+   * Stop calling back a subscriber.
+   *
+   * @param domainType
+   *     The domain type it subscribed to.
+   * @param subscriber
+   *     The subscriber.
+   */
+  public void unsubscribe(Class<?> domainType, Subscriber subscriber) {
+    getRing(domainType).subscribers.remove(subscriber);
+  }
+
+  @Override protected void onAfterSave(Object entity) {
+    record(Operation.SAVE, entity);
+  }
+
+  @Override protected void onAfterDelete(Object entity) {
+    record(Operation.DELETE, entity);
+  }
+
+  @Override protected void onAfterLinkSave(Object parent, Object linked) {
+    record(Operation.LINK_SAVE, parent);
+  }
+
+  @Override protected void onAfterLinkDelete(Object parent, Object linked) {
+    record(Operation.LINK_DELETE, parent);
+  }
+
+  private void record(Operation operation, Object entity) {
+    if(null == entity) {
+      return;
+    }
+    PersistentEntity persistentEntity = (null != repositories
+                                         ? repositories.getPersistentEntity(entity.getClass())
+                                         : null);
+    Class<?> domainType = (null != persistentEntity ? persistentEntity.getType() : entity.getClass());
+    Object id = null;
+    Object version = null;
+    if(null != persistentEntity && null != entityVersions) {
+      id = entityVersions.getId(persistentEntity, entity);
+      version = entityVersions.getVersion(persistentEntity, entity);
+    }
+    getRing(domainType).append(operation, id, version);
+  }
+
+  private Ring getRing(Class<?> domainType) {
+    Ring ring = rings.get(domainType);
+    if(null == ring) {
+      ring = new Ring(config.getChangeFeedCapacity());
+      Ring existing = rings.putIfAbsent(domainType, ring);
+      if(null != existing) {
+        ring = existing;
+      }
+    }
+    return ring;
+  }
+
+  /**
+   * Called back when an entity of the domain type it subscribed to changes.
+   */
+  public interface Subscriber {
+    /**
+     * Called from the thread that made the change, after the change can be read. Implementations must not block, and
+     * should hand off any I/O to a thread of their own.
+     *
+     * @param sequence
+     *     Sequence number of the change.
+     */
+    void onChange(long sequence);
+  }
+
+  public static class Change {
+    private final long      sequence;
+    private final Operation operation;
+    private final Object    id;
+    private final Object    version;
+
+    private Change(long sequence, Operation operation, Object id, Object version) {
+      this.sequence = sequence;
+      this.operation = operation;
+      this.id = id;
+      this.version = version;
+    }
+
+    public long getSequence() {
+      return sequence;
+    }
+
+    public Operation getOperation() {
+      return operation;
+    }
+
+    public Object getId() {
+      return id;
+    }
+
+    public Object getVersion() {
+      return version;
+    }
+  }
+
+  public static class ChangeSet {
+    private final List<Change> changes;
+    private final long         sequence;
+    private final boolean      resync;
+
+    private ChangeSet(List<Change> changes, long sequence, boolean resync) {
+      this.changes = changes;
+      this.sequence = sequence;
+      this.resync = resync;
+    }
+
+    /**
+     * The changes, oldest first.
+     *
+     * @return Changes, empty if a resync is required.
+     */
+    public List<Change> getChanges() {
+      return changes;
+    }
+
+    /**
+     * The sequence number to ask for changes since next time.
+     *
+     * @return The sequence number.
+     */
+    public long getSequence() {
+      return sequence;
+    }
+
+    /**
+     * Whether the client fell behind the changes still recorded and has to read the whole repository again.
+     *
+     * @return {@literal true} if a resync is required.
+     */
+    public boolean isResync() {
+      return resync;
+    }
+  }
+
+  private static class Ring {
+    final AtomicReferenceArray<Change> slots;
+    final int                          mask;
+    final AtomicLong                   sequence    = new AtomicLong();
+    final List<Subscriber>             subscribers = new CopyOnWriteArrayList<Subscriber>();
+
+    private Ring(int capacity) {
+      int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+      this.slots = new AtomicReferenceArray<Change>(size);
+      this.mask = size - 1;
+    }
+
+    void append(Operation operation, Object id, Object version) {
+      long seq = sequence.incrementAndGet();
+      slots.set((int)(seq & mask), new Change(seq, operation, id, version));
+      for(Subscriber subscriber : subscribers) {
+        try {
+          subscriber.onChange(seq);
+        } catch(RuntimeException e) {
+          // The change itself has been made, a failing subscriber mustn't fail it
+          LOG.warn("Change feed subscriber failed: " + e.getMessage(), e);
+        }
+      }
+    }
+
+    ChangeSet read(long since, int limit) {
+      long head = sequence.get();
+      if(since > head || head - since > slots.length()) {
+        return new ChangeSet(Collections.<Change>emptyList(), head, true);
+      }
+
+      List<Change> changes = new ArrayList<Change>((int)Math.min(head - since, limit));
+      long last = since;
+      for(long seq = since + 1; seq <= head && changes.size() < limit; seq++) {
+        Change change = slots.get((int)(seq & mask));
+        if(null == change || change.sequence < seq) {
+          // Sequence number taken but the change not stored yet
+          break;
+        }
+        if(change.sequence > seq) {
+          // Overwritten while reading
+          return new ChangeSet(Collections.<Change>emptyList(), sequence.get(), true);
+        }
+        changes.add(change);
+        last = seq;
+      }
+      return new ChangeSet(changes, last, false);
+    }
+  }
+
+}
@@ -0,0 +1,88 @@
+package org.springframework.data.rest.repository.support;
+
+import java.nio.charset.Charset;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Builds an entity tag for a collection of domain objects by hashing the ID and version of every member along with
+ * anything else that shapes the representation, like paging links.
+ * <p>
+ * If any member has no version the collection can't be validated cheaply, so no tag is produced at all.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class CollectionETagBuilder {
+
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+
+  private final EntityVersions entityVersions;
+  private final StringBuilder  buffer    = new StringBuilder();
+  private       boolean        versioned = true;
+
+  public CollectionETagBuilder(EntityVersions entityVersions) {
+    this.entityVersions = entityVersions;
+  }
+
+  /**
+   * Add a member of the collection.
+   *
+   * @param persistentEntity
+   *     Metadata of the member or {@literal null} if it isn't a managed entity.
+   * @param domainObj
+   *     The member.
+   *
+   * @return {@literal this}
+   */
+  public CollectionETagBuilder add(PersistentEntity persistentEntity, Object domainObj) {
+    if(!versioned) {
+      return this;
+    }
+    if(null == domainObj) {
+      buffer.append("null;");
+      return this;
+    }
+    Object version = (null != persistentEntity ? entityVersions.getVersion(persistentEntity, domainObj) : null);
+    if(null == version) {
+      versioned = false;
+      return this;
+    }
+    buffer.append(persistentEntity.getType().getName())
+          .append(':')
+          .append(entityVersions.getId(persistentEntity, domainObj))
+          .append(':')
+          .append(version)
+          .append(';');
+    return this;
+  }
+
+  /**
+   * Add anything besides the members that influences the representation, like the URI of a link.
+   *
+   * @param qualifier
+   *     Value to include in the tag.
+   *
+   * @return {@literal this}
+   */
+  public CollectionETagBuilder add(String qualifier) {
+    if(versioned) {
+      buffer.append(qualifier).append(';');
+    }
+    return this;
+  }
+
+  /**
+   * Build the entity tag.
+   *
+   * @return A quoted entity tag or {@literal null} if one of the members isn't versioned.
+   */
+  public String build() {
+    if(!versioned) {
+      return null;
+    }
+    return "\"" + DigestUtils.md5DigestAsHex(buffer.toString().getBytes(UTF8)) + "\"";
+  }
+
+}
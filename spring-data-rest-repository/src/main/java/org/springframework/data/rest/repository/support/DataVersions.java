@@ -0,0 +1,72 @@
+package org.springframework.data.rest.repository.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.rest.repository.context.AbstractRepositoryEventListener;
+
+/**
+ * Keeps a version number per domain type that is bumped whenever an entity of that type is saved, deleted or has its
+ * links changed through the exporter. Anything derived from the whole contents of a repository can be keyed by it.
+ * <p>
+ * Changes made to the store without going through the exporter aren't seen.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class DataVersions extends AbstractRepositoryEventListener<Object> {
+
+  private final Map<Class<?>, AtomicLong> versions = new ConcurrentHashMap<Class<?>, AtomicLong>();
+
+  /**
+   * Get the current data version of the given domain type.
+   *
+   * @param domainType
+   *     The domain type.
+   *
+   * @return The number of changes seen since the type was first asked for.
+   */
+  public long getVersion(Class<?> domainType) {
+    AtomicLong version = versions.get(domainType);
+    if(null == version) {
+      synchronized(versions) {
+        version = versions.get(domainType);
+        if(null == version) {
+          version = new AtomicLong();
+          versions.put(domainType, version);
+        }
+      }
+    }
+    return version.get();
+  }
+
+  @Override protected void onAfterSave(Object entity) {
+    bump(entity);
+  }
+
+  @Override protected void onAfterDelete(Object entity) {
+    bump(entity);
+  }
+
+  @Override protected void onAfterLinkSave(Object parent, Object linked) {
+    bump(parent);
+  }
+
+  @Override protected void onAfterLinkDelete(Object parent, Object linked) {
+    bump(parent);
+  }
+
+  private void bump(Object entity) {
+    if(null == entity) {
+      return;
+    }
+    // Also covers subclasses and proxies of the tracked types
+    for(Map.Entry<Class<?>, AtomicLong> entry : versions.entrySet()) {
+      if(entry.getKey().isInstance(entity)) {
+        entry.getValue().incrementAndGet();
+      }
+    }
+  }
+
+}
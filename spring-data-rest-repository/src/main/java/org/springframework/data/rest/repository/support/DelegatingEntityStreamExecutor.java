@@ -0,0 +1,30 @@
+package org.springframework.data.rest.repository.support;
+
+import java.io.IOException;
+
+import org.springframework.data.mapping.PersistentEntity;
+
+/**
+ * {@link EntityStreamExecutor} that hands each entity to the first executor supporting it.
+ *
+ * @author Jon Brisbin
+ */
+public class DelegatingEntityStreamExecutor extends DelegatingStoreExecutor<EntityStreamExecutor>
+    implements EntityStreamExecutor {
+
+  public DelegatingEntityStreamExecutor() {
+    super(EntityStreamExecutor.class);
+  }
+
+  @Override public void stream(PersistentEntity persistentEntity,
+                               int chunkSize,
+                               EntityCallback callback) throws IOException {
+    getRequiredExecutor(persistentEntity).stream(persistentEntity, chunkSize, callback);
+  }
+
+  @Override protected String getUnsupportedMessage(PersistentEntity persistentEntity) {
+    return "No EntityStreamExecutor can stream " + persistentEntity.getType().getName()
+        + ". Check supports() and page through the repository instead.";
+  }
+
+}
@@ -0,0 +1,49 @@
+package org.springframework.data.rest.repository.support;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+
+/**
+ * {@link IdentifierQueryExecutor} that hands each query to the first executor supporting the entity.
+ *
+ * @author Jon Brisbin
+ */
+public class DelegatingIdentifierQueryExecutor extends DelegatingStoreExecutor<IdentifierQueryExecutor>
+    implements IdentifierQueryExecutor {
+
+  public DelegatingIdentifierQueryExecutor() {
+    super(IdentifierQueryExecutor.class);
+  }
+
+  @Override public List<Object> findIds(PersistentEntity persistentEntity, Sort sort) {
+    return getRequiredExecutor(persistentEntity).findIds(persistentEntity, sort);
+  }
+
+  @Override public List<Object> findIds(PersistentEntity persistentEntity, Pageable pageable) {
+    return getRequiredExecutor(persistentEntity).findIds(persistentEntity, pageable);
+  }
+
+  @Override public Object getId(PersistentEntity persistentEntity, Object entity) {
+    IdentifierQueryExecutor executor = getExecutor(persistentEntity);
+    return (null != executor ? executor.getId(persistentEntity, entity) : null);
+  }
+
+  @Override public Map<Object, List<Object>> findAssociatedIds(PersistentEntity persistentEntity,
+                                                               PersistentProperty association,
+                                                               Collection<Object> ids) {
+    IdentifierQueryExecutor executor = getExecutor(persistentEntity);
+    return (null != executor ? executor.findAssociatedIds(persistentEntity, association, ids) : null);
+  }
+
+  @Override protected String getUnsupportedMessage(PersistentEntity persistentEntity) {
+    return "No IdentifierQueryExecutor can query the IDs of " + persistentEntity.getType().getName()
+        + ". Check supports() before calling findIds().";
+  }
+
+}
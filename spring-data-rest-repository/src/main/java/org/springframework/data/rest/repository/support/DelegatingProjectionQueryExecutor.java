@@ -0,0 +1,40 @@
+package org.springframework.data.rest.repository.support;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+
+/**
+ * {@link ProjectionQueryExecutor} that hands each query to the first executor supporting the entity.
+ *
+ * @author Jon Brisbin
+ */
+public class DelegatingProjectionQueryExecutor extends DelegatingStoreExecutor<ProjectionQueryExecutor>
+    implements ProjectionQueryExecutor {
+
+  public DelegatingProjectionQueryExecutor() {
+    super(ProjectionQueryExecutor.class);
+  }
+
+  @Override public boolean canProject(PersistentEntity persistentEntity, Set<String> properties) {
+    ProjectionQueryExecutor executor = getExecutor(persistentEntity);
+    return (null != executor && executor.canProject(persistentEntity, properties));
+  }
+
+  @Override public List<Object> findAll(PersistentEntity persistentEntity, Set<String> properties, Sort sort) {
+    return getRequiredExecutor(persistentEntity).findAll(persistentEntity, properties, sort);
+  }
+
+  @Override public List<Object> findAll(PersistentEntity persistentEntity, Set<String> properties, Pageable pageable) {
+    return getRequiredExecutor(persistentEntity).findAll(persistentEntity, properties, pageable);
+  }
+
+  @Override protected String getUnsupportedMessage(PersistentEntity persistentEntity) {
+    return "No ProjectionQueryExecutor can project " + persistentEntity.getType().getName()
+        + ". Check canProject() before calling findAll().";
+  }
+
+}
@@ -0,0 +1,166 @@
+package org.springframework.data.rest.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.rest.repository.jpa.JpaEntityStreamExecutor;
+import org.springframework.data.rest.repository.jpa.JpaIdentifierQueryExecutor;
+import org.springframework.data.rest.repository.jpa.JpaProjectionQueryExecutor;
+import org.springframework.data.rest.repository.mongodb.MongoEntityStreamExecutor;
+import org.springframework.data.rest.repository.mongodb.MongoIdentifierQueryExecutor;
+import org.springframework.data.rest.repository.mongodb.MongoProjectionQueryExecutor;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Base class for executors that hand each call to the first executor of their kind supporting the entity. Executors
+ * for every JPA {@link EntityManagerFactory} and every {@link MongoOperations} in the {@link ApplicationContext} are
+ * registered automatically. Any other beans of the executor type are consulted first.
+ *
+ * @param <E>
+ *     The kind of executor delegated to.
+ *
+ * @author Jon Brisbin
+ */
+public abstract class DelegatingStoreExecutor<E extends StoreExecutor> implements StoreExecutor,
+                                                                                    ApplicationContextAware {
+
+  private static final boolean IS_JPA_AVAILABLE   = ClassUtils.isPresent(
+      "javax.persistence.EntityManagerFactory",
+      DelegatingStoreExecutor.class.getClassLoader()
+  );
+  private static final boolean IS_MONGO_AVAILABLE = ClassUtils.isPresent(
+      "org.springframework.data.mongodb.core.MongoOperations",
+      DelegatingStoreExecutor.class.getClassLoader()
+  );
+  /**
+   * Cached for types no executor supports, since a {@link ConcurrentHashMap} can't hold {@literal null}.
+   */
+  private static final Object NONE = new Object();
+
+  private final Class<E>              executorType;
+  private final List<E>               executors       = new ArrayList<E>();
+  private final Map<Class<?>, Object> executorsByType = new ConcurrentHashMap<Class<?>, Object>();
+
+  protected DelegatingStoreExecutor(Class<E> executorType) {
+    this.executorType = executorType;
+  }
+
+  @Override public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+    for(E executor : BeanFactoryUtils.beansOfTypeIncludingAncestors(applicationContext, executorType).values()) {
+      if(executor != this) {
+        executors.add(executor);
+      }
+    }
+    List<StoreExecutor> storeExecutors = new ArrayList<StoreExecutor>();
+    if(IS_JPA_AVAILABLE) {
+      JpaExecutors.register(applicationContext, storeExecutors);
+    }
+    if(IS_MONGO_AVAILABLE) {
+      MongoExecutors.register(applicationContext, storeExecutors);
+    }
+    for(StoreExecutor executor : storeExecutors) {
+      if(executorType.isInstance(executor)) {
+        executors.add(executorType.cast(executor));
+      }
+    }
+  }
+
+  @Override public boolean supports(PersistentEntity persistentEntity) {
+    return null != getExecutor(persistentEntity);
+  }
+
+  /**
+   * Find the first executor supporting the given entity.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   *
+   * @return The executor, or {@literal null} if none supports the entity.
+   */
+  @SuppressWarnings({"unchecked"})
+  protected E getExecutor(PersistentEntity persistentEntity) {
+    Object executor = executorsByType.get(persistentEntity.getType());
+    if(null == executor) {
+      executor = NONE;
+      for(E candidate : executors) {
+        if(candidate.supports(persistentEntity)) {
+          executor = candidate;
+          break;
+        }
+      }
+      executorsByType.put(persistentEntity.getType(), executor);
+    }
+    return (executor == NONE ? null : (E)executor);
+  }
+
+  /**
+   * Find the first executor supporting the given entity, failing if there is none.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   *
+   * @return The executor.
+   *
+   * @throws UnsupportedOperationException
+   *     If no executor supports the entity.
+   */
+  protected E getRequiredExecutor(PersistentEntity persistentEntity) {
+    E executor = getExecutor(persistentEntity);
+    if(null == executor) {
+      throw new UnsupportedOperationException(getUnsupportedMessage(persistentEntity));
+    }
+    return executor;
+  }
+
+  /**
+   * Explain that no executor supports the given entity, and what to check instead.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   *
+   * @return Message of the {@link UnsupportedOperationException} thrown by {@link #getRequiredExecutor(PersistentEntity)}.
+   */
+  protected abstract String getUnsupportedMessage(PersistentEntity persistentEntity);
+
+  /**
+   * Kept in its own class so JPA is only loaded if it's on the classpath. Every kind of executor is created for each
+   * {@link EntityManagerFactory}, and each delegating executor keeps those of its own kind.
+   */
+  private static class JpaExecutors {
+    static void register(ApplicationContext applicationContext, List<StoreExecutor> executors) {
+      for(EntityManagerFactory emf : BeanFactoryUtils.beansOfTypeIncludingAncestors(applicationContext,
+                                                                                    EntityManagerFactory.class)
+                                                     .values()) {
+        executors.add(new JpaProjectionQueryExecutor(emf));
+        executors.add(new JpaIdentifierQueryExecutor(emf));
+        executors.add(new JpaEntityStreamExecutor(emf));
+      }
+    }
+  }
+
+  /**
+   * Kept in its own class so MongoDB is only loaded if it's on the classpath. Every kind of executor is created for
+   * each {@link MongoOperations}, and each delegating executor keeps those of its own kind.
+   */
+  private static class MongoExecutors {
+    static void register(ApplicationContext applicationContext, List<StoreExecutor> executors) {
+      for(MongoOperations mongoOperations : BeanFactoryUtils.beansOfTypeIncludingAncestors(applicationContext,
+                                                                                           MongoOperations.class)
+                                                            .values()) {
+        executors.add(new MongoProjectionQueryExecutor(mongoOperations));
+        executors.add(new MongoIdentifierQueryExecutor(mongoOperations));
+        executors.add(new MongoEntityStreamExecutor(mongoOperations));
+      }
+    }
+  }
+
+}
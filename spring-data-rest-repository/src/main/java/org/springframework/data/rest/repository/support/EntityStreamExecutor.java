@@ -0,0 +1,48 @@
+package org.springframework.data.rest.repository.support;
+
+import java.io.IOException;
+
+import org.springframework.data.mapping.PersistentEntity;
+
+/**
+ * Iterates over every entity of a type using the store's native means of walking a large result set, like keyset
+ * pagination or a cursor, so memory use doesn't grow with the number of entities.
+ *
+ * @author Jon Brisbin
+ */
+public interface EntityStreamExecutor extends StoreExecutor {
+
+  /**
+   * Whether this executor can stream entities of the given type.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   *
+   * @return {@literal true} if entities of this type can be streamed.
+   */
+  boolean supports(PersistentEntity persistentEntity);
+
+  /**
+   * Hand every entity of the given type to the callback. Entities handed over may be detached once the callback
+   * returns, so the callback must not keep references to them.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param chunkSize
+   *     Number of entities loaded at a time.
+   * @param callback
+   *     Called once per entity.
+   *
+   * @throws IOException
+   *     If the callback fails to write an entity.
+   */
+  void stream(PersistentEntity persistentEntity, int chunkSize, EntityCallback callback) throws IOException;
+
+  /**
+   * Receives the entities of a stream.
+   */
+  interface EntityCallback {
+    void doWithEntity(Object entity) throws IOException;
+  }
+
+}
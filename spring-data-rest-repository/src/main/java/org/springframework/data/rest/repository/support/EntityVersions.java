@@ -0,0 +1,228 @@
+package org.springframework.data.rest.repository.support;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.nio.charset.Charset;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Derives HTTP validators (entity tags and last-modified timestamps) from the version and last-modified properties of
+ * domain objects.
+ * <p>
+ * The version property is the one annotated with either {@literal javax.persistence.Version} or {@literal
+ * org.springframework.data.annotation.Version}. The last-modified property is configured per domain type on the
+ * {@link RepositoryRestConfiguration}.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class EntityVersions {
+
+  private static final Charset  UTF8                = Charset.forName("UTF-8");
+  private static final String[] VERSION_ANNOTATIONS = {
+      "javax.persistence.Version",
+      "org.springframework.data.annotation.Version"
+  };
+
+  private final Map<Class<?>, ResolvedProperty> versionProperties      = new ConcurrentHashMap<Class<?>, ResolvedProperty>();
+  private final Map<Class<?>, ResolvedProperty> lastModifiedProperties = new ConcurrentHashMap<Class<?>, ResolvedProperty>();
+  private final RepositoryRestConfiguration config;
+  private final ConversionService           conversionService;
+
+  public EntityVersions(RepositoryRestConfiguration config,
+                        ConversionService conversionService) {
+    this.config = config;
+    this.conversionService = conversionService;
+  }
+
+  /**
+   * Find the version property of the given entity.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   *
+   * @return The version property or {@literal null} if the entity isn't versioned.
+   */
+  @SuppressWarnings({"unchecked"})
+  public PersistentProperty getVersionProperty(PersistentEntity persistentEntity) {
+    ResolvedProperty versionProperty = versionProperties.get(persistentEntity.getType());
+    if(null == versionProperty) {
+      final PersistentProperty[] found = new PersistentProperty[1];
+      persistentEntity.doWithProperties(new PropertyHandler() {
+        @Override public void doWithPersistentProperty(PersistentProperty persistentProperty) {
+          if(isVersionProperty(persistentProperty)) {
+            found[0] = persistentProperty;
+          }
+        }
+      });
+      versionProperty = new ResolvedProperty(found[0]);
+      versionProperties.put(persistentEntity.getType(), versionProperty);
+    }
+    return versionProperty.property;
+  }
+
+  /**
+   * Get the current version of the given domain object.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param domainObj
+   *     The domain object.
+   *
+   * @return The version or {@literal null} if the entity isn't versioned or hasn't been persisted yet.
+   */
+  @SuppressWarnings({"unchecked"})
+  public Object getVersion(PersistentEntity persistentEntity, Object domainObj) {
+    PersistentProperty versionProperty = getVersionProperty(persistentEntity);
+    if(null == versionProperty || null == domainObj) {
+      return null;
+    }
+    return BeanWrapper.create(domainObj, conversionService).getProperty(versionProperty);
+  }
+
+  /**
+   * Get the ID of the given domain object.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param domainObj
+   *     The domain object.
+   *
+   * @return The ID or {@literal null} if it hasn't been assigned yet.
+   */
+  @SuppressWarnings({"unchecked"})
+  public Object getId(PersistentEntity persistentEntity, Object domainObj) {
+    if(null == persistentEntity.getIdProperty() || null == domainObj) {
+      return null;
+    }
+    return BeanWrapper.create(domainObj, conversionService).getProperty(persistentEntity.getIdProperty());
+  }
+
+  /**
+   * Build a strong entity tag from the version of the given domain object.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param domainObj
+   *     The domain object.
+   *
+   * @return A quoted entity tag or {@literal null} if no version is available.
+   */
+  public String getETag(PersistentEntity persistentEntity, Object domainObj) {
+    return getETag(persistentEntity, domainObj, null);
+  }
+
+  /**
+   * Build a strong entity tag from the version of the given domain object and the representation it's rendered in. The
+   * same version rendered as, say, {@literal application/json} and {@literal application/x-spring-data-verbose+json}
+   * gets two different tags, so a cache never answers a conditional request for one with the other.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param domainObj
+   *     The domain object.
+   * @param representation
+   *     Identifies the representation, e.g. the requested media type. May be {@literal null}.
+   *
+   * @return A quoted entity tag or {@literal null} if no version is available.
+   */
+  public String getETag(PersistentEntity persistentEntity, Object domainObj, String representation) {
+    Object version = getVersion(persistentEntity, domainObj);
+    if(null == version) {
+      return null;
+    }
+    if(null == representation) {
+      return "\"" + version + "\"";
+    }
+    String digest = DigestUtils.md5DigestAsHex(representation.getBytes(UTF8));
+    return "\"" + version + "-" + digest.substring(0, 8) + "\"";
+  }
+
+  /**
+   * Get the last-modified timestamp of the given domain object from the property configured for its type.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param domainObj
+   *     The domain object.
+   *
+   * @return Milliseconds since the epoch or {@literal -1} if no last-modified property is configured or set.
+   */
+  @SuppressWarnings({"unchecked"})
+  public long getLastModified(PersistentEntity persistentEntity, Object domainObj) {
+    PersistentProperty lastModifiedProperty = getLastModifiedProperty(persistentEntity);
+    if(null == lastModifiedProperty || null == domainObj) {
+      return -1;
+    }
+    Object val = BeanWrapper.create(domainObj, conversionService).getProperty(lastModifiedProperty);
+    if(null == val) {
+      return -1;
+    }
+    if(val instanceof Date) {
+      return ((Date)val).getTime();
+    }
+    if(val instanceof Calendar) {
+      return ((Calendar)val).getTimeInMillis();
+    }
+    if(val instanceof Number) {
+      return ((Number)val).longValue();
+    }
+    if(conversionService.canConvert(val.getClass(), Date.class)) {
+      return conversionService.convert(val, Date.class).getTime();
+    }
+    return -1;
+  }
+
+  private PersistentProperty getLastModifiedProperty(PersistentEntity persistentEntity) {
+    ResolvedProperty lastModifiedProperty = lastModifiedProperties.get(persistentEntity.getType());
+    if(null == lastModifiedProperty) {
+      String name = config.getLastModifiedProperty(persistentEntity.getType());
+      lastModifiedProperty = new ResolvedProperty(null != name ? persistentEntity.getPersistentProperty(name) : null);
+      lastModifiedProperties.put(persistentEntity.getType(), lastModifiedProperty);
+    }
+    return lastModifiedProperty.property;
+  }
+
+  private static boolean isVersionProperty(PersistentProperty persistentProperty) {
+    return hasVersionAnnotation(persistentProperty.getField())
+        || hasVersionAnnotation(persistentProperty.getGetter());
+  }
+
+  private static boolean hasVersionAnnotation(AnnotatedElement element) {
+    if(null == element) {
+      return false;
+    }
+    for(Annotation anno : element.getAnnotations()) {
+      String annoName = anno.annotationType().getName();
+      for(String versionAnno : VERSION_ANNOTATIONS) {
+        if(versionAnno.equals(annoName)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Caches the outcome of a property lookup, including the fact that there is no such property.
+   */
+  private static class ResolvedProperty {
+    final PersistentProperty property;
+
+    private ResolvedProperty(PersistentProperty property) {
+      this.property = property;
+    }
+  }
+
+}
@@ -0,0 +1,85 @@
+package org.springframework.data.rest.repository.support;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+
+/**
+ * Loads only the IDs of the entities managed by a repository, without hydrating the entities themselves. Used to
+ * render representations that consist of nothing but links, like {@literal text/uri-list}, and to find the entities to
+ * inline when associations are expanded.
+ *
+ * @author Jon Brisbin
+ */
+public interface IdentifierQueryExecutor extends StoreExecutor {
+
+  /**
+   * Whether this executor can query the store backing the given entity.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   *
+   * @return {@literal true} if IDs of this entity can be queried.
+   */
+  boolean supports(PersistentEntity persistentEntity);
+
+  /**
+   * Find the IDs of all entities of the given type.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param sort
+   *     Order of the IDs, may be {@literal null}.
+   *
+   * @return IDs in the requested order.
+   */
+  List<Object> findIds(PersistentEntity persistentEntity, Sort sort);
+
+  /**
+   * Find the IDs of one page of entities of the given type.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param pageable
+   *     The page to load, including its order.
+   *
+   * @return IDs of the requested page.
+   */
+  List<Object> findIds(PersistentEntity persistentEntity, Pageable pageable);
+
+  /**
+   * Get the ID of an entity without initializing it, e.g. of a lazy-loading proxy whose fields aren't populated.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param entity
+   *     The entity or a proxy for it.
+   *
+   * @return The ID or {@literal null} if it can't be determined.
+   */
+  Object getId(PersistentEntity persistentEntity, Object entity);
+
+  /**
+   * Find the IDs of the entities referenced through a to-many association of several entities, without initializing
+   * the association or loading the referenced entities.
+   *
+   * @param persistentEntity
+   *     Metadata of the entities owning the association.
+   * @param association
+   *     The to-many association.
+   * @param ids
+   *     IDs of the owning entities.
+   *
+   * @return IDs of the referenced entities keyed by the ID of their owner, in no particular order, or {@literal null}
+   *         if the store can't query them any cheaper than by reading the association.
+   */
+  Map<Object, List<Object>> findAssociatedIds(PersistentEntity persistentEntity,
+                                              PersistentProperty association,
+                                              Collection<Object> ids);
+
+}
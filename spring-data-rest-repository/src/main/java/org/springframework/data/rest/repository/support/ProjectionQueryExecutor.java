@@ -0,0 +1,69 @@
+package org.springframework.data.rest.repository.support;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+
+/**
+ * Loads entities with only some of their properties populated, so the store reads no more than a sparse fieldset
+ * needs. The instances returned are built by the executor, are not attached to any persistence context and must only
+ * be rendered, never saved.
+ *
+ * @author Jon Brisbin
+ */
+public interface ProjectionQueryExecutor extends StoreExecutor {
+
+  /**
+   * Whether this executor can query the store backing the given entity.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   *
+   * @return {@literal true} if the entity is managed by this executor's store.
+   */
+  boolean supports(PersistentEntity persistentEntity);
+
+  /**
+   * Whether the store can load just the given properties of the entity.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param properties
+   *     Names of the properties to load.
+   *
+   * @return {@literal true} if {@link #findAll(PersistentEntity, Set, Sort)} can project onto these properties.
+   */
+  boolean canProject(PersistentEntity persistentEntity, Set<String> properties);
+
+  /**
+   * Find all entities of the given type, populating nothing but their ID and the given properties.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param properties
+   *     Names of the properties to load.
+   * @param sort
+   *     Order of the entities, may be {@literal null}.
+   *
+   * @return Partially populated entities in the requested order.
+   */
+  List<Object> findAll(PersistentEntity persistentEntity, Set<String> properties, Sort sort);
+
+  /**
+   * Find one page of entities of the given type, populating nothing but their ID and the given properties.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   * @param properties
+   *     Names of the properties to load.
+   * @param pageable
+   *     The page to load, including its order.
+   *
+   * @return Partially populated entities of the requested page.
+   */
+  List<Object> findAll(PersistentEntity persistentEntity, Set<String> properties, Pageable pageable);
+
+}
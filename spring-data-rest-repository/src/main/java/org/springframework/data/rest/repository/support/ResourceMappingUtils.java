@@ -7,8 +7,10 @@ import java.lang.reflect.Method;
 
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.rest.config.CachePolicy;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.config.ResourceMapping;
+import org.springframework.data.rest.repository.annotation.CacheControl;
 import org.springframework.data.rest.repository.annotation.RestResource;
 
 /**
@@ -75,6 +77,24 @@ public abstract class ResourceMappingUtils {
     return null == (anno = findAnnotation(method, RestResource.class)) || anno.exported();
   }
 
+  public static CachePolicy findCachePolicy(Class<?> type) {
+    RestResource anno = findAnnotation(type, RestResource.class);
+    return (null != anno ? toCachePolicy(anno.cacheControl()) : null);
+  }
+
+  public static CachePolicy findCachePolicy(Method method) {
+    RestResource anno = findAnnotation(method, RestResource.class);
+    return (null != anno ? toCachePolicy(anno.cacheControl()) : null);
+  }
+
+  private static CachePolicy toCachePolicy(CacheControl cacheControl) {
+    CachePolicy cachePolicy = new CachePolicy(cacheControl.maxAge(),
+                                              cacheControl.sMaxAge(),
+                                              cacheControl.isPrivate(),
+                                              cacheControl.staleWhileRevalidate());
+    return (cachePolicy.isCacheable() ? cachePolicy : null);
+  }
+
   public static ResourceMapping getResourceMapping(RepositoryRestConfiguration config,
                                                    PersistentEntity persistentEntity) {
     if(null == persistentEntity) {
@@ -100,13 +120,13 @@ public abstract class ResourceMappingUtils {
         findRel(method),
         findPath(method),
         findExported(method)
-    );
+    ).setCachePolicy(findCachePolicy(method));
     if(null != mapping) {
       return new ResourceMapping(
           (null != mapping.getRel() ? mapping.getRel() : defaultMapping.getRel()),
           (null != mapping.getPath() ? mapping.getPath() : defaultMapping.getPath()),
           (mapping.isExported() != defaultMapping.isExported() ? mapping.isExported() : defaultMapping.isExported())
-      );
+      ).setCachePolicy(null != mapping.getCachePolicy() ? mapping.getCachePolicy() : defaultMapping.getCachePolicy());
     }
     return defaultMapping;
   }
@@ -116,12 +136,13 @@ public abstract class ResourceMappingUtils {
         findRel(type),
         findPath(type),
         findExported(type)
-    );
+    ).setCachePolicy(findCachePolicy(type));
     if(null != mapping) {
       return new ResourceMapping(
           (null != mapping.getRel() ? mapping.getRel() : defaultMapping.getRel()),
           (null != mapping.getPath() ? mapping.getPath() : defaultMapping.getPath()),
           (mapping.isExported() != defaultMapping.isExported() ? mapping.isExported() : defaultMapping.isExported()))
+          .setCachePolicy(null != mapping.getCachePolicy() ? mapping.getCachePolicy() : defaultMapping.getCachePolicy())
           .addResourceMappings(mapping.getResourceMappings());
     }
     return defaultMapping;
@@ -0,0 +1,23 @@
+package org.springframework.data.rest.repository.support;
+
+import org.springframework.data.mapping.PersistentEntity;
+
+/**
+ * Queries the store backing an entity through the store's own API, bypassing the repository. Each kind of executor
+ * has one implementation per store, which a {@link DelegatingStoreExecutor} picks by entity.
+ *
+ * @author Jon Brisbin
+ */
+public interface StoreExecutor {
+
+  /**
+   * Whether this executor can query the store backing the given entity.
+   *
+   * @param persistentEntity
+   *     Entity metadata.
+   *
+   * @return {@literal true} if the entity is managed by this executor's store.
+   */
+  boolean supports(PersistentEntity persistentEntity);
+
+}
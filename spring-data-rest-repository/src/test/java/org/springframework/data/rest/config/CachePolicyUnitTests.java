@@ -0,0 +1,74 @@
+package org.springframework.data.rest.config;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
+
+import org.junit.Test;
+import org.springframework.data.rest.repository.annotation.CacheControl;
+import org.springframework.data.rest.repository.annotation.RestResource;
+
+/**
+ * Tests to ensure a {@link CachePolicy} renders the right {@literal Cache-Control} value and is picked up from
+ * annotations unless configured otherwise.
+ *
+ * @author Jon Brisbin
+ */
+public class CachePolicyUnitTests {
+
+  @Test
+  public void shouldNotCacheByDefault() throws Exception {
+    CachePolicy cachePolicy = new CachePolicy().setStaleWhileRevalidate(30);
+
+    assertThat(cachePolicy.isCacheable(), is(false));
+    assertThat(cachePolicy.toCacheControl(), nullValue());
+  }
+
+  @Test
+  public void shouldRenderPublicPolicy() throws Exception {
+    CachePolicy cachePolicy = new CachePolicy(60, 600, false, 30);
+
+    assertThat(cachePolicy.toCacheControl(), is("public, max-age=60, s-maxage=600, stale-while-revalidate=30"));
+  }
+
+  @Test
+  public void shouldOnlyRenderSharedMaxAgeForSharedCaches() throws Exception {
+    assertThat(new CachePolicy(60, 600, true, -1).toCacheControl(), is("private, max-age=60"));
+    assertThat(new CachePolicy().setSMaxAge(600).toCacheControl(), is("public, s-maxage=600"));
+  }
+
+  @Test
+  public void shouldFindAnnotatedPolicy() throws Exception {
+    CachePolicy cachePolicy = findCachePolicy(CachedRepository.class);
+
+    assertThat(cachePolicy, notNullValue());
+    assertThat(cachePolicy.getMaxAge(), is(60));
+    assertThat(cachePolicy.isPrivate(), is(true));
+    assertThat(findCachePolicy(CachedRepository.class.getMethod("findByName", String.class)).getMaxAge(), is(5));
+  }
+
+  @Test
+  public void shouldIgnoreAnnotationsWithoutCaching() throws Exception {
+    assertThat(findCachePolicy(CachedRepository.class.getMethod("findByAge", int.class)), nullValue());
+    assertThat(findCachePolicy(Object.class), nullValue());
+  }
+
+  @Test
+  public void shouldPreferConfiguredPolicy() throws Exception {
+    ResourceMapping configured = new ResourceMapping(null, null, true).setCachePolicy(new CachePolicy().setMaxAge(1));
+
+    assertThat(merge(CachedRepository.class, configured).getCachePolicy().getMaxAge(), is(1));
+    assertThat(merge(CachedRepository.class, new ResourceMapping(null, null, true)).getCachePolicy().getMaxAge(),
+               is(60));
+  }
+
+  @RestResource(cacheControl = @CacheControl(maxAge = 60, isPrivate = true))
+  interface CachedRepository {
+    @RestResource(cacheControl = @CacheControl(maxAge = 5))
+    Object findByName(String name);
+
+    @RestResource(path = "age")
+    Object findByAge(int age);
+  }
+
+}
@@ -0,0 +1,133 @@
+package org.springframework.data.rest.repository.context;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.repository.annotation.HandleBeforeLinkSave;
+import org.springframework.data.rest.repository.annotation.HandleBeforeSave;
+import org.springframework.data.rest.repository.annotation.HandleBeforeSaveBatch;
+import org.springframework.data.rest.repository.annotation.RepositoryEventHandler;
+
+/**
+ * Tests to ensure the {@link AnnotatedHandlerBeanPostProcessor} dispatches each event to exactly the handlers
+ * applying to its type and domain class, also after more handlers have been registered.
+ *
+ * @author Jon Brisbin
+ */
+public class AnnotatedHandlerBeanPostProcessorUnitTests {
+
+  AnnotatedHandlerBeanPostProcessor processor;
+  AnimalHandler                     animalHandler;
+
+  @Before
+  public void setup() {
+    processor = new AnnotatedHandlerBeanPostProcessor();
+    animalHandler = register(new AnimalHandler());
+  }
+
+  @Test
+  public void shouldDispatchToHandlersOfSupertype() throws Exception {
+    Dog dog = new Dog();
+
+    processor.onApplicationEvent(new BeforeSaveEvent(dog));
+
+    assertThat(animalHandler.calls, contains("beforeSave:Dog"));
+  }
+
+  @Test
+  public void shouldNotDispatchToHandlersOfOtherTypes() throws Exception {
+    processor.onApplicationEvent(new BeforeSaveEvent("not an animal"));
+    processor.onApplicationEvent(new AfterSaveEvent(new Dog()));
+
+    assertThat(animalHandler.calls, is(empty()));
+    assertThat(processor.hasHandlers(BeforeSaveEvent.class, String.class), is(false));
+    assertThat(processor.hasHandlers(BeforeSaveEvent.class, Dog.class), is(true));
+  }
+
+  @Test
+  public void shouldPassLinkedEntity() throws Exception {
+    processor.onApplicationEvent(new BeforeLinkSaveEvent(new Dog(), "owner"));
+
+    assertThat(animalHandler.calls, contains("beforeLinkSave:Dog:owner"));
+  }
+
+  @Test
+  public void shouldDispatchBatchByDomainType() throws Exception {
+    processor.onApplicationEvent(new BeforeSaveBatchEvent(Dog.class, Arrays.asList(new Dog(), new Dog())));
+
+    assertThat(animalHandler.calls, contains("beforeSaveBatch:2"));
+  }
+
+  @Test
+  public void shouldIncludeHandlersRegisteredAfterFirstDispatch() throws Exception {
+    processor.onApplicationEvent(new BeforeSaveEvent(new Dog()));
+    DogHandler dogHandler = register(new DogHandler());
+
+    processor.onApplicationEvent(new BeforeSaveEvent(new Dog()));
+
+    assertThat(animalHandler.calls, contains("beforeSave:Dog", "beforeSave:Dog"));
+    assertThat(dogHandler.calls, contains("beforeSave:Dog"));
+  }
+
+  @Test
+  public void shouldResolveHandlersPerDomainClass() throws Exception {
+    DogHandler dogHandler = register(new DogHandler());
+
+    processor.onApplicationEvent(new BeforeSaveEvent(new Cat()));
+    processor.onApplicationEvent(new BeforeSaveEvent(new Dog()));
+
+    assertThat(animalHandler.calls, contains("beforeSave:Cat", "beforeSave:Dog"));
+    assertThat(dogHandler.calls, contains("beforeSave:Dog"));
+  }
+
+  private <T> T register(T handler) {
+    processor.postProcessAfterInitialization(handler, handler.getClass().getName());
+    return handler;
+  }
+
+  static class Animal {
+  }
+
+  static class Dog extends Animal {
+  }
+
+  static class Cat extends Animal {
+  }
+
+  @RepositoryEventHandler(Animal.class)
+  static class AnimalHandler {
+    final List<String> calls = new ArrayList<String>();
+
+    @HandleBeforeSave
+    public void beforeSave(Animal animal) {
+      calls.add("beforeSave:" + animal.getClass().getSimpleName());
+    }
+
+    @HandleBeforeLinkSave
+    public void beforeLinkSave(Animal animal, Object linked) {
+      calls.add("beforeLinkSave:" + animal.getClass().getSimpleName() + ":" + linked);
+    }
+
+    @HandleBeforeSaveBatch
+    public void beforeSaveBatch(List<?> animals) {
+      calls.add("beforeSaveBatch:" + animals.size());
+    }
+  }
+
+  @RepositoryEventHandler(Dog.class)
+  static class DogHandler {
+    final List<String> calls = new ArrayList<String>();
+
+    @HandleBeforeSave
+    public void beforeSave(Dog dog) {
+      calls.add("beforeSave:" + dog.getClass().getSimpleName());
+    }
+  }
+
+}
@@ -0,0 +1,152 @@
+package org.springframework.data.rest.repository.context;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.data.rest.config.EventRejectionPolicy;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+
+/**
+ * Tests to ensure the {@link PartitionedEventExecutor} keeps the events of an entity in order, never runs a handler on
+ * the publishing thread and counts every event it can't queue.
+ *
+ * @author Jon Brisbin
+ */
+public class PartitionedEventExecutorUnitTests {
+
+  static final Object ENTITY = new Object();
+
+  PartitionedEventExecutor executor;
+
+  @After
+  public void cleanup() throws Exception {
+    if(null != executor) {
+      executor.destroy();
+    }
+  }
+
+  @Test
+  public void shouldHandleEventsOfEntityInOrder() throws Exception {
+    executor = executor(4, 2, EventRejectionPolicy.BLOCK);
+    final List<Integer> handled = Collections.synchronizedList(new ArrayList<Integer>());
+    final List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+    final CountDownLatch done = new CountDownLatch(100);
+
+    for(int i = 0; i < 100; i++) {
+      final int nr = i;
+      executor.execute(ENTITY, new Runnable() {
+        @Override public void run() {
+          handled.add(nr);
+          threads.add(Thread.currentThread().getName());
+          done.countDown();
+        }
+      });
+    }
+
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+    for(int i = 0; i < 100; i++) {
+      assertThat(handled.get(i), is(i));
+    }
+    assertThat(threads, not(hasItem(Thread.currentThread().getName())));
+    assertThat(executor.getDropped(), is(0L));
+    assertThat(executor.getHandled(), is(100L));
+  }
+
+  @Test
+  public void shouldDropWhenPartitionIsFull() throws Exception {
+    executor = executor(1, 1, EventRejectionPolicy.DROP);
+    CountDownLatch release = occupy();
+    final List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+    Runnable handler = new Runnable() {
+      @Override public void run() {
+        threads.add(Thread.currentThread().getName());
+      }
+    };
+
+    executor.execute(ENTITY, handler);
+    executor.execute(ENTITY, handler);
+
+    assertThat(executor.getDropped(), is(1L));
+    assertThat(threads, not(hasItem(Thread.currentThread().getName())));
+    release.countDown();
+  }
+
+  @Test
+  public void shouldBlockUntilPartitionHasRoom() throws Exception {
+    executor = executor(1, 1, EventRejectionPolicy.BLOCK);
+    CountDownLatch release = occupy();
+    final CountDownLatch handled = new CountDownLatch(2);
+    final Runnable handler = new Runnable() {
+      @Override public void run() {
+        handled.countDown();
+      }
+    };
+    executor.execute(ENTITY, handler);
+
+    final CountDownLatch published = new CountDownLatch(1);
+    new Thread(new Runnable() {
+      @Override public void run() {
+        executor.execute(ENTITY, handler);
+        published.countDown();
+      }
+    }).start();
+
+    assertThat(published.await(300, TimeUnit.MILLISECONDS), is(false));
+    release.countDown();
+    assertThat(published.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(handled.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(executor.getDropped(), is(0L));
+  }
+
+  @Test
+  public void shouldCountEventsPublishedAfterShutdown() throws Exception {
+    executor = executor(1, 1, EventRejectionPolicy.BLOCK);
+    executor.destroy();
+    final List<Object> handled = Collections.synchronizedList(new ArrayList<Object>());
+
+    executor.execute(ENTITY, new Runnable() {
+      @Override public void run() {
+        handled.add(ENTITY);
+      }
+    });
+
+    assertThat(executor.getDropped(), is(1L));
+    assertThat(handled, is(empty()));
+  }
+
+  private static PartitionedEventExecutor executor(int partitions, int capacity, EventRejectionPolicy policy) {
+    return new PartitionedEventExecutor(new RepositoryRestConfiguration()
+                                            .setAsyncEventPartitions(partitions)
+                                            .setAsyncEventQueueCapacity(capacity)
+                                            .setAsyncEventRejectionPolicy(policy));
+  }
+
+  /**
+   * Keep the worker of the entity's partition busy until the returned latch is counted down.
+   */
+  private CountDownLatch occupy() throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    executor.execute(ENTITY, new Runnable() {
+      @Override public void run() {
+        started.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch(InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+    return release;
+  }
+
+}
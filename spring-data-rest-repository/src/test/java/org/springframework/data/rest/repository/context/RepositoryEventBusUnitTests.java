@@ -0,0 +1,142 @@
+package org.springframework.data.rest.repository.context;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Tests to ensure the {@link RepositoryEventBus} reaches every listener the context would, filtered by event and
+ * domain type, and unrolls batches for listeners of single-entity events.
+ *
+ * @author Jon Brisbin
+ */
+public class RepositoryEventBusUnitTests {
+
+  static final List<String> received = new ArrayList<String>();
+
+  GenericApplicationContext parent;
+  GenericApplicationContext appCtx;
+  RepositoryEventBus        eventBus;
+
+  @Before
+  public void setup() {
+    received.clear();
+
+    parent = new GenericApplicationContext();
+    parent.registerBeanDefinition("parentListener", new RootBeanDefinition(ParentListener.class));
+    parent.refresh();
+
+    appCtx = new GenericApplicationContext(parent);
+    appCtx.registerBeanDefinition("beforeSaveListener", new RootBeanDefinition(BeforeSaveListener.class));
+    appCtx.registerBeanDefinition("stringListener", new RootBeanDefinition(StringListener.class));
+    appCtx.registerBeanDefinition("batchListener", new RootBeanDefinition(BatchListener.class));
+    RootBeanDefinition prototype = new RootBeanDefinition(PrototypeListener.class);
+    prototype.setScope(RootBeanDefinition.SCOPE_PROTOTYPE);
+    appCtx.registerBeanDefinition("prototypeListener", prototype);
+    appCtx.addApplicationListener(new ProgrammaticListener());
+    appCtx.refresh();
+
+    eventBus = new RepositoryEventBus();
+    eventBus.setApplicationContext(appCtx);
+  }
+
+  @Test
+  public void shouldDeliverToEveryKindOfListener() throws Exception {
+    eventBus.publish(new BeforeSaveEvent("entity"));
+
+    assertThat(received, containsInAnyOrder("beforeSave:entity",
+                                            "string:entity",
+                                            "prototype:entity",
+                                            "programmatic:entity",
+                                            "parent:entity"));
+  }
+
+  @Test
+  public void shouldFilterByEventAndDomainType() throws Exception {
+    eventBus.publish(new AfterSaveEvent(42));
+
+    assertThat(received, containsInAnyOrder("prototype:42", "programmatic:42", "parent:42"));
+  }
+
+  @Test
+  public void shouldOnlyDeliverBatchesToBatchListeners() throws Exception {
+    eventBus.publish(new AfterSaveBatchEvent(String.class, Arrays.asList("a", "b")));
+
+    assertThat(received, contains("batch:2"));
+  }
+
+  @Test
+  public void shouldUnrollBatchesForSingleEntityListeners() throws Exception {
+    eventBus.publishBatch(new BeforeSaveBatchEvent(String.class, Arrays.asList("a", "b")));
+
+    assertThat(received, hasItem("batch:2"));
+    assertThat(received, hasItems("beforeSave:a", "beforeSave:b", "string:a", "string:b"));
+    assertThat(received, hasItems("programmatic:a", "programmatic:b"));
+    for(String r : received) {
+      assertThat(r, not(containsString("[")));
+    }
+  }
+
+  @Test
+  public void shouldForgetListenersOnRefresh() throws Exception {
+    eventBus.publish(new BeforeSaveEvent("first"));
+    received.clear();
+    appCtx.addApplicationListener(new ProgrammaticListener() {
+      @Override public void onApplicationEvent(RepositoryEvent event) {
+        received.add("late:" + event.getSource());
+      }
+    });
+    eventBus.onApplicationEvent(new ContextRefreshedEvent(appCtx));
+
+    eventBus.publish(new BeforeSaveEvent("second"));
+
+    assertThat(received, hasItem("late:second"));
+  }
+
+  static class BeforeSaveListener implements ApplicationListener<BeforeSaveEvent> {
+    @Override public void onApplicationEvent(BeforeSaveEvent event) {
+      received.add("beforeSave:" + event.getSource());
+    }
+  }
+
+  static class StringListener extends AbstractRepositoryEventListener<String> {
+    @Override protected void onBeforeSave(String entity) {
+      received.add("string:" + entity);
+    }
+  }
+
+  static class BatchListener implements ApplicationListener<BatchRepositoryEvent> {
+    @Override public void onApplicationEvent(BatchRepositoryEvent event) {
+      received.add("batch:" + event.getEntities().size());
+    }
+  }
+
+  static class PrototypeListener implements ApplicationListener<RepositoryEvent> {
+    @Override public void onApplicationEvent(RepositoryEvent event) {
+      received.add("prototype:" + event.getSource());
+    }
+  }
+
+  static class ProgrammaticListener implements ApplicationListener<RepositoryEvent> {
+    @Override public void onApplicationEvent(RepositoryEvent event) {
+      received.add("programmatic:" + event.getSource());
+    }
+  }
+
+  static class ParentListener implements ApplicationListener<RepositoryEvent> {
+    @Override public void onApplicationEvent(RepositoryEvent event) {
+      received.add("parent:" + event.getSource());
+    }
+  }
+
+}
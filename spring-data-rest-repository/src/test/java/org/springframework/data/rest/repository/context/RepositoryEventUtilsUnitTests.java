@@ -0,0 +1,103 @@
+package org.springframework.data.rest.repository.context;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Tests to ensure batch events are unrolled into single-entity events when there is no {@link RepositoryEventBus}, so
+ * plain listeners never see a batch, and handed to the bus as they are when there is one.
+ *
+ * @author Jon Brisbin
+ */
+public class RepositoryEventUtilsUnitTests {
+
+  final List<RepositoryEvent> received = new ArrayList<RepositoryEvent>();
+
+  GenericApplicationContext appCtx;
+
+  @Before
+  public void setup() {
+    received.clear();
+
+    appCtx = new GenericApplicationContext();
+    appCtx.addApplicationListener(new ApplicationListener<RepositoryEvent>() {
+      @Override public void onApplicationEvent(RepositoryEvent event) {
+        received.add(event);
+      }
+    });
+    appCtx.refresh();
+  }
+
+  @Test
+  public void shouldUnrollBatchesWithoutBus() throws Exception {
+    RepositoryEventUtils.publishBatch(null, appCtx, new BeforeSaveBatchEvent(String.class, Arrays.asList("a", "b")));
+
+    assertThat(received, hasSize(2));
+    assertThat(received.get(0), instanceOf(BeforeSaveEvent.class));
+    assertThat(received.get(0).getSource(), is((Object)"a"));
+    assertThat(received.get(1), instanceOf(BeforeSaveEvent.class));
+    assertThat(received.get(1).getSource(), is((Object)"b"));
+  }
+
+  @Test
+  public void shouldUnrollBatchesPublishedAsSingleEventsWithoutBus() throws Exception {
+    RepositoryEventUtils.publish(null, appCtx, new AfterSaveBatchEvent(String.class, Arrays.asList("a", "b")));
+
+    assertThat(received, hasSize(2));
+    for(RepositoryEvent event : received) {
+      assertThat(event, instanceOf(AfterSaveEvent.class));
+      assertThat(event.getSource(), not(instanceOf(List.class)));
+    }
+  }
+
+  @Test
+  public void shouldPublishSingleEventsWithoutBus() throws Exception {
+    BeforeSaveEvent event = new BeforeSaveEvent("a");
+    RepositoryEventUtils.publish(null, appCtx, event);
+
+    assertThat(received, contains((RepositoryEvent)event));
+  }
+
+  @Test
+  public void shouldHandBatchesToBus() throws Exception {
+    final List<String> batches = new ArrayList<String>();
+    appCtx = new GenericApplicationContext();
+    appCtx.addApplicationListener(new ApplicationListener<BatchRepositoryEvent>() {
+      @Override public void onApplicationEvent(BatchRepositoryEvent event) {
+        batches.add("batch:" + event.getEntities().size());
+      }
+    });
+    appCtx.addApplicationListener(new ApplicationListener<BeforeSaveEvent>() {
+      @Override public void onApplicationEvent(BeforeSaveEvent event) {
+        batches.add("single:" + event.getSource());
+      }
+    });
+    appCtx.refresh();
+    RepositoryEventBus eventBus = new RepositoryEventBus();
+    eventBus.setApplicationContext(appCtx);
+
+    RepositoryEventUtils.publishBatch(eventBus,
+                                      new FailingPublisher(),
+                                      new BeforeSaveBatchEvent(String.class, Arrays.asList("a", "b")));
+
+    assertThat(batches, containsInAnyOrder("batch:2", "single:a", "single:b"));
+  }
+
+  static class FailingPublisher implements ApplicationEventPublisher {
+    @Override public void publishEvent(ApplicationEvent event) {
+      throw new AssertionError("Events must go through the bus");
+    }
+  }
+
+}
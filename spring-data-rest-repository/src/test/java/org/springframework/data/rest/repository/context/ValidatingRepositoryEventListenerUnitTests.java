@@ -0,0 +1,294 @@
+package org.springframework.data.rest.repository.context;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.repository.RepositoryBatchConstraintViolationException;
+import org.springframework.data.rest.repository.RepositoryConstraintViolationException;
+import org.springframework.data.rest.repository.annotation.HandleBeforeDelete;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Tests to ensure the {@link ValidatingRepositoryEventListener} only runs the validators of an event that support the
+ * entity's type, works that chain out once per event and type, and starts over when validators are added. Batches are
+ * validated as a whole, optionally in parallel, and their entities aren't validated again by their single events.
+ *
+ * @author Jon Brisbin
+ */
+public class ValidatingRepositoryEventListenerUnitTests {
+
+  AnnotationConfigApplicationContext appCtx;
+  ValidatingRepositoryEventListener  listener;
+  ThingValidator                     thingValidator;
+  CountingValidator                  otherValidator;
+
+  @Before
+  public void setup() {
+    appCtx = new AnnotationConfigApplicationContext(Config.class);
+    listener = appCtx.getBean(ValidatingRepositoryEventListener.class);
+    thingValidator = appCtx.getBean("beforeSaveThingValidator", ThingValidator.class);
+    otherValidator = appCtx.getBean("beforeSaveOtherValidator", CountingValidator.class);
+  }
+
+  @After
+  public void cleanup() {
+    appCtx.close();
+  }
+
+  @Test
+  public void shouldAssignValidatorsToEventsByBeanNameAndAnnotation() throws Exception {
+    assertThat(listener.getValidators().get("beforeSave"), hasSize(2));
+    assertThat(listener.getValidators().get("beforeDelete"), hasSize(1));
+  }
+
+  @Test
+  public void shouldPassValidEntity() throws Exception {
+    listener.onApplicationEvent(new BeforeSaveEvent(new Thing("name")));
+
+    assertThat(thingValidator.validated, is(1));
+  }
+
+  @Test(expected = RepositoryConstraintViolationException.class)
+  public void shouldRejectInvalidEntity() throws Exception {
+    listener.onApplicationEvent(new BeforeSaveEvent(new Thing("")));
+  }
+
+  @Test
+  public void shouldOnlyRunValidatorsSupportingType() throws Exception {
+    listener.onApplicationEvent(new BeforeSaveEvent(new Thing("name")));
+
+    assertThat(thingValidator.validated, is(1));
+    assertThat(otherValidator.validated, is(0));
+  }
+
+  @Test
+  public void shouldResolveChainOncePerEventAndType() throws Exception {
+    for(int i = 0; i < 3; i++) {
+      listener.onApplicationEvent(new BeforeSaveEvent(new Thing("name")));
+      listener.onApplicationEvent(new BeforeSaveEvent("not a thing"));
+    }
+
+    assertThat(thingValidator.supported, is(2));
+    assertThat(otherValidator.supported, is(2));
+    assertThat(thingValidator.validated, is(3));
+  }
+
+  @Test
+  public void shouldOnlyRunValidatorsOfEvent() throws Exception {
+    listener.onApplicationEvent(new AfterSaveEvent(new Thing("")));
+
+    assertThat(thingValidator.supported, is(0));
+    assertThat(thingValidator.validated, is(0));
+  }
+
+  @Test(expected = RepositoryConstraintViolationException.class)
+  public void shouldFindValidatorsByAnnotation() throws Exception {
+    listener.onApplicationEvent(new BeforeDeleteEvent(new Thing("name")));
+  }
+
+  @Test
+  public void shouldRebuildChainsWhenValidatorAdded() throws Exception {
+    listener.onApplicationEvent(new BeforeSaveEvent(new Thing("name")));
+    listener.addValidator("beforeSave", new RejectingValidator());
+
+    try {
+      listener.onApplicationEvent(new BeforeSaveEvent(new Thing("name")));
+    } catch(RepositoryConstraintViolationException e) {
+      assertThat(e.getErrors().getGlobalErrors().get(0).getCode(), is("rejected"));
+      return;
+    }
+    throw new AssertionError("Validator added after first use was not run");
+  }
+
+  @Test
+  public void shouldReportErrorsOfWholeBatch() throws Exception {
+    try {
+      listener.onApplicationEvent(new BeforeSaveBatchEvent(Thing.class, Arrays.asList(new Thing("a"),
+                                                                                       new Thing(""),
+                                                                                       new Thing("c"),
+                                                                                       new Thing(""))));
+    } catch(RepositoryBatchConstraintViolationException e) {
+      assertThat(e.getErrors(), hasSize(4));
+      assertThat(e.getErrors().get(0), nullValue());
+      assertThat(e.getErrors().get(1).getGlobalErrors().get(0).getCode(), is("blank"));
+      assertThat(e.getErrors().get(2), nullValue());
+      assertThat(e.getErrors().get(3), notNullValue());
+      assertThat(thingValidator.validated, is(4));
+      return;
+    }
+    throw new AssertionError("Invalid entities of the batch were not rejected");
+  }
+
+  @Test
+  public void shouldNotValidateEntitiesOfBatchAgain() throws Exception {
+    Thing a = new Thing("a");
+    Thing b = new Thing("b");
+    listener.onApplicationEvent(new BeforeSaveBatchEvent(Thing.class, Arrays.asList(a, b)));
+    listener.onApplicationEvent(new BeforeSaveEvent(a));
+    listener.onApplicationEvent(new BeforeSaveEvent(b));
+
+    assertThat(thingValidator.validated, is(2));
+
+    // Only once, a later save of the same entity is validated as usual
+    listener.onApplicationEvent(new BeforeSaveEvent(a));
+
+    assertThat(thingValidator.validated, is(3));
+  }
+
+  @Test
+  public void shouldOnlyValidateEntitiesNewToRepublishedBatch() throws Exception {
+    Thing a = new Thing("a");
+    Thing c = new Thing("c");
+    try {
+      listener.onApplicationEvent(new BeforeSaveBatchEvent(Thing.class, Arrays.asList(a, new Thing(""))));
+    } catch(RepositoryBatchConstraintViolationException ignored) {
+    }
+    listener.onApplicationEvent(new BeforeSaveBatchEvent(Thing.class, Arrays.asList(a, c)));
+    listener.onApplicationEvent(new BeforeSaveEvent(a));
+    listener.onApplicationEvent(new BeforeSaveEvent(c));
+
+    assertThat(thingValidator.validated, is(3));
+  }
+
+  @Test
+  public void shouldForgetBatchOnceSaved() throws Exception {
+    Thing a = new Thing("a");
+    listener.onApplicationEvent(new BeforeSaveBatchEvent(Thing.class, Collections.singletonList(a)));
+    listener.onApplicationEvent(new AfterSaveBatchEvent(Thing.class, Collections.singletonList(a)));
+    listener.onApplicationEvent(new BeforeSaveEvent(a));
+
+    assertThat(thingValidator.validated, is(2));
+  }
+
+  @Test
+  public void shouldValidateBatchInParallel() throws Exception {
+    ThreadRecordingValidator recorder = new ThreadRecordingValidator();
+    listener.addValidator("beforeSave", recorder);
+    List<Thing> things = new ArrayList<Thing>();
+    for(int i = 0; i < 100; i++) {
+      things.add(new Thing(i % 7 == 0 ? "" : "thing" + i));
+    }
+
+    for(int parallelism : new int[]{4, 2}) {
+      listener.setBatchParallelism(parallelism);
+      recorder.threads.clear();
+      try {
+        listener.onApplicationEvent(new BeforeSaveBatchEvent(Thing.class, things));
+      } catch(RepositoryBatchConstraintViolationException e) {
+        for(int i = 0; i < things.size(); i++) {
+          assertThat(e.getErrors().get(i), (i % 7 == 0 ? notNullValue() : nullValue()));
+        }
+        // A new setting takes effect even once the threads were started
+        assertThat(recorder.threads, hasSize(parallelism));
+        assertThat(recorder.threads, everyItem(startsWith("spring-data-rest-validation")));
+        continue;
+      }
+      throw new AssertionError("Invalid entities of the batch were not rejected");
+    }
+  }
+
+  @Configuration
+  static class Config {
+    @Bean public Repositories repositories() {
+      StaticApplicationContext noRepositories = new StaticApplicationContext();
+      noRepositories.refresh();
+      return new Repositories(noRepositories);
+    }
+
+    @Bean public ValidatingRepositoryEventListener validatingListener() {
+      return new ValidatingRepositoryEventListener();
+    }
+
+    @Bean public ThingValidator beforeSaveThingValidator() {
+      return new ThingValidator();
+    }
+
+    @Bean public CountingValidator beforeSaveOtherValidator() {
+      return new CountingValidator(Integer.class);
+    }
+
+    @Bean public RejectingValidator annotatedValidator() {
+      return new RejectingValidator();
+    }
+  }
+
+  public static class Thing {
+    final String name;
+
+    Thing(String name) {
+      this.name = name;
+    }
+  }
+
+  static class CountingValidator implements Validator {
+    final Class<?> supportedType;
+    int supported;
+    int validated;
+
+    CountingValidator(Class<?> supportedType) {
+      this.supportedType = supportedType;
+    }
+
+    @Override public boolean supports(Class<?> clazz) {
+      supported++;
+      return supportedType.isAssignableFrom(clazz);
+    }
+
+    @Override public void validate(Object target, Errors errors) {
+      validated++;
+    }
+  }
+
+  static class ThingValidator extends CountingValidator {
+    ThingValidator() {
+      super(Thing.class);
+    }
+
+    @Override public void validate(Object target, Errors errors) {
+      super.validate(target, errors);
+      if(((Thing)target).name.isEmpty()) {
+        errors.reject("blank");
+      }
+    }
+  }
+
+  static class ThreadRecordingValidator implements Validator {
+    final Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+
+    @Override public boolean supports(Class<?> clazz) {
+      return true;
+    }
+
+    @Override public void validate(Object target, Errors errors) {
+      threads.add(Thread.currentThread().getName() + "@" + System.identityHashCode(Thread.currentThread()));
+    }
+  }
+
+  @HandleBeforeDelete
+  static class RejectingValidator implements Validator {
+    @Override public boolean supports(Class<?> clazz) {
+      return true;
+    }
+
+    @Override public void validate(Object target, Errors errors) {
+      errors.reject("rejected");
+    }
+  }
+
+}
@@ -8,7 +8,11 @@ import java.util.List;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.JoinTable;
+import javax.persistence.ManyToMany;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.OrderColumn;
 import javax.persistence.PrePersist;
 
 /**
@@ -24,6 +28,10 @@ public class Person {
   private                     String lastName;
   @OneToMany
   private List<Person> siblings = Collections.emptyList();
+  @ManyToMany @OrderColumn @JoinTable(name = "Person_Friends")
+  private List<Person> friends   = Collections.emptyList();
+  @ManyToMany @OrderBy("firstName DESC") @JoinTable(name = "Person_Neighbors")
+  private List<Person> neighbors = Collections.emptyList();
   private Date created;
 
   public Person() {
@@ -70,6 +78,30 @@ public class Person {
     this.siblings = siblings;
   }
 
+  public Person addFriend(Person p) {
+    if(friends == Collections.EMPTY_LIST) {
+      friends = new ArrayList<Person>();
+    }
+    friends.add(p);
+    return this;
+  }
+
+  public List<Person> getFriends() {
+    return friends;
+  }
+
+  public Person addNeighbor(Person p) {
+    if(neighbors == Collections.EMPTY_LIST) {
+      neighbors = new ArrayList<Person>();
+    }
+    neighbors.add(p);
+    return this;
+  }
+
+  public List<Person> getNeighbors() {
+    return neighbors;
+  }
+
   public Date getCreated() {
     return created;
   }
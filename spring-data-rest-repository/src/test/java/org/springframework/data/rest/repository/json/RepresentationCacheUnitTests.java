@@ -0,0 +1,109 @@
+package org.springframework.data.rest.repository.json;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.StringWriter;
+import java.net.URI;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+
+/**
+ * Tests to ensure the {@link RepresentationCache} only hands out fragments rendered for the same version, base URI and
+ * qualifier, and that off-heap fragments are written out intact.
+ *
+ * @author Jon Brisbin
+ */
+public class RepresentationCacheUnitTests {
+
+  static final URI    BASE_URI = URI.create("http://localhost:8080/data");
+  static final String JSON     = "{\"name\":\"J\u00fcrgen \u2603\"}";
+
+  RepositoryRestConfiguration config;
+  PersistentEntity            persistentEntity;
+
+  @Before
+  public void setup() {
+    config = new RepositoryRestConfiguration().setRepresentationCacheEnabled(true);
+    persistentEntity = new MongoMappingContext().getPersistentEntity(Thing.class);
+  }
+
+  @Test
+  public void shouldReturnFragmentOfSameVersion() throws Exception {
+    RepresentationCache cache = new RepresentationCache(config);
+    cache.put(persistentEntity, 1L, 3L, BASE_URI, "q", JSON);
+
+    assertThat(cache.get(persistentEntity, 1L, 3L, BASE_URI, "q"), is(JSON));
+  }
+
+  @Test
+  public void shouldMissOnChangedVersionBaseUriOrQualifier() throws Exception {
+    RepresentationCache cache = new RepresentationCache(config);
+    cache.put(persistentEntity, 1L, 3L, BASE_URI, "q", JSON);
+
+    assertThat(cache.get(persistentEntity, 1L, 4L, BASE_URI, "q"), nullValue());
+    assertThat(cache.get(persistentEntity, 1L, 3L, URI.create("http://example.com/"), "q"), nullValue());
+    assertThat(cache.get(persistentEntity, 1L, 3L, BASE_URI, "other"), nullValue());
+    assertThat(cache.get(persistentEntity, 2L, 3L, BASE_URI, "q"), nullValue());
+  }
+
+  @Test
+  public void shouldWriteOffHeapFragmentsIntact() throws Exception {
+    RepresentationCache cache = new RepresentationCache(config.setRepresentationCacheOffHeap(true));
+    cache.put(persistentEntity, 1L, 3L, BASE_URI, "q", JSON);
+
+    assertThat(cache.get(persistentEntity, 1L, 3L, BASE_URI, "q"), is(JSON));
+    assertThat(writeTwiceInArray(cache), is("[" + JSON + "," + JSON + "]"));
+  }
+
+  @Test
+  public void shouldWriteOnHeapFragments() throws Exception {
+    RepresentationCache cache = new RepresentationCache(config);
+    cache.put(persistentEntity, 1L, 3L, BASE_URI, "q", JSON);
+
+    assertThat(writeTwiceInArray(cache), is("[" + JSON + "," + JSON + "]"));
+  }
+
+  @Test
+  public void shouldNotWriteAnythingOnMiss() throws Exception {
+    RepresentationCache cache = new RepresentationCache(config);
+    StringWriter out = new StringWriter();
+    JsonGenerator jgen = new JsonFactory().createJsonGenerator(out);
+
+    assertThat(cache.write(persistentEntity, 1L, 3L, BASE_URI, "q", jgen), is(false));
+    jgen.close();
+    assertThat(out.toString(), is(""));
+  }
+
+  @Test
+  public void shouldDropEverythingWhenEntityCannotBeIdentified() throws Exception {
+    RepresentationCache cache = new RepresentationCache(config);
+    cache.put(persistentEntity, 1L, 3L, BASE_URI, "q", JSON);
+    cache.onAfterSave(new Thing());
+
+    assertThat(cache.get(persistentEntity, 1L, 3L, BASE_URI, "q"), nullValue());
+  }
+
+  private String writeTwiceInArray(RepresentationCache cache) throws Exception {
+    StringWriter out = new StringWriter();
+    JsonGenerator jgen = new JsonFactory().createJsonGenerator(out);
+    jgen.writeStartArray();
+    assertThat(cache.write(persistentEntity, 1L, 3L, BASE_URI, "q", jgen), is(true));
+    assertThat(cache.write(persistentEntity, 1L, 3L, BASE_URI, "q", jgen), is(true));
+    jgen.writeEndArray();
+    jgen.close();
+    return out.toString();
+  }
+
+  static class Thing {
+    @Id Long id;
+  }
+
+}
@@ -0,0 +1,155 @@
+package org.springframework.data.rest.repository.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+
+/**
+ * Tests to ensure the {@link ChangeFeed} keeps the latest changes across wrap-arounds of its ring buffer, tells
+ * clients that fell behind or come from before a restart to resync, and calls back its subscribers.
+ *
+ * @author Jon Brisbin
+ */
+public class ChangeFeedUnitTests {
+
+  ChangeFeed changeFeed;
+
+  @Before
+  public void setup() {
+    changeFeed = new ChangeFeed(new RepositoryRestConfiguration().setChangeFeedCapacity(4));
+  }
+
+  @Test
+  public void shouldReadChangesInOrder() throws Exception {
+    save(3);
+
+    ChangeFeed.ChangeSet changes = changeFeed.getChanges(String.class, 0, 10);
+
+    assertThat(changes.isResync(), is(false));
+    assertThat(sequences(changes), contains(1L, 2L, 3L));
+    assertThat(changes.getSequence(), is(3L));
+    assertThat(changes.getChanges().get(0).getOperation(), is(ChangeFeed.Operation.SAVE));
+  }
+
+  @Test
+  public void shouldKeepLatestChangesWhenWrapping() throws Exception {
+    save(6);
+
+    ChangeFeed.ChangeSet changes = changeFeed.getChanges(String.class, 2, 10);
+
+    assertThat(changes.isResync(), is(false));
+    assertThat(sequences(changes), contains(3L, 4L, 5L, 6L));
+    assertThat(changes.getSequence(), is(6L));
+  }
+
+  @Test
+  public void shouldStopAtLimit() throws Exception {
+    save(6);
+
+    ChangeFeed.ChangeSet changes = changeFeed.getChanges(String.class, 2, 2);
+
+    assertThat(sequences(changes), contains(3L, 4L));
+    assertThat(changes.getSequence(), is(4L));
+  }
+
+  @Test
+  public void shouldRequireResyncWhenFallenBehind() throws Exception {
+    save(6);
+
+    ChangeFeed.ChangeSet changes = changeFeed.getChanges(String.class, 1, 10);
+
+    assertThat(changes.isResync(), is(true));
+    assertThat(changes.getChanges(), empty());
+    assertThat(changes.getSequence(), is(6L));
+  }
+
+  @Test
+  public void shouldRequireResyncForSequenceFromBeforeRestart() throws Exception {
+    save(2);
+
+    ChangeFeed.ChangeSet changes = changeFeed.getChanges(String.class, 5, 10);
+
+    assertThat(changes.isResync(), is(true));
+    assertThat(changes.getSequence(), is(2L));
+  }
+
+  @Test
+  public void shouldReturnNothingWhenUpToDate() throws Exception {
+    save(2);
+
+    ChangeFeed.ChangeSet changes = changeFeed.getChanges(String.class, 2, 10);
+
+    assertThat(changes.isResync(), is(false));
+    assertThat(changes.getChanges(), empty());
+    assertThat(changes.getSequence(), is(2L));
+  }
+
+  @Test
+  public void shouldKeepDomainTypesApart() throws Exception {
+    save(2);
+    changeFeed.onAfterDelete(42);
+
+    assertThat(changeFeed.getSequence(String.class), is(2L));
+    assertThat(changeFeed.getSequence(Integer.class), is(1L));
+    assertThat(changeFeed.getChanges(Integer.class, 0, 10).getChanges().get(0).getOperation(),
+               is(ChangeFeed.Operation.DELETE));
+  }
+
+  @Test
+  public void shouldCallBackSubscribersUntilUnsubscribed() throws Exception {
+    final List<Long> signalled = new ArrayList<Long>();
+    ChangeFeed.Subscriber subscriber = new ChangeFeed.Subscriber() {
+      @Override public void onChange(long sequence) {
+        // The change must be readable by the time subscribers hear about it
+        assertThat(changeFeed.getChanges(String.class, sequence - 1, 1).getChanges(), hasSize(1));
+        signalled.add(sequence);
+      }
+    };
+    changeFeed.subscribe(String.class, subscriber);
+    save(2);
+    changeFeed.unsubscribe(String.class, subscriber);
+    save(1);
+
+    assertThat(signalled, contains(1L, 2L));
+  }
+
+  @Test
+  public void shouldRecordChangeWhenSubscriberFails() throws Exception {
+    final List<Long> signalled = new ArrayList<Long>();
+    changeFeed.subscribe(String.class, new ChangeFeed.Subscriber() {
+      @Override public void onChange(long sequence) {
+        throw new IllegalStateException("Subscriber failed");
+      }
+    });
+    changeFeed.subscribe(String.class, new ChangeFeed.Subscriber() {
+      @Override public void onChange(long sequence) {
+        signalled.add(sequence);
+      }
+    });
+    save(1);
+
+    assertThat(changeFeed.getSequence(String.class), is(1L));
+    assertThat(signalled, contains(1L));
+  }
+
+  private void save(int count) {
+    for(int i = 0; i < count; i++) {
+      changeFeed.onAfterSave("entity" + i);
+    }
+  }
+
+  private static List<Long> sequences(ChangeFeed.ChangeSet changes) {
+    List<Long> sequences = new ArrayList<Long>();
+    for(ChangeFeed.Change change : changes.getChanges()) {
+      sequences.add(change.getSequence());
+    }
+    return sequences;
+  }
+
+}
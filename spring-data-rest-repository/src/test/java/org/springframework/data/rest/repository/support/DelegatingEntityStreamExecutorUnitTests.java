@@ -0,0 +1,88 @@
+package org.springframework.data.rest.repository.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Tests to ensure {@link DelegatingEntityStreamExecutor} only streams entities one of its executors supports and
+ * says so when none does.
+ *
+ * @author Jon Brisbin
+ */
+public class DelegatingEntityStreamExecutorUnitTests {
+
+  DelegatingEntityStreamExecutor executor;
+  MongoMappingContext            mappingContext;
+
+  @Before
+  public void setup() {
+    StaticApplicationContext appCtx = new StaticApplicationContext();
+    appCtx.registerSingleton("documentStreamExecutor", DocumentStreamExecutor.class);
+    appCtx.refresh();
+
+    executor = new DelegatingEntityStreamExecutor();
+    executor.setApplicationContext(appCtx);
+    mappingContext = new MongoMappingContext();
+  }
+
+  @Test
+  public void shouldDelegateToSupportingExecutor() throws Exception {
+    PersistentEntity persistentEntity = mappingContext.getPersistentEntity(Document.class);
+    final List<Object> streamed = new ArrayList<Object>();
+
+    assertThat(executor.supports(persistentEntity), is(true));
+    executor.stream(persistentEntity, 10, new EntityStreamExecutor.EntityCallback() {
+      @Override public void doWithEntity(Object entity) throws IOException {
+        streamed.add(entity);
+      }
+    });
+
+    assertThat(streamed, hasSize(2));
+  }
+
+  @Test
+  public void shouldNameUnsupportedType() throws Exception {
+    PersistentEntity persistentEntity = mappingContext.getPersistentEntity(Other.class);
+
+    assertThat(executor.supports(persistentEntity), is(false));
+    try {
+      executor.stream(persistentEntity, 10, null);
+      throw new AssertionError("Streaming an unsupported type should fail");
+    } catch(UnsupportedOperationException e) {
+      assertThat(e.getMessage(), containsString(Other.class.getName()));
+    }
+  }
+
+  public static class DocumentStreamExecutor implements EntityStreamExecutor {
+    @Override public boolean supports(PersistentEntity persistentEntity) {
+      return persistentEntity.getType() == Document.class;
+    }
+
+    @Override public void stream(PersistentEntity persistentEntity,
+                                 int chunkSize,
+                                 EntityCallback callback) throws IOException {
+      callback.doWithEntity(new Document());
+      callback.doWithEntity(new Document());
+    }
+  }
+
+  static class Document {
+    @Id String id;
+  }
+
+  static class Other {
+    @Id String id;
+  }
+
+}
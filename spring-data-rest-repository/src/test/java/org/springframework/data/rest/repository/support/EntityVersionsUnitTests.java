@@ -0,0 +1,84 @@
+package org.springframework.data.rest.repository.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+
+/**
+ * Tests to ensure {@link EntityVersions} derives entity tags that change with both the version of an entity and the
+ * representation it's rendered in.
+ *
+ * @author Jon Brisbin
+ */
+public class EntityVersionsUnitTests {
+
+  EntityVersions   entityVersions;
+  PersistentEntity persistentEntity;
+
+  @Before
+  public void setup() {
+    entityVersions = new EntityVersions(new RepositoryRestConfiguration(), new DefaultConversionService());
+    persistentEntity = new MongoMappingContext().getPersistentEntity(Document.class);
+  }
+
+  @Test
+  public void shouldFindVersionProperty() throws Exception {
+    assertThat(entityVersions.getVersionProperty(persistentEntity), notNullValue());
+    assertThat(entityVersions.getVersionProperty(persistentEntity).getName(), is("version"));
+  }
+
+  @Test
+  public void shouldQuoteBareVersion() throws Exception {
+    assertThat(entityVersions.getETag(persistentEntity, new Document(3L)), is("\"3\""));
+  }
+
+  @Test
+  public void shouldNotTagUnversionedObjects() throws Exception {
+    assertThat(entityVersions.getETag(persistentEntity, new Document(null), "application/json"), nullValue());
+  }
+
+  @Test
+  public void shouldDistinguishRepresentations() throws Exception {
+    String json = entityVersions.getETag(persistentEntity, new Document(3L), "application/json");
+    String verbose = entityVersions.getETag(persistentEntity,
+                                            new Document(3L),
+                                            "application/x-spring-data-verbose+json");
+
+    assertThat(json, startsWith("\"3-"));
+    assertThat(json, endsWith("\""));
+    assertThat(json, is(not(verbose)));
+    assertThat(json, is(entityVersions.getETag(persistentEntity, new Document(3L), "application/json")));
+  }
+
+  @Test
+  public void shouldChangeTagWithVersion() throws Exception {
+    assertThat(entityVersions.getETag(persistentEntity, new Document(3L), "application/json"),
+               is(not(entityVersions.getETag(persistentEntity, new Document(4L), "application/json"))));
+  }
+
+  static class Document {
+    @Id private String id = "1";
+    @Version private Long version;
+
+    Document(Long version) {
+      this.version = version;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    public Long getVersion() {
+      return version;
+    }
+  }
+
+}
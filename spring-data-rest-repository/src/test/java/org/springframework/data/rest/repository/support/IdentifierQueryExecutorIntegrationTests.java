@@ -0,0 +1,117 @@
+package org.springframework.data.rest.repository.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.repository.RepositoryTestsConfig;
+import org.springframework.data.rest.repository.domain.jpa.Person;
+import org.springframework.data.rest.repository.domain.jpa.PlainPersonRepository;
+import org.springframework.data.rest.repository.jpa.JpaIdentifierQueryExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+/**
+ * Tests to ensure an {@link IdentifierQueryExecutor} reads IDs without initializing entities or their associations, and
+ * keeps the order of ordered lists.
+ *
+ * @author Jon Brisbin
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = RepositoryTestsConfig.class)
+public class IdentifierQueryExecutorIntegrationTests {
+
+  @Autowired
+  EntityManagerFactory    entityManagerFactory;
+  @Autowired
+  Repositories            repositories;
+  @Autowired
+  PlainPersonRepository   people;
+  IdentifierQueryExecutor executor;
+  PersistentEntity        persistentEntity;
+  Person                  jane;
+  Person                  jim;
+  Person                  joe;
+
+  @Before
+  public void setup() {
+    executor = new JpaIdentifierQueryExecutor(entityManagerFactory);
+    persistentEntity = repositories.getPersistentEntity(Person.class);
+
+    jane = people.save(new Person("Jane", "Sibling"));
+    jim = people.save(new Person("Jim", "Sibling"));
+    joe = people.save(new Person("Joe", "Sibling").addSibling(jane).addSibling(jim)
+                                                  .addFriend(jim).addFriend(jane)
+                                                  .addNeighbor(jane).addNeighbor(jim));
+  }
+
+  @After
+  public void cleanup() {
+    people.delete(joe);
+    people.delete(Arrays.asList(jane, jim));
+  }
+
+  @Test
+  public void shouldReadIdOfUninitializedProxy() throws Exception {
+    EntityManager em = entityManagerFactory.createEntityManager();
+    try {
+      Person proxy = em.getReference(Person.class, jane.getId());
+
+      assertThat(executor.getId(persistentEntity, proxy), is((Object)jane.getId()));
+    } finally {
+      em.close();
+    }
+  }
+
+  @Test
+  public void shouldFindAssociatedIdsOfAllOwnersAtOnce() throws Exception {
+    Map<Object, List<Object>> ids = executor.findAssociatedIds(persistentEntity,
+                                                               persistentEntity.getPersistentProperty("siblings"),
+                                                               Arrays.<Object>asList(joe.getId(), jane.getId()));
+
+    assertThat(ids.get(joe.getId()), containsInAnyOrder((Object)jane.getId(), jim.getId()));
+    assertThat(ids.containsKey(jane.getId()), is(false));
+  }
+
+  @Test
+  public void shouldFindAssociatedIdsInListOrder() throws Exception {
+    Map<Object, List<Object>> ids = executor.findAssociatedIds(persistentEntity,
+                                                               persistentEntity.getPersistentProperty("friends"),
+                                                               Arrays.<Object>asList(joe.getId(), jane.getId()));
+
+    assertThat(ids.get(joe.getId()), contains((Object)jim.getId(), jane.getId()));
+    assertThat(ids.containsKey(jane.getId()), is(false));
+  }
+
+  @Test
+  public void shouldFindAssociatedIdsInOrderOfOrderBy() throws Exception {
+    Map<Object, List<Object>> ids = executor.findAssociatedIds(persistentEntity,
+                                                               persistentEntity.getPersistentProperty("neighbors"),
+                                                               Arrays.<Object>asList(joe.getId(), jane.getId()));
+
+    // Ordered by first name, descending
+    assertThat(ids.get(joe.getId()), contains((Object)jim.getId(), jane.getId()));
+    assertThat(ids.containsKey(jane.getId()), is(false));
+  }
+
+  @Test
+  public void shouldNotQueryToOneOrUnknownAssociations() throws Exception {
+    assertThat(executor.findAssociatedIds(persistentEntity,
+                                          persistentEntity.getPersistentProperty("firstName"),
+                                          Arrays.<Object>asList(joe.getId())),
+               nullValue());
+  }
+
+}
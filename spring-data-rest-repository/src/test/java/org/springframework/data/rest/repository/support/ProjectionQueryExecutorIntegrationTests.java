@@ -0,0 +1,85 @@
+package org.springframework.data.rest.repository.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.repository.RepositoryTestsConfig;
+import org.springframework.data.rest.repository.domain.jpa.Person;
+import org.springframework.data.rest.repository.jpa.JpaProjectionQueryExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+/**
+ * Tests to ensure a {@link ProjectionQueryExecutor} loads nothing but the ID and the requested properties.
+ *
+ * @author Jon Brisbin
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = RepositoryTestsConfig.class)
+public class ProjectionQueryExecutorIntegrationTests {
+
+  @Autowired
+  EntityManagerFactory    entityManagerFactory;
+  @Autowired
+  Repositories            repositories;
+  ProjectionQueryExecutor executor;
+  PersistentEntity        persistentEntity;
+
+  @Before
+  public void setup() {
+    executor = new JpaProjectionQueryExecutor(entityManagerFactory);
+    persistentEntity = repositories.getPersistentEntity(Person.class);
+  }
+
+  @Test
+  public void shouldOnlyProjectBasicAttributes() throws Exception {
+    assertThat(executor.supports(persistentEntity), is(true));
+    assertThat(executor.canProject(persistentEntity, properties("firstName", "created")), is(true));
+    assertThat(executor.canProject(persistentEntity, properties("firstName", "siblings")), is(false));
+    assertThat(executor.canProject(persistentEntity, properties("nickName")), is(false));
+  }
+
+  @Test
+  public void shouldPopulateOnlyRequestedProperties() throws Exception {
+    List<Object> found = executor.findAll(persistentEntity, properties("firstName"), new Sort("firstName"));
+
+    assertThat(found, is(not(empty())));
+    for(Object obj : found) {
+      Person person = (Person)obj;
+      assertThat(person.getId(), notNullValue());
+      assertThat(person.getFirstName(), notNullValue());
+      assertThat(person.getLastName(), nullValue());
+      assertThat(person.getCreated(), nullValue());
+    }
+  }
+
+  @Test
+  public void shouldPageProjectedEntities() throws Exception {
+    List<Object> found = executor.findAll(persistentEntity,
+                                          properties("lastName"),
+                                          new PageRequest(0, 1, new Sort("id")));
+
+    assertThat(found, hasSize(1));
+    assertThat(((Person)found.get(0)).getLastName(), is("Doe"));
+    assertThat(((Person)found.get(0)).getFirstName(), nullValue());
+  }
+
+  private static Set<String> properties(String... names) {
+    return new HashSet<String>(Arrays.asList(names));
+  }
+
+}
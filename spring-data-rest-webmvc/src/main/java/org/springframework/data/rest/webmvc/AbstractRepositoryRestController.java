@@ -8,8 +8,12 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.ConstraintViolationException;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
@@ -21,25 +25,39 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.DomainClassConverter;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.CachePolicy;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.config.ResourceMapping;
+import org.springframework.data.rest.repository.PersistentEntityResource;
 import org.springframework.data.rest.repository.RepositoryConstraintViolationException;
+import org.springframework.data.rest.repository.context.RepositoryEvent;
+import org.springframework.data.rest.repository.context.RepositoryEventBus;
+import org.springframework.data.rest.repository.context.RepositoryEventUtils;
 import org.springframework.data.rest.repository.invoke.MethodParameterConversionService;
+import org.springframework.data.rest.repository.support.CollectionETagBuilder;
+import org.springframework.data.rest.repository.support.EntityVersions;
 import org.springframework.data.rest.repository.support.ResourceMappingUtils;
+import org.springframework.data.rest.webmvc.convert.CompressingHttpMessageConverter;
+import org.springframework.data.rest.webmvc.support.AssociationExpander;
 import org.springframework.data.rest.webmvc.support.BaseUriLinkBuilder;
+import org.springframework.data.rest.webmvc.support.BatchingEntityLoader;
+import org.springframework.data.rest.webmvc.support.CachedRepresentation;
 import org.springframework.data.rest.webmvc.support.ConstraintViolationExceptionMessage;
 import org.springframework.data.rest.webmvc.support.ExceptionMessage;
 import org.springframework.data.rest.webmvc.support.JsonpResponse;
 import org.springframework.data.rest.webmvc.support.RepositoryConstraintViolationExceptionMessage;
+import org.springframework.data.rest.webmvc.support.RequestCoalescer;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
@@ -63,6 +81,18 @@ public class AbstractRepositoryRestController implements ApplicationContextAware
   protected final ConversionService                conversionService;
   protected final MethodParameterConversionService methodParameterConversionService;
   protected       ApplicationContext               applicationContext;
+  @Autowired(required = false)
+  protected       RequestCoalescer                 requestCoalescer;
+  @Autowired(required = false)
+  protected       RepositoryEventBus               eventBus;
+  @Autowired(required = false)
+  protected       BatchingEntityLoader             batchingEntityLoader;
+  @Autowired(required = false)
+  protected       EntityVersions                   entityVersions;
+  @Autowired(required = false)
+  protected       AssociationExpander              associationExpander;
+  @Autowired
+  protected       ObjectMapper                     objectMapper;
 
   @Autowired
   public AbstractRepositoryRestController(Repositories repositories,
@@ -218,10 +248,20 @@ public class AbstractRepositoryRestController implements ApplicationContextAware
   public <R extends Resource<?>> ResponseEntity<Resource<?>> resourceResponse(HttpHeaders headers,
                                                                               R resource,
                                                                               HttpStatus status) {
+    return resourceResponse(headers, resource, status, null);
+  }
+
+  public <R extends Resource<?>> ResponseEntity<Resource<?>> resourceResponse(HttpHeaders headers,
+                                                                              R resource,
+                                                                              HttpStatus status,
+                                                                              CachePolicy cachePolicy) {
     HttpHeaders hdrs = new HttpHeaders();
     if(null != headers) {
       hdrs.putAll(headers);
     }
+    if(status == HttpStatus.OK || status == HttpStatus.NOT_MODIFIED) {
+      addCacheHeaders(hdrs, cachePolicy);
+    }
     return new ResponseEntity<Resource<?>>(resource, hdrs, status);
   }
 
@@ -256,6 +296,274 @@ public class AbstractRepositoryRestController implements ApplicationContextAware
                                 (null != errback ? errback : config.getJsonpOnErrParamName()));
   }
 
+  /**
+   * Publish a repository event through the {@link RepositoryEventBus}, or through the {@link ApplicationContext} if
+   * there is no bus.
+   *
+   * @param event
+   *     The event to publish.
+   */
+  protected void publishEvent(RepositoryEvent event) {
+    RepositoryEventUtils.publish(eventBus, applicationContext, event);
+  }
+
+  /**
+   * Run the given repository invocation through the {@link RequestCoalescer} so identical concurrent requests share a
+   * single invocation.
+   *
+   * @param key
+   *     Normalized key of the invocation.
+   * @param callable
+   *     The repository invocation.
+   * @param <T>
+   *     Type of the result.
+   *
+   * @return The result of the (possibly shared) invocation.
+   */
+  protected <T> T coalesce(String key, Callable<T> callable) {
+    if(null != requestCoalescer) {
+      return requestCoalescer.execute(key, callable);
+    }
+    try {
+      return callable.call();
+    } catch(RuntimeException e) {
+      throw e;
+    } catch(Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Add the {@literal ETag} and {@literal Last-Modified} validators derived from the given domain object to the
+   * response headers. Like that of a collection, the entity tag depends on the requested media type.
+   *
+   * @param repoRequest
+   *     The current request.
+   * @param headers
+   *     Response headers.
+   * @param persistentEntity
+   *     Metadata of the domain object.
+   * @param domainObj
+   *     The domain object being rendered.
+   */
+  protected void addValidators(RepositoryRestRequest repoRequest,
+                               HttpHeaders headers,
+                               PersistentEntity persistentEntity,
+                               Object domainObj) {
+    if(null == entityVersions || null == domainObj) {
+      return;
+    }
+    String etag = entityVersions.getETag(persistentEntity,
+                                         domainObj,
+                                         String.valueOf(repoRequest.getRequest().getHeader("Accept")));
+    if(null != etag) {
+      headers.setETag(etag);
+    }
+    long lastModified = entityVersions.getLastModified(persistentEntity, domainObj);
+    if(lastModified > -1) {
+      headers.setLastModified(lastModified);
+    }
+  }
+
+  /**
+   * Get the caching policy of the repository being requested, falling back to the one of its domain type.
+   *
+   * @param repoRequest
+   *     The current request.
+   *
+   * @return The caching policy or {@literal null} if none is configured.
+   */
+  protected CachePolicy cachePolicy(RepositoryRestRequest repoRequest) {
+    CachePolicy cachePolicy = repoRequest.getRepositoryResourceMapping().getCachePolicy();
+    if(null == cachePolicy && null != repoRequest.getPersistentEntityResourceMapping()) {
+      cachePolicy = repoRequest.getPersistentEntityResourceMapping().getCachePolicy();
+    }
+    return cachePolicy;
+  }
+
+  /**
+   * Add the {@literal Cache-Control}, {@literal Expires} and {@literal Vary} headers of the given caching policy to
+   * the response headers. Representations differ by media type, so caches are told to key on {@literal Accept}.
+   *
+   * @param headers
+   *     Response headers.
+   * @param cachePolicy
+   *     The caching policy, may be {@literal null}.
+   */
+  protected void addCacheHeaders(HttpHeaders headers, CachePolicy cachePolicy) {
+    if(null == cachePolicy || !cachePolicy.isCacheable() || headers.containsKey("Cache-Control")) {
+      return;
+    }
+    headers.setCacheControl(cachePolicy.toCacheControl());
+    if(cachePolicy.getMaxAge() > -1) {
+      headers.setExpires(System.currentTimeMillis() + cachePolicy.getMaxAge() * 1000L);
+    }
+    headers.add("Vary", "Accept");
+  }
+
+  /**
+   * Start an entity tag for a collection resource.
+   *
+   * @param repoRequest
+   *     The current request.
+   *
+   * @return A new {@link CollectionETagBuilder} or {@literal null} if entity versions aren't available or the
+   *         representation includes expanded associations.
+   */
+  protected CollectionETagBuilder collectionETag(RepositoryRestRequest repoRequest) {
+    if(null == entityVersions || isExpanding(repoRequest)) {
+      return null;
+    }
+    // The same collection is rendered differently depending on the requested media type
+    return new CollectionETagBuilder(entityVersions)
+        .add(repoRequest.getBaseUri().toString())
+        .add(String.valueOf(repoRequest.getRequest().getHeader("Accept")));
+  }
+
+  /**
+   * Whether the client asked for associations to be inlined. Inlined entities can change without bumping the version
+   * of the entity they're inlined into, so such representations don't get validators.
+   *
+   * @param repoRequest
+   *     The current request.
+   *
+   * @return {@literal true} if associations will be expanded.
+   */
+  protected boolean isExpanding(RepositoryRestRequest repoRequest) {
+    return null != associationExpander && null != repoRequest.getExpand();
+  }
+
+  /**
+   * Inline the associations named in the request's expand parameter into the given resources. All resources are
+   * expanded together so each associated repository is queried only once per level.
+   *
+   * @param repoRequest
+   *     The current request.
+   * @param resources
+   *     Resources being rendered. Anything that isn't a {@link PersistentEntityResource} is left alone.
+   */
+  protected void expandAssociations(RepositoryRestRequest repoRequest, Iterable<?> resources) {
+    if(null == associationExpander) {
+      return;
+    }
+    Set<String> expand = repoRequest.getExpand();
+    if(null == expand) {
+      return;
+    }
+    List<PersistentEntityResource<?>> entityResources = new ArrayList<PersistentEntityResource<?>>();
+    for(Object resource : resources) {
+      if(resource instanceof PersistentEntityResource) {
+        entityResources.add((PersistentEntityResource<?>)resource);
+      }
+    }
+    associationExpander.expand(entityResources, expand, repoRequest.getBaseUri());
+  }
+
+  /**
+   * Add the {@literal ETag} built for a collection resource to the response headers.
+   *
+   * @param headers
+   *     Response headers.
+   * @param etag
+   *     The collection's tag builder, may be {@literal null}.
+   */
+  protected void addValidators(HttpHeaders headers, CollectionETagBuilder etag) {
+    String tag = (null != etag ? etag.build() : null);
+    if(null != tag) {
+      headers.setETag(tag);
+    }
+  }
+
+  /**
+   * Check the validators in the given response headers against the {@literal If-None-Match} and {@literal
+   * If-Modified-Since} headers of the request. {@literal If-None-Match} takes precedence if both are present. A tag
+   * the {@link CompressingHttpMessageConverter} gave a compressed response matches as well, and is put into the given
+   * headers, since that is the representation the client holds.
+   *
+   * @param repoRequest
+   *     The current request.
+   * @param headers
+   *     Response headers carrying the validators of the resource.
+   *
+   * @return {@literal true} if the client's copy is current and a {@literal 304 Not Modified} should be sent.
+   */
+  protected boolean isNotModified(RepositoryRestRequest repoRequest, HttpHeaders headers) {
+    HttpServletRequest request = repoRequest.getRequest();
+    String ifNoneMatch = request.getHeader("If-None-Match");
+    if(null != ifNoneMatch) {
+      String etag = headers.getETag();
+      String match = (null != etag ? matchingETag(ifNoneMatch, etag) : null);
+      if(null == match) {
+        return false;
+      }
+      headers.setETag(match);
+      return true;
+    }
+
+    long lastModified = headers.getLastModified();
+    if(lastModified < 0) {
+      return false;
+    }
+    long ifModifiedSince;
+    try {
+      ifModifiedSince = request.getDateHeader("If-Modified-Since");
+    } catch(IllegalArgumentException ignored) {
+      return false;
+    }
+    // HTTP dates only carry whole seconds
+    return ifModifiedSince > -1 && lastModified / 1000 <= ifModifiedSince / 1000;
+  }
+
+  /**
+   * Serve a pre-serialized representation with its entity tag, answering a matching {@literal If-None-Match} with a
+   * {@literal 304 Not Modified}.
+   *
+   * @param repoRequest
+   *     The current request.
+   * @param representation
+   *     The cached representation.
+   * @param contentType
+   *     Media type of the representation or {@literal null} to use the negotiated one.
+   * @param maxAge
+   *     Number of seconds clients may cache the representation without revalidating, or a negative number to not send
+   *     a {@literal Cache-Control} header.
+   *
+   * @return The response.
+   */
+  protected ResponseEntity<byte[]> cachedResponse(RepositoryRestRequest repoRequest,
+                                                  CachedRepresentation representation,
+                                                  MediaType contentType,
+                                                  int maxAge) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setETag(representation.getETag());
+    if(maxAge > -1) {
+      headers.setCacheControl("max-age=" + maxAge);
+    }
+    if(isNotModified(repoRequest, headers)) {
+      return response(headers, null, HttpStatus.NOT_MODIFIED);
+    }
+    if(null != contentType) {
+      headers.setContentType(contentType);
+    }
+    return response(headers, representation.getBody(), HttpStatus.OK);
+  }
+
+  private static String matchingETag(String ifNoneMatch, String etag) {
+    for(String candidate : ifNoneMatch.split(",")) {
+      candidate = candidate.trim();
+      if(candidate.startsWith("W/")) {
+        candidate = candidate.substring(2);
+      }
+      if("*".equals(candidate) || etag.equals(candidate)) {
+        return etag;
+      }
+      if(etag.equals(CompressingHttpMessageConverter.decodeETag(candidate))) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
   protected List<Link> queryMethodLinks(URI baseUri, Class<?> domainType) {
     List<Link> links = new ArrayList<Link>();
     RepositoryInformation repoInfo = repositories.getRepositoryInformationFor(domainType);
@@ -0,0 +1,347 @@
+package org.springframework.data.rest.webmvc;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.repository.support.DomainClassConverter;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.repository.support.ChangeFeed;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+/**
+ * Exposes the {@link ChangeFeed} of a repository under {@literal /{repository}/changes}, either as JSON, long-polled
+ * with the {@literal wait} parameter, or as a stream of server-sent events.
+ * <p>
+ * Waiting requests don't hold on to a container thread. They are put in asynchronous mode, which requires the
+ * dispatcher servlet and every filter in front of it to be registered with {@literal asyncSupported}, and are
+ * answered from a subscription to the feed. Where asynchronous requests aren't supported, the changes there are
+ * already are returned right away.
+ * </p>
+ * <p>
+ * Like {@literal search}, the {@literal changes} path takes precedence over an entity whose ID is {@literal changes},
+ * which can't be read through the exporter.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+@Controller
+@RequestMapping("/{repository}/changes")
+public class RepositoryChangeFeedController extends AbstractRepositoryRestController {
+
+  private static final String SINCE_PARAM = "since";
+  private static final String WAIT_PARAM  = "wait";
+
+  @Autowired(required = false)
+  private ChangeFeed changeFeed;
+
+  public RepositoryChangeFeedController(Repositories repositories,
+                                        RepositoryRestConfiguration config,
+                                        DomainClassConverter domainClassConverter,
+                                        ConversionService conversionService) {
+    super(repositories, config, domainClassConverter, conversionService);
+  }
+
+  @RequestMapping(
+      method = RequestMethod.GET,
+      produces = {
+          "application/json"
+      }
+  )
+  @ResponseBody
+  public ResponseEntity<?> changes(RepositoryRestRequest repoRequest,
+                                   HttpServletResponse response) throws ResourceNotFoundException {
+    if(null == changeFeed) {
+      throw new ResourceNotFoundException();
+    }
+    HttpServletRequest request = repoRequest.getRequest();
+    Class<?> domainType = repoRequest.getPersistentEntity().getType();
+    long since;
+    long wait;
+    int limit;
+    try {
+      since = longParam(request.getParameter(SINCE_PARAM), 0);
+      // Seconds to hold the request open if there's nothing new yet
+      wait = Math.min(longParam(request.getParameter(WAIT_PARAM), 0) * 1000, config.getChangeFeedMaxWait());
+      limit = limit(request);
+    } catch(IllegalArgumentException e) {
+      return badRequest(e);
+    }
+
+    ChangeFeed.ChangeSet changes = changeFeed.getChanges(domainType, since, limit);
+    if(changes.getChanges().isEmpty() && !changes.isResync() && wait > 0 && request.isAsyncSupported()) {
+      AsyncContext asyncContext = request.startAsync(request, response);
+      asyncContext.setTimeout(wait);
+      new LongPoll(asyncContext, domainType, since, limit).start();
+      // Answered by the LongPoll
+      return null;
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setCacheControl("no-cache");
+    return response(headers, changes, HttpStatus.OK);
+  }
+
+  @RequestMapping(
+      method = RequestMethod.GET,
+      produces = {
+          "text/event-stream"
+      }
+  )
+  public void streamChanges(RepositoryRestRequest repoRequest,
+                            HttpServletResponse response) throws ResourceNotFoundException,
+                                                                 IOException {
+    if(null == changeFeed) {
+      throw new ResourceNotFoundException();
+    }
+    HttpServletRequest request = repoRequest.getRequest();
+    Class<?> domainType = repoRequest.getPersistentEntity().getType();
+    long since;
+    int limit;
+    try {
+      // Browsers reconnect with the ID of the last event they got
+      String lastEventId = request.getHeader("Last-Event-ID");
+      since = longParam(null != lastEventId ? lastEventId : request.getParameter(SINCE_PARAM), 0);
+      limit = limit(request);
+    } catch(IllegalArgumentException e) {
+      // An error body couldn't be written as text/event-stream
+      response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+      return;
+    }
+
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType("text/event-stream");
+    response.setCharacterEncoding("UTF-8");
+    response.setHeader("Cache-Control", "no-cache");
+
+    if(config.getChangeFeedMaxWait() > 0 && request.isAsyncSupported()) {
+      // Hold the stream open for a while, the client reconnects afterwards
+      AsyncContext asyncContext = request.startAsync(request, response);
+      asyncContext.setTimeout(config.getChangeFeedMaxWait());
+      new EventStream(asyncContext, domainType, since, limit).start();
+    } else {
+      PrintWriter out = response.getWriter();
+      writeEvents(out, domainType, since, limit);
+      out.flush();
+    }
+  }
+
+  private int limit(HttpServletRequest request) {
+    long limit = longParam(request.getParameter(config.getLimitParamName()), config.getDefaultPageSize());
+    return (int)Math.max(1, Math.min(limit, config.getChangeFeedCapacity()));
+  }
+
+  /**
+   * Write the changes after the given sequence number as events.
+   *
+   * @return The sequence number of the last change written or {@literal -1} if the client was told to resync.
+   */
+  private long writeEvents(PrintWriter out, Class<?> domainType, long since, int limit) throws IOException {
+    ObjectWriter writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    for(; ; ) {
+      ChangeFeed.ChangeSet changes = changeFeed.getChanges(domainType, since, limit);
+      if(changes.isResync()) {
+        out.write("event: resync\ndata: " + changes.getSequence() + "\n\n");
+        return -1;
+      }
+      if(changes.getChanges().isEmpty()) {
+        return since;
+      }
+      for(ChangeFeed.Change change : changes.getChanges()) {
+        out.write("id: " + change.getSequence() + "\n");
+        out.write("data: " + writer.writeValueAsString(change) + "\n\n");
+      }
+      since = changes.getSequence();
+    }
+  }
+
+  private static long longParam(String value, long defaultValue) {
+    if(null == value) {
+      return defaultValue;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch(NumberFormatException e) {
+      throw new IllegalArgumentException("Not a number: " + value);
+    }
+  }
+
+  /**
+   * Base class of requests answered from a {@link ChangeFeed.Subscriber}. Changes are handed to a container thread
+   * with {@link AsyncContext#start(Runnable)}, never written from the thread that made them.
+   */
+  private abstract class AsyncChanges implements ChangeFeed.Subscriber, AsyncListener, Runnable {
+    protected final AsyncContext  asyncContext;
+    protected final Class<?>      domainType;
+    protected final int           limit;
+    protected       long          since;
+    private final   AtomicInteger pending = new AtomicInteger();
+    private final   AtomicBoolean done    = new AtomicBoolean();
+
+    protected AsyncChanges(AsyncContext asyncContext, Class<?> domainType, long since, int limit) {
+      this.asyncContext = asyncContext;
+      this.domainType = domainType;
+      this.since = since;
+      this.limit = limit;
+    }
+
+    void start() {
+      asyncContext.addListener(this);
+      changeFeed.subscribe(domainType, this);
+      // Catch up with anything that changed before the subscription
+      onChange(changeFeed.getSequence(domainType));
+    }
+
+    @Override public void onChange(long sequence) {
+      // Only one run() at a time, which picks up every change signalled while it runs
+      if(!done.get() && pending.getAndIncrement() == 0) {
+        try {
+          asyncContext.start(this);
+        } catch(IllegalStateException ignored) {
+          // Completed in the meantime
+        }
+      }
+    }
+
+    @Override public void run() {
+      int missed = 1;
+      do {
+        synchronized(this) {
+          if(done.get()) {
+            return;
+          }
+          try {
+            if(!deliver()) {
+              finish();
+            }
+          } catch(IOException e) {
+            // Client went away
+            finish();
+          } catch(RuntimeException e) {
+            LOG.error(e.getMessage(), e);
+            finish();
+          }
+        }
+        missed = pending.addAndGet(-missed);
+      } while(missed != 0);
+    }
+
+    /**
+     * Write out the changes since the last delivery.
+     *
+     * @return {@literal false} if the response is complete.
+     */
+    protected abstract boolean deliver() throws IOException;
+
+    /**
+     * Answer a request that timed out before it was complete.
+     */
+    protected abstract void timedOut() throws IOException;
+
+    /**
+     * Complete the response. Must be called holding the lock of {@literal this}.
+     */
+    protected void finish() {
+      if(done.compareAndSet(false, true)) {
+        changeFeed.unsubscribe(domainType, this);
+        asyncContext.complete();
+      }
+    }
+
+    @Override public void onTimeout(AsyncEvent event) throws IOException {
+      synchronized(this) {
+        if(!done.get()) {
+          try {
+            timedOut();
+          } finally {
+            finish();
+          }
+        }
+      }
+    }
+
+    @Override public void onComplete(AsyncEvent event) throws IOException {
+      if(done.compareAndSet(false, true)) {
+        changeFeed.unsubscribe(domainType, this);
+      }
+    }
+
+    @Override public void onError(AsyncEvent event) throws IOException {
+      onComplete(event);
+    }
+
+    @Override public void onStartAsync(AsyncEvent event) throws IOException {
+    }
+  }
+
+  /**
+   * Answers a long-polling request with the first changes to come along, or none at all if there are none before it
+   * times out.
+   */
+  private class LongPoll extends AsyncChanges {
+    private LongPoll(AsyncContext asyncContext, Class<?> domainType, long since, int limit) {
+      super(asyncContext, domainType, since, limit);
+    }
+
+    @Override protected boolean deliver() throws IOException {
+      ChangeFeed.ChangeSet changes = changeFeed.getChanges(domainType, since, limit);
+      if(changes.getChanges().isEmpty() && !changes.isResync()) {
+        // The change signalled isn't readable yet, its own signal follows once it is
+        return true;
+      }
+      write(changes);
+      return false;
+    }
+
+    @Override protected void timedOut() throws IOException {
+      write(changeFeed.getChanges(domainType, since, limit));
+    }
+
+    private void write(ChangeFeed.ChangeSet changes) throws IOException {
+      HttpServletResponse response = (HttpServletResponse)asyncContext.getResponse();
+      response.setStatus(HttpServletResponse.SC_OK);
+      response.setContentType("application/json");
+      response.setCharacterEncoding("UTF-8");
+      response.setHeader("Cache-Control", "no-cache");
+      objectMapper.writeValue(response.getOutputStream(), changes);
+    }
+  }
+
+  /**
+   * Writes every change as a server-sent event until the client has to resync or the request times out.
+   */
+  private class EventStream extends AsyncChanges {
+    private EventStream(AsyncContext asyncContext, Class<?> domainType, long since, int limit) {
+      super(asyncContext, domainType, since, limit);
+    }
+
+    @Override protected boolean deliver() throws IOException {
+      PrintWriter out = asyncContext.getResponse().getWriter();
+      since = writeEvents(out, domainType, since, limit);
+      out.flush();
+      return since >= 0 && !out.checkError();
+    }
+
+    @Override protected void timedOut() throws IOException {
+      asyncContext.getResponse().getWriter().flush();
+    }
+  }
+
+}
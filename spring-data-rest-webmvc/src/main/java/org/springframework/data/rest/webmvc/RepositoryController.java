@@ -2,16 +2,30 @@ package org.springframework.data.rest.webmvc;
 
 import static java.util.Collections.*;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.repository.support.DomainClassConverter;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.repository.support.RepositoryEntityLinks;
+import org.springframework.data.rest.webmvc.support.CachedRepresentation;
 import org.springframework.data.rest.webmvc.support.JsonpResponse;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -23,6 +37,16 @@ import org.springframework.web.bind.annotation.ResponseBody;
 @RequestMapping("/")
 public class RepositoryController extends AbstractRepositoryRestController {
 
+  private static final Charset UTF8             = Charset.forName("UTF-8");
+  private static final int     MAX_CACHED_ROOTS = 32;
+
+  // The base URI comes from the request, so don't let arbitrary Host headers grow this forever
+  private final Cache<URI, CachedRepresentation> roots              = CacheBuilder.newBuilder()
+                                                                                  .maximumSize(MAX_CACHED_ROOTS)
+                                                                                  .build();
+  @Autowired(required = false)
+  private       List<ResourceProcessor<?>>       resourceProcessors = new ArrayList<ResourceProcessor<?>>();
+
   public RepositoryController(Repositories repositories,
                               RepositoryRestConfiguration config,
                               DomainClassConverter domainClassConverter,
@@ -38,16 +62,13 @@ public class RepositoryController extends AbstractRepositoryRestController {
       }
   )
   @ResponseBody
-  public Resource<?> listRepositories(RepositoryRestRequest repoRequest)
-      throws ResourceNotFoundException {
-    EntityLinks linkBuilder = new RepositoryEntityLinks(repoRequest.getBaseUri(),
-                                                        repositories,
-                                                        config);
-    Resource<?> links = new Resource<Object>(emptyList());
-    for(Class<?> domainType : repositories) {
-      links.add(linkBuilder.linkToCollectionResource(domainType));
+  public ResponseEntity<?> listRepositories(RepositoryRestRequest repoRequest)
+      throws ResourceNotFoundException, IOException {
+    if(!resourceProcessors.isEmpty()) {
+      // ResourceProcessors may alter the document, so it can't be cached
+      return resourceResponse(null, repositoryLinks(repoRequest.getBaseUri()), HttpStatus.OK);
     }
-    return links;
+    return cachedResponse(repoRequest, cachedRepositoryLinks(repoRequest.getBaseUri()), null, -1);
   }
 
   @RequestMapping(
@@ -57,9 +78,44 @@ public class RepositoryController extends AbstractRepositoryRestController {
       }
   )
   @ResponseBody
-  public JsonpResponse<? extends Resource<?>> jsonpListRepositories(RepositoryRestRequest repoRequest)
-      throws ResourceNotFoundException {
-    return jsonpWrapResponse(repoRequest, listRepositories(repoRequest), HttpStatus.OK);
+  public ResponseEntity<?> jsonpListRepositories(RepositoryRestRequest repoRequest)
+      throws ResourceNotFoundException, IOException {
+    if(!resourceProcessors.isEmpty()) {
+      return response(null,
+                      jsonpWrapResponse(repoRequest, repositoryLinks(repoRequest.getBaseUri()), HttpStatus.OK),
+                      HttpStatus.OK);
+    }
+
+    CachedRepresentation root = cachedRepositoryLinks(repoRequest.getBaseUri());
+    JsonpResponse<byte[]> jsonp = jsonpWrapResponse(repoRequest, root.getBody(), HttpStatus.OK);
+
+    // The body also depends on the callback
+    HttpHeaders headers = new HttpHeaders();
+    headers.setETag("\"" + DigestUtils.md5DigestAsHex((jsonp.getCallbackParam() + root.getETag()).getBytes(UTF8)) + "\"");
+    if(isNotModified(repoRequest, headers)) {
+      return response(headers, null, HttpStatus.NOT_MODIFIED);
+    }
+    return response(headers, jsonp, HttpStatus.OK);
+  }
+
+  private CachedRepresentation cachedRepositoryLinks(URI baseUri) throws IOException {
+    CachedRepresentation root = roots.getIfPresent(baseUri);
+    if(null == root) {
+      root = new CachedRepresentation(objectMapper.writeValueAsBytes(repositoryLinks(baseUri)));
+      roots.put(baseUri, root);
+    }
+    return root;
+  }
+
+  private Resource<?> repositoryLinks(URI baseUri) {
+    EntityLinks linkBuilder = new RepositoryEntityLinks(baseUri,
+                                                        repositories,
+                                                        config);
+    Resource<?> links = new Resource<Object>(emptyList());
+    for(Class<?> domainType : repositories) {
+      links.add(linkBuilder.linkToCollectionResource(domainType));
+    }
+    return links;
   }
 
 }
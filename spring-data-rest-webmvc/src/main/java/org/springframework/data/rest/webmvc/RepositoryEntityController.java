@@ -2,19 +2,34 @@ package org.springframework.data.rest.webmvc;
 
 import static org.springframework.data.rest.core.util.UriUtils.*;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.repository.support.DomainClassConverter;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.CachePolicy;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.config.ResourceMapping;
 import org.springframework.data.rest.repository.PersistentEntityResource;
@@ -25,13 +40,25 @@ import org.springframework.data.rest.repository.context.BeforeSaveEvent;
 import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
 import org.springframework.data.rest.repository.json.JsonSchema;
 import org.springframework.data.rest.repository.json.PersistentEntityToJsonSchemaConverter;
+import org.springframework.data.rest.repository.support.CollectionETagBuilder;
+import org.springframework.data.rest.repository.support.DelegatingEntityStreamExecutor;
+import org.springframework.data.rest.repository.support.DelegatingIdentifierQueryExecutor;
+import org.springframework.data.rest.repository.support.DelegatingProjectionQueryExecutor;
 import org.springframework.data.rest.repository.support.DomainObjectMerger;
+import org.springframework.data.rest.webmvc.convert.NdjsonHttpMessageConverter;
+import org.springframework.data.rest.webmvc.support.CachedRepresentation;
+import org.springframework.data.rest.webmvc.support.EntityExport;
+import org.springframework.data.rest.webmvc.support.EntityImporter;
+import org.springframework.data.rest.webmvc.support.FileRegion;
+import org.springframework.data.rest.webmvc.support.ImportReport;
 import org.springframework.data.rest.webmvc.support.JsonpResponse;
+import org.springframework.data.rest.webmvc.support.SnapshotManager;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -46,10 +73,27 @@ import org.springframework.web.bind.annotation.ResponseBody;
 @RequestMapping("/{repository}")
 public class RepositoryEntityController extends AbstractRepositoryRestController {
 
+  private static final MediaType SCHEMA_JSON       = MediaType.valueOf("application/schema+json");
+  private static final String    SENDFILE_SUPPORT  = "org.apache.tomcat.sendfile.support";
+  private static final String    SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String    SENDFILE_START    = "org.apache.tomcat.sendfile.start";
+  private static final String    SENDFILE_END      = "org.apache.tomcat.sendfile.end";
+
   @Autowired
   private DomainObjectMerger                    domainObjectMerger;
   @Autowired
   private PersistentEntityToJsonSchemaConverter jsonSchemaConverter;
+  @Autowired(required = false)
+  private DelegatingIdentifierQueryExecutor     identifierQueryExecutor;
+  @Autowired(required = false)
+  private DelegatingProjectionQueryExecutor     projectionQueryExecutor;
+  @Autowired(required = false)
+  private DelegatingEntityStreamExecutor        entityStreamExecutor;
+  @Autowired
+  private EntityImporter                        entityImporter;
+  @Autowired
+  private SnapshotManager                       snapshotManager;
+  private final Map<String, CachedRepresentation> schemas = new ConcurrentHashMap<String, CachedRepresentation>();
 
   public RepositoryEntityController(Repositories repositories,
                                     RepositoryRestConfiguration config,
@@ -66,8 +110,17 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
       }
   )
   @ResponseBody
-  public JsonSchema schema(RepositoryRestRequest repoRequest) {
-    return jsonSchemaConverter.convert(repoRequest.getPersistentEntity().getType());
+  public ResponseEntity<byte[]> schema(RepositoryRestRequest repoRequest) throws IOException {
+    Class<?> domainType = repoRequest.getPersistentEntity().getType();
+    // The schema's links are rendered against the configured base URI
+    String key = config.getBaseUri() + "#" + domainType.getName();
+    CachedRepresentation schema = schemas.get(key);
+    if(null == schema) {
+      JsonSchema jsonSchema = jsonSchemaConverter.convert(domainType);
+      schema = new CachedRepresentation(objectMapper.writeValueAsBytes(jsonSchema));
+      schemas.put(key, schema);
+    }
+    return cachedResponse(repoRequest, schema, SCHEMA_JSON, config.getSchemaMaxAge());
   }
 
   @SuppressWarnings({"unchecked"})
@@ -79,42 +132,18 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
       }
   )
   @ResponseBody
-  public Resources<Resource<?>> listEntities(RepositoryRestRequest repoRequest)
+  public ResponseEntity<Resources<Resource<?>>> listEntities(RepositoryRestRequest repoRequest)
       throws ResourceNotFoundException {
-    List<Resource<?>> resources = new ArrayList<Resource<?>>();
-    List<Link> links = new ArrayList<Link>();
-
-    Iterable<?> results;
-    RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
-    boolean hasPagingParams = (null != repoRequest.getRequest().getParameter(config.getPageParamName()));
-    boolean hasSortParams = (null != repoRequest.getRequest().getParameter(config.getSortParamName()));
-    if(repoMethodInvoker.hasFindAllPageable() && hasPagingParams) {
-      results = repoMethodInvoker.findAll(new PageRequest(repoRequest.getPagingAndSorting().getPageNumber(),
-                                                          repoRequest.getPagingAndSorting().getPageSize(),
-                                                          repoRequest.getPagingAndSorting().getSort()));
-    } else if(repoMethodInvoker.hasFindAllSorted() && hasSortParams) {
-      results = repoMethodInvoker.findAll(repoRequest.getPagingAndSorting().getSort());
-    } else if(repoMethodInvoker.hasFindAll()) {
-      results = repoMethodInvoker.findAll();
-    } else {
-      throw new ResourceNotFoundException();
-    }
-
-    for(Object o : results) {
-      resources.add(new PersistentEntityResource<Object>(repoRequest.getPersistentEntity(),
-                                                         o,
-                                                         repoRequest.buildEntitySelfLink(o, conversionService))
-                        .setBaseUri(repoRequest.getBaseUri()));
-    }
-
+    CollectionETagBuilder etag = collectionETag(repoRequest);
+    Resources<Resource<?>> resources = findEntities(repoRequest, etag);
 
-    if(!repoMethodInvoker.getQueryMethods().isEmpty()) {
-      ResourceMapping repoMapping = repoRequest.getRepositoryResourceMapping();
-      links.add(new Link(buildUri(repoRequest.getBaseUri(), repoMapping.getPath(), "search").toString(),
-                         repoMapping.getRel() + ".search"));
+    HttpHeaders headers = new HttpHeaders();
+    addValidators(headers, etag);
+    addCacheHeaders(headers, cachePolicy(repoRequest));
+    if(isNotModified(repoRequest, headers)) {
+      return response(headers, null, HttpStatus.NOT_MODIFIED);
     }
-
-    return new Resources<Resource<?>>(resources, links);
+    return response(headers, resources, HttpStatus.OK);
   }
 
   @RequestMapping(
@@ -126,7 +155,7 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
   @ResponseBody
   public JsonpResponse<? extends Resources<Resource<?>>> jsonpListEntities(RepositoryRestRequest repoRequest)
       throws ResourceNotFoundException {
-    return jsonpWrapResponse(repoRequest, listEntities(repoRequest), HttpStatus.OK);
+    return jsonpWrapResponse(repoRequest, findEntities(repoRequest, null), HttpStatus.OK);
   }
 
   @SuppressWarnings({"unchecked"})
@@ -138,9 +167,20 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
       }
   )
   @ResponseBody
-  public Resources<Resource<?>> listEntitiesCompact(RepositoryRestRequest repoRequest)
+  public ResponseEntity<Resources<Resource<?>>> listEntitiesCompact(RepositoryRestRequest repoRequest)
       throws ResourceNotFoundException {
-    Resources<Resource<?>> resources = listEntities(repoRequest);
+    if(config.isIdOnlyQueriesEnabled()
+        && null != identifierQueryExecutor
+        && identifierQueryExecutor.supports(repoRequest.getPersistentEntity())) {
+      return listEntityLinks(repoRequest);
+    }
+
+    ResponseEntity<Resources<Resource<?>>> response = listEntities(repoRequest);
+    if(response.getStatusCode() != HttpStatus.OK) {
+      return response;
+    }
+
+    Resources<Resource<?>> resources = response.getBody();
     List<Link> links = new ArrayList<Link>(resources.getLinks());
 
     for(Resource<?> resource : resources.getContent()) {
@@ -148,7 +188,147 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
       links.add(resourceLink(repoRequest, persistentEntityResource));
     }
 
-    return new Resources<Resource<?>>(EMPTY_RESOURCE_LIST, links);
+    return response(response.getHeaders(), new Resources<Resource<?>>(EMPTY_RESOURCE_LIST, links), HttpStatus.OK);
+  }
+
+  @RequestMapping(
+      method = RequestMethod.GET,
+      produces = {
+          "application/x-ndjson"
+      }
+  )
+  @ResponseBody
+  public ResponseEntity<EntityExport> exportEntities(RepositoryRestRequest repoRequest)
+      throws ResourceNotFoundException {
+    RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+    if(!repoMethodInvoker.hasFindAll() && !repoMethodInvoker.hasFindAllPageable()) {
+      throw new ResourceNotFoundException();
+    }
+    EntityExport export = new EntityExport(repoRequest.getPersistentEntity(),
+                                           repoMethodInvoker,
+                                           entityStreamExecutor,
+                                           conversionService,
+                                           repoRequest.getBaseUri(),
+                                           repoRequest.getRepositoryResourceMapping().getPath(),
+                                           config.getExportChunkSize());
+    return response(null, export, HttpStatus.OK);
+  }
+
+  @RequestMapping(
+      value = "/snapshot",
+      method = RequestMethod.GET,
+      produces = {
+          "application/x-ndjson"
+      }
+  )
+  @ResponseBody
+  public ResponseEntity<FileRegion> snapshot(RepositoryRestRequest repoRequest) {
+    final SnapshotManager.Snapshot snapshot = snapshotManager.getSnapshot(repoRequest.getPersistentEntity(),
+                                                                          repoRequest.getRepositoryMethodInvoker(),
+                                                                          repoRequest.getRepositoryResourceMapping()
+                                                                                     .getPath(),
+                                                                          repoRequest.getBaseUri());
+    HttpHeaders headers = new HttpHeaders();
+    if(null == snapshot || !snapshot.acquire()) {
+      // Rendering has been started
+      headers.set("Retry-After", "5");
+      return response(headers, null, HttpStatus.ACCEPTED);
+    }
+
+    boolean handedOff = false;
+    try {
+      HttpServletRequest request = repoRequest.getRequest();
+      if(snapshot.isGzipped()) {
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        if(null == acceptEncoding || !acceptEncoding.contains("gzip")) {
+          return response(null, null, HttpStatus.NOT_ACCEPTABLE);
+        }
+        headers.set("Content-Encoding", "gzip");
+      }
+      headers.setETag(snapshot.getETag());
+      headers.set("Accept-Ranges", "bytes");
+      if(isNotModified(repoRequest, headers)) {
+        return response(headers, null, HttpStatus.NOT_MODIFIED);
+      }
+
+      FileRegion region = FileRegion.forRange(snapshot.getFile(), request.getHeader("Range"));
+      if(null == region) {
+        headers.set("Content-Range", "bytes */" + snapshot.getFile().length());
+        return response(headers, null, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+      }
+      HttpStatus status = HttpStatus.OK;
+      if(region.isPartial()) {
+        headers.set("Content-Range", region.getContentRange());
+        status = HttpStatus.PARTIAL_CONTENT;
+      }
+      headers.setContentType(NdjsonHttpMessageConverter.APPLICATION_NDJSON);
+      headers.setContentLength(region.getCount());
+
+      if(Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+        // Let the container hand the file to the kernel once we return. It isn't told when that's done, so the
+        // snapshot's retention period has to cover it.
+        request.setAttribute(SENDFILE_FILENAME, region.getFile().getAbsolutePath());
+        request.setAttribute(SENDFILE_START, region.getPosition());
+        request.setAttribute(SENDFILE_END, region.getPosition() + region.getCount());
+        return response(headers, null, status);
+      }
+      region.setReleaseCallback(new Runnable() {
+        @Override public void run() {
+          snapshot.release();
+        }
+      });
+      handedOff = true;
+      return response(headers, region, status);
+    } finally {
+      if(!handedOff) {
+        snapshot.release();
+      }
+    }
+  }
+
+  @RequestMapping(
+      method = RequestMethod.POST,
+      consumes = {
+          "application/x-ndjson"
+      },
+      produces = {
+          "application/json"
+      }
+  )
+  @ResponseBody
+  public ResponseEntity<ImportReport> importEntities(RepositoryRestRequest repoRequest) throws IOException {
+    RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+    if(!repoMethodInvoker.hasSaveSome() && !repoMethodInvoker.hasSaveOne()) {
+      throw new NoSuchMethodError();
+    }
+    String encoding = repoRequest.getRequest().getCharacterEncoding();
+    ImportReport report = entityImporter.importLines(repoRequest.getPersistentEntity(),
+                                                     repoMethodInvoker,
+                                                     new InputStreamReader(repoRequest.getRequest().getInputStream(),
+                                                                           null != encoding ? encoding : "UTF-8"));
+    return response(null, report, HttpStatus.OK);
+  }
+
+  @RequestMapping(
+      method = RequestMethod.POST,
+      params = "import",
+      consumes = {
+          "application/json"
+      },
+      produces = {
+          "application/json"
+      }
+  )
+  @ResponseBody
+  public ResponseEntity<ImportReport> importEntityArray(RepositoryRestRequest repoRequest) throws IOException {
+    RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+    if(!repoMethodInvoker.hasSaveSome() && !repoMethodInvoker.hasSaveOne()) {
+      throw new NoSuchMethodError();
+    }
+    ImportReport report = entityImporter.importArray(repoRequest.getPersistentEntity(),
+                                                     repoMethodInvoker,
+                                                     repoRequest.getRequest().getInputStream());
+    return response(null, report, HttpStatus.OK);
   }
 
   @SuppressWarnings({"unchecked"})
@@ -170,9 +350,9 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
       throw new NoSuchMethodError();
     }
 
-    applicationContext.publishEvent(new BeforeSaveEvent(incoming.getContent()));
+    publishEvent(new BeforeSaveEvent(incoming.getContent()));
     Object obj = repoMethodInvoker.save(incoming.getContent());
-    applicationContext.publishEvent(new AfterSaveEvent(obj));
+    publishEvent(new AfterSaveEvent(obj));
 
     Link selfLink = repoRequest.buildEntitySelfLink(obj, conversionService);
     HttpHeaders headers = new HttpHeaders();
@@ -211,27 +391,21 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
       }
   )
   @ResponseBody
-  public Resource<?> getSingleEntity(RepositoryRestRequest repoRequest,
-                                     @PathVariable String id)
+  public ResponseEntity<Resource<?>> getSingleEntity(RepositoryRestRequest repoRequest,
+                                                     @PathVariable String id)
       throws ResourceNotFoundException {
-    RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
-    if(!repoMethodInvoker.hasFindOne()) {
-      throw new ResourceNotFoundException();
-    }
+    Object domainObj = findSingleEntity(repoRequest, id);
 
-    Object domainObj = domainClassConverter.convert(id,
-                                                    STRING_TYPE,
-                                                    TypeDescriptor.valueOf(repoRequest.getPersistentEntity()
-                                                                                      .getType()));
-    if(null == domainObj) {
-      throw new ResourceNotFoundException();
+    HttpHeaders headers = new HttpHeaders();
+    CachePolicy cachePolicy = cachePolicy(repoRequest);
+    if(!isExpanding(repoRequest)) {
+      addValidators(repoRequest, headers, repoRequest.getPersistentEntity(), domainObj);
+      if(isNotModified(repoRequest, headers)) {
+        return resourceResponse(headers, null, HttpStatus.NOT_MODIFIED, cachePolicy);
+      }
     }
 
-    PersistentEntityResource per = PersistentEntityResource.wrap(repoRequest.getPersistentEntity(),
-                                                                 domainObj,
-                                                                 repoRequest.getBaseUri());
-    per.add(repoRequest.buildEntitySelfLink(domainObj, conversionService));
-    return per;
+    return resourceResponse(headers, singleEntityResource(repoRequest, domainObj), HttpStatus.OK, cachePolicy);
   }
 
   @SuppressWarnings({"unchecked"})
@@ -247,7 +421,7 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
                                                                    @PathVariable String id)
       throws ResourceNotFoundException {
     return jsonpWrapResponse(repoRequest,
-                             getSingleEntity(repoRequest, id),
+                             singleEntityResource(repoRequest, findSingleEntity(repoRequest, id)),
                              HttpStatus.OK);
   }
 
@@ -286,9 +460,9 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
 
     domainObjectMerger.merge(incoming.getContent(), domainObj);
 
-    applicationContext.publishEvent(new BeforeSaveEvent(incoming.getContent()));
+    publishEvent(new BeforeSaveEvent(incoming.getContent()));
     Object obj = repoMethodInvoker.save(domainObj);
-    applicationContext.publishEvent(new AfterSaveEvent(obj));
+    publishEvent(new AfterSaveEvent(obj));
 
     PersistentEntityResource per = PersistentEntityResource.wrap(repoRequest.getPersistentEntity(),
                                                                  obj,
@@ -341,7 +515,7 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
       throw new ResourceNotFoundException();
     }
 
-    applicationContext.publishEvent(new BeforeDeleteEvent(domainObj));
+    publishEvent(new BeforeDeleteEvent(domainObj));
     if(repoMethodInvoker.hasDeleteOneById()) {
       Class<? extends Serializable> idType = (Class<? extends Serializable>)repoRequest.getPersistentEntity()
                                                                                        .getIdProperty()
@@ -351,7 +525,7 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
     } else if(repoMethodInvoker.hasDeleteOne()) {
       repoMethodInvoker.delete(domainObj);
     }
-    applicationContext.publishEvent(new AfterDeleteEvent(domainObj));
+    publishEvent(new AfterDeleteEvent(domainObj));
 
     return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
   }
@@ -371,4 +545,196 @@ public class RepositoryEntityController extends AbstractRepositoryRestController
     return jsonpWrapResponse(repoRequest, deleteEntity(repoRequest, id));
   }
 
+  @SuppressWarnings({"unchecked"})
+  private Object findSingleEntity(RepositoryRestRequest repoRequest,
+                                  final String id)
+      throws ResourceNotFoundException {
+    final RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+    if(!repoMethodInvoker.hasFindOne()) {
+      throw new ResourceNotFoundException();
+    }
+
+    final PersistentEntity persistentEntity = repoRequest.getPersistentEntity();
+    final TypeDescriptor domainType = TypeDescriptor.valueOf(persistentEntity.getType());
+    Object domainObj = coalesce(repoRequest.getEntityKey(id), new Callable<Object>() {
+      @Override public Object call() throws Exception {
+        if(null != batchingEntityLoader && batchingEntityLoader.supports(repoMethodInvoker)) {
+          Serializable idVal = (Serializable)conversionService.convert(id, persistentEntity.getIdProperty().getType());
+          return batchingEntityLoader.findOne(repoMethodInvoker, persistentEntity, idVal);
+        }
+        return domainClassConverter.convert(id, STRING_TYPE, domainType);
+      }
+    });
+    if(null == domainObj) {
+      throw new ResourceNotFoundException();
+    }
+    return domainObj;
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private Resource<?> singleEntityResource(RepositoryRestRequest repoRequest, Object domainObj) {
+    PersistentEntityResource per = PersistentEntityResource.wrap(repoRequest.getPersistentEntity(),
+                                                                 domainObj,
+                                                                 repoRequest.getBaseUri());
+    per.add(repoRequest.buildEntitySelfLink(domainObj, conversionService));
+    per.setFields(repoRequest.getFields());
+    expandAssociations(repoRequest, Collections.singletonList(per));
+    return per;
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private Resources<Resource<?>> findEntities(RepositoryRestRequest repoRequest, CollectionETagBuilder etag)
+      throws ResourceNotFoundException {
+    List<Resource<?>> resources = new ArrayList<Resource<?>>();
+    List<Link> links = new ArrayList<Link>();
+
+    Iterable<?> results;
+    PersistentEntity persistentEntity = repoRequest.getPersistentEntity();
+    RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+    boolean hasPagingParams = (null != repoRequest.getRequest().getParameter(config.getPageParamName()));
+    boolean hasSortParams = (null != repoRequest.getRequest().getParameter(config.getSortParamName()));
+    Set<String> fields = repoRequest.getFields();
+    Set<String> projection = projection(repoRequest, fields);
+    if(repoMethodInvoker.hasFindAllPageable() && hasPagingParams) {
+      PageRequest pageRequest = new PageRequest(repoRequest.getPagingAndSorting().getPageNumber(),
+                                                repoRequest.getPagingAndSorting().getPageSize(),
+                                                repoRequest.getPagingAndSorting().getSort());
+      results = (null != projection
+                 ? projectionQueryExecutor.findAll(persistentEntity, projection, pageRequest)
+                 : repoMethodInvoker.findAll(pageRequest));
+    } else if(repoMethodInvoker.hasFindAllSorted() && hasSortParams) {
+      results = (null != projection
+                 ? projectionQueryExecutor.findAll(persistentEntity,
+                                                   projection,
+                                                   repoRequest.getPagingAndSorting().getSort())
+                 : repoMethodInvoker.findAll(repoRequest.getPagingAndSorting().getSort()));
+    } else if(repoMethodInvoker.hasFindAll()) {
+      results = (null != projection
+                 ? projectionQueryExecutor.findAll(persistentEntity, projection, (Sort)null)
+                 : repoMethodInvoker.findAll());
+    } else {
+      throw new ResourceNotFoundException();
+    }
+
+    for(Object o : results) {
+      if(null != etag) {
+        etag.add(repoRequest.getPersistentEntity(), o);
+      }
+      resources.add(new PersistentEntityResource<Object>(repoRequest.getPersistentEntity(),
+                                                         o,
+                                                         repoRequest.buildEntitySelfLink(o, conversionService))
+                        .setFields(fields)
+                        .setBaseUri(repoRequest.getBaseUri()));
+    }
+    expandAssociations(repoRequest, resources);
+
+    addSearchLink(repoRequest, links);
+
+    if(null != etag) {
+      for(Link l : links) {
+        etag.add(l.getHref());
+      }
+    }
+
+    return new Resources<Resource<?>>(resources, links);
+  }
+
+  /**
+   * Work out which properties to load from the store for a listing restricted to the given fields.
+   *
+   * @return Names of the properties to project onto or {@literal null} if the entities have to be loaded as a whole.
+   */
+  @SuppressWarnings({"unchecked"})
+  private Set<String> projection(RepositoryRestRequest repoRequest, final Set<String> fields) {
+    final PersistentEntity persistentEntity = repoRequest.getPersistentEntity();
+    if(null == fields
+        || !config.isProjectionQueriesEnabled()
+        || null == projectionQueryExecutor
+        || !projectionQueryExecutor.supports(persistentEntity)
+        || isExpanding(repoRequest)) {
+      return null;
+    }
+
+    final ResourceMapping entityMapping = repoRequest.getPersistentEntityResourceMapping();
+    final Set<String> properties = new HashSet<String>();
+    // Fields may name a property by its name or its mapped path, just like when rendering
+    final PropertyHandler selector = new PropertyHandler() {
+      @Override public void doWithPersistentProperty(PersistentProperty persistentProperty) {
+        String name = persistentProperty.getName();
+        ResourceMapping propertyMapping = (null != entityMapping ? entityMapping.getResourceMappingFor(name) : null);
+        if(fields.contains(name) || (null != propertyMapping && fields.contains(propertyMapping.getPath()))) {
+          properties.add(name);
+        }
+      }
+    };
+    persistentEntity.doWithProperties(selector);
+    persistentEntity.doWithAssociations(new AssociationHandler() {
+      @Override public void doWithAssociation(Association association) {
+        selector.doWithPersistentProperty(association.getInverse());
+      }
+    });
+    if(null != entityVersions && null != entityVersions.getVersionProperty(persistentEntity)) {
+      // Needed for the collection's entity tag
+      properties.add(entityVersions.getVersionProperty(persistentEntity).getName());
+    }
+
+    return (projectionQueryExecutor.canProject(persistentEntity, properties) ? properties : null);
+  }
+
+  /**
+   * Render a compact listing from nothing but the IDs of the entities, without hydrating them.
+   */
+  private ResponseEntity<Resources<Resource<?>>> listEntityLinks(RepositoryRestRequest repoRequest)
+      throws ResourceNotFoundException {
+    PersistentEntity persistentEntity = repoRequest.getPersistentEntity();
+    RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
+    boolean hasPagingParams = (null != repoRequest.getRequest().getParameter(config.getPageParamName()));
+    boolean hasSortParams = (null != repoRequest.getRequest().getParameter(config.getSortParamName()));
+    // Mirror the choice of findAll method made by findEntities
+    List<Object> ids;
+    if(repoMethodInvoker.hasFindAllPageable() && hasPagingParams) {
+      ids = identifierQueryExecutor.findIds(persistentEntity,
+                                            new PageRequest(repoRequest.getPagingAndSorting().getPageNumber(),
+                                                            repoRequest.getPagingAndSorting().getPageSize(),
+                                                            repoRequest.getPagingAndSorting().getSort()));
+    } else if(repoMethodInvoker.hasFindAllSorted() && hasSortParams) {
+      ids = identifierQueryExecutor.findIds(persistentEntity, repoRequest.getPagingAndSorting().getSort());
+    } else if(repoMethodInvoker.hasFindAll()) {
+      ids = identifierQueryExecutor.findIds(persistentEntity, (Sort)null);
+    } else {
+      throw new ResourceNotFoundException();
+    }
+
+    List<Link> links = new ArrayList<Link>();
+    addSearchLink(repoRequest, links);
+    String rel = repoRequest.getRepositoryResourceMapping().getRel()
+        + "." + repoRequest.getPersistentEntityResourceMapping().getRel();
+    for(Object id : ids) {
+      links.add(repoRequest.buildEntityLink(id, rel));
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    addCacheHeaders(headers, cachePolicy(repoRequest));
+    CollectionETagBuilder etag = collectionETag(repoRequest);
+    if(null != etag) {
+      // The representation is nothing but these links
+      for(Link l : links) {
+        etag.add(l.getHref());
+      }
+      addValidators(headers, etag);
+      if(isNotModified(repoRequest, headers)) {
+        return response(headers, null, HttpStatus.NOT_MODIFIED);
+      }
+    }
+    return response(headers, new Resources<Resource<?>>(EMPTY_RESOURCE_LIST, links), HttpStatus.OK);
+  }
+
+  private void addSearchLink(RepositoryRestRequest repoRequest, List<Link> links) {
+    if(!repoRequest.getRepositoryMethodInvoker().getQueryMethods().isEmpty()) {
+      ResourceMapping repoMapping = repoRequest.getRepositoryResourceMapping();
+      links.add(new Link(buildHref(repoRequest.getBaseUri(), repoMapping.getPath(), "search"),
+                         repoMapping.getRel() + ".search"));
+    }
+  }
+
 }
@@ -66,6 +66,33 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
                                                              @PathVariable String id,
                                                              @PathVariable String property)
       throws ResourceNotFoundException, NoSuchMethodException {
+    return doFollowPropertyReference(repoRequest, id, property, true);
+  }
+
+  @SuppressWarnings({"unchecked"})
+  @RequestMapping(
+      value = "/{propertyId}",
+      method = RequestMethod.GET,
+      produces = {
+          "application/json",
+          "application/x-spring-data-verbose+json"
+      }
+  )
+  @ResponseBody
+  public ResponseEntity<Resource<?>> followPropertyReference(final RepositoryRestRequest repoRequest,
+                                                             @PathVariable String id,
+                                                             @PathVariable String property,
+                                                             @PathVariable String propertyId)
+      throws ResourceNotFoundException, NoSuchMethodException {
+    return doFollowPropertyReference(repoRequest, id, property, propertyId, true);
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private ResponseEntity<Resource<?>> doFollowPropertyReference(final RepositoryRestRequest repoRequest,
+                                                                String id,
+                                                                String property,
+                                                                final boolean conditional)
+      throws ResourceNotFoundException, NoSuchMethodException {
     final HttpHeaders headers = new HttpHeaders();
     Function<ReferencedProperty, Resource<?>> handler = new Function<ReferencedProperty, Resource<?>>() {
       @Override public Resource<?> apply(ReferencedProperty prop) {
@@ -101,6 +128,9 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
           per.add(selfLink);
 
           headers.set("Content-Location", selfLink.getHref());
+          if(conditional) {
+            addValidators(repoRequest, headers, prop.entity, prop.propertyValue);
+          }
 
           return new Resource<Object>(per);
         }
@@ -110,23 +140,18 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
                                                             id,
                                                             property,
                                                             handler);
+    if(conditional && isNotModified(repoRequest, headers)) {
+      return resourceResponse(headers, null, HttpStatus.NOT_MODIFIED);
+    }
     return resourceResponse(headers, responseResource, HttpStatus.OK);
   }
 
   @SuppressWarnings({"unchecked"})
-  @RequestMapping(
-      value = "/{propertyId}",
-      method = RequestMethod.GET,
-      produces = {
-          "application/json",
-          "application/x-spring-data-verbose+json"
-      }
-  )
-  @ResponseBody
-  public ResponseEntity<Resource<?>> followPropertyReference(final RepositoryRestRequest repoRequest,
-                                                             @PathVariable String id,
-                                                             @PathVariable String property,
-                                                             final @PathVariable String propertyId)
+  private ResponseEntity<Resource<?>> doFollowPropertyReference(final RepositoryRestRequest repoRequest,
+                                                                String id,
+                                                                String property,
+                                                                final String propertyId,
+                                                                final boolean conditional)
       throws ResourceNotFoundException, NoSuchMethodException {
     final HttpHeaders headers = new HttpHeaders();
     Function<ReferencedProperty, Resource<?>> handler = new Function<ReferencedProperty, Resource<?>>() {
@@ -141,6 +166,9 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
               Link selfLink = repoRequest.buildEntitySelfLink(obj, conversionService);
               per.add(selfLink);
               headers.set("Content-Location", selfLink.getHref());
+              if(conditional) {
+                addValidators(repoRequest, headers, entity, obj);
+              }
               return new Resource<Object>(per);
             }
           }
@@ -156,10 +184,16 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
               Link selfLink = repoRequest.buildEntitySelfLink(entry.getValue(), conversionService);
               per.add(selfLink);
               headers.set("Content-Location", selfLink.getHref());
+              if(conditional) {
+                addValidators(repoRequest, headers, entity, entry.getValue());
+              }
               return new Resource<Object>(per, selfLink);
             }
           }
         } else {
+          if(conditional) {
+            addValidators(repoRequest, headers, prop.entity, prop.propertyValue);
+          }
           return new Resource<Object>(prop.propertyValue);
         }
         throw new IllegalArgumentException(new ResourceNotFoundException());
@@ -169,6 +203,9 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
                                                             id,
                                                             property,
                                                             handler);
+    if(conditional && isNotModified(repoRequest, headers)) {
+      return resourceResponse(headers, null, HttpStatus.NOT_MODIFIED);
+    }
     return resourceResponse(headers, responseResource, HttpStatus.OK);
   }
 
@@ -235,9 +272,10 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
                                                        @PathVariable String property)
       throws ResourceNotFoundException, NoSuchMethodException {
     return jsonpWrapResponse(repoRequest,
-                             followPropertyReference(repoRequest,
-                                                     id,
-                                                     property),
+                             doFollowPropertyReference(repoRequest,
+                                                       id,
+                                                       property,
+                                                       false),
                              HttpStatus.OK);
   }
 
@@ -256,10 +294,11 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
                                                        @PathVariable String propertyId)
       throws ResourceNotFoundException, NoSuchMethodException {
     return jsonpWrapResponse(repoRequest,
-                             followPropertyReference(repoRequest,
-                                                     id,
-                                                     property,
-                                                     propertyId),
+                             doFollowPropertyReference(repoRequest,
+                                                       id,
+                                                       property,
+                                                       propertyId,
+                                                       false),
                              HttpStatus.OK);
   }
 
@@ -320,9 +359,9 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
           prop.wrapper.setProperty(prop.property, propVal);
         }
 
-        applicationContext.publishEvent(new BeforeLinkSaveEvent(prop.wrapper.getBean(), prop.propertyValue));
+        publishEvent(new BeforeLinkSaveEvent(prop.wrapper.getBean(), prop.propertyValue));
         Object result = repoMethodInvoker.save(prop.wrapper.getBean());
-        applicationContext.publishEvent(new AfterLinkSaveEvent(result, prop.propertyValue));
+        publishEvent(new AfterLinkSaveEvent(result, prop.propertyValue));
         return null;
       }
     };
@@ -400,9 +439,9 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
           prop.wrapper.setProperty(prop.property, null);
         }
 
-        applicationContext.publishEvent(new BeforeLinkDeleteEvent(prop.wrapper.getBean(), prop.propertyValue));
+        publishEvent(new BeforeLinkDeleteEvent(prop.wrapper.getBean(), prop.propertyValue));
         Object result = repoMethodInvoker.save(prop.wrapper.getBean());
-        applicationContext.publishEvent(new AfterLinkDeleteEvent(result, prop.propertyValue));
+        publishEvent(new AfterLinkDeleteEvent(result, prop.propertyValue));
         return null;
       }
     };
@@ -439,7 +478,7 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
                                      String rel) {
     Link selfLink = resource.getLink("self");
     String objId = selfLink.getHref().substring(selfLink.getHref().lastIndexOf('/') + 1);
-    return new Link(buildUri(baseUri, objId).toString(), rel);
+    return new Link(buildHref(baseUri, objId), rel);
   }
 
   private Object loadPropertyValue(Class<?> type, String href) {
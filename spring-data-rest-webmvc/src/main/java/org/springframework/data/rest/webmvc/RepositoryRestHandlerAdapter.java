@@ -36,7 +36,8 @@ public class RepositoryRestHandlerAdapter extends ResourceProcessorInvokingHandl
         && (RepositoryController.class.isAssignableFrom(controllerType)
         || RepositoryEntityController.class.isAssignableFrom(controllerType)
         || RepositoryPropertyReferenceController.class.isAssignableFrom(controllerType)
-        || RepositorySearchController.class.isAssignableFrom(controllerType));
+        || RepositorySearchController.class.isAssignableFrom(controllerType)
+        || RepositoryChangeFeedController.class.isAssignableFrom(controllerType));
   }
 
 }
@@ -107,6 +107,7 @@ public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 
   @Override protected boolean isHandler(Class<?> beanType) {
     return (RepositoryController.class.isAssignableFrom(beanType)
+        || RepositoryChangeFeedController.class.isAssignableFrom(beanType)
         || RepositoryEntityController.class.isAssignableFrom(beanType)
         || RepositoryPropertyReferenceController.class.isAssignableFrom(beanType)
         || RepositorySearchController.class.isAssignableFrom(beanType));
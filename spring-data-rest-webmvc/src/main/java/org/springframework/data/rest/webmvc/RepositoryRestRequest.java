@@ -3,9 +3,16 @@ package org.springframework.data.rest.webmvc;
 import static org.springframework.data.rest.core.util.UriUtils.*;
 import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
 
+import java.io.UnsupportedEncodingException;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.core.convert.ConversionService;
@@ -19,6 +26,8 @@ import org.springframework.data.rest.config.ResourceMapping;
 import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
 import org.springframework.data.rest.webmvc.support.PagingAndSorting;
 import org.springframework.hateoas.Link;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
@@ -57,7 +66,7 @@ class RepositoryRestRequest {
       this.persistentEntity = null;
       this.entityMapping = null;
     } else {
-      this.repoLink = new Link(buildUri(baseUri, repoMapping.getPath()).toString(), repoMapping.getRel());
+      this.repoLink = new Link(buildHref(baseUri, repoMapping.getPath()), repoMapping.getRel());
       this.repository = repositories.getRepositoryFor(repoInfo.getDomainType());
       this.persistentEntity = repositories.getPersistentEntity(repoInfo.getDomainType());
       this.repoMethodInvoker = new RepositoryMethodInvoker(repository, repoInfo, persistentEntity);
@@ -130,8 +139,115 @@ class RepositoryRestRequest {
   @SuppressWarnings({"unchecked"}) Link buildEntitySelfLink(Object o, ConversionService conversionService) {
     BeanWrapper bean = BeanWrapper.create(o, conversionService);
     Object id = bean.getProperty(persistentEntity.getIdProperty());
+    return buildEntityLink(id, "self");
+  }
+
+  Link buildEntityLink(Object id, String rel) {
     URI uri = buildUri(baseUri, repoMapping.getPath(), id.toString());
-    return new Link(uri.toString(), "self");
+    return new Link(uri.toString(), rel);
+  }
+
+  /**
+   * Names of the properties the client asked to be rendered, taken from the comma-separated fields parameter.
+   *
+   * @return Selected property names or {@literal null} if all properties should be rendered.
+   */
+  Set<String> getFields() {
+    return getParamValues(config.getFieldsParamName(), new HashSet<String>());
+  }
+
+  /**
+   * Association paths the client asked to be rendered inline, taken from the comma-separated expand parameter.
+   *
+   * @return Association paths in request order or {@literal null} if nothing should be expanded.
+   */
+  Set<String> getExpand() {
+    return getParamValues(config.getExpandParamName(), new LinkedHashSet<String>());
+  }
+
+  private Set<String> getParamValues(String paramName, Set<String> values) {
+    String param = request.getParameter(paramName);
+    if(!StringUtils.hasText(param)) {
+      return null;
+    }
+    for(String value : StringUtils.commaDelimitedListToStringArray(param)) {
+      if(StringUtils.hasText(value)) {
+        values.add(value.trim());
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Normalized key identifying the entity this request refers to, used to coalesce identical concurrent lookups.
+   *
+   * @param id
+   *     The entity ID as given in the URL.
+   *
+   * @return Key made up of the repository path and the ID.
+   */
+  String getEntityKey(String id) {
+    return repoMapping.getPath() + "/" + id;
+  }
+
+  /**
+   * Normalized key identifying the query this request runs, used to coalesce identical concurrent searches. Query
+   * parameters are sorted by name so the order in which they appear in the URL doesn't matter. JSONP callback
+   * parameters are left out since they don't influence the query.
+   *
+   * @param method
+   *     The query method path segment.
+   *
+   * @return Key made up of the repository path, the query method and all query parameters.
+   */
+  String getQueryKey(String method) {
+    return queryKey(repoMapping.getPath(),
+                    method,
+                    request.getParameterMap(),
+                    config.getJsonpParamName(),
+                    config.getJsonpOnErrParamName());
+  }
+
+  /**
+   * Build a query key. Names and values are percent-encoded, so values containing {@literal &} or {@literal =} can't
+   * be confused with a different set of parameters.
+   *
+   * @param repoPath
+   *     Path of the repository.
+   * @param method
+   *     The query method path segment.
+   * @param params
+   *     All query parameters.
+   * @param ignoredParams
+   *     Names of parameters to leave out.
+   *
+   * @return The key.
+   */
+  static String queryKey(String repoPath, String method, Map<String, String[]> params, String... ignoredParams) {
+    StringBuilder key = new StringBuilder(encode(repoPath)).append("/search/").append(encode(method));
+    char sep = '?';
+    for(Map.Entry<String, String[]> param : new TreeMap<String, String[]>(params).entrySet()) {
+      if(ObjectUtils.containsElement(ignoredParams, param.getKey())) {
+        continue;
+      }
+      String name = encode(param.getKey());
+      for(String value : param.getValue()) {
+        key.append(sep).append(name).append('=').append(encode(value));
+        sep = '&';
+      }
+    }
+    return key.toString();
+  }
+
+  private static String encode(String s) {
+    if(null == s) {
+      return "";
+    }
+    try {
+      return URLEncoder.encode(s, "UTF-8");
+    } catch(UnsupportedEncodingException e) {
+      throw new IllegalStateException(e);
+    }
   }
 
   private void addQueryParameters(HttpServletRequest request,
@@ -1,30 +1,29 @@
 package org.springframework.data.rest.webmvc;
 
-import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
-
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
 
-import org.springframework.core.MethodParameter;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.support.DomainClassConverter;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.CachePolicy;
 import org.springframework.data.rest.config.RepositoryRestConfiguration;
-import org.springframework.data.rest.config.ResourceMapping;
 import org.springframework.data.rest.repository.BaseUriAwareResource;
 import org.springframework.data.rest.repository.PersistentEntityResource;
-import org.springframework.data.rest.repository.invoke.RepositoryMethod;
-import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
+import org.springframework.data.rest.repository.support.CollectionETagBuilder;
 import org.springframework.data.rest.webmvc.support.JsonpResponse;
+import org.springframework.data.rest.webmvc.support.SearchRoutes;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -38,6 +37,9 @@ import org.springframework.web.bind.annotation.ResponseBody;
 @RequestMapping("/{repository}/search")
 public class RepositorySearchController extends AbstractRepositoryRestController {
 
+  @Autowired
+  private SearchRoutes searchRoutes;
+
   public RepositorySearchController(Repositories repositories,
                                     RepositoryRestConfiguration config,
                                     DomainClassConverter domainClassConverter,
@@ -81,91 +83,20 @@ public class RepositorySearchController extends AbstractRepositoryRestController
       }
   )
   @ResponseBody
-  public Resource<?> query(RepositoryRestRequest repoRequest,
-                           @PathVariable String method)
+  public ResponseEntity<Resource<?>> query(RepositoryRestRequest repoRequest,
+                                           @PathVariable String method)
       throws ResourceNotFoundException {
-    RepositoryMethodInvoker repoMethodInvoker = repoRequest.getRepositoryMethodInvoker();
-    if(repoMethodInvoker.getQueryMethods().isEmpty()) {
-      throw new ResourceNotFoundException();
-    }
-
-    ResourceMapping repoMapping = repoRequest.getRepositoryResourceMapping();
-    String methodName = repoMapping.getNameForPath(method);
-    RepositoryMethod repoMethod = repoMethodInvoker.getQueryMethods().get(methodName);
-    if(null == repoMethod) {
-      for(RepositoryMethod queryMethod : repoMethodInvoker.getQueryMethods().values()) {
-        String path = findPath(queryMethod.getMethod());
-        if(path.equals(method)) {
-          repoMethod = queryMethod;
-          break;
-        }
-      }
-      if(null == repoMethod) {
-        throw new ResourceNotFoundException();
-      }
-    }
-
-    List<MethodParameter> methodParams = repoMethod.getParameters();
-    Object[] paramValues = new Object[methodParams.size()];
-    if(!methodParams.isEmpty()) {
-      for(int i = 0; i < paramValues.length; i++) {
-        MethodParameter param = methodParams.get(i);
-        if(Pageable.class.isAssignableFrom(param.getParameterType())) {
-          paramValues[i] = new PageRequest(repoRequest.getPagingAndSorting().getPageNumber(),
-                                           repoRequest.getPagingAndSorting().getPageSize(),
-                                           repoRequest.getPagingAndSorting().getSort());
-        } else if(Sort.class.isAssignableFrom(param.getParameterType())) {
-          paramValues[i] = repoRequest.getPagingAndSorting().getSort();
-        } else {
-          String paramName = repoMethod.getParameterNames().get(i);
-          String[] queryParamVals = repoRequest.getRequest().getParameterValues(paramName);
-          if(null == queryParamVals) {
-            if(paramName.startsWith("arg")) {
-              throw new IllegalArgumentException("No @Param annotation found on query method "
-                                                     + repoMethod.getMethod().getName()
-                                                     + " for parameter " + param.getParameterName());
-            } else {
-              throw new IllegalArgumentException("No query parameter specified for "
-                                                     + repoMethod.getMethod().getName() + " param '"
-                                                     + paramName + "'");
-            }
-          }
-          paramValues[i] = methodParameterConversionService.convert(queryParamVals, param);
-        }
-      }
-    }
+    SearchRoutes.Route route = findRoute(repoRequest, method);
+    CollectionETagBuilder etag = collectionETag(repoRequest);
+    Resource<?> resource = doQuery(repoRequest, method, route, etag);
 
-    BaseUriAwareResource resources;
-    List<Link> links = new ArrayList<Link>();
-    Object result = repoMethodInvoker.invokeQueryMethod(repoMethod, paramValues);
-    if(result instanceof Page) {
-      Page page = (Page)result;
-      if(page.hasPreviousPage()) {
-        repoRequest.addPrevLink(page, links);
-      }
-      if(page.hasNextPage()) {
-        repoRequest.addNextLink(page, links);
-      }
-      if(page.hasContent()) {
-        resources = entitiesToResource(repoRequest, page.getContent());
-      } else {
-        resources = new BaseUriAwareResource(EMPTY_RESOURCE_LIST);
-      }
-    } else if(result instanceof Iterable) {
-      resources = entitiesToResource(repoRequest, (Iterable)result);
-    } else if(null == result) {
-      resources = new BaseUriAwareResource(EMPTY_RESOURCE_LIST);
-    } else {
-      PersistentEntityResource per = PersistentEntityResource.wrap(repoRequest.getPersistentEntity(),
-                                                                   result,
-                                                                   repoRequest.getBaseUri());
-      per.add(repoRequest.buildEntitySelfLink(result, conversionService));
-      resources = per;
+    HttpHeaders headers = new HttpHeaders();
+    addValidators(headers, etag);
+    CachePolicy cachePolicy = cachePolicy(repoRequest, route);
+    if(isNotModified(repoRequest, headers)) {
+      return resourceResponse(headers, null, HttpStatus.NOT_MODIFIED, cachePolicy);
     }
-    resources.setBaseUri(repoRequest.getBaseUri())
-             .add(links);
-
-    return resources;
+    return resourceResponse(headers, resource, HttpStatus.OK, cachePolicy);
   }
 
   @RequestMapping(
@@ -176,12 +107,17 @@ public class RepositorySearchController extends AbstractRepositoryRestController
       }
   )
   @ResponseBody
-  public Resource<?> queryCompact(RepositoryRestRequest repoRequest,
-                                  @PathVariable String method)
+  public ResponseEntity<Resource<?>> queryCompact(RepositoryRestRequest repoRequest,
+                                                  @PathVariable String method)
       throws ResourceNotFoundException {
+    ResponseEntity<Resource<?>> response = query(repoRequest, method);
+    if(response.getStatusCode() != HttpStatus.OK) {
+      return response;
+    }
+
     List<Link> links = new ArrayList<Link>();
 
-    Resource<?> resource = query(repoRequest, method);
+    Resource<?> resource = response.getBody();
     links.addAll(resource.getLinks());
 
     if(resource.getContent() instanceof Iterable) {
@@ -197,7 +133,7 @@ public class RepositorySearchController extends AbstractRepositoryRestController
       links.add(resourceLink(repoRequest, res));
     }
 
-    return new Resource<Object>(EMPTY_RESOURCE_LIST, links);
+    return resourceResponse(response.getHeaders(), new Resource<Object>(EMPTY_RESOURCE_LIST, links), HttpStatus.OK);
   }
 
   @RequestMapping(
@@ -211,19 +147,102 @@ public class RepositorySearchController extends AbstractRepositoryRestController
   public JsonpResponse<? extends Resource<?>> jsonpQuery(RepositoryRestRequest repoRequest,
                                                          @PathVariable String method)
       throws ResourceNotFoundException {
-    return jsonpWrapResponse(repoRequest, query(repoRequest, method), HttpStatus.OK);
+    return jsonpWrapResponse(repoRequest,
+                             doQuery(repoRequest, method, findRoute(repoRequest, method), null),
+                             HttpStatus.OK);
+  }
+
+  /**
+   * Get the caching policy of a search, falling back to the one of its repository.
+   */
+  private CachePolicy cachePolicy(RepositoryRestRequest repoRequest, SearchRoutes.Route route) {
+    CachePolicy cachePolicy = route.getCachePolicy();
+    return (null != cachePolicy ? cachePolicy : cachePolicy(repoRequest));
+  }
+
+  private SearchRoutes.Route findRoute(RepositoryRestRequest repoRequest, String method)
+      throws ResourceNotFoundException {
+    SearchRoutes.Route route = searchRoutes.getRoute(repoRequest.getRepositoryInformation(), method);
+    if(null == route) {
+      throw new ResourceNotFoundException();
+    }
+    return route;
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private Resource<?> doQuery(RepositoryRestRequest repoRequest,
+                              String method,
+                              final SearchRoutes.Route route,
+                              CollectionETagBuilder etag) {
+    final Object[] paramValues = route.bind(repoRequest.getRequest(), repoRequest.getPagingAndSorting());
+
+    BaseUriAwareResource resources;
+    List<Link> links = new ArrayList<Link>();
+    Object result = coalesce(repoRequest.getQueryKey(method), new Callable<Object>() {
+      @Override public Object call() throws Exception {
+        return route.invoke(paramValues);
+      }
+    });
+    if(result instanceof Page) {
+      Page page = (Page)result;
+      if(page.hasPreviousPage()) {
+        repoRequest.addPrevLink(page, links);
+      }
+      if(page.hasNextPage()) {
+        repoRequest.addNextLink(page, links);
+      }
+      if(page.hasContent()) {
+        resources = entitiesToResource(repoRequest, page.getContent(), etag);
+      } else {
+        resources = new BaseUriAwareResource(EMPTY_RESOURCE_LIST);
+      }
+    } else if(result instanceof Iterable) {
+      resources = entitiesToResource(repoRequest, (Iterable)result, etag);
+    } else if(null == result) {
+      resources = new BaseUriAwareResource(EMPTY_RESOURCE_LIST);
+    } else {
+      PersistentEntityResource per = PersistentEntityResource.wrap(repoRequest.getPersistentEntity(),
+                                                                   result,
+                                                                   repoRequest.getBaseUri());
+      per.add(repoRequest.buildEntitySelfLink(result, conversionService));
+      per.setFields(repoRequest.getFields());
+      expandAssociations(repoRequest, Collections.singletonList(per));
+      if(null != etag) {
+        etag.add(repoRequest.getPersistentEntity(), result);
+      }
+      resources = per;
+    }
+    resources.setBaseUri(repoRequest.getBaseUri())
+             .add(links);
+
+    if(null != etag) {
+      for(Link l : links) {
+        etag.add(l.getHref());
+      }
+    }
+
+    return resources;
   }
 
   @SuppressWarnings({"unchecked"})
-  private BaseUriAwareResource entitiesToResource(RepositoryRestRequest repoRequest, Iterable entities) {
+  private BaseUriAwareResource entitiesToResource(RepositoryRestRequest repoRequest,
+                                                  Iterable entities,
+                                                  CollectionETagBuilder etag) {
     List<Resource<?>> resources = new ArrayList<Resource<?>>();
+    Set<String> fields = repoRequest.getFields();
     for(Object obj : entities) {
       if(null == obj) {
         resources.add(null);
+        if(null != etag) {
+          etag.add(null, null);
+        }
         break;
       }
 
       PersistentEntity persistentEntity = repositories.getPersistentEntity(obj.getClass());
+      if(null != etag) {
+        etag.add(persistentEntity, obj);
+      }
       if(null == persistentEntity) {
         resources.add(new BaseUriAwareResource<Object>(obj)
                           .setBaseUri(repoRequest.getBaseUri()));
@@ -232,8 +251,10 @@ public class RepositorySearchController extends AbstractRepositoryRestController
 
       PersistentEntityResource per = PersistentEntityResource.wrap(persistentEntity, obj, repoRequest.getBaseUri());
       per.add(repoRequest.buildEntitySelfLink(obj, conversionService));
+      per.setFields(fields);
       resources.add(per);
     }
+    expandAssociations(repoRequest, resources);
     return new BaseUriAwareResource(resources)
         .setBaseUri(repoRequest.getBaseUri());
   }
@@ -16,14 +16,24 @@ import org.springframework.data.rest.convert.ISO8601DateConverter;
 import org.springframework.data.rest.convert.UUIDConverter;
 import org.springframework.data.rest.repository.UriDomainClassConverter;
 import org.springframework.data.rest.repository.context.AnnotatedHandlerBeanPostProcessor;
+import org.springframework.data.rest.repository.context.PartitionedEventExecutor;
 import org.springframework.data.rest.repository.context.RepositoriesFactoryBean;
+import org.springframework.data.rest.repository.context.RepositoryEventBus;
 import org.springframework.data.rest.repository.context.ValidatingRepositoryEventListener;
 import org.springframework.data.rest.repository.json.PersistentEntityJackson2Module;
+import org.springframework.data.rest.repository.json.RepresentationCache;
 import org.springframework.data.rest.repository.json.PersistentEntityToJsonSchemaConverter;
+import org.springframework.data.rest.repository.support.ChangeFeed;
+import org.springframework.data.rest.repository.support.DataVersions;
+import org.springframework.data.rest.repository.support.DelegatingEntityStreamExecutor;
+import org.springframework.data.rest.repository.support.DelegatingIdentifierQueryExecutor;
+import org.springframework.data.rest.repository.support.DelegatingProjectionQueryExecutor;
 import org.springframework.data.rest.repository.support.DomainObjectMerger;
+import org.springframework.data.rest.repository.support.EntityVersions;
 import org.springframework.data.rest.webmvc.BaseUriMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.PagingAndSortingMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.PersistentEntityResourceHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.RepositoryChangeFeedController;
 import org.springframework.data.rest.webmvc.RepositoryController;
 import org.springframework.data.rest.webmvc.RepositoryEntityController;
 import org.springframework.data.rest.webmvc.RepositoryEntityLinksMethodArgumentResolver;
@@ -34,10 +44,21 @@ import org.springframework.data.rest.webmvc.RepositoryRestHandlerMapping;
 import org.springframework.data.rest.webmvc.RepositoryRestRequestHandlerMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.RepositorySearchController;
 import org.springframework.data.rest.webmvc.ServerHttpRequestMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.convert.CompressingHttpMessageConverter;
+import org.springframework.data.rest.webmvc.convert.FileRegionHttpMessageConverter;
 import org.springframework.data.rest.webmvc.convert.JsonpResponseHttpMessageConverter;
+import org.springframework.data.rest.webmvc.convert.NdjsonHttpMessageConverter;
 import org.springframework.data.rest.webmvc.convert.UriListHttpMessageConverter;
+import org.springframework.data.rest.webmvc.support.AssociationExpander;
+import org.springframework.data.rest.webmvc.support.BatchingEntityLoader;
+import org.springframework.data.rest.webmvc.support.DeflaterPool;
+import org.springframework.data.rest.webmvc.support.EntityImporter;
+import org.springframework.data.rest.webmvc.support.SearchRoutes;
+import org.springframework.data.rest.webmvc.support.SnapshotManager;
+import org.springframework.data.rest.webmvc.support.RequestCoalescer;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.orm.jpa.support.PersistenceAnnotationBeanPostProcessor;
@@ -125,6 +146,24 @@ public class RepositoryRestMvcConfiguration {
     return new AnnotatedHandlerBeanPostProcessor();
   }
 
+  /**
+   * Delivers repository events straight to interested listeners instead of multicasting them through the context.
+   *
+   * @return
+   */
+  @Bean public RepositoryEventBus repositoryEventBus() {
+    return new RepositoryEventBus();
+  }
+
+  /**
+   * Runs event handlers marked {@literal async} off the request thread, partitioned by entity ID.
+   *
+   * @return
+   */
+  @Bean public PartitionedEventExecutor partitionedEventExecutor() {
+    return new PartitionedEventExecutor(config());
+  }
+
   /**
    * For merging incoming objects materialized from JSON with existing domain objects loaded from the repository.
    *
@@ -155,6 +194,22 @@ public class RepositoryRestMvcConfiguration {
     );
   }
 
+  /**
+   * The controller that serves the changes made to a repository since a given sequence number.
+   *
+   * @return
+   *
+   * @throws Exception
+   */
+  @Bean public RepositoryChangeFeedController repositoryChangeFeedController() throws Exception {
+    return new RepositoryChangeFeedController(
+        repositories().getObject(),
+        config(),
+        domainClassConverter(),
+        defaultConversionService()
+    );
+  }
+
   /**
    * The controller responsible for handling requests to display or those that modify an entity.
    *
@@ -203,6 +258,128 @@ public class RepositoryRestMvcConfiguration {
     );
   }
 
+  /**
+   * Table of searches per repository, compiled from the query methods when the context starts.
+   *
+   * @return
+   *
+   * @throws Exception
+   */
+  @Bean public SearchRoutes searchRoutes() throws Exception {
+    return new SearchRoutes(repositories().getObject(), config(), defaultConversionService());
+  }
+
+  /**
+   * Lets identical concurrent {@literal GET} requests share a single repository invocation. Only active if enabled in
+   * the {@link RepositoryRestConfiguration}.
+   *
+   * @return
+   */
+  @Bean public RequestCoalescer requestCoalescer() {
+    return new RequestCoalescer();
+  }
+
+  /**
+   * Batches single-entity lookups of concurrent requests into one {@literal findAll(Iterable<ID>)} call. Only active if
+   * enabled in the {@link RepositoryRestConfiguration}.
+   *
+   * @return
+   */
+  @Bean public BatchingEntityLoader batchingEntityLoader() {
+    return new BatchingEntityLoader(config(), defaultConversionService());
+  }
+
+  /**
+   * Derives {@literal ETag} and {@literal Last-Modified} headers from the version and last-modified properties of
+   * entities so conditional {@literal GET} requests can be answered with a {@literal 304 Not Modified}.
+   *
+   * @return
+   */
+  @Bean public EntityVersions entityVersions() {
+    return new EntityVersions(config(), defaultConversionService());
+  }
+
+  /**
+   * Inlines associated entities requested through the expand parameter, loading them with one {@literal
+   * findAll(Iterable<ID>)} per associated repository.
+   *
+   * @return
+   *
+   * @throws Exception
+   */
+  @Bean public AssociationExpander associationExpander() throws Exception {
+    return new AssociationExpander(repositories().getObject(), config(), defaultConversionService());
+  }
+
+  /**
+   * Loads only the IDs of entities for compact and {@literal text/uri-list} listings. Only used if enabled in the
+   * {@link RepositoryRestConfiguration}.
+   *
+   * @return
+   */
+  @Bean public DelegatingIdentifierQueryExecutor identifierQueryExecutor() {
+    return new DelegatingIdentifierQueryExecutor();
+  }
+
+  /**
+   * Loads only the selected properties of entities when a listing is restricted with the fields parameter and
+   * projection queries are enabled in the {@link RepositoryRestConfiguration}.
+   *
+   * @return
+   */
+  @Bean public DelegatingProjectionQueryExecutor projectionQueryExecutor() {
+    return new DelegatingProjectionQueryExecutor();
+  }
+
+  /**
+   * Walks all entities of a repository with keyset pagination or a store cursor when a repository is exported.
+   *
+   * @return
+   */
+  @Bean public DelegatingEntityStreamExecutor entityStreamExecutor() {
+    return new DelegatingEntityStreamExecutor();
+  }
+
+  /**
+   * Imports newline-delimited JSON or JSON arrays of entities in chunks.
+   *
+   * @return
+   */
+  @Bean public EntityImporter entityImporter() {
+    return new EntityImporter(objectMapper(), config());
+  }
+
+  /**
+   * Tracks a data version per domain type, bumped by repository events.
+   *
+   * @return
+   */
+  @Bean public DataVersions dataVersions() {
+    return new DataVersions();
+  }
+
+  /**
+   * Records the changes made through the exporter for the change feed.
+   *
+   * @return
+   */
+  @Bean public ChangeFeed changeFeed() {
+    return new ChangeFeed(config());
+  }
+
+  /**
+   * Renders and keeps on-disk snapshots of whole repositories for download.
+   *
+   * @return
+   */
+  @Bean public SnapshotManager snapshotManager() {
+    return new SnapshotManager(config(),
+                               dataVersions(),
+                               ndjsonHttpMessageConverter(),
+                               defaultConversionService(),
+                               entityStreamExecutor());
+  }
+
   /**
    * Resolves the base {@link java.net.URI} under which this application is configured.
    *
@@ -332,6 +509,36 @@ public class RepositoryRestMvcConfiguration {
     return new UriListHttpMessageConverter();
   }
 
+  /**
+   * The {@link HttpMessageConverter} used to stream repository exports as {@literal application/x-ndjson}.
+   *
+   * @return
+   */
+  @Bean public NdjsonHttpMessageConverter ndjsonHttpMessageConverter() {
+    return new NdjsonHttpMessageConverter(objectMapper());
+  }
+
+  /**
+   * The {@link HttpMessageConverter} used to send files, like repository snapshots, without copying them through the
+   * heap.
+   *
+   * @return
+   */
+  @Bean public FileRegionHttpMessageConverter fileRegionHttpMessageConverter() {
+    return new FileRegionHttpMessageConverter();
+  }
+
+  /**
+   * Pool of deflaters shared by the {@link CompressingHttpMessageConverter}s that compress responses.
+   *
+   * @return
+   */
+  @Bean public DeflaterPool deflaterPool() {
+    return new DeflaterPool(config().getCompressionLevel(),
+                            config().getCompressionThreshold(),
+                            config().getMaxPooledDeflaters());
+  }
+
   /**
    * Special {@link org.springframework.web.servlet.HandlerAdapter} that only recognizes handler methods defined in
    * the provided controller classes.
@@ -368,6 +575,16 @@ public class RepositoryRestMvcConfiguration {
     return new PersistentEntityJackson2Module(defaultConversionService());
   }
 
+  /**
+   * Cache of rendered entities consulted by the {@link PersistentEntityJackson2Module}. Only active if enabled in the
+   * {@link RepositoryRestConfiguration}.
+   *
+   * @return
+   */
+  @Bean public RepresentationCache representationCache() {
+    return new RepresentationCache(config());
+  }
+
   /**
    * Bean for looking up methods annotated with {@link org.springframework.web.bind.annotation.ExceptionHandler}.
    *
@@ -388,12 +605,21 @@ public class RepositoryRestMvcConfiguration {
 
   private List<HttpMessageConverter<?>> defaultMessageConverters() {
     List<HttpMessageConverter<?>> messageConverters = new ArrayList<HttpMessageConverter<?>>();
-    messageConverters.add(jacksonHttpMessageConverter());
-    messageConverters.add(jsonpHttpMessageConverter());
-    messageConverters.add(uriListHttpMessageConverter());
+    // Pre-serialized bodies must not be handed to Jackson, which would write them as Base64 strings
+    messageConverters.add(compressing(new ByteArrayHttpMessageConverter()));
+    // Files are sent as they are on disk
+    messageConverters.add(fileRegionHttpMessageConverter());
+    messageConverters.add(compressing(jacksonHttpMessageConverter()));
+    messageConverters.add(compressing(jsonpHttpMessageConverter()));
+    messageConverters.add(compressing(uriListHttpMessageConverter()));
+    messageConverters.add(compressing(ndjsonHttpMessageConverter()));
     return messageConverters;
   }
 
+  private <T> HttpMessageConverter<T> compressing(HttpMessageConverter<T> converter) {
+    return new CompressingHttpMessageConverter<T>(converter, deflaterPool(), config());
+  }
+
   private List<HandlerMethodArgumentResolver> defaultMethodArgumentResolvers() {
     return Arrays.asList(baseUriMethodArgumentResolver(),
                          pagingAndSortingMethodArgumentResolver(),
@@ -0,0 +1,325 @@
+package org.springframework.data.rest.webmvc.convert;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.support.DeflaterPool;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Decorates another {@link HttpMessageConverter} to compress what it writes with {@literal gzip} or {@literal
+ * deflate}, whichever the client's {@literal Accept-Encoding} allows.
+ * <p>
+ * Output is held back until it exceeds the configured threshold, so small responses go out uncompressed with their
+ * original headers. Streamed responses are compressed as they're written. Since Java 6 can't sync-flush a {@link
+ * java.util.zip.Deflater}, a compressed response can't be flushed reliably. A flush that comes while output is still
+ * held back therefore commits the response to being sent uncompressed, so whatever the writer wants the client to see
+ * now actually reaches it. Once compression has started, a flush only passes on what the deflater has already
+ * produced.
+ * </p>
+ * <p>
+ * A compressed response is a different representation than the uncompressed one, so they mustn't share a strong
+ * entity tag. The coding is appended to the {@literal ETag} of a compressed response, as in {@literal "1-json-gzip"}.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class CompressingHttpMessageConverter<T> implements HttpMessageConverter<T> {
+
+  private static final String   CONTENT_ENCODING = "Content-Encoding";
+  private static final String[] ENCODINGS        = {"gzip", "deflate"};
+  private static final byte[]   GZIP_HEADER      = {
+      (byte)0x1f, (byte)0x8b, 8, 0, 0, 0, 0, 0, 0, (byte)0xff
+  };
+
+  private final HttpMessageConverter<T>     delegate;
+  private final DeflaterPool                deflaterPool;
+  private final RepositoryRestConfiguration config;
+
+  public CompressingHttpMessageConverter(HttpMessageConverter<T> delegate,
+                                         DeflaterPool deflaterPool,
+                                         RepositoryRestConfiguration config) {
+    this.delegate = delegate;
+    this.deflaterPool = deflaterPool;
+    this.config = config;
+  }
+
+  @Override public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return delegate.canRead(clazz, mediaType);
+  }
+
+  @Override public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+    return delegate.canWrite(clazz, mediaType);
+  }
+
+  @Override public List<MediaType> getSupportedMediaTypes() {
+    return delegate.getSupportedMediaTypes();
+  }
+
+  @Override public T read(Class<? extends T> clazz,
+                          HttpInputMessage inputMessage) throws IOException,
+                                                                HttpMessageNotReadableException {
+    return delegate.read(clazz, inputMessage);
+  }
+
+  @Override public void write(T t,
+                              MediaType contentType,
+                              HttpOutputMessage outputMessage) throws IOException,
+                                                                      HttpMessageNotWritableException {
+    final HttpHeaders headers = outputMessage.getHeaders();
+    if(!config.isCompressionEnabled() || headers.containsKey(CONTENT_ENCODING)) {
+      delegate.write(t, contentType, outputMessage);
+      return;
+    }
+
+    headers.add("Vary", "Accept-Encoding");
+    HttpServletRequest request = currentRequest();
+    String encoding = (null != request ? negotiate(request.getHeader("Accept-Encoding")) : null);
+    if(null == encoding) {
+      delegate.write(t, contentType, outputMessage);
+      return;
+    }
+
+    final CompressingOutputStream out = new CompressingOutputStream(outputMessage, encoding);
+    try {
+      delegate.write(t, contentType, new HttpOutputMessage() {
+        @Override public OutputStream getBody() throws IOException {
+          return out;
+        }
+
+        @Override public HttpHeaders getHeaders() {
+          return headers;
+        }
+      });
+      out.finish();
+    } finally {
+      out.release();
+    }
+  }
+
+  /**
+   * Pick the content coding to use from an {@literal Accept-Encoding} header.
+   *
+   * @param acceptEncoding
+   *     The header's value, may be {@literal null}.
+   *
+   * @return {@literal gzip}, {@literal deflate} or {@literal null} if neither is acceptable.
+   */
+  static String negotiate(String acceptEncoding) {
+    if(!StringUtils.hasText(acceptEncoding)) {
+      return null;
+    }
+    boolean deflate = false;
+    for(String coding : StringUtils.commaDelimitedListToStringArray(acceptEncoding)) {
+      String[] parts = StringUtils.delimitedListToStringArray(coding, ";");
+      String name = parts[0].trim().toLowerCase();
+      if(isRefused(parts)) {
+        continue;
+      }
+      if("gzip".equals(name) || "x-gzip".equals(name)) {
+        return "gzip";
+      }
+      if("deflate".equals(name)) {
+        deflate = true;
+      }
+    }
+    return (deflate ? "deflate" : null);
+  }
+
+  /**
+   * Tag a compressed representation apart from the uncompressed one.
+   *
+   * @param etag
+   *     Entity tag of the uncompressed representation.
+   * @param encoding
+   *     The content coding, {@literal gzip} or {@literal deflate}.
+   *
+   * @return The entity tag with the coding appended, or the given tag if it isn't quoted.
+   */
+  public static String encodeETag(String etag, String encoding) {
+    if(!etag.endsWith("\"")) {
+      return etag;
+    }
+    return etag.substring(0, etag.length() - 1) + "-" + encoding + "\"";
+  }
+
+  /**
+   * Get the entity tag of the uncompressed representation from that of a compressed one.
+   *
+   * @param etag
+   *     An entity tag sent by a client.
+   *
+   * @return The entity tag without the coding {@link #encodeETag(String, String)} appended, or the given tag if it
+   *         doesn't end in one.
+   */
+  public static String decodeETag(String etag) {
+    for(String encoding : ENCODINGS) {
+      String suffix = "-" + encoding + "\"";
+      if(etag.endsWith(suffix)) {
+        return etag.substring(0, etag.length() - suffix.length()) + "\"";
+      }
+    }
+    return etag;
+  }
+
+  private static boolean isRefused(String[] parts) {
+    for(int i = 1; i < parts.length; i++) {
+      String param = parts[i].trim();
+      if(param.startsWith("q=")) {
+        try {
+          return Float.parseFloat(param.substring(2)) <= 0;
+        } catch(NumberFormatException e) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static HttpServletRequest currentRequest() {
+    RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+    return (attrs instanceof ServletRequestAttributes ? ((ServletRequestAttributes)attrs).getRequest() : null);
+  }
+
+  private class CompressingOutputStream extends OutputStream {
+    final HttpOutputMessage  target;
+    final String             encoding;
+    final DeflaterPool.Entry entry;
+    final byte[]             single = new byte[1];
+    OutputStream out;
+    boolean      passThrough  = false;
+    int          pendingCount = 0;
+    long         size         = 0;
+    boolean      released     = false;
+
+    private CompressingOutputStream(HttpOutputMessage target, String encoding) {
+      this.target = target;
+      this.encoding = encoding;
+      this.entry = deflaterPool.borrow("gzip".equals(encoding));
+    }
+
+    @Override public void write(int b) throws IOException {
+      single[0] = (byte)b;
+      write(single, 0, 1);
+    }
+
+    @Override public void write(byte[] b, int off, int len) throws IOException {
+      if(passThrough) {
+        out.write(b, off, len);
+        return;
+      }
+      if(null == out) {
+        if(pendingCount + len <= config.getCompressionThreshold() && pendingCount + len <= entry.pending.length) {
+          System.arraycopy(b, off, entry.pending, pendingCount, len);
+          pendingCount += len;
+          return;
+        }
+        start();
+        deflate(entry.pending, 0, pendingCount);
+      }
+      deflate(b, off, len);
+    }
+
+    @Override public void flush() throws IOException {
+      if(null == out) {
+        // Held back output could only be flushed compressed if the deflater could sync-flush
+        startPassThrough();
+      }
+      out.flush();
+    }
+
+    @Override public void close() throws IOException {
+      flush();
+    }
+
+    void finish() throws IOException {
+      if(null == out) {
+        // Below the threshold, send as is
+        startPassThrough();
+      }
+      if(passThrough) {
+        out.flush();
+        return;
+      }
+      entry.deflater.finish();
+      while(!entry.deflater.finished()) {
+        int len = entry.deflater.deflate(entry.buffer);
+        if(len > 0) {
+          out.write(entry.buffer, 0, len);
+        }
+      }
+      if(entry.gzip) {
+        writeInt((int)entry.crc.getValue());
+        writeInt((int)size);
+      }
+      out.flush();
+    }
+
+    void release() {
+      if(!released) {
+        released = true;
+        deflaterPool.release(entry);
+      }
+    }
+
+    private void startPassThrough() throws IOException {
+      passThrough = true;
+      out = target.getBody();
+      out.write(entry.pending, 0, pendingCount);
+      pendingCount = 0;
+    }
+
+    private void start() throws IOException {
+      HttpHeaders headers = target.getHeaders();
+      headers.set(CONTENT_ENCODING, encoding);
+      headers.remove("Content-Length");
+      String etag = headers.getETag();
+      if(null != etag) {
+        headers.setETag(encodeETag(etag, encoding));
+      }
+      out = target.getBody();
+      if(entry.gzip) {
+        out.write(GZIP_HEADER);
+      }
+    }
+
+    private void deflate(byte[] b, int off, int len) throws IOException {
+      if(len == 0) {
+        return;
+      }
+      if(entry.gzip) {
+        entry.crc.update(b, off, len);
+      }
+      size += len;
+      entry.deflater.setInput(b, off, len);
+      while(!entry.deflater.needsInput()) {
+        int deflated = entry.deflater.deflate(entry.buffer);
+        if(deflated > 0) {
+          out.write(entry.buffer, 0, deflated);
+        }
+      }
+    }
+
+    private void writeInt(int i) throws IOException {
+      // gzip trailer fields are little-endian
+      out.write(i & 0xff);
+      out.write((i >> 8) & 0xff);
+      out.write((i >> 16) & 0xff);
+      out.write((i >> 24) & 0xff);
+    }
+  }
+
+}
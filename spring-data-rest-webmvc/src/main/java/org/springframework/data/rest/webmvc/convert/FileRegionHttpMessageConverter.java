@@ -0,0 +1,76 @@
+package org.springframework.data.rest.webmvc.convert;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.data.rest.webmvc.support.FileRegion;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Writes a {@link FileRegion} with {@link FileChannel#transferTo(long, long, WritableByteChannel)}, so the file's
+ * contents never pass through the heap. The region is {@link FileRegion#release() released} once it's written.
+ *
+ * @author Jon Brisbin
+ */
+public class FileRegionHttpMessageConverter implements HttpMessageConverter<FileRegion> {
+
+  private static final List<MediaType> SUPPORTED_TYPES = Arrays.asList(MediaType.ALL);
+
+  @Override public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+    return FileRegion.class.isAssignableFrom(clazz);
+  }
+
+  @Override public List<MediaType> getSupportedMediaTypes() {
+    return SUPPORTED_TYPES;
+  }
+
+  @Override public FileRegion read(Class<? extends FileRegion> clazz,
+                                   HttpInputMessage inputMessage) throws IOException,
+                                                                         HttpMessageNotReadableException {
+    throw new HttpMessageNotReadableException("File regions are not readable.");
+  }
+
+  @Override public void write(FileRegion region,
+                              MediaType contentType,
+                              HttpOutputMessage outputMessage) throws IOException,
+                                                                      HttpMessageNotWritableException {
+    try {
+      outputMessage.getHeaders().setContentLength(region.getCount());
+      WritableByteChannel out = Channels.newChannel(outputMessage.getBody());
+      FileChannel file = new FileInputStream(region.getFile()).getChannel();
+      try {
+        long position = region.getPosition();
+        long remaining = region.getCount();
+        while(remaining > 0) {
+          long sent = file.transferTo(position, remaining, out);
+          if(sent <= 0) {
+            // The file was truncated underneath us
+            break;
+          }
+          position += sent;
+          remaining -= sent;
+        }
+      } finally {
+        file.close();
+      }
+      outputMessage.getBody().flush();
+    } finally {
+      region.release();
+    }
+  }
+
+}
@@ -59,17 +59,23 @@ public class JsonpResponseHttpMessageConverter implements HttpMessageConverter<J
     final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
     bytes.write((jsonpResponse.getCallbackParam() + "(").getBytes());
 
-    jacksonConverter.write(jsonpResponse.getResponseEntity().getBody(),
-                           MediaType.APPLICATION_JSON,
-                           new HttpOutputMessage() {
-                             @Override public OutputStream getBody() throws IOException {
-                               return bytes;
-                             }
-
-                             @Override public HttpHeaders getHeaders() {
-                               return outputMessage.getHeaders();
-                             }
-                           });
+    Object body = jsonpResponse.getResponseEntity().getBody();
+    if(body instanceof byte[]) {
+      // Already serialized JSON
+      bytes.write((byte[])body);
+    } else {
+      jacksonConverter.write(body,
+                             MediaType.APPLICATION_JSON,
+                             new HttpOutputMessage() {
+                               @Override public OutputStream getBody() throws IOException {
+                                 return bytes;
+                               }
+
+                               @Override public HttpHeaders getHeaders() {
+                                 return outputMessage.getHeaders();
+                               }
+                             });
+    }
 
     bytes.write(");".getBytes());
 
@@ -0,0 +1,93 @@
+package org.springframework.data.rest.webmvc.convert;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.data.rest.repository.support.EntityStreamExecutor;
+import org.springframework.data.rest.webmvc.support.EntityExport;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Writes an {@link EntityExport} as newline-delimited JSON, one entity per line. No {@literal Content-Length} is set,
+ * so the response goes out with chunked transfer encoding and is flushed after every chunk of entities.
+ *
+ * @author Jon Brisbin
+ */
+public class NdjsonHttpMessageConverter implements HttpMessageConverter<EntityExport> {
+
+  public static final  MediaType       APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+  private static final List<MediaType> SUPPORTED_TYPES    = Arrays.asList(APPLICATION_NDJSON);
+  private static final int             NEWLINE            = '\n';
+
+  private final ObjectWriter writer;
+
+  public NdjsonHttpMessageConverter(ObjectMapper objectMapper) {
+    // Every entity has to fit on one line
+    this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+  }
+
+  @Override public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+    return EntityExport.class.isAssignableFrom(clazz)
+        && (null == mediaType || APPLICATION_NDJSON.includes(mediaType));
+  }
+
+  @Override public List<MediaType> getSupportedMediaTypes() {
+    return SUPPORTED_TYPES;
+  }
+
+  @Override public EntityExport read(Class<? extends EntityExport> clazz,
+                                     HttpInputMessage inputMessage) throws IOException,
+                                                                           HttpMessageNotReadableException {
+    throw new HttpMessageNotReadableException("Exports are not readable.");
+  }
+
+  @Override public void write(EntityExport export,
+                              MediaType contentType,
+                              HttpOutputMessage outputMessage) throws IOException,
+                                                                      HttpMessageNotWritableException {
+    outputMessage.getHeaders().setContentType(APPLICATION_NDJSON);
+    write(export, outputMessage.getBody());
+  }
+
+  /**
+   * Write an export to the given stream, flushing after every chunk of entities.
+   *
+   * @param export
+   *     The export to write.
+   * @param body
+   *     Where to write it. The stream is flushed but not closed.
+   *
+   * @throws IOException
+   */
+  public void write(final EntityExport export, OutputStream body) throws IOException {
+    final OutputStream out = new BufferedOutputStream(body);
+    export.forEach(new EntityStreamExecutor.EntityCallback() {
+      int count = 0;
+
+      @Override public void doWithEntity(Object resource) throws IOException {
+        out.write(writer.writeValueAsBytes(resource));
+        out.write(NEWLINE);
+        if(++count % export.getChunkSize() == 0) {
+          out.flush();
+        }
+      }
+    });
+    out.flush();
+  }
+
+}
@@ -0,0 +1,360 @@
+package org.springframework.data.rest.webmvc.support;
+
+import static org.springframework.data.rest.core.util.UriUtils.*;
+import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
+
+import java.io.Serializable;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.config.ResourceMapping;
+import org.springframework.data.rest.repository.PersistentEntityResource;
+import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
+import org.springframework.data.rest.repository.support.DelegatingIdentifierQueryExecutor;
+import org.springframework.hateoas.Link;
+
+/**
+ * Inlines associated resources into a set of {@link PersistentEntityResource}s.
+ * <p>
+ * Expansion works level by level. All associated entities referenced from one level are collected first and then
+ * loaded with a single {@literal findAll(Iterable<ID>)} per target repository, rather than one lazy load per
+ * reference. Where the store supports it, the IDs behind to-many associations are queried in bulk as well, so no
+ * collection is initialized one by one. Nested associations are named with dotted paths, e.g. {@literal
+ * customer.address}.
+ * </p>
+ * <p>
+ * If more entities of one type are referenced than the configured maximum, they aren't inlined and the association is
+ * listed as truncated on each resource referencing them.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class AssociationExpander {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AssociationExpander.class);
+
+  private final Repositories                repositories;
+  private final RepositoryRestConfiguration config;
+  private final ConversionService           conversionService;
+  private final Map<Class<?>, RepositoryMethodInvoker> invokers = new ConcurrentHashMap<Class<?>, RepositoryMethodInvoker>();
+  @Autowired(required = false)
+  private DelegatingIdentifierQueryExecutor identifierQueryExecutor;
+
+  public AssociationExpander(Repositories repositories,
+                             RepositoryRestConfiguration config,
+                             ConversionService conversionService) {
+    this.repositories = repositories;
+    this.config = config;
+    this.conversionService = conversionService;
+  }
+
+  /**
+   * Expand the given association paths on all resources.
+   *
+   * @param resources
+   *     The resources to expand, typically a whole page.
+   * @param paths
+   *     Association paths to inline.
+   * @param baseUri
+   *     Base URI for the self links of inlined resources.
+   */
+  public void expand(List<PersistentEntityResource<?>> resources, Set<String> paths, URI baseUri) {
+    expandLevel(resources, paths, baseUri, 1);
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private void expandLevel(List<PersistentEntityResource<?>> resources, Set<String> paths, URI baseUri, int depth) {
+    if(resources.isEmpty() || paths.isEmpty()) {
+      return;
+    }
+    if(depth > config.getMaxExpandDepth()) {
+      if(LOG.isDebugEnabled()) {
+        LOG.debug("Not expanding " + paths + " beyond depth " + config.getMaxExpandDepth());
+      }
+      return;
+    }
+
+    // Split "a.b" into "a" -> ["b"]
+    Map<String, Set<String>> children = new LinkedHashMap<String, Set<String>>();
+    for(String path : paths) {
+      int dot = path.indexOf('.');
+      String head = (dot > 0 ? path.substring(0, dot) : path);
+      Set<String> rest = children.get(head);
+      if(null == rest) {
+        rest = new LinkedHashSet<String>();
+        children.put(head, rest);
+      }
+      if(dot > 0 && dot < path.length() - 1) {
+        rest.add(path.substring(dot + 1));
+      }
+    }
+
+    // Collect the references of this level
+    List<Reference> references = new ArrayList<Reference>();
+    // To-many references whose IDs are queried in bulk rather than by initializing every collection
+    Map<String, List<Reference>> deferred = new LinkedHashMap<String, List<Reference>>();
+    for(PersistentEntityResource<?> resource : resources) {
+      PersistentEntity persistentEntity = resource.getPersistentEntity();
+      ResourceMapping entityMapping = getResourceMapping(config, persistentEntity);
+      BeanWrapper wrapper = BeanWrapper.create(resource.getContent(), conversionService);
+      for(Map.Entry<String, Set<String>> child : children.entrySet()) {
+        String propertyName = (null != entityMapping ? entityMapping.getNameForPath(child.getKey()) : child.getKey());
+        PersistentProperty property = persistentEntity.getPersistentProperty(propertyName);
+        if(null == property) {
+          continue;
+        }
+        Class<?> targetType = (property.isCollectionLike() ? property.getComponentType() : property.getType());
+        if(!isExported(targetType)) {
+          continue;
+        }
+
+        Reference ref = new Reference(resource, property, targetType, child.getKey(), property.isCollectionLike());
+        references.add(ref);
+        if(ref.collection && canQueryAssociatedIds(persistentEntity, targetType)) {
+          String key = persistentEntity.getType().getName() + "." + property.getName();
+          List<Reference> refs = deferred.get(key);
+          if(null == refs) {
+            refs = new ArrayList<Reference>();
+            deferred.put(key, refs);
+          }
+          refs.add(ref);
+          continue;
+        }
+
+        Object value = wrapper.getProperty(property);
+        if(value instanceof Iterable) {
+          for(Object target : (Iterable<Object>)value) {
+            ref.addTarget(target, getId(repositories.getPersistentEntity(targetType), target));
+          }
+        } else if(null != value) {
+          ref.addTarget(value, getId(repositories.getPersistentEntity(targetType), value));
+        }
+      }
+    }
+    for(List<Reference> refs : deferred.values()) {
+      resolveAssociatedIds(refs);
+    }
+
+    // Group the referenced IDs by target type
+    Map<Class<?>, Set<Object>> idsByType = new HashMap<Class<?>, Set<Object>>();
+    Map<Class<?>, Map<Object, Object>> loadedByType = new HashMap<Class<?>, Map<Object, Object>>();
+    for(Reference ref : references) {
+      Set<Object> ids = idsByType.get(ref.targetType);
+      Map<Object, Object> loaded = loadedByType.get(ref.targetType);
+      if(null == ids) {
+        ids = new LinkedHashSet<Object>();
+        idsByType.put(ref.targetType, ids);
+        loaded = new HashMap<Object, Object>();
+        loadedByType.put(ref.targetType, loaded);
+      }
+      for(int i = 0; i < ref.ids.size(); i++) {
+        Object id = ref.ids.get(i);
+        if(null != id) {
+          ids.add(id);
+          if(i < ref.targets.size()) {
+            // Fall back to the referenced object itself if the repository can't load in bulk
+            loaded.put(id, ref.targets.get(i));
+          }
+        }
+      }
+    }
+
+    // One findAll(Iterable<ID>) per target repository
+    for(Map.Entry<Class<?>, Set<Object>> entry : idsByType.entrySet()) {
+      Class<?> targetType = entry.getKey();
+      Set<Object> ids = entry.getValue();
+      if(ids.size() > config.getMaxExpandSize()) {
+        if(LOG.isDebugEnabled()) {
+          LOG.debug("Not expanding " + ids.size() + " " + targetType.getName() + "s, limit is "
+                        + config.getMaxExpandSize());
+        }
+        loadedByType.remove(targetType);
+        for(Reference ref : references) {
+          if(ref.targetType == targetType) {
+            ref.resource.addTruncated(ref.property.getName());
+          }
+        }
+        continue;
+      }
+
+      PersistentEntity targetEntity = repositories.getPersistentEntity(targetType);
+      RepositoryMethodInvoker invoker = getInvoker(targetEntity);
+      if(ids.isEmpty() || !invoker.hasFindSome()) {
+        continue;
+      }
+      List<Serializable> idList = new ArrayList<Serializable>();
+      for(Object id : ids) {
+        idList.add((Serializable)id);
+      }
+      Map<Object, Object> loaded = loadedByType.get(targetType);
+      for(Object target : invoker.findAll(idList)) {
+        loaded.put(getId(targetEntity, target), target);
+      }
+    }
+
+    // Attach the inlined resources and prepare the next level
+    Map<String, List<PersistentEntityResource<?>>> nextLevel = new HashMap<String, List<PersistentEntityResource<?>>>();
+    for(Reference ref : references) {
+      Map<Object, Object> loaded = loadedByType.get(ref.targetType);
+      if(null == loaded) {
+        continue;
+      }
+      PersistentEntity targetEntity = repositories.getPersistentEntity(ref.targetType);
+      List<PersistentEntityResource<?>> inlined = new ArrayList<PersistentEntityResource<?>>();
+      for(Object id : ref.ids) {
+        Object target = (null != id ? loaded.get(id) : null);
+        if(null == target) {
+          continue;
+        }
+        PersistentEntityResource<?> targetResource = PersistentEntityResource.wrap(targetEntity, target, baseUri);
+        targetResource.add(selfLink(targetEntity, id, baseUri));
+        inlined.add(targetResource);
+      }
+
+      if(ref.collection) {
+        ref.resource.addExpanded(ref.property.getName(), inlined);
+      } else {
+        ref.resource.addExpanded(ref.property.getName(), inlined.isEmpty() ? null : inlined.get(0));
+      }
+
+      List<PersistentEntityResource<?>> next = nextLevel.get(ref.path);
+      if(null == next) {
+        next = new ArrayList<PersistentEntityResource<?>>();
+        nextLevel.put(ref.path, next);
+      }
+      next.addAll(inlined);
+    }
+
+    for(Map.Entry<String, List<PersistentEntityResource<?>>> entry : nextLevel.entrySet()) {
+      Set<String> rest = children.get(entry.getKey());
+      if(null != rest && !rest.isEmpty()) {
+        expandLevel(entry.getValue(), rest, baseUri, depth + 1);
+      }
+    }
+  }
+
+  private boolean canQueryAssociatedIds(PersistentEntity persistentEntity, Class<?> targetType) {
+    return null != identifierQueryExecutor
+        && identifierQueryExecutor.supports(persistentEntity)
+        // Only IDs are collected, so the targets have to be loadable in bulk
+        && getInvoker(repositories.getPersistentEntity(targetType)).hasFindSome();
+  }
+
+  /**
+   * Fill in the IDs of the given to-many references, which all belong to the same association, with a single query.
+   */
+  @SuppressWarnings({"unchecked"})
+  private void resolveAssociatedIds(List<Reference> refs) {
+    PersistentEntity persistentEntity = refs.get(0).resource.getPersistentEntity();
+    PersistentProperty property = refs.get(0).property;
+    List<Object> ownerIds = new ArrayList<Object>();
+    for(Reference ref : refs) {
+      ownerIds.add(getId(persistentEntity, ref.resource.getContent()));
+    }
+
+    Map<Object, List<Object>> associatedIds = identifierQueryExecutor.findAssociatedIds(persistentEntity,
+                                                                                        property,
+                                                                                        ownerIds);
+    PersistentEntity targetEntity = repositories.getPersistentEntity(refs.get(0).targetType);
+    for(int i = 0; i < refs.size(); i++) {
+      Reference ref = refs.get(i);
+      if(null == associatedIds) {
+        // The store can't do any better than reading the association
+        Object value = BeanWrapper.create(ref.resource.getContent(), conversionService).getProperty(property);
+        if(null != value) {
+          for(Object target : (Iterable<Object>)value) {
+            ref.addTarget(target, getId(targetEntity, target));
+          }
+        }
+      } else if(associatedIds.containsKey(ownerIds.get(i))) {
+        ref.ids.addAll(associatedIds.get(ownerIds.get(i)));
+      }
+    }
+  }
+
+  private RepositoryMethodInvoker getInvoker(PersistentEntity persistentEntity) {
+    Class<?> domainType = persistentEntity.getType();
+    RepositoryMethodInvoker invoker = invokers.get(domainType);
+    if(null == invoker) {
+      invoker = new RepositoryMethodInvoker(repositories.getRepositoryFor(domainType),
+                                            repositories.getRepositoryInformationFor(domainType),
+                                            persistentEntity);
+      invokers.put(domainType, invoker);
+    }
+    return invoker;
+  }
+
+  private boolean isExported(Class<?> type) {
+    if(!repositories.hasRepositoryFor(type)) {
+      return false;
+    }
+    ResourceMapping repoMapping = getResourceMapping(config, repositories.getRepositoryInformationFor(type));
+    return null != repoMapping && repoMapping.isExported();
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private Object getId(PersistentEntity persistentEntity, Object target) {
+    if(null == target) {
+      return null;
+    }
+    if(null != identifierQueryExecutor && identifierQueryExecutor.supports(persistentEntity)) {
+      // The fields of a lazy-loading proxy aren't populated, so ask the store
+      Object id = identifierQueryExecutor.getId(persistentEntity, target);
+      if(null != id) {
+        return id;
+      }
+    }
+    return BeanWrapper.create(target, conversionService).getProperty(persistentEntity.getIdProperty());
+  }
+
+  private Link selfLink(PersistentEntity persistentEntity, Object id, URI baseUri) {
+    RepositoryInformation repoInfo = repositories.getRepositoryInformationFor(persistentEntity.getType());
+    ResourceMapping repoMapping = getResourceMapping(config, repoInfo);
+    return new Link(buildHref(baseUri, repoMapping.getPath(), id.toString()), "self");
+  }
+
+  private static class Reference {
+    final PersistentEntityResource<?> resource;
+    final PersistentProperty          property;
+    final Class<?>                    targetType;
+    final String                      path;
+    final boolean                     collection;
+    final List<Object> targets = new ArrayList<Object>();
+    final List<Object> ids     = new ArrayList<Object>();
+
+    private Reference(PersistentEntityResource<?> resource,
+                      PersistentProperty property,
+                      Class<?> targetType,
+                      String path,
+                      boolean collection) {
+      this.resource = resource;
+      this.property = property;
+      this.targetType = targetType;
+      this.path = path;
+      this.collection = collection;
+    }
+
+    void addTarget(Object target, Object id) {
+      targets.add(target);
+      ids.add(id);
+    }
+  }
+
+}
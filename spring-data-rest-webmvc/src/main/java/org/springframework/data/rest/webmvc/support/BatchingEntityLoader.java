@@ -0,0 +1,195 @@
+package org.springframework.data.rest.webmvc.support;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.common.util.concurrent.SettableFuture;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
+
+/**
+ * Collects single-entity lookups issued by concurrent requests and resolves them with one {@literal
+ * findAll(Iterable<ID>)} call per batch.
+ * <p>
+ * The first request for a domain type opens a batch and waits for at most the configured window. Every lookup for
+ * the same domain type arriving in the meantime joins that batch. The batch is executed when the window elapses or as
+ * soon as it reaches the configured maximum size, whichever comes first, and each waiting request gets its own
+ * entity (or {@literal null} if it doesn't exist).
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class BatchingEntityLoader {
+
+  private final RepositoryRestConfiguration config;
+  private final ConversionService           conversionService;
+  private final Map<Class<?>, Batch> openBatches = new HashMap<Class<?>, Batch>();
+
+  public BatchingEntityLoader(RepositoryRestConfiguration config,
+                              ConversionService conversionService) {
+    this.config = config;
+    this.conversionService = conversionService;
+  }
+
+  /**
+   * Whether lookups against the given repository can be batched.
+   *
+   * @param repoMethodInvoker
+   *     Invoker for the repository in question.
+   *
+   * @return {@literal true} if batching is enabled and the repository exposes {@literal findAll(Iterable<ID>)}.
+   */
+  public boolean supports(RepositoryMethodInvoker repoMethodInvoker) {
+    return config.isFindOneBatchingEnabled() && repoMethodInvoker.hasFindSome();
+  }
+
+  /**
+   * Look up a single entity, possibly as part of a batch with other concurrent lookups for the same domain type.
+   *
+   * @param repoMethodInvoker
+   *     Invoker for the repository managing the entity.
+   * @param persistentEntity
+   *     Metadata of the entity.
+   * @param id
+   *     The ID, already converted to the type of the ID property.
+   *
+   * @return The entity or {@literal null} if none exists with the given ID.
+   */
+  public Object findOne(RepositoryMethodInvoker repoMethodInvoker,
+                        PersistentEntity<?, ?> persistentEntity,
+                        Serializable id) {
+    Class<?> domainType = persistentEntity.getType();
+    Batch batch;
+    SettableFuture<Object> result;
+    boolean leader = false;
+    boolean full = false;
+    synchronized(openBatches) {
+      batch = openBatches.get(domainType);
+      if(null == batch) {
+        batch = new Batch(repoMethodInvoker, persistentEntity);
+        openBatches.put(domainType, batch);
+        leader = true;
+      }
+      result = batch.add(id);
+      if(batch.size() >= config.getFindOneMaxBatchSize()) {
+        openBatches.remove(domainType);
+        full = true;
+      }
+    }
+
+    if(full) {
+      batch.flush();
+    } else if(leader) {
+      batch.awaitFull(config.getFindOneBatchWindow());
+      synchronized(openBatches) {
+        if(openBatches.get(domainType) == batch) {
+          openBatches.remove(domainType);
+        }
+      }
+      batch.flush();
+    }
+
+    return await(result);
+  }
+
+  private static Object await(SettableFuture<Object> result) {
+    boolean interrupted = false;
+    try {
+      while(true) {
+        try {
+          return result.get();
+        } catch(InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } catch(ExecutionException e) {
+      Throwable cause = e.getCause();
+      if(cause instanceof RuntimeException) {
+        throw (RuntimeException)cause;
+      }
+      if(cause instanceof Error) {
+        throw (Error)cause;
+      }
+      throw new IllegalStateException(cause);
+    } finally {
+      if(interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private class Batch {
+    final RepositoryMethodInvoker                   repoMethodInvoker;
+    final PersistentProperty<?>                     idProperty;
+    final Map<Serializable, SettableFuture<Object>> lookups = new LinkedHashMap<Serializable, SettableFuture<Object>>();
+    final CountDownLatch                            full    = new CountDownLatch(1);
+    final AtomicBoolean                             flushed = new AtomicBoolean(false);
+
+    private Batch(RepositoryMethodInvoker repoMethodInvoker, PersistentEntity<?, ?> persistentEntity) {
+      this.repoMethodInvoker = repoMethodInvoker;
+      this.idProperty = persistentEntity.getIdProperty();
+    }
+
+    SettableFuture<Object> add(Serializable id) {
+      SettableFuture<Object> lookup = lookups.get(id);
+      if(null == lookup) {
+        lookup = SettableFuture.create();
+        lookups.put(id, lookup);
+      }
+      return lookup;
+    }
+
+    int size() {
+      return lookups.size();
+    }
+
+    void awaitFull(long windowMillis) {
+      try {
+        full.await(windowMillis, TimeUnit.MILLISECONDS);
+      } catch(InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @SuppressWarnings({"unchecked"})
+    void flush() {
+      if(!flushed.compareAndSet(false, true)) {
+        return;
+      }
+      full.countDown();
+
+      try {
+        Iterable<Object> entities = repoMethodInvoker.findAll(new ArrayList<Serializable>(lookups.keySet()));
+        if(null != entities) {
+          for(Object entity : entities) {
+            Object id = BeanWrapper.create(entity, conversionService).getProperty((PersistentProperty)idProperty);
+            SettableFuture<Object> lookup = lookups.get(id);
+            if(null != lookup) {
+              lookup.set(entity);
+            }
+          }
+        }
+        for(SettableFuture<Object> lookup : lookups.values()) {
+          // Anything not found resolves to null, just like findOne
+          lookup.set(null);
+        }
+      } catch(Throwable t) {
+        for(SettableFuture<Object> lookup : lookups.values()) {
+          lookup.setException(t);
+        }
+      }
+    }
+  }
+
+}
@@ -0,0 +1,38 @@
+package org.springframework.data.rest.webmvc.support;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * A pre-serialized response body along with a strong entity tag computed from its bytes.
+ *
+ * @author Jon Brisbin
+ */
+public class CachedRepresentation {
+
+  private final byte[] body;
+  private final String etag;
+
+  public CachedRepresentation(byte[] body) {
+    this.body = body;
+    this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+  }
+
+  /**
+   * The serialized body. Callers must not modify the returned array.
+   *
+   * @return Body of the response.
+   */
+  public byte[] getBody() {
+    return body;
+  }
+
+  /**
+   * The quoted entity tag of the body.
+   *
+   * @return Strong entity tag.
+   */
+  public String getETag() {
+    return etag;
+  }
+
+}
@@ -0,0 +1,93 @@
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Pool of {@link Deflater}s along with the buffers needed to compress a response, so compressing a response doesn't
+ * allocate a new native deflater and several kilobytes of buffers every time.
+ * <p>
+ * Deflaters producing raw deflate data (for {@literal gzip}, which adds its own header and trailer) and deflaters
+ * producing zlib data (for {@literal deflate}) are pooled separately. Entries beyond the pool's capacity are released
+ * right away.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class DeflaterPool {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final int           level;
+  private final int           pendingSize;
+  private final int           maxPooled;
+  private final Queue<Entry>  gzipEntries    = new ConcurrentLinkedQueue<Entry>();
+  private final Queue<Entry>  deflateEntries = new ConcurrentLinkedQueue<Entry>();
+  private final AtomicInteger pooled         = new AtomicInteger();
+
+  /**
+   * @param level
+   *     Compression level, from {@literal 0} to {@literal 9} or {@literal -1} for the default.
+   * @param pendingSize
+   *     Size of the buffer that holds output until it's known whether it should be compressed.
+   * @param maxPooled
+   *     Maximum number of idle entries kept.
+   */
+  public DeflaterPool(int level, int pendingSize, int maxPooled) {
+    this.level = level;
+    this.pendingSize = pendingSize;
+    this.maxPooled = maxPooled;
+  }
+
+  /**
+   * Take an entry from the pool, creating one if none is idle.
+   *
+   * @param gzip
+   *     {@literal true} for a raw deflater used to write {@literal gzip}, {@literal false} for {@literal deflate}.
+   *
+   * @return An entry, which must be handed back with {@link #release(Entry)}.
+   */
+  public Entry borrow(boolean gzip) {
+    Entry entry = (gzip ? gzipEntries : deflateEntries).poll();
+    if(null == entry) {
+      return new Entry(new Deflater(level, gzip), gzip, pendingSize);
+    }
+    pooled.decrementAndGet();
+    return entry;
+  }
+
+  /**
+   * Hand an entry back to the pool.
+   *
+   * @param entry
+   *     The entry to return.
+   */
+  public void release(Entry entry) {
+    entry.deflater.reset();
+    entry.crc.reset();
+    if(pooled.incrementAndGet() > maxPooled) {
+      pooled.decrementAndGet();
+      entry.deflater.end();
+      return;
+    }
+    (entry.gzip ? gzipEntries : deflateEntries).offer(entry);
+  }
+
+  public static class Entry {
+    public final Deflater deflater;
+    public final boolean  gzip;
+    public final CRC32    crc    = new CRC32();
+    public final byte[]   buffer = new byte[BUFFER_SIZE];
+    public final byte[]   pending;
+
+    private Entry(Deflater deflater, boolean gzip, int pendingSize) {
+      this.deflater = deflater;
+      this.gzip = gzip;
+      this.pending = new byte[pendingSize];
+    }
+  }
+
+}
@@ -0,0 +1,102 @@
+package org.springframework.data.rest.webmvc.support;
+
+import static org.springframework.data.rest.core.util.UriUtils.*;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.rest.repository.PersistentEntityResource;
+import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
+import org.springframework.data.rest.repository.support.EntityStreamExecutor;
+import org.springframework.hateoas.Link;
+
+/**
+ * Response body of a repository export. Nothing is loaded until the export is written, then the entities are handed
+ * out one at a time, wrapped as {@link PersistentEntityResource}s.
+ * <p>
+ * If an {@link EntityStreamExecutor} supports the entity, the store's native means of streaming is used. Otherwise the
+ * repository is paged through, ordered by ID, one chunk at a time.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class EntityExport {
+
+  private final PersistentEntity        persistentEntity;
+  private final RepositoryMethodInvoker repoMethodInvoker;
+  private final EntityStreamExecutor    streamExecutor;
+  private final ConversionService       conversionService;
+  private final URI                     baseUri;
+  private final String                  repositoryPath;
+  private final int                     chunkSize;
+
+  public EntityExport(PersistentEntity persistentEntity,
+                      RepositoryMethodInvoker repoMethodInvoker,
+                      EntityStreamExecutor streamExecutor,
+                      ConversionService conversionService,
+                      URI baseUri,
+                      String repositoryPath,
+                      int chunkSize) {
+    this.persistentEntity = persistentEntity;
+    this.repoMethodInvoker = repoMethodInvoker;
+    this.streamExecutor = streamExecutor;
+    this.conversionService = conversionService;
+    this.baseUri = baseUri;
+    this.repositoryPath = repositoryPath;
+    this.chunkSize = chunkSize;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Hand every entity of the repository to the given callback.
+   *
+   * @param callback
+   *     Receives each entity as a {@link PersistentEntityResource}.
+   *
+   * @throws IOException
+   *     If the callback fails.
+   */
+  public void forEach(final EntityStreamExecutor.EntityCallback callback) throws IOException {
+    EntityStreamExecutor.EntityCallback wrapping = new EntityStreamExecutor.EntityCallback() {
+      @Override public void doWithEntity(Object entity) throws IOException {
+        callback.doWithEntity(toResource(entity));
+      }
+    };
+
+    if(null != streamExecutor && streamExecutor.supports(persistentEntity)) {
+      streamExecutor.stream(persistentEntity, chunkSize, wrapping);
+    } else if(repoMethodInvoker.hasFindAllPageable()) {
+      Sort byId = new Sort(persistentEntity.getIdProperty().getName());
+      Page<Object> page;
+      int pageNumber = 0;
+      do {
+        page = repoMethodInvoker.findAll(new PageRequest(pageNumber++, chunkSize, byId));
+        for(Object entity : page) {
+          wrapping.doWithEntity(entity);
+        }
+      } while(page.hasNextPage());
+    } else {
+      for(Object entity : repoMethodInvoker.findAll()) {
+        wrapping.doWithEntity(entity);
+      }
+    }
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private PersistentEntityResource<?> toResource(Object entity) {
+    Object id = BeanWrapper.create(entity, conversionService).getProperty(persistentEntity.getIdProperty());
+    PersistentEntityResource<?> resource = PersistentEntityResource.wrap(persistentEntity, entity, baseUri);
+    resource.add(new Link(buildHref(baseUri, repositoryPath, id.toString()), "self"));
+    return resource;
+  }
+
+}
@@ -0,0 +1,321 @@
+package org.springframework.data.rest.webmvc.support;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.repository.RepositoryBatchConstraintViolationException;
+import org.springframework.data.rest.repository.RepositoryConstraintViolationException;
+import org.springframework.data.rest.repository.context.AfterSaveBatchEvent;
+import org.springframework.data.rest.repository.context.BatchRepositoryEvent;
+import org.springframework.data.rest.repository.context.BeforeSaveBatchEvent;
+import org.springframework.data.rest.repository.context.BeforeSaveEvent;
+import org.springframework.data.rest.repository.context.RepositoryEvent;
+import org.springframework.data.rest.repository.context.RepositoryEventBus;
+import org.springframework.data.rest.repository.context.RepositoryEventUtils;
+import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.Errors;
+
+/**
+ * Imports entities from a request body without holding more than one chunk of them in memory. Each entity is read
+ * with the same deserializers used for single {@literal POST}s. Entities are saved one chunk at a time with {@literal
+ * save(Iterable)}, announced by a {@link BeforeSaveBatchEvent}, which validates the whole chunk, followed by a {@link
+ * BeforeSaveEvent} per entity, and followed by an {@link AfterSaveBatchEvent} per chunk. Entities a batch handler
+ * rejects are taken out of the chunk and the rest of it is announced again. Without a {@link RepositoryEventBus}
+ * listeners only see the single-entity events, and each entity is validated through its {@link BeforeSaveEvent} as
+ * it's read.
+ * <p>
+ * Problems are reported per line of input, and for arrays per element with its index and the line and column it
+ * starts at. An entity that can't be read or fails validation is skipped, the rest of the input is still imported. If
+ * saving a chunk fails, every entity of that chunk is reported as failed.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class EntityImporter implements ApplicationContextAware {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EntityImporter.class);
+
+  private final ObjectMapper                objectMapper;
+  private final RepositoryRestConfiguration config;
+  private       ApplicationContext          applicationContext;
+  @Autowired(required = false)
+  private       RepositoryEventBus          eventBus;
+
+  public EntityImporter(ObjectMapper objectMapper,
+                        RepositoryRestConfiguration config) {
+    this.objectMapper = objectMapper;
+    this.config = config;
+  }
+
+  @Override public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+    this.applicationContext = applicationContext;
+  }
+
+  /**
+   * Import newline-delimited JSON, one entity per line. Blank lines are ignored.
+   *
+   * @param persistentEntity
+   *     Metadata of the entities to import.
+   * @param repoMethodInvoker
+   *     Invoker of the repository to save them to.
+   * @param input
+   *     The request body.
+   *
+   * @return The import's outcome.
+   *
+   * @throws IOException
+   *     If the request body can't be read.
+   */
+  public ImportReport importLines(PersistentEntity persistentEntity,
+                                  RepositoryMethodInvoker repoMethodInvoker,
+                                  Reader input) throws IOException {
+    Chunk chunk = new Chunk(persistentEntity.getType(), repoMethodInvoker);
+    BufferedReader reader = new BufferedReader(input);
+    String line;
+    long lineNr = 0;
+    while(null != (line = reader.readLine())) {
+      lineNr++;
+      if(!StringUtils.hasText(line)) {
+        continue;
+      }
+      Object entity;
+      try {
+        entity = objectMapper.readValue(line, persistentEntity.getType());
+      } catch(JsonProcessingException e) {
+        chunk.report.failed(lineNr, e.getOriginalMessage());
+        continue;
+      } catch(RuntimeException e) {
+        chunk.report.failed(lineNr, e.getMessage());
+        continue;
+      }
+      chunk.add(new Source(lineNr, null, null), entity);
+    }
+    return chunk.flush().report;
+  }
+
+  /**
+   * Import a JSON array of entities. The array is parsed incrementally, element by element. Since a malformed element
+   * leaves the parser without a reliable place to resume, the import stops there.
+   *
+   * @param persistentEntity
+   *     Metadata of the entities to import.
+   * @param repoMethodInvoker
+   *     Invoker of the repository to save them to.
+   * @param input
+   *     The request body.
+   *
+   * @return The import's outcome.
+   *
+   * @throws IOException
+   *     If the request body can't be read.
+   */
+  public ImportReport importArray(PersistentEntity persistentEntity,
+                                  RepositoryMethodInvoker repoMethodInvoker,
+                                  InputStream input) throws IOException {
+    Chunk chunk = new Chunk(persistentEntity.getType(), repoMethodInvoker);
+    JsonParser parser = objectMapper.getJsonFactory().createJsonParser(input);
+    try {
+      JsonToken tok = parser.nextToken();
+      if(tok != JsonToken.START_ARRAY) {
+        chunk.report.failed(parser.getCurrentLocation().getLineNr(), "Expected a JSON array of entities.");
+        return chunk.report.abort();
+      }
+      long element = 0;
+      while(true) {
+        Source source = new Source(parser.getCurrentLocation(), element);
+        Object entity;
+        try {
+          if((tok = parser.nextToken()) == JsonToken.END_ARRAY || null == tok) {
+            break;
+          }
+          source = new Source(parser.getTokenLocation(), element);
+          entity = parser.readValueAs(persistentEntity.getType());
+        } catch(JsonProcessingException e) {
+          source.failed(chunk.report, e.getOriginalMessage()).abort();
+          break;
+        } catch(RuntimeException e) {
+          source.failed(chunk.report, e.getMessage()).abort();
+          break;
+        }
+        chunk.add(source, entity);
+        element++;
+      }
+    } finally {
+      parser.close();
+    }
+    return chunk.flush().report;
+  }
+
+  private void publishEvent(RepositoryEvent event) {
+    RepositoryEventUtils.publish(eventBus, applicationContext, event);
+  }
+
+  private void publishBatch(BatchRepositoryEvent event) {
+    RepositoryEventUtils.publishBatch(eventBus, applicationContext, event);
+  }
+
+  private class Chunk {
+    final Class<?>                domainType;
+    final RepositoryMethodInvoker repoMethodInvoker;
+    final ImportReport report   = new ImportReport();
+    final List<Object> entities = new ArrayList<Object>(config.getImportChunkSize());
+    final List<Source> sources  = new ArrayList<Source>(config.getImportChunkSize());
+
+    private Chunk(Class<?> domainType, RepositoryMethodInvoker repoMethodInvoker) {
+      this.domainType = domainType;
+      this.repoMethodInvoker = repoMethodInvoker;
+    }
+
+    void add(Source source, Object entity) {
+      if(null == eventBus) {
+        try {
+          publishEvent(new BeforeSaveEvent(entity));
+        } catch(RepositoryConstraintViolationException e) {
+          failed(source, e);
+          return;
+        }
+      }
+      entities.add(entity);
+      sources.add(source);
+      if(entities.size() >= config.getImportChunkSize()) {
+        flush();
+      }
+    }
+
+    Chunk flush() {
+      if(entities.isEmpty()) {
+        return this;
+      }
+      try {
+        if(null != eventBus) {
+          beforeSave();
+          if(entities.isEmpty()) {
+            return this;
+          }
+        }
+        Iterable<Object> saved;
+        if(repoMethodInvoker.hasSaveSome()) {
+          saved = repoMethodInvoker.save(entities);
+        } else {
+          List<Object> savedOneByOne = new ArrayList<Object>(entities.size());
+          for(Object entity : entities) {
+            savedOneByOne.add(repoMethodInvoker.save(entity));
+          }
+          saved = savedOneByOne;
+        }
+        List<Object> savedEntities = new ArrayList<Object>(entities.size());
+        for(Object entity : saved) {
+          savedEntities.add(entity);
+        }
+        publishBatch(new AfterSaveBatchEvent(domainType, savedEntities));
+        report.imported(entities.size());
+        if(LOG.isDebugEnabled()) {
+          LOG.debug("Imported " + report.getImported() + " entities up to line "
+                        + sources.get(sources.size() - 1).line);
+        }
+      } catch(RuntimeException e) {
+        for(Source source : sources) {
+          source.failed(report, e.getMessage());
+        }
+      }
+      entities.clear();
+      sources.clear();
+      return this;
+    }
+
+    /**
+     * Announce the chunk to batch handlers, then every entity to single-entity handlers, taking out the entities
+     * they reject.
+     */
+    private void beforeSave() {
+      while(!entities.isEmpty()) {
+        try {
+          eventBus.publish(new BeforeSaveBatchEvent(domainType, new ArrayList<Object>(entities)));
+          break;
+        } catch(RepositoryBatchConstraintViolationException e) {
+          List<Errors> errors = e.getErrors();
+          int rejected = 0;
+          for(int i = 0, kept = 0; i < entities.size(); i++) {
+            Errors entityErrors = (i < errors.size() ? errors.get(i) : null);
+            if(null != entityErrors) {
+              failed(sources.get(i), new RepositoryConstraintViolationException(entityErrors));
+              rejected++;
+            } else {
+              entities.set(kept, entities.get(i));
+              sources.set(kept++, sources.get(i));
+            }
+          }
+          if(rejected == 0) {
+            throw e;
+          }
+          truncate(entities.size() - rejected);
+        }
+      }
+      for(int i = 0; i < entities.size(); ) {
+        try {
+          eventBus.publish(new BeforeSaveEvent(entities.get(i)));
+          i++;
+        } catch(RepositoryConstraintViolationException e) {
+          failed(sources.remove(i), e);
+          entities.remove(i);
+        }
+      }
+    }
+
+    private void truncate(int size) {
+      entities.subList(size, entities.size()).clear();
+      sources.subList(size, sources.size()).clear();
+    }
+
+    private void failed(Source source, RepositoryConstraintViolationException e) {
+      source.failed(report, new RepositoryConstraintViolationExceptionMessage(e, applicationContext).getErrors());
+    }
+  }
+
+  /**
+   * Where in the input an entity was read from.
+   */
+  private static class Source {
+    final long    line;
+    final Integer column;
+    final Long    element;
+
+    private Source(long line, Integer column, Long element) {
+      this.line = line;
+      this.column = column;
+      this.element = element;
+    }
+
+    private Source(JsonLocation location, long element) {
+      this(location.getLineNr(), location.getColumnNr(), element);
+    }
+
+    ImportReport failed(ImportReport report, String message) {
+      return failed(report, Collections.singletonList(message));
+    }
+
+    ImportReport failed(ImportReport report, List<String> messages) {
+      return report.failed(line, column, element, messages);
+    }
+  }
+
+}
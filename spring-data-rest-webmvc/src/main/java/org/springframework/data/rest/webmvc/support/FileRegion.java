@@ -0,0 +1,129 @@
+package org.springframework.data.rest.webmvc.support;
+
+import java.io.File;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * A byte range of a file to be sent as a response body.
+ *
+ * @author Jon Brisbin
+ */
+public class FileRegion {
+
+  private final File    file;
+  private final long    position;
+  private final long    count;
+  private final boolean partial;
+  private       Runnable releaseCallback;
+
+  public FileRegion(File file, long position, long count, boolean partial) {
+    this.file = file;
+    this.position = position;
+    this.count = count;
+    this.partial = partial;
+  }
+
+  /**
+   * Select the part of a file requested by a {@literal Range} header. Only a single {@literal bytes} range is
+   * honored, anything else is answered with the whole file.
+   *
+   * @param file
+   *     The file to send.
+   * @param rangeHeader
+   *     Value of the {@literal Range} request header, may be {@literal null}.
+   *
+   * @return The selected region or {@literal null} if the range can't be satisfied.
+   */
+  public static FileRegion forRange(File file, String rangeHeader) {
+    long length = file.length();
+    FileRegion whole = new FileRegion(file, 0, length, false);
+    if(!StringUtils.hasText(rangeHeader) || !rangeHeader.startsWith("bytes=") || rangeHeader.indexOf(',') > -1) {
+      return whole;
+    }
+
+    String spec = rangeHeader.substring("bytes=".length()).trim();
+    int dash = spec.indexOf('-');
+    if(dash < 0) {
+      return whole;
+    }
+    long first;
+    long last;
+    try {
+      if(dash == 0) {
+        // Suffix range: the last N bytes
+        long suffix = Long.parseLong(spec.substring(1));
+        if(suffix <= 0) {
+          return null;
+        }
+        first = Math.max(0, length - suffix);
+        last = length - 1;
+      } else {
+        first = Long.parseLong(spec.substring(0, dash));
+        last = (dash == spec.length() - 1 ? length - 1 : Long.parseLong(spec.substring(dash + 1)));
+      }
+    } catch(NumberFormatException e) {
+      return whole;
+    }
+    if(first >= length || last < first) {
+      return null;
+    }
+    last = Math.min(last, length - 1);
+    return new FileRegion(file, first, last - first + 1, true);
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public long getPosition() {
+    return position;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Whether this is only part of the file, to be sent as {@literal 206 Partial Content}.
+   *
+   * @return {@literal true} if a range was selected.
+   */
+  public boolean isPartial() {
+    return partial;
+  }
+
+  /**
+   * Set what to do once the region has been sent, e.g. let go of the file it's read from.
+   *
+   * @param releaseCallback
+   *     Called by {@link #release()}.
+   *
+   * @return {@literal this}
+   */
+  public FileRegion setReleaseCallback(Runnable releaseCallback) {
+    this.releaseCallback = releaseCallback;
+    return this;
+  }
+
+  /**
+   * Signal that the region has been sent, or failed to be.
+   */
+  public void release() {
+    Runnable callback = releaseCallback;
+    releaseCallback = null;
+    if(null != callback) {
+      callback.run();
+    }
+  }
+
+  /**
+   * Value of the {@literal Content-Range} header for this region.
+   *
+   * @return The content range.
+   */
+  public String getContentRange() {
+    return "bytes " + position + "-" + (position + count - 1) + "/" + file.length();
+  }
+
+}
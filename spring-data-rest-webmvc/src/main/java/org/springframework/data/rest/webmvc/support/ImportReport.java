@@ -0,0 +1,130 @@
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Outcome of a bulk import: how many entities were saved and which lines of the input failed, and why. Failures of
+ * array elements also carry the element's index and the column it starts at, since a whole array may be on one line.
+ * <p>
+ * Only the first {@link #MAX_ERRORS} failures are listed so the report stays small no matter how broken the input
+ * is, but all of them are counted.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class ImportReport {
+
+  public static final int MAX_ERRORS = 1000;
+
+  private final List<LineError> errors   = new ArrayList<LineError>();
+  private       long            imported = 0;
+  private       long            failed   = 0;
+  private       boolean         aborted  = false;
+
+  public ImportReport imported(int count) {
+    imported += count;
+    return this;
+  }
+
+  public ImportReport failed(long line, List<String> messages) {
+    return failed(line, null, null, messages);
+  }
+
+  public ImportReport failed(long line, Integer column, Long element, List<String> messages) {
+    failed++;
+    if(errors.size() < MAX_ERRORS) {
+      errors.add(new LineError(line, column, element, messages));
+    }
+    return this;
+  }
+
+  public ImportReport failed(long line, String message) {
+    return failed(line, Collections.singletonList(message));
+  }
+
+  public ImportReport abort() {
+    aborted = true;
+    return this;
+  }
+
+  @JsonProperty("imported")
+  public long getImported() {
+    return imported;
+  }
+
+  @JsonProperty("failed")
+  public long getFailed() {
+    return failed;
+  }
+
+  /**
+   * Whether the input couldn't be parsed any further, so the remainder of it wasn't imported.
+   *
+   * @return {@literal true} if the import stopped early.
+   */
+  @JsonProperty("aborted")
+  public boolean isAborted() {
+    return aborted;
+  }
+
+  @JsonProperty("errors")
+  public List<LineError> getErrors() {
+    return errors;
+  }
+
+  public static class LineError {
+    private final long         line;
+    private final Integer      column;
+    private final Long         element;
+    private final List<String> messages;
+
+    public LineError(long line, List<String> messages) {
+      this(line, null, null, messages);
+    }
+
+    public LineError(long line, Integer column, Long element, List<String> messages) {
+      this.line = line;
+      this.column = column;
+      this.element = element;
+      this.messages = messages;
+    }
+
+    @JsonProperty("line")
+    public long getLine() {
+      return line;
+    }
+
+    /**
+     * Get the column the failed input starts at.
+     *
+     * @return The column or {@literal null} if the input is line-delimited.
+     */
+    @JsonProperty("column")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Integer getColumn() {
+      return column;
+    }
+
+    /**
+     * Get the index of the failed element within the imported array, starting at 0.
+     *
+     * @return The index or {@literal null} if the input is line-delimited.
+     */
+    @JsonProperty("element")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getElement() {
+      return element;
+    }
+
+    @JsonProperty("messages")
+    public List<String> getMessages() {
+      return messages;
+    }
+  }
+
+}
@@ -0,0 +1,126 @@
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.hateoas.ResourceProcessor;
+
+/**
+ * Coalesces identical concurrent requests into a single repository invocation. The first caller for a given key runs
+ * the lookup, every other caller that arrives while that lookup is still in flight waits for and shares its result.
+ * <p>
+ * Only the repository invocation is shared. Each request still builds its own {@link org.springframework.hateoas.Resource}
+ * from the shared domain object, so {@link ResourceProcessor}s see a request-private resource. Since the shared object
+ * may have been loaded by another request thread, coalescing is disabled by default and, unless configured otherwise,
+ * is also switched off whenever {@link ResourceProcessor}s are registered.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class RequestCoalescer {
+
+  private final ConcurrentMap<String, FutureTask<Object>> inFlight = new ConcurrentHashMap<String, FutureTask<Object>>();
+  @Autowired
+  private RepositoryRestConfiguration config;
+  @Autowired(required = false)
+  private List<ResourceProcessor<?>>  resourceProcessors = new ArrayList<ResourceProcessor<?>>();
+
+  /**
+   * Whether requests are actually being coalesced given the current configuration and the registered {@link
+   * ResourceProcessor}s.
+   *
+   * @return {@literal true} if identical requests will share a repository invocation, {@literal false} otherwise.
+   */
+  public boolean isEnabled() {
+    if(null == config || !config.isRequestCoalescingEnabled()) {
+      return false;
+    }
+    return resourceProcessors.isEmpty() || config.isRequestCoalescingWithResourceProcessors();
+  }
+
+  /**
+   * Run the given {@link Callable} or, if an identical invocation is already in flight, wait for and return its
+   * result.
+   *
+   * @param key
+   *     Normalized key identifying the invocation.
+   * @param callable
+   *     The actual repository invocation.
+   * @param <T>
+   *     Type of the result.
+   *
+   * @return The result of the (possibly shared) invocation.
+   */
+  @SuppressWarnings({"unchecked"})
+  public <T> T execute(String key, Callable<T> callable) {
+    if(!isEnabled()) {
+      return call(callable);
+    }
+
+    FutureTask<Object> task = new FutureTask<Object>((Callable<Object>)callable);
+    FutureTask<Object> existing = inFlight.putIfAbsent(key, task);
+    if(null != existing) {
+      return (T)await(existing);
+    }
+
+    try {
+      task.run();
+    } finally {
+      inFlight.remove(key, task);
+    }
+    return (T)await(task);
+  }
+
+  /**
+   * Number of distinct invocations currently in flight.
+   *
+   * @return Count of in-flight invocations.
+   */
+  public int getInFlightCount() {
+    return inFlight.size();
+  }
+
+  private static <T> T call(Callable<T> callable) {
+    try {
+      return callable.call();
+    } catch(RuntimeException e) {
+      throw e;
+    } catch(Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Object await(FutureTask<Object> task) {
+    boolean interrupted = false;
+    try {
+      while(true) {
+        try {
+          return task.get();
+        } catch(InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } catch(ExecutionException e) {
+      Throwable cause = e.getCause();
+      if(cause instanceof RuntimeException) {
+        throw (RuntimeException)cause;
+      }
+      if(cause instanceof Error) {
+        throw (Error)cause;
+      }
+      throw new IllegalStateException(cause);
+    } finally {
+      if(interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,225 @@
+package org.springframework.data.rest.webmvc.support;
+
+import static org.springframework.data.rest.repository.support.ResourceMappingUtils.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.CachePolicy;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.config.ResourceMapping;
+import org.springframework.data.rest.repository.invoke.MethodParameterConversionService;
+import org.springframework.data.rest.repository.invoke.RepositoryMethod;
+import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
+
+/**
+ * Routes search requests to query methods.
+ * <p>
+ * For every exported repository a table from search path to {@link Route} is compiled up front. A route knows the
+ * query method to invoke, its caching policy and how each of its arguments is filled in from a request, so resolving
+ * a search is a single map lookup and binding its arguments doesn't involve any reflection.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class SearchRoutes implements InitializingBean {
+
+  private final Repositories                     repositories;
+  private final RepositoryRestConfiguration      config;
+  private final MethodParameterConversionService conversionService;
+  private final Map<Class<?>, Map<String, Route>> routes = new ConcurrentHashMap<Class<?>, Map<String, Route>>();
+
+  public SearchRoutes(Repositories repositories,
+                      RepositoryRestConfiguration config,
+                      ConversionService conversionService) {
+    this.repositories = repositories;
+    this.config = config;
+    this.conversionService = new MethodParameterConversionService(conversionService);
+  }
+
+  @Override public void afterPropertiesSet() throws Exception {
+    for(Class<?> domainType : repositories) {
+      getRoutes(repositories.getRepositoryInformationFor(domainType));
+    }
+  }
+
+  /**
+   * Find the query method exposed under the given search path.
+   *
+   * @param repoInfo
+   *     The repository being searched.
+   * @param path
+   *     The path of the search, relative to the repository's {@literal search} resource.
+   *
+   * @return The route or {@literal null} if there's no such search.
+   */
+  public Route getRoute(RepositoryInformation repoInfo, String path) {
+    return getRoutes(repoInfo).get(path);
+  }
+
+  private Map<String, Route> getRoutes(RepositoryInformation repoInfo) {
+    Map<String, Route> repoRoutes = routes.get(repoInfo.getDomainType());
+    if(null == repoRoutes) {
+      repoRoutes = compile(repoInfo);
+      routes.put(repoInfo.getDomainType(), repoRoutes);
+    }
+    return repoRoutes;
+  }
+
+  private Map<String, Route> compile(RepositoryInformation repoInfo) {
+    Class<?> domainType = repoInfo.getDomainType();
+    ResourceMapping repoMapping = getResourceMapping(config, repoInfo);
+    PersistentEntity persistentEntity = repositories.getPersistentEntity(domainType);
+    RepositoryMethodInvoker repoMethodInvoker = new RepositoryMethodInvoker(repositories.getRepositoryFor(domainType),
+                                                                            repoInfo,
+                                                                            persistentEntity);
+    Map<String, RepositoryMethod> queryMethods = repoMethodInvoker.getQueryMethods();
+
+    Map<String, Route> repoRoutes = new HashMap<String, Route>();
+    // Later entries win: paths from @RestResource, then method names, then paths configured on the repository
+    Map<String, Route> byName = new HashMap<String, Route>();
+    for(Map.Entry<String, RepositoryMethod> entry : queryMethods.entrySet()) {
+      String methodName = entry.getKey();
+      Route route = new Route(repoMethodInvoker, entry.getValue(), cachePolicy(repoMapping, entry.getValue()));
+      byName.put(methodName, route);
+      repoRoutes.put(findPath(entry.getValue().getMethod()), route);
+    }
+    repoRoutes.putAll(byName);
+    if(null != repoMapping) {
+      for(Map.Entry<String, ResourceMapping> entry : repoMapping.getResourceMappings().entrySet()) {
+        Route route = byName.get(entry.getKey());
+        if(null != route && null != entry.getValue().getPath()) {
+          repoRoutes.put(entry.getValue().getPath(), route);
+        }
+      }
+    }
+    return repoRoutes;
+  }
+
+  private CachePolicy cachePolicy(ResourceMapping repoMapping, RepositoryMethod repoMethod) {
+    String methodName = repoMethod.getMethod().getName();
+    ResourceMapping methodMapping = merge(repoMethod.getMethod(),
+                                          (null != repoMapping ? repoMapping.getResourceMappingFor(methodName) : null));
+    return methodMapping.getCachePolicy();
+  }
+
+  /**
+   * A query method exposed as a search, along with how to bind its arguments.
+   */
+  public class Route {
+    private final RepositoryMethodInvoker repoMethodInvoker;
+    private final RepositoryMethod        repoMethod;
+    private final CachePolicy             cachePolicy;
+    private final Binder[]                binders;
+
+    private Route(RepositoryMethodInvoker repoMethodInvoker, RepositoryMethod repoMethod, CachePolicy cachePolicy) {
+      this.repoMethodInvoker = repoMethodInvoker;
+      this.repoMethod = repoMethod;
+      this.cachePolicy = cachePolicy;
+
+      List<MethodParameter> methodParams = repoMethod.getParameters();
+      this.binders = new Binder[methodParams.size()];
+      for(int i = 0; i < binders.length; i++) {
+        binders[i] = new Binder(methodParams.get(i), repoMethod.getParameterNames().get(i));
+      }
+    }
+
+    public RepositoryMethod getRepositoryMethod() {
+      return repoMethod;
+    }
+
+    /**
+     * Get the caching policy declared for the query method itself.
+     *
+     * @return The policy or {@literal null} if the one of the repository applies.
+     */
+    public CachePolicy getCachePolicy() {
+      return cachePolicy;
+    }
+
+    /**
+     * Build the arguments of the query method from the request.
+     *
+     * @param request
+     *     The search request, whose parameters are converted to the method's argument types.
+     * @param pagingAndSorting
+     *     Paging and sorting requested, passed to {@link Pageable} and {@link Sort} arguments.
+     *
+     * @return The arguments, in order.
+     */
+    public Object[] bind(HttpServletRequest request, PagingAndSorting pagingAndSorting) {
+      Object[] paramValues = new Object[binders.length];
+      for(int i = 0; i < binders.length; i++) {
+        paramValues[i] = binders[i].bind(request, pagingAndSorting);
+      }
+      return paramValues;
+    }
+
+    /**
+     * Invoke the query method.
+     *
+     * @param paramValues
+     *     Arguments as created by {@link #bind(HttpServletRequest, PagingAndSorting)}.
+     *
+     * @return The result of the query.
+     */
+    public Object invoke(Object[] paramValues) {
+      return repoMethodInvoker.invokeQueryMethod(repoMethod, paramValues);
+    }
+
+    /**
+     * Fills in a single argument.
+     */
+    private class Binder {
+      final MethodParameter param;
+      final String          name;
+      final boolean         pageable;
+      final boolean         sort;
+
+      private Binder(MethodParameter param, String name) {
+        this.param = param;
+        this.name = name;
+        this.pageable = Pageable.class.isAssignableFrom(param.getParameterType());
+        this.sort = Sort.class.isAssignableFrom(param.getParameterType());
+      }
+
+      Object bind(HttpServletRequest request, PagingAndSorting pagingAndSorting) {
+        if(pageable) {
+          return new PageRequest(pagingAndSorting.getPageNumber(),
+                                 pagingAndSorting.getPageSize(),
+                                 pagingAndSorting.getSort());
+        }
+        if(sort) {
+          return pagingAndSorting.getSort();
+        }
+
+        String[] queryParamVals = request.getParameterValues(name);
+        if(null == queryParamVals) {
+          if(name.startsWith("arg")) {
+            throw new IllegalArgumentException("No @Param annotation found on query method "
+                                                   + repoMethod.getMethod().getName()
+                                                   + " for parameter " + param.getParameterName());
+          } else {
+            throw new IllegalArgumentException("No query parameter specified for "
+                                                   + repoMethod.getMethod().getName() + " param '"
+                                                   + name + "'");
+          }
+        }
+        return conversionService.convert(queryParamVals, MethodParameterConversionService.STRING_ARRAY, param);
+      }
+    }
+  }
+
+}
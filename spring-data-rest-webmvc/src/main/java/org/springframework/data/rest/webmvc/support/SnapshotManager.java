@@ -0,0 +1,293 @@
+package org.springframework.data.rest.webmvc.support;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
+import org.springframework.data.rest.repository.support.DataVersions;
+import org.springframework.data.rest.repository.support.EntityStreamExecutor;
+import org.springframework.data.rest.webmvc.convert.NdjsonHttpMessageConverter;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Keeps NDJSON dumps of whole repositories on disk so they can be downloaded repeatedly without rendering the
+ * entities again.
+ * <p>
+ * Snapshots are kept per domain type and base URI their links are rendered against. A snapshot is current as long as
+ * the {@link DataVersions data version} of its domain type is unchanged. Asking for a snapshot that isn't current
+ * starts rendering a new one in the background, through the same serializers used for exports, and hands out the
+ * previous one until its replacement is complete. Only one snapshot per domain type and base URI is rendered at a
+ * time, so a repository that changes faster than it can be rendered is still served. Once its replacement is
+ * complete, the previous file is removed after the configured
+ * {@link RepositoryRestConfiguration#getSnapshotRetention() retention} has passed and the last download reading it has
+ * {@link Snapshot#release() released} it.
+ * </p>
+ *
+ * @author Jon Brisbin
+ */
+public class SnapshotManager implements DisposableBean {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SnapshotManager.class);
+
+  private final RepositoryRestConfiguration config;
+  private final DataVersions                dataVersions;
+  private final NdjsonHttpMessageConverter  ndjsonConverter;
+  private final ConversionService           conversionService;
+  private final EntityStreamExecutor        streamExecutor;
+  private final Map<SnapshotKey, Snapshot> snapshots = new ConcurrentHashMap<SnapshotKey, Snapshot>();
+  private final Map<SnapshotKey, Snapshot> rendering = new ConcurrentHashMap<SnapshotKey, Snapshot>();
+  private final AtomicLong                 sequence  = new AtomicLong();
+  private final ScheduledExecutorService renderer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+    @Override public Thread newThread(Runnable r) {
+      Thread t = new Thread(r, "spring-data-rest-snapshot");
+      t.setDaemon(true);
+      return t;
+    }
+  });
+
+  public SnapshotManager(RepositoryRestConfiguration config,
+                         DataVersions dataVersions,
+                         NdjsonHttpMessageConverter ndjsonConverter,
+                         ConversionService conversionService,
+                         EntityStreamExecutor streamExecutor) {
+    this.config = config;
+    this.dataVersions = dataVersions;
+    this.ndjsonConverter = ndjsonConverter;
+    this.conversionService = conversionService;
+    this.streamExecutor = streamExecutor;
+  }
+
+  /**
+   * Get the latest snapshot of a repository, starting to render a new one if it isn't current.
+   *
+   * @param persistentEntity
+   *     Metadata of the repository's entities.
+   * @param repoMethodInvoker
+   *     Invoker of the repository.
+   * @param repositoryPath
+   *     Path the repository is exported under.
+   * @param baseUri
+   *     Base URI links are rendered against.
+   *
+   * @return The latest snapshot, which is outdated while its replacement is rendered, or {@literal null} if the first
+   *         one is still being rendered.
+   */
+  public Snapshot getSnapshot(PersistentEntity persistentEntity,
+                              RepositoryMethodInvoker repoMethodInvoker,
+                              String repositoryPath,
+                              URI baseUri) {
+    Class<?> domainType = persistentEntity.getType();
+    SnapshotKey key = new SnapshotKey(domainType, baseUri);
+    long dataVersion = dataVersions.getVersion(domainType);
+    Snapshot snapshot = snapshots.get(key);
+    if(null != snapshot && snapshot.isCurrent(dataVersion)) {
+      return snapshot;
+    }
+
+    synchronized(rendering) {
+      // A rendering that is already outdated is finished anyway. The next request starts another one if need be.
+      if(!rendering.containsKey(key)) {
+        File file = new File(config.getSnapshotDirectory(),
+                             repositoryPath + "-" + dataVersion + "-" + System.currentTimeMillis()
+                                 + "-" + sequence.incrementAndGet()
+                                 + (config.isSnapshotGzipped() ? ".ndjson.gz" : ".ndjson"));
+        Snapshot next = new Snapshot(file, dataVersion, config.isSnapshotGzipped());
+        rendering.put(key, next);
+        EntityExport export = new EntityExport(persistentEntity,
+                                               repoMethodInvoker,
+                                               streamExecutor,
+                                               conversionService,
+                                               baseUri,
+                                               repositoryPath,
+                                               config.getExportChunkSize());
+        renderer.execute(new RenderTask(key, export, next));
+      }
+    }
+    return snapshot;
+  }
+
+  @Override public void destroy() throws Exception {
+    renderer.shutdownNow();
+  }
+
+  private class RenderTask implements Runnable {
+    final SnapshotKey  key;
+    final EntityExport export;
+    final Snapshot     snapshot;
+
+    private RenderTask(SnapshotKey key, EntityExport export, Snapshot snapshot) {
+      this.key = key;
+      this.export = export;
+      this.snapshot = snapshot;
+    }
+
+    @Override public void run() {
+      File tmp = new File(snapshot.getFile().getPath() + ".tmp");
+      try {
+        snapshot.getFile().getParentFile().mkdirs();
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(tmp));
+        try {
+          if(snapshot.isGzipped()) {
+            out = new GZIPOutputStream(out);
+          }
+          ndjsonConverter.write(export, out);
+        } finally {
+          out.close();
+        }
+        if(!tmp.renameTo(snapshot.getFile())) {
+          throw new IOException("Could not move " + tmp + " to " + snapshot.getFile());
+        }
+
+        final Snapshot previous = snapshots.put(key, snapshot);
+        if(null != previous) {
+          // Downloads that got hold of the previous snapshot may not have opened it yet
+          renderer.schedule(new Runnable() {
+            @Override public void run() {
+              previous.retire();
+            }
+          }, config.getSnapshotRetention(), TimeUnit.MILLISECONDS);
+        }
+        if(LOG.isDebugEnabled()) {
+          LOG.debug("Rendered snapshot " + snapshot.getFile() + " (" + snapshot.getFile().length() + " bytes)");
+        }
+      } catch(Exception e) {
+        LOG.error("Could not render snapshot of " + key.domainType.getName() + " for " + key.baseUri, e);
+        tmp.delete();
+      } finally {
+        synchronized(rendering) {
+          if(rendering.get(key) == snapshot) {
+            rendering.remove(key);
+          }
+        }
+      }
+    }
+  }
+
+  private static class SnapshotKey {
+    final Class<?> domainType;
+    final URI      baseUri;
+
+    private SnapshotKey(Class<?> domainType, URI baseUri) {
+      this.domainType = domainType;
+      this.baseUri = baseUri;
+    }
+
+    @Override public boolean equals(Object o) {
+      if(this == o) {
+        return true;
+      }
+      if(!(o instanceof SnapshotKey)) {
+        return false;
+      }
+      SnapshotKey other = (SnapshotKey)o;
+      return domainType == other.domainType && ObjectUtils.nullSafeEquals(baseUri, other.baseUri);
+    }
+
+    @Override public int hashCode() {
+      return 31 * domainType.hashCode() + ObjectUtils.nullSafeHashCode(baseUri);
+    }
+  }
+
+  /**
+   * A rendered dump of a repository. Downloads {@link #acquire() acquire} it before reading the file and {@link
+   * #release() release} it when they're done, so the file isn't deleted from under them.
+   */
+  public static class Snapshot {
+    private final File    file;
+    private final long    dataVersion;
+    private final boolean gzipped;
+    private       int     readers = 0;
+    private       boolean retired = false;
+    private       boolean deleted = false;
+
+    Snapshot(File file, long dataVersion, boolean gzipped) {
+      this.file = file;
+      this.dataVersion = dataVersion;
+      this.gzipped = gzipped;
+    }
+
+    public File getFile() {
+      return file;
+    }
+
+    public boolean isGzipped() {
+      return gzipped;
+    }
+
+    /**
+     * Strong entity tag of the snapshot, unique per rendering.
+     *
+     * @return A quoted entity tag.
+     */
+    public String getETag() {
+      return "\"" + file.getName() + "\"";
+    }
+
+    boolean isCurrent(long dataVersion) {
+      return this.dataVersion == dataVersion;
+    }
+
+    /**
+     * Register a download reading the file.
+     *
+     * @return {@literal true} if the file can be read, {@literal false} if it has been deleted already.
+     */
+    public synchronized boolean acquire() {
+      if(deleted) {
+        return false;
+      }
+      readers++;
+      return true;
+    }
+
+    /**
+     * Signal that a download {@link #acquire() registered} before is done with the file.
+     */
+    public synchronized void release() {
+      if(readers > 0) {
+        readers--;
+      }
+      deleteIfUnused();
+    }
+
+    /**
+     * Let the file be deleted as soon as no download is reading it anymore.
+     */
+    synchronized void retire() {
+      retired = true;
+      deleteIfUnused();
+    }
+
+    synchronized boolean isDeleted() {
+      return deleted;
+    }
+
+    private void deleteIfUnused() {
+      if(retired && readers == 0 && !deleted) {
+        deleted = true;
+        if(!file.delete() && LOG.isDebugEnabled()) {
+          LOG.debug("Could not delete snapshot " + file);
+        }
+      }
+    }
+  }
+
+}
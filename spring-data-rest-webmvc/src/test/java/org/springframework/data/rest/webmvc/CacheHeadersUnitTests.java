@@ -0,0 +1,109 @@
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.jmock.Expectations;
+import org.jmock.integration.junit4.JMock;
+import org.jmock.integration.junit4.JUnit4Mockery;
+import org.jmock.lib.legacy.ClassImposteriser;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.rest.config.CachePolicy;
+import org.springframework.data.rest.config.ResourceMapping;
+import org.springframework.hateoas.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Tests to ensure caching policies end up as {@literal Cache-Control}, {@literal Expires} and {@literal Vary}
+ * headers on cacheable responses only.
+ *
+ * @author Jon Brisbin
+ */
+@RunWith(JMock.class)
+public class CacheHeadersUnitTests {
+
+  JUnit4Mockery context = new JUnit4Mockery() {{
+    setImposteriser(ClassImposteriser.INSTANCE);
+  }};
+  AbstractRepositoryRestController controller;
+  Resource<Object>                 resource = new Resource<Object>(new Object());
+
+  @Before
+  public void setup() {
+    controller = new AbstractRepositoryRestController(null, null, null, new DefaultConversionService());
+  }
+
+  @Test
+  public void shouldAddHeadersOfCacheablePolicy() throws Exception {
+    long before = System.currentTimeMillis();
+    HttpHeaders headers = controller.resourceResponse(null, resource, HttpStatus.OK, new CachePolicy().setMaxAge(60))
+                                    .getHeaders();
+
+    assertThat(headers.getCacheControl(), is("public, max-age=60"));
+    assertThat(headers.getExpires(), greaterThanOrEqualTo(before / 1000 * 1000 + 59000));
+    assertThat(headers.get("Vary"), contains("Accept"));
+  }
+
+  @Test
+  public void shouldOnlyExpireWithMaxAge() throws Exception {
+    HttpHeaders headers = controller.resourceResponse(null, resource, HttpStatus.OK, new CachePolicy().setSMaxAge(60))
+                                    .getHeaders();
+
+    assertThat(headers.getCacheControl(), is("public, s-maxage=60"));
+    assertThat(headers.getExpires(), is(-1L));
+  }
+
+  @Test
+  public void shouldAddHeadersToNotModified() throws Exception {
+    ResponseEntity<?> response = controller.resourceResponse(null,
+                                                             null,
+                                                             HttpStatus.NOT_MODIFIED,
+                                                             new CachePolicy().setMaxAge(60));
+
+    assertThat(response.getHeaders().getCacheControl(), is("public, max-age=60"));
+  }
+
+  @Test
+  public void shouldNotCacheOtherResponses() throws Exception {
+    ResponseEntity<?> created = controller.resourceResponse(null,
+                                                            resource,
+                                                            HttpStatus.CREATED,
+                                                            new CachePolicy().setMaxAge(60));
+    ResponseEntity<?> uncached = controller.resourceResponse(null, resource, HttpStatus.OK, new CachePolicy());
+
+    assertThat(created.getHeaders().getCacheControl(), nullValue());
+    assertThat(uncached.getHeaders().getCacheControl(), nullValue());
+    assertThat(uncached.getHeaders().containsKey("Vary"), is(false));
+  }
+
+  @Test
+  public void shouldKeepExplicitCacheControl() throws Exception {
+    HttpHeaders given = new HttpHeaders();
+    given.setCacheControl("no-store");
+
+    HttpHeaders headers = controller.resourceResponse(given, resource, HttpStatus.OK, new CachePolicy().setMaxAge(60))
+                                    .getHeaders();
+
+    assertThat(headers.getCacheControl(), is("no-store"));
+  }
+
+  @Test
+  public void shouldFallBackToPolicyOfDomainType() throws Exception {
+    final RepositoryRestRequest repoRequest = context.mock(RepositoryRestRequest.class);
+    final CachePolicy entityPolicy = new CachePolicy().setMaxAge(5);
+    context.checking(new Expectations() {{
+      allowing(repoRequest).getRepositoryResourceMapping();
+      will(returnValue(new ResourceMapping("people", "people", true)));
+      allowing(repoRequest).getPersistentEntityResourceMapping();
+      will(returnValue(new ResourceMapping("person", "person", true).setCachePolicy(entityPolicy)));
+    }});
+
+    assertThat(controller.cachePolicy(repoRequest), sameInstance(entityPolicy));
+  }
+
+}
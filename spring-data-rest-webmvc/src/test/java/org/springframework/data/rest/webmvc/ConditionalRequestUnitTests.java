@@ -0,0 +1,147 @@
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.jmock.Expectations;
+import org.jmock.integration.junit4.JMock;
+import org.jmock.integration.junit4.JUnit4Mockery;
+import org.jmock.lib.legacy.ClassImposteriser;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.repository.support.EntityVersions;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Tests to ensure entity tags and {@literal If-None-Match}/{@literal If-Modified-Since} are evaluated so that a
+ * {@literal 304 Not Modified} is only sent for the representation the client actually holds.
+ *
+ * @author Jon Brisbin
+ */
+@RunWith(JMock.class)
+public class ConditionalRequestUnitTests {
+
+  JUnit4Mockery context = new JUnit4Mockery() {{
+    setImposteriser(ClassImposteriser.INSTANCE);
+  }};
+  AbstractRepositoryRestController controller;
+  EntityVersions                   entityVersions;
+  PersistentEntity                 persistentEntity;
+  Object                           domainObj = new Object();
+
+  @Before
+  public void setup() {
+    controller = new AbstractRepositoryRestController(null, null, null, new DefaultConversionService());
+    entityVersions = context.mock(EntityVersions.class);
+    persistentEntity = context.mock(PersistentEntity.class);
+    ReflectionTestUtils.setField(controller, "entityVersions", entityVersions);
+
+    context.checking(new Expectations() {{
+      allowing(entityVersions).getETag(persistentEntity, domainObj, "application/json");
+      will(returnValue("\"1-json\""));
+      allowing(entityVersions).getETag(persistentEntity, domainObj, "application/x-spring-data-verbose+json");
+      will(returnValue("\"1-verbose\""));
+      allowing(entityVersions).getLastModified(persistentEntity, domainObj);
+      will(returnValue(1000000000000L));
+    }});
+  }
+
+  @Test
+  public void shouldTagByRequestedMediaType() throws Exception {
+    HttpHeaders json = validators(repoRequest(request("application/json"), "json"));
+    HttpHeaders verbose = validators(repoRequest(request("application/x-spring-data-verbose+json"), "verbose"));
+
+    assertThat(json.getETag(), is("\"1-json\""));
+    assertThat(verbose.getETag(), is("\"1-verbose\""));
+  }
+
+  @Test
+  public void shouldNotMatchTagOfOtherRepresentation() throws Exception {
+    MockHttpServletRequest request = request("application/x-spring-data-verbose+json");
+    request.addHeader("If-None-Match", "\"1-json\"");
+
+    RepositoryRestRequest repoRequest = repoRequest(request, "repoRequest");
+
+    assertThat(controller.isNotModified(repoRequest, validators(repoRequest)), is(false));
+  }
+
+  @Test
+  public void shouldMatchWeakAndListedTags() throws Exception {
+    MockHttpServletRequest request = request("application/json");
+    request.addHeader("If-None-Match", "\"0-json\", W/\"1-json\"");
+
+    RepositoryRestRequest repoRequest = repoRequest(request, "repoRequest");
+
+    assertThat(controller.isNotModified(repoRequest, validators(repoRequest)), is(true));
+  }
+
+  @Test
+  public void shouldMatchTagOfCompressedRepresentation() throws Exception {
+    MockHttpServletRequest request = request("application/json");
+    request.addHeader("If-None-Match", "\"1-json-gzip\"");
+    RepositoryRestRequest repoRequest = repoRequest(request, "repoRequest");
+    HttpHeaders headers = validators(repoRequest);
+
+    assertThat(controller.isNotModified(repoRequest, headers), is(true));
+    // The 304 carries the tag of the representation the client holds
+    assertThat(headers.getETag(), is("\"1-json-gzip\""));
+  }
+
+  @Test
+  public void shouldNotMatchTagOfOtherCompressedRepresentation() throws Exception {
+    MockHttpServletRequest request = request("application/json");
+    request.addHeader("If-None-Match", "\"1-verbose-gzip\"");
+    RepositoryRestRequest repoRequest = repoRequest(request, "repoRequest");
+
+    assertThat(controller.isNotModified(repoRequest, validators(repoRequest)), is(false));
+  }
+
+  @Test
+  public void shouldPreferIfNoneMatchOverIfModifiedSince() throws Exception {
+    MockHttpServletRequest request = request("application/json");
+    request.addHeader("If-None-Match", "\"0-json\"");
+    request.addHeader("If-Modified-Since", 1000000000000L);
+
+    RepositoryRestRequest repoRequest = repoRequest(request, "repoRequest");
+
+    assertThat(controller.isNotModified(repoRequest, validators(repoRequest)), is(false));
+  }
+
+  @Test
+  public void shouldCompareLastModifiedInWholeSeconds() throws Exception {
+    MockHttpServletRequest request = request("application/json");
+    request.addHeader("If-Modified-Since", 1000000000000L);
+    RepositoryRestRequest repoRequest = repoRequest(request, "repoRequest");
+    HttpHeaders headers = validators(repoRequest);
+    headers.setLastModified(1000000000999L);
+
+    assertThat(controller.isNotModified(repoRequest, headers), is(true));
+  }
+
+  private HttpHeaders validators(RepositoryRestRequest repoRequest) {
+    HttpHeaders headers = new HttpHeaders();
+    controller.addValidators(repoRequest, headers, persistentEntity, domainObj);
+    return headers;
+  }
+
+  private RepositoryRestRequest repoRequest(final MockHttpServletRequest request, String name) {
+    final RepositoryRestRequest repoRequest = context.mock(RepositoryRestRequest.class, name);
+    context.checking(new Expectations() {{
+      allowing(repoRequest).getRequest();
+      will(returnValue(request));
+    }});
+    return repoRequest;
+  }
+
+  private static MockHttpServletRequest request(String accept) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/people/1");
+    request.addHeader("Accept", accept);
+    return request;
+  }
+
+}
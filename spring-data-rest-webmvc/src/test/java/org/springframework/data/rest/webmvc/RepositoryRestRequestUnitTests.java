@@ -0,0 +1,54 @@
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests to ensure the keys used to coalesce searches identify a query unambiguously.
+ *
+ * @author Jon Brisbin
+ */
+public class RepositoryRestRequestUnitTests {
+
+  @Test
+  public void shouldIgnoreParameterOrder() throws Exception {
+    Map<String, String[]> params1 = new LinkedHashMap<String, String[]>();
+    params1.put("name", new String[]{"John"});
+    params1.put("age", new String[]{"42"});
+    Map<String, String[]> params2 = new LinkedHashMap<String, String[]>();
+    params2.put("age", new String[]{"42"});
+    params2.put("name", new String[]{"John"});
+
+    assertThat(RepositoryRestRequest.queryKey("people", "findByName", params1),
+               is(RepositoryRestRequest.queryKey("people", "findByName", params2)));
+  }
+
+  @Test
+  public void shouldNotConfuseValuesContainingSeparators() throws Exception {
+    Map<String, String[]> params1 = new HashMap<String, String[]>();
+    params1.put("a", new String[]{"1&b=2"});
+    Map<String, String[]> params2 = new HashMap<String, String[]>();
+    params2.put("a", new String[]{"1"});
+    params2.put("b", new String[]{"2"});
+
+    assertThat(RepositoryRestRequest.queryKey("people", "find", params1),
+               is(not(RepositoryRestRequest.queryKey("people", "find", params2))));
+  }
+
+  @Test
+  public void shouldLeaveOutIgnoredParameters() throws Exception {
+    Map<String, String[]> params = new HashMap<String, String[]>();
+    params.put("name", new String[]{"John"});
+    params.put("callback", new String[]{"fn"});
+
+    assertThat(RepositoryRestRequest.queryKey("people", "findByName", params, "callback"),
+               is("people/search/findByName?name=John"));
+  }
+
+}
@@ -0,0 +1,232 @@
+package org.springframework.data.rest.webmvc.convert;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.support.DeflaterPool;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Tests to ensure the {@link CompressingHttpMessageConverter} negotiates a content coding, only compresses output
+ * above the threshold, tags compressed output apart from uncompressed output and never holds back output the writer
+ * flushed.
+ *
+ * @author Jon Brisbin
+ */
+public class CompressingHttpMessageConverterUnitTests {
+
+  static final int THRESHOLD = 64;
+
+  RepositoryRestConfiguration               config;
+  MockHttpServletRequest                    request;
+  CompressingHttpMessageConverter<String[]> converter;
+
+  @Before
+  public void setup() {
+    config = new RepositoryRestConfiguration()
+        .setCompressionEnabled(true)
+        .setCompressionThreshold(THRESHOLD);
+    converter = new CompressingHttpMessageConverter<String[]>(new ChunkWriter(),
+                                                              new DeflaterPool(-1, THRESHOLD, 2),
+                                                              config);
+    request = new MockHttpServletRequest();
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @After
+  public void cleanup() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  public void shouldNegotiateContentCoding() throws Exception {
+    assertThat(CompressingHttpMessageConverter.negotiate("gzip, deflate"), is("gzip"));
+    assertThat(CompressingHttpMessageConverter.negotiate("deflate, gzip;q=0"), is("deflate"));
+    assertThat(CompressingHttpMessageConverter.negotiate("x-gzip"), is("gzip"));
+    assertThat(CompressingHttpMessageConverter.negotiate("identity"), nullValue());
+    assertThat(CompressingHttpMessageConverter.negotiate(null), nullValue());
+  }
+
+  @Test
+  public void shouldSendSmallOutputUncompressed() throws Exception {
+    request.addHeader("Accept-Encoding", "gzip");
+    OutputMessage message = write("small");
+
+    assertThat(message.getHeaders().getFirst("Content-Encoding"), nullValue());
+    assertThat(message.getHeaders().getFirst("Vary"), is("Accept-Encoding"));
+    assertThat(message.getBodyAsString(), is("small"));
+  }
+
+  @Test
+  public void shouldGzipLargeOutput() throws Exception {
+    request.addHeader("Accept-Encoding", "gzip");
+    String large = repeat("0123456789", 20);
+    OutputMessage message = write(large.substring(0, 100), large.substring(100));
+
+    assertThat(message.getHeaders().getFirst("Content-Encoding"), is("gzip"));
+    assertThat(inflate(new GZIPInputStream(message.getBodyAsStream())), is(large));
+  }
+
+  @Test
+  public void shouldDeflateLargeOutput() throws Exception {
+    request.addHeader("Accept-Encoding", "deflate");
+    String large = repeat("0123456789", 20);
+    OutputMessage message = write(large);
+
+    assertThat(message.getHeaders().getFirst("Content-Encoding"), is("deflate"));
+    assertThat(inflate(new InflaterInputStream(message.getBodyAsStream())), is(large));
+  }
+
+  @Test
+  public void shouldTagCompressedOutputByCoding() throws Exception {
+    request.addHeader("Accept-Encoding", "gzip");
+    String large = repeat("0123456789", 20);
+
+    assertThat(writeTagged("\"1-json\"", "small").getHeaders().getETag(), is("\"1-json\""));
+    assertThat(writeTagged("\"1-json\"", large).getHeaders().getETag(), is("\"1-json-gzip\""));
+
+    request = new MockHttpServletRequest();
+    request.addHeader("Accept-Encoding", "deflate");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    assertThat(writeTagged("\"1-json\"", large).getHeaders().getETag(), is("\"1-json-deflate\""));
+  }
+
+  @Test
+  public void shouldDecodeTagOfCompressedOutput() throws Exception {
+    assertThat(CompressingHttpMessageConverter.decodeETag("\"1-json-gzip\""), is("\"1-json\""));
+    assertThat(CompressingHttpMessageConverter.decodeETag("\"1-json-deflate\""), is("\"1-json\""));
+    assertThat(CompressingHttpMessageConverter.decodeETag("\"1-json\""), is("\"1-json\""));
+  }
+
+  @Test
+  public void shouldWriteThroughOnceFlushedBeforeThreshold() throws Exception {
+    request.addHeader("Accept-Encoding", "gzip");
+    String rest = repeat("0123456789", 20);
+    OutputMessage message = write("first", ChunkWriter.FLUSH, rest);
+
+    assertThat(message.getHeaders().getFirst("Content-Encoding"), nullValue());
+    assertThat(message.flushedAt, is(5));
+    assertThat(message.getBodyAsString(), is("first" + rest));
+  }
+
+  @Test
+  public void shouldLeaveOutputAloneWithoutAcceptableCoding() throws Exception {
+    String large = repeat("0123456789", 20);
+    OutputMessage message = write(large);
+
+    assertThat(message.getHeaders().getFirst("Content-Encoding"), nullValue());
+    assertThat(message.getBodyAsString(), is(large));
+  }
+
+  private OutputMessage write(String... chunks) throws IOException {
+    OutputMessage message = new OutputMessage();
+    converter.write(chunks, MediaType.TEXT_PLAIN, message);
+    return message;
+  }
+
+  private OutputMessage writeTagged(String etag, String... chunks) throws IOException {
+    OutputMessage message = new OutputMessage();
+    message.getHeaders().setETag(etag);
+    converter.write(chunks, MediaType.TEXT_PLAIN, message);
+    return message;
+  }
+
+  private static String inflate(InputStream in) throws IOException {
+    return new String(FileCopyUtils.copyToByteArray(in), "UTF-8");
+  }
+
+  private static String repeat(String s, int times) {
+    StringBuilder sb = new StringBuilder();
+    for(int i = 0; i < times; i++) {
+      sb.append(s);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Writes each chunk in turn, flushing wherever {@link #FLUSH} is given.
+   */
+  static class ChunkWriter implements HttpMessageConverter<String[]> {
+    static final String FLUSH = "<flush>";
+
+    @Override public boolean canRead(Class<?> clazz, MediaType mediaType) {
+      return false;
+    }
+
+    @Override public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+      return true;
+    }
+
+    @Override public List<MediaType> getSupportedMediaTypes() {
+      return Collections.singletonList(MediaType.TEXT_PLAIN);
+    }
+
+    @Override public String[] read(Class<? extends String[]> clazz, HttpInputMessage inputMessage) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override public void write(String[] chunks,
+                                MediaType contentType,
+                                HttpOutputMessage outputMessage) throws IOException {
+      OutputStream out = outputMessage.getBody();
+      for(String chunk : chunks) {
+        if(FLUSH.equals(chunk)) {
+          out.flush();
+        } else {
+          out.write(chunk.getBytes("UTF-8"));
+        }
+      }
+    }
+  }
+
+  static class OutputMessage implements HttpOutputMessage {
+    final HttpHeaders           headers   = new HttpHeaders();
+    int                         flushedAt = -1;
+    final ByteArrayOutputStream body      = new ByteArrayOutputStream() {
+      @Override public void flush() {
+        if(flushedAt < 0) {
+          flushedAt = size();
+        }
+      }
+    };
+
+    @Override public OutputStream getBody() {
+      return body;
+    }
+
+    @Override public HttpHeaders getHeaders() {
+      return headers;
+    }
+
+    InputStream getBodyAsStream() {
+      return new ByteArrayInputStream(body.toByteArray());
+    }
+
+    String getBodyAsString() throws IOException {
+      return new String(body.toByteArray(), "UTF-8");
+    }
+  }
+
+}
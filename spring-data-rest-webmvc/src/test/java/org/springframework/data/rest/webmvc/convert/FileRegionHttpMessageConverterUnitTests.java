@@ -0,0 +1,94 @@
+package org.springframework.data.rest.webmvc.convert;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.webmvc.support.FileRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+
+/**
+ * Tests to ensure the {@link FileRegionHttpMessageConverter} writes exactly the bytes of a region and releases it
+ * afterwards.
+ *
+ * @author Jon Brisbin
+ */
+public class FileRegionHttpMessageConverterUnitTests {
+
+  File file;
+
+  @Before
+  public void setup() throws Exception {
+    file = File.createTempFile("region", ".ndjson");
+    FileOutputStream out = new FileOutputStream(file);
+    try {
+      out.write("0123456789".getBytes("UTF-8"));
+    } finally {
+      out.close();
+    }
+  }
+
+  @After
+  public void cleanup() {
+    file.delete();
+  }
+
+  @Test
+  public void shouldWriteRegionAndRelease() throws Exception {
+    final AtomicBoolean released = new AtomicBoolean();
+    FileRegion region = FileRegion.forRange(file, "bytes=2-5").setReleaseCallback(new Runnable() {
+      @Override public void run() {
+        released.set(true);
+      }
+    });
+    OutputMessage message = new OutputMessage();
+
+    new FileRegionHttpMessageConverter().write(region, null, message);
+
+    assertThat(new String(message.body.toByteArray(), "UTF-8"), is("2345"));
+    assertThat(message.getHeaders().getContentLength(), is(4L));
+    assertThat(released.get(), is(true));
+  }
+
+  @Test
+  public void shouldReleaseWhenWriteFails() throws Exception {
+    final AtomicBoolean released = new AtomicBoolean();
+    FileRegion region = FileRegion.forRange(file, null).setReleaseCallback(new Runnable() {
+      @Override public void run() {
+        released.set(true);
+      }
+    });
+    file.delete();
+
+    try {
+      new FileRegionHttpMessageConverter().write(region, null, new OutputMessage());
+      throw new AssertionError("Writing a missing file should fail");
+    } catch(IOException e) {
+      assertThat(released.get(), is(true));
+    }
+  }
+
+  static class OutputMessage implements HttpOutputMessage {
+    final HttpHeaders           headers = new HttpHeaders();
+    final ByteArrayOutputStream body    = new ByteArrayOutputStream();
+
+    @Override public OutputStream getBody() throws IOException {
+      return body;
+    }
+
+    @Override public HttpHeaders getHeaders() {
+      return headers;
+    }
+  }
+
+}
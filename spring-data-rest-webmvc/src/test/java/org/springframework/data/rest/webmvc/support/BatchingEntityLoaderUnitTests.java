@@ -0,0 +1,169 @@
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.integration.junit4.JMock;
+import org.jmock.integration.junit4.JUnit4Mockery;
+import org.jmock.lib.action.CustomAction;
+import org.jmock.lib.concurrent.Synchroniser;
+import org.jmock.lib.legacy.ClassImposteriser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
+
+/**
+ * Tests to ensure the {@link BatchingEntityLoader} resolves concurrent lookups with a single {@literal findAll} and
+ * hands every waiting request its own entity.
+ *
+ * @author Jon Brisbin
+ */
+@RunWith(JMock.class)
+public class BatchingEntityLoaderUnitTests {
+
+  JUnit4Mockery context = new JUnit4Mockery() {{
+    setImposteriser(ClassImposteriser.INSTANCE);
+    setThreadingPolicy(new Synchroniser());
+  }};
+  RepositoryRestConfiguration config;
+  RepositoryMethodInvoker     invoker;
+  PersistentEntity<?, ?>      persistentEntity;
+  BatchingEntityLoader        loader;
+  ExecutorService             pool;
+  AtomicInteger               calls = new AtomicInteger();
+
+  @Before
+  public void setup() {
+    config = new RepositoryRestConfiguration()
+        .setFindOneBatchingEnabled(true)
+        .setFindOneBatchWindow(10)
+        .setFindOneMaxBatchSize(3);
+    invoker = context.mock(RepositoryMethodInvoker.class);
+    persistentEntity = new MongoMappingContext().getPersistentEntity(Thing.class);
+    loader = new BatchingEntityLoader(config, new DefaultConversionService());
+    pool = Executors.newFixedThreadPool(3);
+  }
+
+  @After
+  public void cleanup() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  public void shouldOnlySupportRepositoriesWithFindSome() throws Exception {
+    context.checking(new Expectations() {{
+      allowing(invoker).hasFindSome();
+      will(returnValue(true));
+    }});
+
+    assertThat(loader.supports(invoker), is(true));
+    config.setFindOneBatchingEnabled(false);
+    assertThat(loader.supports(invoker), is(false));
+  }
+
+  @Test
+  public void shouldResolveMissingEntitiesToNull() throws Exception {
+    expectFindAll();
+
+    assertThat(loader.findOne(invoker, persistentEntity, 404L), nullValue());
+    assertThat(calls.get(), is(1));
+  }
+
+  @Test
+  public void shouldResolveConcurrentLookupsWithOneQuery() throws Exception {
+    config.setFindOneBatchWindow(5000);
+    expectFindAll();
+
+    List<Future<Object>> results = new ArrayList<Future<Object>>();
+    for(long id = 1; id <= 3; id++) {
+      results.add(pool.submit(lookup(id)));
+    }
+
+    long start = System.currentTimeMillis();
+    for(int i = 0; i < results.size(); i++) {
+      assertThat(((Thing)results.get(i).get()).id, is(i + 1L));
+    }
+    // The batch is flushed as soon as it's full rather than when the window elapses
+    assertThat(System.currentTimeMillis() - start, lessThan(5000L));
+    assertThat(calls.get(), is(1));
+  }
+
+  @Test
+  public void shouldFailEveryLookupOfFailedBatch() throws Exception {
+    config.setFindOneMaxBatchSize(2).setFindOneBatchWindow(5000);
+    context.checking(new Expectations() {{
+      oneOf(invoker).findAll(with(any(Iterable.class)));
+      will(throwException(new IllegalStateException("database down")));
+    }});
+
+    Future<Object> first = pool.submit(lookup(1L));
+    Future<Object> second = pool.submit(lookup(2L));
+
+    assertThat(failureOf(first), instanceOf(IllegalStateException.class));
+    assertThat(failureOf(second), instanceOf(IllegalStateException.class));
+  }
+
+  private void expectFindAll() {
+    context.checking(new Expectations() {{
+      allowing(invoker).findAll(with(any(Iterable.class)));
+      will(new CustomAction("find things by ID") {
+        @SuppressWarnings({"unchecked"})
+        @Override public Object invoke(Invocation invocation) throws Throwable {
+          calls.incrementAndGet();
+          List<Object> things = new ArrayList<Object>();
+          for(Serializable id : (Iterable<Serializable>)invocation.getParameter(0)) {
+            if((Long)id < 100) {
+              things.add(new Thing((Long)id));
+            }
+          }
+          return things;
+        }
+      });
+    }});
+  }
+
+  private Callable<Object> lookup(final Long id) {
+    return new Callable<Object>() {
+      @Override public Object call() throws Exception {
+        return loader.findOne(invoker, persistentEntity, id);
+      }
+    };
+  }
+
+  private static Throwable failureOf(Future<Object> future) throws InterruptedException {
+    try {
+      future.get();
+      return null;
+    } catch(ExecutionException e) {
+      return e.getCause();
+    }
+  }
+
+  static class Thing {
+    @Id Long id;
+
+    Thing(Long id) {
+      this.id = id;
+    }
+  }
+
+}
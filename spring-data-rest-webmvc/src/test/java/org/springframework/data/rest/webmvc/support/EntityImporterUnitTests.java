@@ -0,0 +1,240 @@
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.integration.junit4.JMock;
+import org.jmock.integration.junit4.JUnit4Mockery;
+import org.jmock.lib.action.CustomAction;
+import org.jmock.lib.legacy.ClassImposteriser;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.repository.context.AfterSaveEvent;
+import org.springframework.data.rest.repository.context.BeforeSaveEvent;
+import org.springframework.data.rest.repository.context.RepositoryEvent;
+import org.springframework.data.rest.repository.context.RepositoryEventBus;
+import org.springframework.data.rest.repository.context.ValidatingRepositoryEventListener;
+import org.springframework.data.rest.repository.invoke.RepositoryMethodInvoker;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Tests to ensure the {@link EntityImporter} pinpoints failed entities in its report, by line for newline-delimited
+ * input and by element for arrays, that chunks are validated as a whole with an event bus, and that without one plain
+ * listeners only see single-entity events.
+ *
+ * @author Jon Brisbin
+ */
+@RunWith(JMock.class)
+public class EntityImporterUnitTests {
+
+  JUnit4Mockery context = new JUnit4Mockery() {{
+    setImposteriser(ClassImposteriser.INSTANCE);
+  }};
+  RepositoryMethodInvoker invoker;
+  PersistentEntity<?, ?>  persistentEntity;
+  EntityImporter          importer;
+  List<RepositoryEvent>   events = new ArrayList<RepositoryEvent>();
+
+  @Before
+  public void setup() {
+    StaticApplicationContext appCtx = new StaticApplicationContext();
+    appCtx.addApplicationListener(new ApplicationListener<RepositoryEvent>() {
+      @Override public void onApplicationEvent(RepositoryEvent event) {
+        events.add(event);
+      }
+    });
+    appCtx.refresh();
+
+    invoker = context.mock(RepositoryMethodInvoker.class);
+    persistentEntity = new MongoMappingContext().getPersistentEntity(Thing.class);
+    importer = new EntityImporter(new ObjectMapper(), new RepositoryRestConfiguration().setImportChunkSize(2));
+    importer.setApplicationContext(appCtx);
+  }
+
+  @Test
+  public void shouldReportFailedLines() throws Exception {
+    final List<Object> saved = expectSave(false);
+
+    ImportReport report = importer.importLines(persistentEntity,
+                                               invoker,
+                                               new StringReader("{\"name\":\"a\"}\n\n{\"name\":{}}\n{\"name\":\"c\"}\n"));
+
+    assertThat(report.getImported(), is(2L));
+    assertThat(report.getFailed(), is(1L));
+    assertThat(report.getErrors().get(0).getLine(), is(3L));
+    assertThat(report.getErrors().get(0).getElement(), nullValue());
+    assertThat(saved, hasSize(2));
+  }
+
+  @Test
+  public void shouldReportElementOfSingleLineArray() throws Exception {
+    expectSave(false);
+
+    ImportReport report = importer.importArray(persistentEntity,
+                                               invoker,
+                                               json("[{\"name\":\"a\"},{\"name\":{}},{\"name\":\"c\"}]"));
+
+    assertThat(report.isAborted(), is(true));
+    assertThat(report.getErrors(), hasSize(1));
+    ImportReport.LineError error = report.getErrors().get(0);
+    assertThat(error.getLine(), is(1L));
+    assertThat(error.getElement(), is(1L));
+    assertThat(error.getColumn(), greaterThan(1));
+  }
+
+  @Test
+  public void shouldReportEveryElementOfFailedChunk() throws Exception {
+    expectSave(true);
+
+    ImportReport report = importer.importArray(persistentEntity,
+                                               invoker,
+                                               json("[{\"name\":\"a\"},{\"name\":\"b\"},{\"name\":\"c\"}]"));
+
+    assertThat(report.getImported(), is(0L));
+    assertThat(report.getFailed(), is(3L));
+    List<Long> elements = new ArrayList<Long>();
+    for(ImportReport.LineError error : report.getErrors()) {
+      elements.add(error.getElement());
+    }
+    assertThat(elements, contains(0L, 1L, 2L));
+  }
+
+  @Test
+  public void shouldOnlyPublishSingleEntityEventsWithoutBus() throws Exception {
+    expectSave(false);
+
+    importer.importLines(persistentEntity,
+                         invoker,
+                         new StringReader("{\"name\":\"a\"}\n{\"name\":\"b\"}\n{\"name\":\"c\"}\n"));
+
+    int beforeSave = 0;
+    int afterSave = 0;
+    for(RepositoryEvent event : events) {
+      assertThat(event.getSource(), instanceOf(Thing.class));
+      if(event instanceof BeforeSaveEvent) {
+        beforeSave++;
+      } else if(event instanceof AfterSaveEvent) {
+        afterSave++;
+      }
+    }
+    assertThat(beforeSave, is(3));
+    assertThat(afterSave, is(3));
+  }
+
+  @Test
+  public void shouldValidateChunksOnceWithBus() throws Exception {
+    final List<Object> saved = expectSave(false);
+    AnnotationConfigApplicationContext appCtx = new AnnotationConfigApplicationContext(BusConfig.class);
+    try {
+      ImportReport report = appCtx.getBean(EntityImporter.class).importLines(
+          persistentEntity,
+          invoker,
+          new StringReader("{\"name\":\"a\"}\n{\"name\":\"b\"}\n{\"name\":\"c\"}\n{\"name\":\"b\"}\n")
+      );
+
+      assertThat(report.getImported(), is(2L));
+      assertThat(report.getFailed(), is(2L));
+      assertThat(report.getErrors().get(0).getLine(), is(2L));
+      assertThat(report.getErrors().get(0).getMessages(), contains("Name b is taken"));
+      assertThat(report.getErrors().get(1).getLine(), is(4L));
+      assertThat(saved, hasSize(2));
+      // Each entity once, by its chunk, not again by its BeforeSaveEvent or when the rest of the chunk is announced
+      assertThat(appCtx.getBean(NameValidator.class).validated, is(4));
+    } finally {
+      appCtx.close();
+    }
+  }
+
+  @SuppressWarnings({"unchecked"})
+  private List<Object> expectSave(final boolean fail) {
+    final List<Object> saved = new ArrayList<Object>();
+    context.checking(new Expectations() {{
+      allowing(invoker).hasSaveSome();
+      will(returnValue(true));
+      allowing(invoker).save(with(any(Iterable.class)));
+      will(new CustomAction("save") {
+        @Override public Object invoke(Invocation invocation) throws Throwable {
+          if(fail) {
+            throw new IllegalStateException("Store unavailable");
+          }
+          for(Object entity : (Iterable<Object>)invocation.getParameter(0)) {
+            saved.add(entity);
+          }
+          return invocation.getParameter(0);
+        }
+      });
+    }});
+    return saved;
+  }
+
+  private static ByteArrayInputStream json(String s) throws Exception {
+    return new ByteArrayInputStream(s.getBytes("UTF-8"));
+  }
+
+  public static class Thing {
+    @Id
+    public String id;
+    public String name;
+  }
+
+  @Configuration
+  static class BusConfig {
+    @Bean public Repositories repositories() {
+      StaticApplicationContext noRepositories = new StaticApplicationContext();
+      noRepositories.refresh();
+      return new Repositories(noRepositories);
+    }
+
+    @Bean public RepositoryEventBus repositoryEventBus() {
+      return new RepositoryEventBus();
+    }
+
+    @Bean public ValidatingRepositoryEventListener validatingListener() {
+      return new ValidatingRepositoryEventListener();
+    }
+
+    @Bean public NameValidator beforeSaveNameValidator() {
+      return new NameValidator();
+    }
+
+    @Bean public EntityImporter entityImporter() {
+      return new EntityImporter(new ObjectMapper(), new RepositoryRestConfiguration().setImportChunkSize(2));
+    }
+  }
+
+  static class NameValidator implements Validator {
+    int validated;
+
+    @Override public boolean supports(Class<?> clazz) {
+      return Thing.class.isAssignableFrom(clazz);
+    }
+
+    @Override public void validate(Object target, Errors errors) {
+      validated++;
+      if("b".equals(((Thing)target).name)) {
+        errors.rejectValue("name", "taken", "Name b is taken");
+      }
+    }
+  }
+
+}
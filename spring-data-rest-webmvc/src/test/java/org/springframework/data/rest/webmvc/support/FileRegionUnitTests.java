@@ -0,0 +1,96 @@
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests to ensure {@link FileRegion} selects the bytes a {@literal Range} header asks for and answers everything it
+ * can't honor with the whole file.
+ *
+ * @author Jon Brisbin
+ */
+public class FileRegionUnitTests {
+
+  File file;
+
+  @Before
+  public void setup() throws Exception {
+    file = File.createTempFile("region", ".ndjson");
+    FileOutputStream out = new FileOutputStream(file);
+    try {
+      out.write(new byte[100]);
+    } finally {
+      out.close();
+    }
+  }
+
+  @After
+  public void cleanup() {
+    file.delete();
+  }
+
+  @Test
+  public void shouldSelectWholeFileWithoutRange() throws Exception {
+    FileRegion region = FileRegion.forRange(file, null);
+
+    assertThat(region.isPartial(), is(false));
+    assertThat(region.getPosition(), is(0L));
+    assertThat(region.getCount(), is(100L));
+  }
+
+  @Test
+  public void shouldSelectClosedRange() throws Exception {
+    FileRegion region = FileRegion.forRange(file, "bytes=10-19");
+
+    assertThat(region.isPartial(), is(true));
+    assertThat(region.getPosition(), is(10L));
+    assertThat(region.getCount(), is(10L));
+    assertThat(region.getContentRange(), is("bytes 10-19/100"));
+  }
+
+  @Test
+  public void shouldSelectOpenAndSuffixRanges() throws Exception {
+    assertThat(FileRegion.forRange(file, "bytes=90-").getContentRange(), is("bytes 90-99/100"));
+    assertThat(FileRegion.forRange(file, "bytes=-5").getContentRange(), is("bytes 95-99/100"));
+    assertThat(FileRegion.forRange(file, "bytes=-500").getContentRange(), is("bytes 0-99/100"));
+    assertThat(FileRegion.forRange(file, "bytes=50-500").getContentRange(), is("bytes 50-99/100"));
+  }
+
+  @Test
+  public void shouldRejectUnsatisfiableRanges() throws Exception {
+    assertThat(FileRegion.forRange(file, "bytes=100-"), nullValue());
+    assertThat(FileRegion.forRange(file, "bytes=20-10"), nullValue());
+    assertThat(FileRegion.forRange(file, "bytes=-0"), nullValue());
+  }
+
+  @Test
+  public void shouldIgnoreRangesItCannotHonor() throws Exception {
+    assertThat(FileRegion.forRange(file, "bytes=0-1,5-6").isPartial(), is(false));
+    assertThat(FileRegion.forRange(file, "items=0-1").isPartial(), is(false));
+    assertThat(FileRegion.forRange(file, "bytes=a-b").isPartial(), is(false));
+  }
+
+  @Test
+  public void shouldReleaseOnlyOnce() throws Exception {
+    final AtomicInteger released = new AtomicInteger();
+    FileRegion region = FileRegion.forRange(file, null).setReleaseCallback(new Runnable() {
+      @Override public void run() {
+        released.incrementAndGet();
+      }
+    });
+
+    region.release();
+    region.release();
+
+    assertThat(released.get(), is(1));
+  }
+
+}
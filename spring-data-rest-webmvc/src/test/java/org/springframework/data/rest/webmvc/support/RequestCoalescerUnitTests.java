@@ -0,0 +1,116 @@
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Tests to ensure the {@link RequestCoalescer} shares in-flight invocations only between identical requests.
+ *
+ * @author Jon Brisbin
+ */
+public class RequestCoalescerUnitTests {
+
+  private RepositoryRestConfiguration config;
+  private RequestCoalescer            coalescer;
+  private ExecutorService             executor;
+
+  @Before
+  public void setup() {
+    config = new RepositoryRestConfiguration().setRequestCoalescingEnabled(true);
+    coalescer = new RequestCoalescer();
+    ReflectionTestUtils.setField(coalescer, "config", config);
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @After
+  public void teardown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void shouldShareInFlightInvocation() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    Callable<Object> lookup = new Callable<Object>() {
+      @Override public Object call() throws Exception {
+        calls.incrementAndGet();
+        started.countDown();
+        release.await(5, TimeUnit.SECONDS);
+        return "result";
+      }
+    };
+
+    Future<Object> first = executor.submit(execute("key", lookup));
+    assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+    Future<Object> second = executor.submit(execute("key", lookup));
+    while(coalescer.getInFlightCount() != 1) {
+      Thread.sleep(1);
+    }
+    // Give the second caller time to join the in-flight invocation
+    Thread.sleep(100);
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS), is((Object)"result"));
+    assertThat(second.get(5, TimeUnit.SECONDS), is((Object)"result"));
+    assertThat(calls.get(), is(1));
+    assertThat(coalescer.getInFlightCount(), is(0));
+  }
+
+  @Test
+  public void shouldNotShareBetweenDifferentKeys() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    Callable<Object> lookup = new Callable<Object>() {
+      @Override public Object call() throws Exception {
+        return calls.incrementAndGet();
+      }
+    };
+
+    assertThat(coalescer.execute("a", lookup), is((Object)1));
+    assertThat(coalescer.execute("b", lookup), is((Object)2));
+  }
+
+  @Test
+  public void shouldPassThroughWhenDisabled() throws Exception {
+    config.setRequestCoalescingEnabled(false);
+
+    assertThat(coalescer.isEnabled(), is(false));
+    assertThat(coalescer.execute("a", new Callable<String>() {
+      @Override public String call() throws Exception {
+        return "direct";
+      }
+    }), is("direct"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRethrowFailures() throws Exception {
+    coalescer.execute("a", new Callable<Object>() {
+      @Override public Object call() throws Exception {
+        throw new IllegalArgumentException();
+      }
+    });
+  }
+
+  private Callable<Object> execute(final String key, final Callable<Object> lookup) {
+    return new Callable<Object>() {
+      @Override public Object call() throws Exception {
+        return coalescer.execute(key, lookup);
+      }
+    };
+  }
+
+}
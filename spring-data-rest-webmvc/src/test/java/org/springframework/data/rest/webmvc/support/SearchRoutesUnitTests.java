@@ -0,0 +1,135 @@
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+
+import org.jmock.Expectations;
+import org.jmock.integration.junit4.JMock;
+import org.jmock.integration.junit4.JUnit4Mockery;
+import org.jmock.lib.legacy.ClassImposteriser;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.repository.annotation.RestResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Tests to ensure {@link SearchRoutes} resolves a search path to the right query method when paths collide, in order
+ * of precedence: paths configured on the repository, then method names, then paths from {@link RestResource}.
+ *
+ * @author Jon Brisbin
+ */
+@RunWith(JMock.class)
+public class SearchRoutesUnitTests {
+
+  JUnit4Mockery context = new JUnit4Mockery() {{
+    setImposteriser(ClassImposteriser.INSTANCE);
+  }};
+  RepositoryRestConfiguration config;
+  Repositories                repositories;
+  RepositoryInformation       repoInfo;
+  SearchRoutes                searchRoutes;
+
+  @Before
+  public void setup() {
+    config = new RepositoryRestConfiguration();
+    repositories = context.mock(Repositories.class);
+    repoInfo = context.mock(RepositoryInformation.class);
+    context.checking(new Expectations() {{
+      allowing(repoInfo).getDomainType();
+      will(returnValue(Thing.class));
+      allowing(repoInfo).getRepositoryInterface();
+      will(returnValue(ThingRepository.class));
+      allowing(repositories).getPersistentEntity(Thing.class);
+      will(returnValue(null));
+      allowing(repositories).getRepositoryFor(Thing.class);
+      will(returnValue(null));
+    }});
+    searchRoutes = new SearchRoutes(repositories, config, new DefaultConversionService());
+  }
+
+  @Test
+  public void shouldRouteByMethodName() throws Exception {
+    assertThat(methodNameOf("findByColor"), is("findByColor"));
+    assertThat(methodNameOf("findByName"), is("findByName"));
+  }
+
+  @Test
+  public void shouldRouteByAnnotatedPath() throws Exception {
+    assertThat(methodNameOf("named"), is("findByName"));
+  }
+
+  @Test
+  public void shouldPreferMethodNameOverAnnotatedPath() throws Exception {
+    // findByColor is annotated with the name of findByName
+    assertThat(methodNameOf("findByName"), is("findByName"));
+  }
+
+  @Test
+  public void shouldPreferConfiguredPathOverMethodName() throws Exception {
+    config.setResourceMappingForRepository(ThingRepository.class)
+          .addResourceMappingFor("findBySize")
+          .setPath("findByName");
+
+    assertThat(methodNameOf("findByName"), is("findBySize"));
+    // The method name stays routable for anything it doesn't collide with
+    assertThat(methodNameOf("findBySize"), is("findBySize"));
+  }
+
+  @Test
+  public void shouldNotRouteUnknownPaths() throws Exception {
+    assertThat(searchRoutes.getRoute(repoInfo, "findByWeight"), nullValue());
+  }
+
+  @Test
+  public void shouldBindArgumentsByPosition() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addParameter("size", "42");
+    PageRequest pageRequest = new PageRequest(2, 10, new Sort("name"));
+
+    Object[] args = searchRoutes.getRoute(repoInfo, "findBySize")
+                                .bind(request, new PagingAndSorting(config, pageRequest));
+
+    assertThat(args.length, is(3));
+    assertThat(args[0], is((Object)pageRequest.getSort()));
+    assertThat(args[1], is((Object)42));
+    assertThat(args[2], is((Object)pageRequest));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectMissingParameters() throws Exception {
+    searchRoutes.getRoute(repoInfo, "findBySize")
+                .bind(new MockHttpServletRequest(),
+                      new PagingAndSorting(config, new PageRequest(0, 10)));
+  }
+
+  private String methodNameOf(String path) {
+    SearchRoutes.Route route = searchRoutes.getRoute(repoInfo, path);
+    assertThat(path, route, notNullValue());
+    return route.getRepositoryMethod().getMethod().getName();
+  }
+
+  public static class Thing {
+  }
+
+  public interface ThingRepository {
+    @RestResource(path = "named")
+    List<Thing> findByName(@Param("name") String name);
+
+    @RestResource(path = "findByName")
+    List<Thing> findByColor(@Param("color") String color);
+
+    List<Thing> findBySize(Sort sort, @Param("size") int size, Pageable pageable);
+  }
+
+}
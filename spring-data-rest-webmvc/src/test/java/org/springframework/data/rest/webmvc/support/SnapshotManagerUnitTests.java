@@ -0,0 +1,128 @@
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.rest.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.repository.context.AfterSaveEvent;
+import org.springframework.data.rest.repository.support.DataVersions;
+import org.springframework.data.rest.webmvc.convert.NdjsonHttpMessageConverter;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Tests to ensure the {@link SnapshotManager} keeps a snapshot per base URI and hands out the previous snapshot while
+ * its replacement is rendered.
+ *
+ * @author Jon Brisbin
+ */
+public class SnapshotManagerUnitTests {
+
+  static final URI BASE_URI       = URI.create("http://localhost:8080/data");
+  static final URI OTHER_BASE_URI = URI.create("http://example.com/data");
+
+  File                    directory;
+  DataVersions            dataVersions;
+  PersistentEntity<?, ?>  persistentEntity;
+  AtomicInteger           renderings = new AtomicInteger();
+  volatile CountDownLatch gate;
+  SnapshotManager         snapshotManager;
+
+  @Before
+  public void setup() throws Exception {
+    directory = File.createTempFile("snapshots", "");
+    directory.delete();
+    RepositoryRestConfiguration config = new RepositoryRestConfiguration()
+        .setSnapshotDirectory(directory)
+        .setSnapshotRetention(0);
+    dataVersions = new DataVersions();
+    persistentEntity = new MongoMappingContext().getPersistentEntity(Thing.class);
+    NdjsonHttpMessageConverter converter = new NdjsonHttpMessageConverter(new ObjectMapper()) {
+      @Override public void write(EntityExport export, OutputStream body) throws IOException {
+        CountDownLatch latch = gate;
+        if(null != latch) {
+          try {
+            latch.await(5, TimeUnit.SECONDS);
+          } catch(InterruptedException e) {
+            throw new IOException(e);
+          }
+        }
+        renderings.incrementAndGet();
+        body.write("{}\n".getBytes("UTF-8"));
+      }
+    };
+    snapshotManager = new SnapshotManager(config, dataVersions, converter, new DefaultConversionService(), null);
+  }
+
+  @After
+  public void cleanup() throws Exception {
+    snapshotManager.destroy();
+    FileSystemUtils.deleteRecursively(directory);
+  }
+
+  @Test
+  public void shouldKeepSnapshotPerBaseUri() throws Exception {
+    SnapshotManager.Snapshot snapshot = awaitSnapshot(BASE_URI, null);
+    SnapshotManager.Snapshot other = awaitSnapshot(OTHER_BASE_URI, null);
+
+    assertThat(other, not(sameInstance(snapshot)));
+    // Asking for one doesn't render the other again
+    assertThat(getSnapshot(BASE_URI), sameInstance(snapshot));
+    assertThat(getSnapshot(OTHER_BASE_URI), sameInstance(other));
+    assertThat(renderings.get(), is(2));
+  }
+
+  @Test
+  public void shouldServePreviousSnapshotWhileRendering() throws Exception {
+    SnapshotManager.Snapshot previous = awaitSnapshot(BASE_URI, null);
+    gate = new CountDownLatch(1);
+    dataVersions.onApplicationEvent(new AfterSaveEvent(new Thing()));
+
+    assertThat(getSnapshot(BASE_URI), sameInstance(previous));
+    // Asking again doesn't start another rendering
+    assertThat(getSnapshot(BASE_URI), sameInstance(previous));
+
+    gate.countDown();
+    SnapshotManager.Snapshot next = awaitSnapshot(BASE_URI, previous);
+
+    assertThat(next.getETag(), not(previous.getETag()));
+    assertThat(getSnapshot(BASE_URI), sameInstance(next));
+    assertThat(renderings.get(), is(2));
+  }
+
+  private SnapshotManager.Snapshot getSnapshot(URI baseUri) {
+    return snapshotManager.getSnapshot(persistentEntity, null, "things", baseUri);
+  }
+
+  private SnapshotManager.Snapshot awaitSnapshot(URI baseUri, SnapshotManager.Snapshot previous) throws Exception {
+    long deadline = System.currentTimeMillis() + 5000;
+    while(System.currentTimeMillis() < deadline) {
+      SnapshotManager.Snapshot snapshot = getSnapshot(baseUri);
+      if(null != snapshot && snapshot != previous) {
+        return snapshot;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("No snapshot was rendered for " + baseUri);
+  }
+
+  public static class Thing {
+    @Id String id;
+  }
+
+}
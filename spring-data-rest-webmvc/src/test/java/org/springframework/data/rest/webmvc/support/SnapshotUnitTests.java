@@ -0,0 +1,68 @@
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests to ensure a replaced {@link SnapshotManager.Snapshot} isn't deleted while downloads are still reading it.
+ *
+ * @author Jon Brisbin
+ */
+public class SnapshotUnitTests {
+
+  File                     file;
+  SnapshotManager.Snapshot snapshot;
+
+  @Before
+  public void setup() throws Exception {
+    file = File.createTempFile("snapshot", ".ndjson");
+    snapshot = new SnapshotManager.Snapshot(file, 1, false);
+  }
+
+  @After
+  public void cleanup() {
+    file.delete();
+  }
+
+  @Test
+  public void shouldDeleteUnusedSnapshotWhenRetired() throws Exception {
+    snapshot.retire();
+
+    assertThat(file.exists(), is(false));
+    assertThat(snapshot.acquire(), is(false));
+  }
+
+  @Test
+  public void shouldDeferDeletionUntilLastReaderReleases() throws Exception {
+    assertThat(snapshot.acquire(), is(true));
+    assertThat(snapshot.acquire(), is(true));
+
+    snapshot.retire();
+    assertThat(file.exists(), is(true));
+
+    snapshot.release();
+    assertThat(file.exists(), is(true));
+    // Readers that already hold the snapshot may still register
+    assertThat(snapshot.acquire(), is(true));
+    snapshot.release();
+
+    snapshot.release();
+    assertThat(file.exists(), is(false));
+    assertThat(snapshot.isDeleted(), is(true));
+  }
+
+  @Test
+  public void shouldNotDeleteBeforeRetirement() throws Exception {
+    assertThat(snapshot.acquire(), is(true));
+    snapshot.release();
+
+    assertThat(file.exists(), is(true));
+  }
+
+}